@@ -21,15 +21,18 @@ import com.hazelcast.jet.pipeline.file.AvroFileFormat;
 import com.hazelcast.jet.pipeline.file.FileFormat;
 import com.hazelcast.jet.pipeline.file.impl.ReadFileFnProvider;
 import org.apache.avro.file.DataFileReader;
+import org.apache.avro.generic.GenericDatumReader;
 import org.apache.avro.io.DatumReader;
 import org.apache.avro.reflect.ReflectDatumReader;
 import org.apache.avro.specific.SpecificDatumReader;
 
 import javax.annotation.Nonnull;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import static com.hazelcast.jet.avro.impl.AvroSchemaUtil.project;
 import static com.hazelcast.jet.impl.util.Util.uncheckRun;
 
 /**
@@ -42,9 +45,14 @@ public class AvroReadFileFnProvider implements ReadFileFnProvider {
     public <T> FunctionEx<Path, Stream<T>> createReadFileFn(@Nonnull FileFormat<T> format) {
         AvroFileFormat<T> avroFileFormat = (AvroFileFormat<T>) format;
         Class<T> reflectClass = avroFileFormat.reflectClass();
+        List<String> fieldNames = reflectClass == null ? avroFileFormat.fieldNames() : null;
         return (path) -> {
-            DatumReader<T> datumReader = datumReader(reflectClass);
+            DatumReader<T> datumReader = fieldNames == null ? datumReader(reflectClass) : new GenericDatumReader<>();
             DataFileReader<T> reader = new DataFileReader<>(path.toFile(), datumReader);
+            if (fieldNames != null) {
+                // the writer schema is known only after the header is read
+                ((GenericDatumReader<T>) datumReader).setExpected(project(reader.getSchema(), fieldNames));
+            }
             return StreamSupport.stream(reader.spliterator(), false)
                                 .onClose(() -> uncheckRun(reader::close));
         };
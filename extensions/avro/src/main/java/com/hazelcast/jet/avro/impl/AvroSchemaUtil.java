@@ -0,0 +1,47 @@
+/*
+ * Copyright 2021 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.avro.impl;
+
+import org.apache.avro.Schema;
+import org.apache.avro.Schema.Field;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utility methods for Avro schemas shared by the Avro and Parquet file
+ * sources.
+ */
+public final class AvroSchemaUtil {
+
+    private AvroSchemaUtil() {
+    }
+
+    /**
+     * Returns a copy of the given record schema containing only the given
+     * fields. The fields not present in the schema are ignored.
+     */
+    public static Schema project(Schema schema, List<String> fieldNames) {
+        List<Field> fields = new ArrayList<>(fieldNames.size());
+        for (Field field : schema.getFields()) {
+            if (fieldNames.contains(field.name())) {
+                fields.add(new Field(field, field.schema()));
+            }
+        }
+        return Schema.createRecord(schema.getName(), schema.getDoc(), schema.getNamespace(), schema.isError(), fields);
+    }
+}
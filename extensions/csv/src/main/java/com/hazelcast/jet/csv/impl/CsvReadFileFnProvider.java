@@ -24,13 +24,18 @@ import com.fasterxml.jackson.dataformat.csv.CsvParser.Feature;
 import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 import com.hazelcast.function.FunctionEx;
 import com.hazelcast.jet.JetException;
+import com.hazelcast.jet.function.TriFunction;
 import com.hazelcast.jet.pipeline.file.CsvFileFormat;
 import com.hazelcast.jet.pipeline.file.FileFormat;
+import com.hazelcast.jet.pipeline.file.impl.FileRangeInputStream;
 import com.hazelcast.jet.pipeline.file.impl.ReadFileFnProvider;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import javax.annotation.Nonnull;
 import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Spliterators;
@@ -49,7 +54,7 @@ import static java.util.function.Function.identity;
  */
 @SuppressFBWarnings(
         value = "OBL_UNSATISFIED_OBLIGATION",
-        justification = "The FileInputStream is closed via Stream$onClose"
+        justification = "The InputStream is closed via Stream$onClose"
 )
 public class CsvReadFileFnProvider implements ReadFileFnProvider {
 
@@ -59,38 +64,68 @@ public class CsvReadFileFnProvider implements ReadFileFnProvider {
     public <T> FunctionEx<Path, Stream<T>> createReadFileFn(@Nonnull FileFormat<T> format) {
         CsvFileFormat<T> csvFileFormat = (CsvFileFormat<T>) format;
         Class<?> formatClazz = csvFileFormat.clazz(); // Format is not Serializable
+        List<String> fieldNames = csvFileFormat.fieldNames();
 
-        return path -> {
-            FileInputStream fis = new FileInputStream(path.toFile());
+        return path -> readCsv(new FileInputStream(path.toFile()), path, formatClazz, fieldNames);
+    }
 
-            MappingIterator<T> iterator;
-            Function<T, T> projection = identity();
-            if (formatClazz == String[].class) {
-                ObjectReader reader = new CsvMapper().enable(Feature.WRAP_AS_ARRAY)
-                                                     .readerFor(String[].class)
-                                                     .with(CsvSchema.emptySchema().withSkipFirstDataRow(false));
+    /**
+     * Returns a function reading the records starting in a byte range of the
+     * file, if the records don't span multiple lines. The header line is
+     * read from the start of the file and parsed before the range.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> TriFunction<Path, Long, Long, Stream<T>> createReadFileRangeFn(@Nonnull FileFormat<T> format) {
+        CsvFileFormat<T> csvFileFormat = (CsvFileFormat<T>) format;
+        if (csvFileFormat.isMultiline()) {
+            return null;
+        }
+        Class<?> formatClazz = csvFileFormat.clazz(); // Format is not Serializable
+        List<String> fieldNames = csvFileFormat.fieldNames();
 
-                iterator = reader.readValues(fis);
-                if (!iterator.hasNext()) {
-                    throw new JetException("Header row missing in " + path);
-                }
-                String[] header = (String[]) iterator.next();
-                List<String> fieldNames = csvFileFormat.fieldNames();
-                if (fieldNames != null) {
-                    projection = (Function<T, T>) createFieldProjection(header, fieldNames);
-                }
-            } else {
-                iterator = new CsvMapper().readerFor(formatClazz)
-                                          .withoutFeatures(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
-                                          .with(CsvSchema.emptySchema().withHeader())
-                                          .readValues(fis);
+        return (path, start, end) -> {
+            InputStream is = FileRangeInputStream.open(path, start, end);
+            if (start > 0) {
+                is = new SequenceInputStream(FileRangeInputStream.open(path, 0, 1), is);
             }
-            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, ORDERED), false)
-                    .map(projection)
-                    .onClose(() -> uncheckRun(fis::close));
+            return readCsv(is, path, formatClazz, fieldNames);
         };
     }
 
+    @SuppressWarnings("unchecked")
+    private static <T> Stream<T> readCsv(
+            InputStream is,
+            Path path,
+            Class<?> formatClazz,
+            List<String> fieldNames
+    ) throws IOException {
+        MappingIterator<T> iterator;
+        Function<T, T> projection = identity();
+        if (formatClazz == String[].class) {
+            ObjectReader reader = new CsvMapper().enable(Feature.WRAP_AS_ARRAY)
+                                                 .readerFor(String[].class)
+                                                 .with(CsvSchema.emptySchema().withSkipFirstDataRow(false));
+
+            iterator = reader.readValues(is);
+            if (!iterator.hasNext()) {
+                throw new JetException("Header row missing in " + path);
+            }
+            String[] header = (String[]) iterator.next();
+            if (fieldNames != null) {
+                projection = (Function<T, T>) createFieldProjection(header, fieldNames);
+            }
+        } else {
+            iterator = new CsvMapper().readerFor(formatClazz)
+                                      .withoutFeatures(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                                      .with(CsvSchema.emptySchema().withHeader())
+                                      .readValues(is);
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, ORDERED), false)
+                .map(projection)
+                .onClose(() -> uncheckRun(is::close));
+    }
+
     @Nonnull
     @Override
     public String format() {
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.csv.impl;
+
+import com.hazelcast.jet.function.TriFunction;
+import com.hazelcast.jet.pipeline.file.FileFormat;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CsvReadFileFnProviderTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final CsvReadFileFnProvider provider = new CsvReadFileFnProvider();
+
+    @Test
+    public void when_multiline_then_notSplittable() {
+        assertThat(provider.createReadFileRangeFn(FileFormat.csv(asList("a", "b")))).isNull();
+    }
+
+    @Test
+    public void when_notMultiline_then_rangesReadWithHeader() throws IOException {
+        String content = IntStream.range(0, 100)
+                                  .mapToObj(i -> i + "," + (i * 2))
+                                  .collect(Collectors.joining("\n", "b,a\n", "\n"));
+        Path path = temporaryFolder.newFile().toPath();
+        Files.write(path, content.getBytes(UTF_8));
+
+        TriFunction<Path, Long, Long, Stream<String[]>> rangeFn =
+                provider.createReadFileRangeFn(FileFormat.csv(asList("a", "b")).multiline(false));
+        assertThat(rangeFn).isNotNull();
+
+        long size = content.length();
+        for (int splitCount = 1; splitCount <= 16; splitCount++) {
+            List<String> rows = new ArrayList<>();
+            for (int i = 0; i < splitCount; i++) {
+                try (Stream<String[]> stream = rangeFn.apply(path, size * i / splitCount, size * (i + 1) / splitCount)) {
+                    stream.forEach(row -> rows.add(row[0] + "," + row[1]));
+                }
+            }
+            assertThat(rows).containsExactlyElementsOf(
+                    IntStream.range(0, 100).mapToObj(i -> (i * 2) + "," + i).collect(Collectors.toList()));
+        }
+    }
+}
@@ -27,6 +27,7 @@ import com.hazelcast.jet.pipeline.file.FileFormat;
 import com.hazelcast.jet.pipeline.file.JsonFileFormat;
 import com.hazelcast.jet.pipeline.file.LinesTextFileFormat;
 import com.hazelcast.jet.pipeline.file.ParquetFileFormat;
+import com.hazelcast.jet.pipeline.file.ParquetFileFormat.Comparison;
 import com.hazelcast.jet.pipeline.file.RawBytesFileFormat;
 import com.hazelcast.jet.pipeline.file.TextFileFormat;
 import com.hazelcast.jet.pipeline.file.impl.FileSourceConfiguration;
@@ -53,6 +54,8 @@ import org.apache.hadoop.mapreduce.Job;
 import org.apache.hadoop.mapreduce.lib.input.FileInputFormat;
 import org.apache.hadoop.mapreduce.lib.input.TextInputFormat;
 import org.apache.parquet.avro.AvroParquetInputFormat;
+import org.apache.parquet.avro.AvroReadSupport;
+import org.apache.parquet.avro.GenericDataSupplier;
 
 import javax.annotation.Nonnull;
 import java.io.FileNotFoundException;
@@ -70,6 +73,7 @@ import static com.hazelcast.jet.hadoop.impl.CsvInputFormat.CSV_INPUT_FORMAT_BEAN
 import static com.hazelcast.jet.hadoop.impl.CsvInputFormat.CSV_INPUT_FORMAT_FIELD_LIST_PREFIX;
 import static com.hazelcast.jet.hadoop.impl.JsonInputFormat.JSON_INPUT_FORMAT_BEAN_CLASS;
 import static com.hazelcast.jet.hadoop.impl.JsonInputFormat.JSON_MULTILINE;
+import static com.hazelcast.jet.hadoop.impl.ParquetPushdownInputFormat.PARQUET_INPUT_FORMAT_FIELD_NAMES;
 import static com.hazelcast.security.permission.ActionConstants.ACTION_READ;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
@@ -333,7 +337,26 @@ public class HadoopFileSourceFactory implements FileSourceFactory {
 
         @Override
         public <T> void configure(Job job, FileFormat<T> format) {
-            job.setInputFormatClass(AvroParquetInputFormat.class);
+            ParquetFileFormat<T> parquetFormat = (ParquetFileFormat<T>) format;
+            List<String> fieldNames = parquetFormat.fieldNames();
+            List<Comparison> rowGroupFilter = parquetFormat.rowGroupFilter();
+            if (fieldNames == null && (rowGroupFilter == null || rowGroupFilter.isEmpty())) {
+                job.setInputFormatClass(AvroParquetInputFormat.class);
+            } else {
+                job.setInputFormatClass(ParquetPushdownInputFormat.class);
+            }
+            if (fieldNames != null) {
+                job.getConfiguration().setStrings(PARQUET_INPUT_FORMAT_FIELD_NAMES, fieldNames.toArray(new String[0]));
+                // the projected records don't match the generated classes, read them as generic records
+                AvroReadSupport.setAvroDataSupplier(job.getConfiguration(), GenericDataSupplier.class);
+            }
+            if (rowGroupFilter != null && !rowGroupFilter.isEmpty()) {
+                try {
+                    ParquetPushdownInputFormat.setRowGroupFilter(job.getConfiguration(), rowGroupFilter);
+                } catch (IOException e) {
+                    throw new JetException("Failed to serialize the row group filter: " + rowGroupFilter, e);
+                }
+            }
             job.getConfiguration().setBoolean(COPY_ON_READ, Boolean.FALSE);
         }
 
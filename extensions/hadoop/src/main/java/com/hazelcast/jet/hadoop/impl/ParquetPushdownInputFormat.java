@@ -0,0 +1,187 @@
+/*
+ * Copyright 2021 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.hadoop.impl;
+
+import com.hazelcast.jet.pipeline.file.ParquetFileFormat.Comparison;
+import org.apache.avro.Schema;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.mapreduce.InputSplit;
+import org.apache.hadoop.mapreduce.RecordReader;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.hadoop.mapreduce.lib.input.FileSplit;
+import org.apache.hadoop.mapreduce.task.TaskAttemptContextImpl;
+import org.apache.parquet.avro.AvroReadSupport;
+import org.apache.parquet.avro.AvroSchemaConverter;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.ParquetInputFormat;
+import org.apache.parquet.hadoop.ParquetRecordReader;
+import org.apache.parquet.hadoop.util.ContextUtil;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.apache.parquet.hadoop.util.SerializationUtil;
+import org.apache.parquet.schema.MessageType;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static com.hazelcast.jet.avro.impl.AvroSchemaUtil.project;
+import static com.hazelcast.jet.hadoop.impl.ParquetRowGroupFilters.toFilterPredicate;
+import static org.apache.parquet.format.converter.ParquetMetadataConverter.SKIP_ROW_GROUPS;
+
+/**
+ * Parquet input format reading only the top-level fields listed in the
+ * {@value #PARQUET_INPUT_FORMAT_FIELD_NAMES} property. Unlike the {@code
+ * parquet.avro.projection} property, it doesn't require the Avro schema
+ * of the projection to be known upfront: it's derived from the schema of
+ * each file, the column chunks of the other fields are not read at all.
+ * <p>
+ * The records should be read as generic records, the projected schema
+ * doesn't match the generated specific classes.
+ * <p>
+ * If the {@value #PARQUET_INPUT_FORMAT_ROW_GROUP_FILTER} property is set,
+ * the row groups whose min/max statistics show that they can't contain a
+ * record matching the {@link Comparison}s are skipped. The Parquet filter
+ * predicate is created for each file separately: the comparisons that
+ * don't match the physical type of the column in the file are left out
+ * instead of failing the read. The records of the other row groups aren't
+ * filtered.
+ *
+ * @param <T> type of the records
+ */
+public class ParquetPushdownInputFormat<T> extends ParquetInputFormat<T> {
+
+    public static final String PARQUET_INPUT_FORMAT_FIELD_NAMES = "parquet.field.names";
+    public static final String PARQUET_INPUT_FORMAT_ROW_GROUP_FILTER = "parquet.row.group.filter";
+
+    /**
+     * Avro schema stored in the file footer by the Avro Parquet writer, see
+     * {@code AvroReadSupport.AVRO_SCHEMA_METADATA_KEY}.
+     */
+    private static final String AVRO_SCHEMA_METADATA_KEY = "parquet.avro.schema";
+
+    public ParquetPushdownInputFormat() {
+        super(FieldProjectingReadSupport.class);
+    }
+
+    /**
+     * Stores the given comparisons in the configuration, see {@value
+     * #PARQUET_INPUT_FORMAT_ROW_GROUP_FILTER}.
+     */
+    public static void setRowGroupFilter(Configuration configuration, List<Comparison> rowGroupFilter)
+            throws IOException {
+        SerializationUtil.writeObjectToConfAsBase64(
+                PARQUET_INPUT_FORMAT_ROW_GROUP_FILTER, new ArrayList<>(rowGroupFilter), configuration);
+        // only the row groups are skipped, the records are not filtered one by one
+        configuration.setBoolean(RECORD_FILTERING_ENABLED, false);
+    }
+
+    @Override
+    public RecordReader<Void, T> createRecordReader(InputSplit split, TaskAttemptContext context)
+            throws IOException, InterruptedException {
+        Configuration configuration = ContextUtil.getConfiguration(context);
+        List<Comparison> rowGroupFilter =
+                SerializationUtil.readObjectFromConfAsBase64(PARQUET_INPUT_FORMAT_ROW_GROUP_FILTER, configuration);
+        if (rowGroupFilter == null) {
+            return super.createRecordReader(split, context);
+        }
+        return new RowGroupFilteringRecordReader<>(rowGroupFilter);
+    }
+
+    /**
+     * Record reader which creates the Parquet filter predicate from the
+     * schema of the file before delegating to the Parquet record reader.
+     * The reader takes the predicate from the configuration.
+     */
+    private static final class RowGroupFilteringRecordReader<T> extends RecordReader<Void, T> {
+
+        private final List<Comparison> rowGroupFilter;
+        private final ParquetRecordReader<T> delegate = new ParquetRecordReader<>(new FieldProjectingReadSupport<>());
+
+        private RowGroupFilteringRecordReader(List<Comparison> rowGroupFilter) {
+            this.rowGroupFilter = rowGroupFilter;
+        }
+
+        @Override
+        public void initialize(InputSplit split, TaskAttemptContext context) throws IOException, InterruptedException {
+            // the configuration may be shared by readers of files with different schemas
+            Configuration configuration = new Configuration(ContextUtil.getConfiguration(context));
+            // the footer is read again by the delegate, but without the row
+            // groups it's small and we need the physical types of the columns
+            HadoopInputFile file = HadoopInputFile.fromPath(((FileSplit) split).getPath(), configuration);
+            MessageType fileSchema = ParquetFileReader.readFooter(file, SKIP_ROW_GROUPS).getFileMetaData().getSchema();
+            FilterPredicate predicate = toFilterPredicate(rowGroupFilter, fileSchema);
+            if (predicate != null) {
+                setFilterPredicate(configuration, predicate);
+            }
+            delegate.initialize(split, new TaskAttemptContextImpl(configuration, context.getTaskAttemptID()));
+        }
+
+        @Override
+        public boolean nextKeyValue() throws IOException, InterruptedException {
+            return delegate.nextKeyValue();
+        }
+
+        @Override
+        public Void getCurrentKey() {
+            return null;
+        }
+
+        @Override
+        public T getCurrentValue() throws IOException, InterruptedException {
+            return delegate.getCurrentValue();
+        }
+
+        @Override
+        public float getProgress() throws IOException, InterruptedException {
+            return delegate.getProgress();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+
+    public static class FieldProjectingReadSupport<T> extends AvroReadSupport<T> {
+
+        @Override
+        public ReadContext init(
+                Configuration configuration,
+                Map<String, String> keyValueMetaData,
+                MessageType fileSchema
+        ) {
+            String[] fieldNames = configuration.getStrings(PARQUET_INPUT_FORMAT_FIELD_NAMES);
+            if (fieldNames == null) {
+                return super.init(configuration, keyValueMetaData, fileSchema);
+            }
+            String avroSchema = keyValueMetaData.get(AVRO_SCHEMA_METADATA_KEY);
+            Schema fileAvroSchema = avroSchema != null
+                    ? new Schema.Parser().parse(avroSchema)
+                    : new AvroSchemaConverter(configuration).convert(fileSchema);
+            Schema projection = project(fileAvroSchema, Arrays.asList(fieldNames));
+
+            // the configuration may be shared by readers of files with different schemas
+            Configuration projectingConfiguration = new Configuration(configuration);
+            setRequestedProjection(projectingConfiguration, projection);
+            setAvroReadSchema(projectingConfiguration, projection);
+            return super.init(projectingConfiguration, keyValueMetaData, fileSchema);
+        }
+    }
+}
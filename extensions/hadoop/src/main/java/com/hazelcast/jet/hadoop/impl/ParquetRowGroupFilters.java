@@ -0,0 +1,134 @@
+/*
+ * Copyright 2021 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.hadoop.impl;
+
+import com.hazelcast.jet.pipeline.file.ParquetFileFormat.Comparison;
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators.Column;
+import org.apache.parquet.filter2.predicate.Operators.SupportsLtGt;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.LogicalTypeAnnotation.StringLogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+import org.apache.parquet.schema.Type.Repetition;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Translates the {@link Comparison}s of a {@code ParquetFileFormat} to
+ * a Parquet {@link FilterPredicate}, which the Parquet reader evaluates
+ * against the min/max statistics of the row groups.
+ */
+final class ParquetRowGroupFilters {
+
+    private ParquetRowGroupFilters() {
+    }
+
+    /**
+     * Returns a conjunction of the given comparisons applicable to a file
+     * with the given schema, null if none of them is applicable.
+     * <p>
+     * A comparison is applicable if the field is a top-level, non-repeated
+     * column and the value can be converted to its physical type without
+     * a loss of precision. Leaving out a comparison only makes the filter
+     * less selective, it never skips a row group with a matching record.
+     */
+    static FilterPredicate toFilterPredicate(List<Comparison> comparisons, MessageType schema) {
+        FilterPredicate result = null;
+        for (Comparison comparison : comparisons) {
+            FilterPredicate predicate = toFilterPredicate(comparison, schema);
+            if (predicate != null) {
+                result = result == null ? predicate : FilterApi.and(result, predicate);
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("checkstyle:ReturnCount")
+    private static FilterPredicate toFilterPredicate(Comparison comparison, MessageType schema) {
+        String fieldName = comparison.fieldName();
+        if (!schema.containsField(fieldName)) {
+            return null;
+        }
+        Type type = schema.getType(fieldName);
+        if (!type.isPrimitive() || type.isRepetition(Repetition.REPEATED)) {
+            return null;
+        }
+        PrimitiveType primitiveType = type.asPrimitiveType();
+        Serializable value = comparison.value();
+        switch (primitiveType.getPrimitiveTypeName()) {
+            case INT32:
+                if (value instanceof Integer || value instanceof Short || value instanceof Byte
+                        || value instanceof Long && (Long) value == ((Long) value).intValue()) {
+                    return compare(FilterApi.intColumn(fieldName), comparison, ((Number) value).intValue());
+                }
+                return null;
+            case INT64:
+                if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                    return compare(FilterApi.longColumn(fieldName), comparison, ((Number) value).longValue());
+                }
+                return null;
+            case FLOAT:
+                if (value instanceof Float) {
+                    return compare(FilterApi.floatColumn(fieldName), comparison, (Float) value);
+                }
+                return null;
+            case DOUBLE:
+                if (value instanceof Double || value instanceof Float) {
+                    return compare(FilterApi.doubleColumn(fieldName), comparison, ((Number) value).doubleValue());
+                }
+                return null;
+            case BINARY:
+                boolean isString = primitiveType.getLogicalTypeAnnotation() instanceof StringLogicalTypeAnnotation;
+                if (value instanceof String && isString) {
+                    return compare(FilterApi.binaryColumn(fieldName), comparison, Binary.fromString((String) value));
+                }
+                return null;
+            case BOOLEAN:
+                if (value instanceof Boolean && comparison.operator() == Comparison.Operator.EQUAL) {
+                    return FilterApi.eq(FilterApi.booleanColumn(fieldName), (Boolean) value);
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private static <T extends Comparable<T>, C extends Column<T> & SupportsLtGt> FilterPredicate compare(
+            C column,
+            Comparison comparison,
+            T value
+    ) {
+        switch (comparison.operator()) {
+            case EQUAL:
+                return FilterApi.eq(column, value);
+            case LESS_THAN:
+                return FilterApi.lt(column, value);
+            case LESS_THAN_OR_EQUAL:
+                return FilterApi.ltEq(column, value);
+            case GREATER_THAN:
+                return FilterApi.gt(column, value);
+            case GREATER_THAN_OR_EQUAL:
+                return FilterApi.gtEq(column, value);
+            default:
+                throw new IllegalArgumentException("Unsupported operator: " + comparison);
+        }
+    }
+}
@@ -25,6 +25,7 @@ import com.hazelcast.jet.pipeline.file.FileSources;
 import org.apache.avro.AvroTypeException;
 import org.apache.avro.InvalidAvroMagicException;
 import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.specific.SpecificDatumWriter;
 import org.apache.commons.io.FileUtils;
 import org.junit.Test;
@@ -32,7 +33,9 @@ import org.junit.Test;
 import java.io.File;
 import java.io.IOException;
 
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeFalse;
 
 public class AvroFileFormatTest extends BaseFileFormatTest {
 
@@ -63,6 +66,21 @@ public class AvroFileFormatTest extends BaseFileFormatTest {
         );
     }
 
+    @Test
+    public void shouldReadAvroWithFieldNames() throws Exception {
+        assumeFalse(useHadoop);
+        createAvroFile();
+
+        FileSourceBuilder<GenericRecord> source = FileSources.files(currentDir + "/target/avro")
+                                                             .glob("file.avro")
+                                                             .format(FileFormat.<GenericRecord>avro()
+                                                                     .withFieldNames(asList("favorite_number", "age")));
+
+        assertItemsInSource(source, items -> assertThat(items)
+                .extracting(GenericRecord::toString)
+                .containsExactlyInAnyOrder("{\"favorite_number\": 7}", "{\"favorite_number\": 42}"));
+    }
+
     @Test
     public void shouldReadEmptyAvroFile() throws Exception {
         createEmptyAvroFile();
@@ -26,6 +26,8 @@ import com.hazelcast.jet.pipeline.Sinks;
 import com.hazelcast.jet.pipeline.file.FileFormat;
 import com.hazelcast.jet.pipeline.file.FileSourceBuilder;
 import com.hazelcast.jet.pipeline.file.FileSources;
+import com.hazelcast.jet.pipeline.file.ParquetFileFormat.Comparison;
+import org.apache.avro.generic.GenericRecord;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
@@ -37,7 +39,11 @@ import org.junit.runners.Parameterized.Parameters;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 
+import static com.hazelcast.jet.pipeline.file.ParquetFileFormat.Comparison.Operator.EQUAL;
+import static com.hazelcast.jet.pipeline.file.ParquetFileFormat.Comparison.Operator.GREATER_THAN;
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -145,6 +151,56 @@ public class ParquetFileFormatTest extends BaseFileFormatTest {
         );
     }
 
+    @Test
+    public void shouldReadWithFieldNames() throws Exception {
+        createParquetFile();
+
+        FileSourceBuilder<GenericRecord> source = FileSources.files(currentDir + "/target/parquet")
+                                                             .glob("file.parquet")
+                                                             .format(FileFormat.<GenericRecord>parquet()
+                                                                     .withFieldNames(asList("favorite_number", "age")));
+
+        assertItemsInSource(source, items -> assertThat(items)
+                .extracting(GenericRecord::toString)
+                .containsExactlyInAnyOrder("{\"favorite_number\": 7}", "{\"favorite_number\": 42}"));
+    }
+
+    @Test
+    public void shouldSkipRowGroupsWithRowGroupFilter() throws Exception {
+        // each file contains a single row group
+        createParquetFile("file-1.parquet", new SpecificUser("Frantisek", 7));
+        writeParquetFile("file-2.parquet", new SpecificUser("Ali", 42));
+
+        List<Comparison> rowGroupFilter = asList(
+                new Comparison("favorite_number", GREATER_THAN, 10),
+                new Comparison("name", EQUAL, "Ali")
+        );
+        FileSourceBuilder<SpecificUser> source = FileSources.files(currentDir + "/target/parquet")
+                                                            .format(FileFormat.<SpecificUser>parquet()
+                                                                    .withRowGroupFilter(rowGroupFilter));
+
+        assertItemsInSource(source, new SpecificUser("Ali", 42));
+    }
+
+    @Test
+    public void shouldIgnoreRowGroupFilter_whenValueTypeMismatch() throws Exception {
+        createParquetFile("file-1.parquet", new SpecificUser("Frantisek", 7));
+        writeParquetFile("file-2.parquet", new SpecificUser("Ali", 42));
+
+        List<Comparison> rowGroupFilter = asList(
+                new Comparison("favorite_number", EQUAL, "42"),
+                new Comparison("name", EQUAL, 42)
+        );
+        FileSourceBuilder<SpecificUser> source = FileSources.files(currentDir + "/target/parquet")
+                                                            .format(FileFormat.<SpecificUser>parquet()
+                                                                    .withRowGroupFilter(rowGroupFilter));
+
+        assertItemsInSource(source,
+                new SpecificUser("Frantisek", 7),
+                new SpecificUser("Ali", 42)
+        );
+    }
+
     private void createParquetFile() throws IOException {
         createParquetFile("file.parquet", new SpecificUser("Frantisek", 7), new SpecificUser("Ali", 42));
     }
@@ -154,9 +210,14 @@ public class ParquetFileFormatTest extends BaseFileFormatTest {
     }
 
     private void createParquetFile(String filename, SpecificUser... users) throws IOException {
+        FileSystem fs = FileSystem.get(new Configuration());
+        fs.delete(new Path("target/parquet"), true);
+        writeParquetFile(filename, users);
+    }
+
+    private void writeParquetFile(String filename, SpecificUser... users) throws IOException {
         Path inputPath = new Path("target/parquet");
         FileSystem fs = FileSystem.get(new Configuration());
-        fs.delete(inputPath, true);
         Path filePath = new Path(inputPath, filename);
 
         ParquetWriter<SpecificUser> writer = AvroParquetWriter.
@@ -433,6 +433,24 @@ SqlShowStatement SqlShowStatement() :
     }
 }
 
+/**
+ * Parses EXPLAIN ANALYZE statement.
+ */
+SqlExplainAnalyze SqlExplainAnalyze() :
+{
+    SqlParserPos pos;
+
+    SqlNode query;
+}
+{
+    <EXPLAIN> { pos = getPos(); }
+    <ANALYZE>
+    query = OrderedQueryOrExpr(ExprContext.ACCEPT_QUERY)
+    {
+        return new SqlExplainAnalyze(pos.plus(getPos()), query);
+    }
+}
+
 /**
  * Parses INSERT/SINK INTO statement.
  */
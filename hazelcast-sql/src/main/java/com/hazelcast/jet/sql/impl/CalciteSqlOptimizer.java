@@ -25,10 +25,13 @@ import com.hazelcast.jet.sql.impl.JetPlan.DmlPlan;
 import com.hazelcast.jet.sql.impl.JetPlan.DropJobPlan;
 import com.hazelcast.jet.sql.impl.JetPlan.DropMappingPlan;
 import com.hazelcast.jet.sql.impl.JetPlan.DropSnapshotPlan;
+import com.hazelcast.jet.sql.impl.JetPlan.ExplainAnalyzePlan;
+import com.hazelcast.jet.sql.impl.JetPlan.IMapDeleteByFilterPlan;
 import com.hazelcast.jet.sql.impl.JetPlan.IMapDeletePlan;
 import com.hazelcast.jet.sql.impl.JetPlan.IMapInsertPlan;
 import com.hazelcast.jet.sql.impl.JetPlan.IMapSelectPlan;
 import com.hazelcast.jet.sql.impl.JetPlan.IMapSinkPlan;
+import com.hazelcast.jet.sql.impl.JetPlan.IMapUpdateByFilterPlan;
 import com.hazelcast.jet.sql.impl.JetPlan.IMapUpdatePlan;
 import com.hazelcast.jet.sql.impl.JetPlan.SelectPlan;
 import com.hazelcast.jet.sql.impl.JetPlan.ShowStatementPlan;
@@ -39,6 +42,7 @@ import com.hazelcast.jet.sql.impl.opt.OptUtils;
 import com.hazelcast.jet.sql.impl.opt.logical.LogicalRel;
 import com.hazelcast.jet.sql.impl.opt.logical.LogicalRules;
 import com.hazelcast.jet.sql.impl.opt.physical.CreateDagVisitor;
+import com.hazelcast.jet.sql.impl.opt.physical.DeleteByFilterMapPhysicalRel;
 import com.hazelcast.jet.sql.impl.opt.physical.DeleteByKeyMapPhysicalRel;
 import com.hazelcast.jet.sql.impl.opt.physical.InsertMapPhysicalRel;
 import com.hazelcast.jet.sql.impl.opt.physical.JetRootRel;
@@ -46,6 +50,7 @@ import com.hazelcast.jet.sql.impl.opt.physical.PhysicalRel;
 import com.hazelcast.jet.sql.impl.opt.physical.PhysicalRules;
 import com.hazelcast.jet.sql.impl.opt.physical.SelectByKeyMapPhysicalRel;
 import com.hazelcast.jet.sql.impl.opt.physical.SinkMapPhysicalRel;
+import com.hazelcast.jet.sql.impl.opt.physical.UpdateByFilterMapPhysicalRel;
 import com.hazelcast.jet.sql.impl.opt.physical.UpdateByKeyMapPhysicalRel;
 import com.hazelcast.jet.sql.impl.parse.QueryConvertResult;
 import com.hazelcast.jet.sql.impl.parse.QueryParseResult;
@@ -56,6 +61,7 @@ import com.hazelcast.jet.sql.impl.parse.SqlCreateSnapshot;
 import com.hazelcast.jet.sql.impl.parse.SqlDropJob;
 import com.hazelcast.jet.sql.impl.parse.SqlDropMapping;
 import com.hazelcast.jet.sql.impl.parse.SqlDropSnapshot;
+import com.hazelcast.jet.sql.impl.parse.SqlExplainAnalyze;
 import com.hazelcast.jet.sql.impl.parse.SqlShowStatement;
 import com.hazelcast.jet.sql.impl.schema.HazelcastTable;
 import com.hazelcast.jet.sql.impl.schema.MappingCatalog;
@@ -66,6 +72,7 @@ import com.hazelcast.security.permission.MapPermission;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.sql.SqlColumnMetadata;
 import com.hazelcast.sql.SqlRowMetadata;
+import com.hazelcast.sql.impl.QueryException;
 import com.hazelcast.sql.impl.QueryParameterMetadata;
 import com.hazelcast.sql.impl.QueryUtils;
 import com.hazelcast.sql.impl.optimizer.OptimizationTask;
@@ -247,6 +254,8 @@ public class CalciteSqlOptimizer implements SqlOptimizer {
             return toDropSnapshotPlan(planKey, (SqlDropSnapshot) node);
         } else if (node instanceof SqlShowStatement) {
             return toShowStatementPlan(planKey, (SqlShowStatement) node);
+        } else if (node instanceof SqlExplainAnalyze) {
+            return toExplainAnalyzePlan(planKey, parseResult, context);
         } else {
             QueryConvertResult convertResult = context.convert(parseResult.getNode());
             return toPlan(
@@ -338,6 +347,30 @@ public class CalciteSqlOptimizer implements SqlOptimizer {
         return new ShowStatementPlan(planKey, sqlNode.getTarget(), planExecutor);
     }
 
+    private SqlPlan toExplainAnalyzePlan(PlanKey planKey, QueryParseResult parseResult, OptimizerContext context) {
+        SqlExplainAnalyze sqlExplain = (SqlExplainAnalyze) parseResult.getNode();
+        if (parseResult.isInfiniteRows()) {
+            throw QueryException.error("EXPLAIN ANALYZE is not supported for streaming queries");
+        }
+
+        QueryConvertResult convertResult = context.convert(sqlExplain.getQuery());
+        JetPlan plan = toPlan(
+                null,
+                parseResult.getParameterMetadata(),
+                convertResult.getRel(),
+                convertResult.getFieldNames(),
+                context,
+                false,
+                false
+        );
+        if (!(plan instanceof SelectPlan)) {
+            throw QueryException.error("EXPLAIN ANALYZE is supported only for SELECT queries executed as a job");
+        }
+
+        return new ExplainAnalyzePlan(planKey, (SelectPlan) plan, planExecutor);
+    }
+
+    @SuppressWarnings("checkstyle:returncount")
     private JetPlan toPlan(
             PlanKey planKey,
             QueryParameterMetadata parameterMetadata,
@@ -418,6 +451,31 @@ public class CalciteSqlOptimizer implements SqlOptimizer {
                     planExecutor,
                     permissions
             );
+        } else if (physicalRel instanceof UpdateByFilterMapPhysicalRel) {
+            assert !isCreateJob;
+            UpdateByFilterMapPhysicalRel update = (UpdateByFilterMapPhysicalRel) physicalRel;
+            return new IMapUpdateByFilterPlan(
+                    planKey,
+                    update.objectKey(),
+                    parameterMetadata,
+                    update.mapName(),
+                    update.predicateSupplier(parameterMetadata),
+                    update.updaterSupplier(parameterMetadata),
+                    planExecutor,
+                    permissions
+            );
+        } else if (physicalRel instanceof DeleteByFilterMapPhysicalRel) {
+            assert !isCreateJob;
+            DeleteByFilterMapPhysicalRel delete = (DeleteByFilterMapPhysicalRel) physicalRel;
+            return new IMapDeleteByFilterPlan(
+                    planKey,
+                    delete.objectKey(),
+                    parameterMetadata,
+                    delete.mapName(),
+                    delete.predicateSupplier(parameterMetadata),
+                    planExecutor,
+                    permissions
+            );
         } else if (physicalRel instanceof TableModify) {
             Operation operation = ((TableModify) physicalRel).getOperation();
             CreateDagVisitor visitor = traverseRel(physicalRel, parameterMetadata);
@@ -442,6 +500,7 @@ public class CalciteSqlOptimizer implements SqlOptimizer {
                     parameterMetadata,
                     visitor.getObjectKeys(),
                     visitor.getDag(),
+                    visitor.getIndexScanVertexNames(),
                     isInfiniteRows,
                     rowMetadata,
                     planExecutor,
@@ -22,6 +22,7 @@ import com.hazelcast.function.PredicateEx;
 import com.hazelcast.jet.sql.impl.opt.FieldCollation;
 import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.row.EmptyRow;
 import com.hazelcast.sql.impl.row.HeapRow;
 import com.hazelcast.sql.impl.row.Row;
 import org.apache.calcite.rel.RelFieldCollation.Direction;
@@ -117,6 +118,27 @@ public final class ExpressionUtil {
         };
     }
 
+    /**
+     * Evaluates the {@code fetch} and {@code offset} expressions and returns
+     * the number of leading rows needed to produce the result, that is {@code
+     * fetch + offset}. Returns {@code Long.MAX_VALUE} if the fetch is missing,
+     * invalid or the sum overflows. Invalid values are reported by the root
+     * sink, here we only avoid failing with a different error.
+     */
+    public static long evaluateLimit(
+            @Nullable Expression<?> fetch,
+            @Nullable Expression<?> offset,
+            @Nonnull ExpressionEvalContext context
+    ) {
+        Number fetchValue = fetch == null ? null : (Number) evaluate(fetch, EmptyRow.INSTANCE, context);
+        Number offsetValue = offset == null ? 0L : (Number) evaluate(offset, EmptyRow.INSTANCE, context);
+        if (fetchValue == null || fetchValue.longValue() < 0 || offsetValue == null || offsetValue.longValue() < 0) {
+            return Long.MAX_VALUE;
+        }
+        long limit = fetchValue.longValue() + offsetValue.longValue();
+        return limit < 0 ? Long.MAX_VALUE : limit;
+    }
+
     /**
      * Concatenates {@code leftRow} and {@code rightRow} into one, evaluates
      * the {@code predicate} on it, and if the predicate passed, returns the
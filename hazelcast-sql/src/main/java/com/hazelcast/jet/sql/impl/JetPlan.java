@@ -20,6 +20,7 @@ import com.hazelcast.jet.config.JobConfig;
 import com.hazelcast.jet.core.DAG;
 import com.hazelcast.jet.core.Vertex;
 import com.hazelcast.jet.sql.impl.connector.keyvalue.KvRowProjector;
+import com.hazelcast.jet.sql.impl.connector.map.MapFilterPredicate;
 import com.hazelcast.jet.sql.impl.connector.map.UpdatingEntryProcessor;
 import com.hazelcast.jet.sql.impl.parse.SqlAlterJob.AlterJobOperation;
 import com.hazelcast.jet.sql.impl.parse.SqlShowStatement.ShowStatementTarget;
@@ -506,6 +507,7 @@ abstract class JetPlan extends SqlPlan {
         private final Set<PlanObjectKey> objectKeys;
         private final QueryParameterMetadata parameterMetadata;
         private final DAG dag;
+        private final Set<String> indexScanVertexNames;
         private final boolean isStreaming;
         private final SqlRowMetadata rowMetadata;
         private final JetPlanExecutor planExecutor;
@@ -516,6 +518,7 @@ abstract class JetPlan extends SqlPlan {
                 QueryParameterMetadata parameterMetadata,
                 Set<PlanObjectKey> objectKeys,
                 DAG dag,
+                Set<String> indexScanVertexNames,
                 boolean isStreaming,
                 SqlRowMetadata rowMetadata,
                 JetPlanExecutor planExecutor,
@@ -526,6 +529,7 @@ abstract class JetPlan extends SqlPlan {
             this.objectKeys = objectKeys;
             this.parameterMetadata = parameterMetadata;
             this.dag = dag;
+            this.indexScanVertexNames = indexScanVertexNames;
             this.isStreaming = isStreaming;
             this.rowMetadata = rowMetadata;
             this.planExecutor = planExecutor;
@@ -540,6 +544,10 @@ abstract class JetPlan extends SqlPlan {
             return dag;
         }
 
+        Set<String> getIndexScanVertexNames() {
+            return indexScanVertexNames;
+        }
+
         boolean isStreaming() {
             return isStreaming;
         }
@@ -575,6 +583,47 @@ abstract class JetPlan extends SqlPlan {
         }
     }
 
+    static class ExplainAnalyzePlan extends JetPlan {
+        private final SelectPlan selectPlan;
+        private final JetPlanExecutor planExecutor;
+
+        ExplainAnalyzePlan(PlanKey planKey, SelectPlan selectPlan, JetPlanExecutor planExecutor) {
+            super(planKey);
+
+            this.selectPlan = selectPlan;
+            this.planExecutor = planExecutor;
+        }
+
+        SelectPlan getSelectPlan() {
+            return selectPlan;
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return selectPlan.isCacheable();
+        }
+
+        @Override
+        public boolean isPlanValid(PlanCheckContext context) {
+            return selectPlan.isPlanValid(context);
+        }
+
+        @Override
+        public void checkPermissions(SqlSecurityContext context) {
+            selectPlan.checkPermissions(context);
+        }
+
+        @Override
+        public boolean producesRows() {
+            return true;
+        }
+
+        @Override
+        public SqlResult execute(QueryId queryId, List<Object> arguments, long timeout) {
+            return planExecutor.execute(this, queryId, arguments, timeout);
+        }
+    }
+
     static class DmlPlan extends JetPlan {
         private final TableModify.Operation operation;
         private final Set<PlanObjectKey> objectKeys;
@@ -994,6 +1043,147 @@ abstract class JetPlan extends SqlPlan {
         }
     }
 
+    static class IMapUpdateByFilterPlan extends JetPlan {
+        private final Set<PlanObjectKey> objectKeys;
+        private final QueryParameterMetadata parameterMetadata;
+        private final String mapName;
+        private final MapFilterPredicate.Supplier predicateSupplier;
+        private final UpdatingEntryProcessor.Supplier updaterSupplier;
+        private final JetPlanExecutor planExecutor;
+        private final List<Permission> permissions;
+
+        IMapUpdateByFilterPlan(
+                PlanKey planKey,
+                PlanObjectKey objectKey,
+                QueryParameterMetadata parameterMetadata,
+                String mapName,
+                MapFilterPredicate.Supplier predicateSupplier,
+                UpdatingEntryProcessor.Supplier updaterSupplier,
+                JetPlanExecutor planExecutor,
+                List<Permission> permissions
+        ) {
+            super(planKey);
+
+            this.objectKeys = Collections.singleton(objectKey);
+            this.parameterMetadata = parameterMetadata;
+            this.mapName = mapName;
+            this.predicateSupplier = predicateSupplier;
+            this.updaterSupplier = updaterSupplier;
+            this.planExecutor = planExecutor;
+            this.permissions = permissions;
+        }
+
+        QueryParameterMetadata parameterMetadata() {
+            return parameterMetadata;
+        }
+
+        String mapName() {
+            return mapName;
+        }
+
+        MapFilterPredicate.Supplier predicateSupplier() {
+            return predicateSupplier;
+        }
+
+        UpdatingEntryProcessor.Supplier updaterSupplier() {
+            return updaterSupplier;
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
+
+        @Override
+        public boolean isPlanValid(PlanCheckContext context) {
+            return context.isValid(objectKeys);
+        }
+
+        @Override
+        public void checkPermissions(SqlSecurityContext context) {
+            // We are checking ACTION_CREATE and ACTION_READ permissions to align with DmlPlan.
+            context.checkPermission(new MapPermission(mapName, ACTION_CREATE, ACTION_READ, ACTION_PUT, ACTION_REMOVE));
+            permissions.forEach(context::checkPermission);
+        }
+
+        @Override
+        public boolean producesRows() {
+            return false;
+        }
+
+        @Override
+        public SqlResult execute(QueryId queryId, List<Object> arguments, long timeout) {
+            return planExecutor.execute(this, arguments, timeout);
+        }
+    }
+
+    static class IMapDeleteByFilterPlan extends JetPlan {
+        private final Set<PlanObjectKey> objectKeys;
+        private final QueryParameterMetadata parameterMetadata;
+        private final String mapName;
+        private final MapFilterPredicate.Supplier predicateSupplier;
+        private final JetPlanExecutor planExecutor;
+        private final List<Permission> permissions;
+
+        IMapDeleteByFilterPlan(
+                PlanKey planKey,
+                PlanObjectKey objectKey,
+                QueryParameterMetadata parameterMetadata,
+                String mapName,
+                MapFilterPredicate.Supplier predicateSupplier,
+                JetPlanExecutor planExecutor,
+                List<Permission> permissions
+        ) {
+            super(planKey);
+
+            this.objectKeys = Collections.singleton(objectKey);
+            this.parameterMetadata = parameterMetadata;
+            this.mapName = mapName;
+            this.predicateSupplier = predicateSupplier;
+            this.planExecutor = planExecutor;
+            this.permissions = permissions;
+        }
+
+        QueryParameterMetadata parameterMetadata() {
+            return parameterMetadata;
+        }
+
+        String mapName() {
+            return mapName;
+        }
+
+        MapFilterPredicate.Supplier predicateSupplier() {
+            return predicateSupplier;
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
+
+        @Override
+        public boolean isPlanValid(PlanCheckContext context) {
+            return context.isValid(objectKeys);
+        }
+
+        @Override
+        public void checkPermissions(SqlSecurityContext context) {
+            // We are checking ACTION_CREATE and ACTION_READ permissions to align with DmlPlan.
+            context.checkPermission(new MapPermission(mapName, ACTION_CREATE, ACTION_READ, ACTION_PUT, ACTION_REMOVE));
+            permissions.forEach(context::checkPermission);
+        }
+
+        @Override
+        public boolean producesRows() {
+            return false;
+        }
+
+        @Override
+        public SqlResult execute(QueryId queryId, List<Object> arguments, long timeout) {
+            return planExecutor.execute(this, arguments, timeout);
+        }
+    }
+
     private static void ensureNoArguments(String name, List<Object> arguments) {
         if (!arguments.isEmpty()) {
             throw QueryException.error(name + " does not support dynamic parameters");
@@ -17,12 +17,19 @@
 package com.hazelcast.jet.sql.impl;
 
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.jet.Job;
 import com.hazelcast.jet.JobStateSnapshot;
 import com.hazelcast.jet.config.JobConfig;
+import com.hazelcast.jet.core.Vertex;
+import com.hazelcast.jet.core.metrics.JobMetrics;
+import com.hazelcast.jet.core.metrics.Measurement;
+import com.hazelcast.jet.core.metrics.MetricNames;
+import com.hazelcast.jet.core.metrics.MetricTags;
 import com.hazelcast.jet.impl.AbstractJetInstance;
 import com.hazelcast.jet.impl.JetServiceBackend;
+import com.hazelcast.jet.impl.execution.init.ExecutionPlan;
 import com.hazelcast.jet.impl.util.Util;
 import com.hazelcast.jet.sql.impl.JetPlan.AlterJobPlan;
 import com.hazelcast.jet.sql.impl.JetPlan.CreateJobPlan;
@@ -32,17 +39,22 @@ import com.hazelcast.jet.sql.impl.JetPlan.DmlPlan;
 import com.hazelcast.jet.sql.impl.JetPlan.DropJobPlan;
 import com.hazelcast.jet.sql.impl.JetPlan.DropMappingPlan;
 import com.hazelcast.jet.sql.impl.JetPlan.DropSnapshotPlan;
+import com.hazelcast.jet.sql.impl.JetPlan.ExplainAnalyzePlan;
+import com.hazelcast.jet.sql.impl.JetPlan.IMapDeleteByFilterPlan;
 import com.hazelcast.jet.sql.impl.JetPlan.IMapDeletePlan;
 import com.hazelcast.jet.sql.impl.JetPlan.IMapInsertPlan;
 import com.hazelcast.jet.sql.impl.JetPlan.IMapSelectPlan;
 import com.hazelcast.jet.sql.impl.JetPlan.IMapSinkPlan;
+import com.hazelcast.jet.sql.impl.JetPlan.IMapUpdateByFilterPlan;
 import com.hazelcast.jet.sql.impl.JetPlan.IMapUpdatePlan;
 import com.hazelcast.jet.sql.impl.JetPlan.SelectPlan;
 import com.hazelcast.jet.sql.impl.JetPlan.ShowStatementPlan;
+import com.hazelcast.jet.sql.impl.connector.map.DeletingEntryProcessor;
 import com.hazelcast.jet.sql.impl.parse.SqlShowStatement.ShowStatementTarget;
 import com.hazelcast.jet.sql.impl.schema.MappingCatalog;
-import com.hazelcast.map.impl.EntryRemovingProcessor;
+import com.hazelcast.map.EntryProcessor;
 import com.hazelcast.map.impl.proxy.MapProxyImpl;
+import com.hazelcast.query.Predicate;
 import com.hazelcast.query.impl.getters.Extractors;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.sql.SqlColumnMetadata;
@@ -56,8 +68,11 @@ import com.hazelcast.sql.impl.SqlErrorCode;
 import com.hazelcast.sql.impl.UpdateSqlResultImpl;
 import com.hazelcast.sql.impl.row.EmptyRow;
 import com.hazelcast.sql.impl.row.HeapRow;
+import com.hazelcast.sql.impl.row.Row;
 import com.hazelcast.sql.impl.state.QueryResultRegistry;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -71,8 +86,13 @@ import java.util.stream.Stream;
 
 import static com.hazelcast.jet.impl.util.Util.getNodeEngine;
 import static com.hazelcast.jet.sql.impl.SimpleExpressionEvalContext.SQL_ARGUMENTS_KEY_NAME;
+import static com.hazelcast.sql.SqlColumnType.BIGINT;
+import static com.hazelcast.sql.SqlColumnType.BOOLEAN;
+import static com.hazelcast.sql.SqlColumnType.INTEGER;
 import static com.hazelcast.sql.SqlColumnType.VARCHAR;
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 public class JetPlanExecutor {
 
@@ -239,6 +259,87 @@ public class JetPlanExecutor {
         );
     }
 
+    SqlResult execute(ExplainAnalyzePlan plan, QueryId queryId, List<Object> arguments, long timeout) {
+        SelectPlan selectPlan = plan.getSelectPlan();
+        List<Object> args = prepareArguments(selectPlan.getParameterMetadata(), arguments);
+        InternalSerializationService serializationService = Util.getSerializationService(hazelcastInstance);
+        // a normal job is used instead of a light one, light jobs don't retain their metrics
+        JobConfig jobConfig = new JobConfig()
+                .setArgument(SQL_ARGUMENTS_KEY_NAME, args)
+                .setArgument(ExecutionPlan.TASKLET_PROFILING_ENABLED_ARGUMENT, true)
+                .setTimeoutMillis(timeout)
+                .setStoreMetricsAfterJobCompletion(true);
+
+        JetQueryResultProducer queryResultProducer = new JetQueryResultProducer(true) {
+            @Override
+            public void init(long limit, long offset) {
+                // Don't let the LIMIT terminate the job early: the job would
+                // fail on the members and its metrics wouldn't be collected.
+                super.init(Long.MAX_VALUE, offset);
+            }
+        };
+        AbstractJetInstance<?> jet = (AbstractJetInstance<?>) hazelcastInstance.getJet();
+        long jobId = jet.newJobId();
+        Object oldValue = resultRegistry.store(jobId, queryResultProducer);
+        assert oldValue == null : oldValue;
+        Job job;
+        try {
+            job = jet.newJob(jobId, selectPlan.getDag(), jobConfig);
+            job.getFuture().whenComplete((r, t) -> {
+                if (t != null) {
+                    int errorCode = findQueryExceptionCode(t);
+                    String errorMessage = findQueryExceptionMessage(t);
+                    queryResultProducer.onError(QueryException.error(errorCode, "The Jet SQL job failed: " + errorMessage, t));
+                }
+            });
+        } catch (Throwable e) {
+            resultRegistry.remove(jobId);
+            throw e;
+        }
+
+        // the rows are consumed and discarded, only the execution metrics are returned
+        for (Iterator<Row> iterator = queryResultProducer.iterator(); iterator.hasNext(); ) {
+            iterator.next();
+        }
+        job.join();
+
+        JobMetrics metrics = job.getMetrics();
+        List<Row> rows = new ArrayList<>();
+        for (Vertex vertex : selectPlan.getDag()) {
+            JobMetrics vertexMetrics = metrics.filter(MetricTags.VERTEX, vertex.getName());
+            rows.add(new HeapRow(new Object[]{
+                    vertex.getName(),
+                    countProcessors(vertexMetrics),
+                    sum(vertexMetrics, MetricNames.RECEIVED_COUNT),
+                    sum(vertexMetrics, MetricNames.EMITTED_COUNT),
+                    sum(vertexMetrics, MetricNames.DISTRIBUTED_BYTES_IN),
+                    sum(vertexMetrics, MetricNames.DISTRIBUTED_BYTES_OUT),
+                    NANOSECONDS.toMillis(sum(vertexMetrics, MetricNames.TASKLET_BUSY_TIME)),
+                    NANOSECONDS.toMillis(sum(vertexMetrics, MetricNames.TASKLET_BACKPRESSURE_TIME)),
+                    selectPlan.getIndexScanVertexNames().contains(vertex.getName())
+            }));
+        }
+        SqlRowMetadata metadata = new SqlRowMetadata(asList(
+                new SqlColumnMetadata("vertex", VARCHAR, false),
+                new SqlColumnMetadata("processors", INTEGER, false),
+                new SqlColumnMetadata("rows_in", BIGINT, false),
+                new SqlColumnMetadata("rows_out", BIGINT, false),
+                new SqlColumnMetadata("bytes_in", BIGINT, false),
+                new SqlColumnMetadata("bytes_out", BIGINT, false),
+                new SqlColumnMetadata("busy_time_ms", BIGINT, false),
+                new SqlColumnMetadata("backpressure_time_ms", BIGINT, false),
+                new SqlColumnMetadata("index_used", BOOLEAN, false)
+        ));
+
+        return new JetSqlResultImpl(
+                queryId,
+                new JetStaticQueryResultProducer(rows.iterator()),
+                metadata,
+                false,
+                serializationService
+        );
+    }
+
     SqlResult execute(DmlPlan plan, QueryId queryId, List<Object> arguments, long timeout) {
         List<Object> args = prepareArguments(plan.getParameterMetadata(), arguments);
         JobConfig jobConfig = new JobConfig()
@@ -288,7 +389,7 @@ public class JetPlanExecutor {
                 throw QueryException.error("Duplicate key");
             }
         }
-        return UpdateSqlResultImpl.createUpdateCountResult(0);
+        return UpdateSqlResultImpl.createUpdateCountResult(entries.size());
     }
 
     SqlResult execute(IMapSinkPlan plan, List<Object> arguments, long timeout) {
@@ -300,7 +401,7 @@ public class JetPlanExecutor {
                 .putAllAsync(entries)
                 .toCompletableFuture();
         await(future, timeout);
-        return UpdateSqlResultImpl.createUpdateCountResult(0);
+        return UpdateSqlResultImpl.createUpdateCountResult(entries.size());
     }
 
     SqlResult execute(IMapUpdatePlan plan, List<Object> arguments, long timeout) {
@@ -311,8 +412,8 @@ public class JetPlanExecutor {
         CompletableFuture<Long> future = hazelcastInstance.getMap(plan.mapName())
                 .submitToKey(key, plan.updaterSupplier().get(arguments))
                 .toCompletableFuture();
-        await(future, timeout);
-        return UpdateSqlResultImpl.createUpdateCountResult(0);
+        Long updated = await(future, timeout);
+        return UpdateSqlResultImpl.createUpdateCountResult(updated == null ? 0 : updated);
     }
 
     SqlResult execute(IMapDeletePlan plan, List<Object> arguments, long timeout) {
@@ -320,11 +421,40 @@ public class JetPlanExecutor {
         SimpleExpressionEvalContext evalContext =
                 new SimpleExpressionEvalContext(args, Util.getSerializationService(hazelcastInstance));
         Object key = plan.keyCondition().eval(EmptyRow.INSTANCE, evalContext);
-        CompletableFuture<Void> future = hazelcastInstance.getMap(plan.mapName())
-                .submitToKey(key, EntryRemovingProcessor.ENTRY_REMOVING_PROCESSOR)
+        CompletableFuture<Long> future = hazelcastInstance.getMap(plan.mapName())
+                .submitToKey(key, DeletingEntryProcessor.INSTANCE)
                 .toCompletableFuture();
-        await(future, timeout);
-        return UpdateSqlResultImpl.createUpdateCountResult(0);
+        Long deleted = await(future, timeout);
+        return UpdateSqlResultImpl.createUpdateCountResult(deleted == null ? 0 : deleted);
+    }
+
+    SqlResult execute(IMapUpdateByFilterPlan plan, List<Object> arguments, long timeout) {
+        List<Object> args = prepareArguments(plan.parameterMetadata(), arguments);
+        SimpleExpressionEvalContext evalContext =
+                new SimpleExpressionEvalContext(args, Util.getSerializationService(hazelcastInstance));
+        Predicate<Object, Object> predicate = plan.predicateSupplier().get(evalContext);
+        return executeOnEntries(plan.mapName(), plan.updaterSupplier().get(args), predicate, timeout);
+    }
+
+    SqlResult execute(IMapDeleteByFilterPlan plan, List<Object> arguments, long timeout) {
+        List<Object> args = prepareArguments(plan.parameterMetadata(), arguments);
+        SimpleExpressionEvalContext evalContext =
+                new SimpleExpressionEvalContext(args, Util.getSerializationService(hazelcastInstance));
+        Predicate<Object, Object> predicate = plan.predicateSupplier().get(evalContext);
+        return executeOnEntries(plan.mapName(), DeletingEntryProcessor.INSTANCE, predicate, timeout);
+    }
+
+    private SqlResult executeOnEntries(
+            String mapName,
+            EntryProcessor<Object, Object, Long> processor,
+            Predicate<Object, Object> predicate,
+            long timeout
+    ) {
+        MapProxyImpl<Object, Object> map = (MapProxyImpl<Object, Object>) hazelcastInstance.<Object, Object>getMap(mapName);
+        CompletableFuture<List<Data>> future = map.executeOnEntriesAsyncInternal(processor, predicate);
+        // the processor returns null for the entries it didn't touch, those aren't sent back,
+        // the rest comes as key & result pairs
+        return UpdateSqlResultImpl.createUpdateCountResult(await(future, timeout).size() / 2);
     }
 
     private List<Object> prepareArguments(QueryParameterMetadata parameterMetadata, List<Object> arguments) {
@@ -353,6 +483,23 @@ public class JetPlanExecutor {
         return arguments;
     }
 
+    private static int countProcessors(JobMetrics vertexMetrics) {
+        // the watermark metrics are the ones collected exactly once per processor
+        return (int) vertexMetrics.get(MetricNames.TOP_OBSERVED_WM).stream()
+                .map(measurement -> measurement.tag(MetricTags.PROCESSOR))
+                .filter(Objects::nonNull)
+                .distinct()
+                .count();
+    }
+
+    private static long sum(JobMetrics vertexMetrics, String metricName) {
+        return vertexMetrics.get(metricName).stream()
+                // the items sent to the snapshot aren't part of the query
+                .filter(measurement -> !"snapshot".equals(measurement.tag(MetricTags.ORDINAL)))
+                .mapToLong(Measurement::value)
+                .sum();
+    }
+
     private static int findQueryExceptionCode(Throwable t) {
         while (t != null) {
             if (t instanceof QueryException) {
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2021 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl;
+
+import com.hazelcast.function.FunctionEx;
+import com.hazelcast.function.ToLongFunctionEx;
+import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.Traversers;
+import com.hazelcast.jet.core.function.KeyedWindowResultFunction;
+import com.hazelcast.sql.impl.QueryException;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Functions used by the TUMBLE and HOP windowing functions. The windows
+ * are aligned to the epoch, a value of the TIMESTAMP type is treated as
+ * being in UTC.
+ */
+public final class WindowUtil {
+
+    private WindowUtil() {
+    }
+
+    /**
+     * Returns a function that extracts the timestamp in epoch millis from
+     * the {@code fieldIndex} of a row and adds the {@code offset} to it. A
+     * null value is mapped to {@link Long#MIN_VALUE}.
+     */
+    public static ToLongFunctionEx<Object[]> timestampFn(int fieldIndex, long offset) {
+        return row -> {
+            Object value = row[fieldIndex];
+            return value == null ? Long.MIN_VALUE : toEpochMillis(value) + offset;
+        };
+    }
+
+    /**
+     * Returns a function that emits a copy of the row for each window the
+     * value at the {@code timeFieldIndex} belongs to, with the start and
+     * the end of the window appended. A row with a null time value is
+     * dropped.
+     */
+    public static FunctionEx<Object[], Traverser<Object[]>> windowBoundsFn(
+            int timeFieldIndex,
+            long windowSize,
+            long windowSlide
+    ) {
+        return row -> {
+            Object value = row[timeFieldIndex];
+            if (value == null) {
+                return Traversers.empty();
+            }
+            long timestamp = toEpochMillis(value);
+            long lastWindowStart = timestamp - Math.floorMod(timestamp, windowSlide);
+            long[] windowStart = {lastWindowStart - windowSize + windowSlide};
+            return () -> {
+                if (windowStart[0] > lastWindowStart) {
+                    return null;
+                }
+                Object[] result = Arrays.copyOf(row, row.length + 2);
+                result[row.length] = fromEpochMillis(windowStart[0], value);
+                result[row.length + 1] = fromEpochMillis(windowStart[0] + windowSize, value);
+                windowStart[0] += windowSlide;
+                return result;
+            };
+        };
+    }
+
+    /**
+     * Returns a function that emits the row once with the value at the
+     * {@code timeFieldIndex} appended as both the start and the end of the
+     * window. Used if an aggregation above assigns the rows to the frames
+     * of their windows, it replaces the bounds in its results using {@link
+     * #windowBoundResultFn}. A row with a null time value is dropped.
+     */
+    public static FunctionEx<Object[], Traverser<Object[]>> timeValueBoundsFn(int timeFieldIndex) {
+        return row -> {
+            Object value = row[timeFieldIndex];
+            if (value == null) {
+                return Traversers.empty();
+            }
+            Object[] result = Arrays.copyOf(row, row.length + 2);
+            result[row.length] = value;
+            result[row.length + 1] = value;
+            return Traversers.singleton(result);
+        };
+    }
+
+    /**
+     * Returns a function that maps a row to the start of the epoch in the
+     * type and the offset of the time value at the {@code fieldIndex}. It
+     * stands for the window bound of the row when grouping, so that the
+     * rows are grouped as if by their window bound.
+     */
+    public static FunctionEx<Object[], Object> epochFn(int fieldIndex) {
+        return row -> fromEpochMillis(0, row[fieldIndex]);
+    }
+
+    /**
+     * Returns a function that replaces the value at the {@code index} of a
+     * window result, as returned by {@link #epochFn}, with the start or the
+     * end of the window.
+     */
+    public static KeyedWindowResultFunction<Object, Object[], Object[]> windowBoundResultFn(int index, boolean end) {
+        return (windowStart, windowEnd, key, row, isEarly) -> {
+            row[index] = fromEpochMillis(end ? windowEnd : windowStart, row[index]);
+            return row;
+        };
+    }
+
+    private static long toEpochMillis(Object value) {
+        if (value instanceof OffsetDateTime) {
+            return ((OffsetDateTime) value).toInstant().toEpochMilli();
+        } else if (value instanceof LocalDateTime) {
+            return ((LocalDateTime) value).toInstant(ZoneOffset.UTC).toEpochMilli();
+        } else {
+            throw QueryException.error("Unsupported window time value: " + value.getClass().getName());
+        }
+    }
+
+    /**
+     * Converts the {@code millis} to the type of the {@code template}, an
+     * OffsetDateTime keeps the offset of the template.
+     */
+    private static Object fromEpochMillis(long millis, Object template) {
+        Instant instant = Instant.ofEpochMilli(millis);
+        if (template instanceof OffsetDateTime) {
+            return OffsetDateTime.ofInstant(instant, ((OffsetDateTime) template).getOffset());
+        } else {
+            return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+        }
+    }
+}
@@ -49,7 +49,13 @@ class DistinctSqlAggregation implements SqlAggregation {
     public void combine(SqlAggregation other0) {
         DistinctSqlAggregation other = (DistinctSqlAggregation) other0;
 
-        delegate.combine(other.delegate);
+        // the delegates of distinct aggregations ignore nulls, it's enough
+        // to accumulate the values not seen yet
+        for (Object value : other.values) {
+            if (values.add(value)) {
+                delegate.accumulate(value);
+            }
+        }
     }
 
     @Override
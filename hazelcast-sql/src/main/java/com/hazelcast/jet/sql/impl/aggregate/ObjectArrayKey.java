@@ -22,6 +22,7 @@ import com.hazelcast.nio.serialization.DataSerializable;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * A wrapper for Object[] supporting equals/hashCode.
@@ -88,4 +89,21 @@ public final class ObjectArrayKey implements DataSerializable {
             return new ObjectArrayKey(key);
         };
     }
+
+    /**
+     * Return a function that maps an input `Object[]` to an {@link
+     * ObjectArrayKey}, applying the {@code fieldFns} to it.
+     *
+     * @param fieldFns the functions extracting the keys
+     * @return the projection function
+     */
+    public static FunctionEx<Object[], ObjectArrayKey> projectFn(List<FunctionEx<Object[], Object>> fieldFns) {
+        return row -> {
+            Object[] key = new Object[fieldFns.size()];
+            for (int i = 0; i < key.length; i++) {
+                key[i] = fieldFns.get(i).apply(row);
+            }
+            return new ObjectArrayKey(key);
+        };
+    }
 }
@@ -247,6 +247,34 @@ public interface SqlConnector {
         throw new UnsupportedOperationException("Full scan not supported for " + typeName());
     }
 
+    /**
+     * Same as {@link #fullScanReader(DAG, Table, Expression, List)}, but
+     * additionally receives the sorted indexes of the fields of the {@code
+     * table} referenced by the {@code predicate} or {@code projection}. A
+     * connector reading a columnar or schema-based format can use them to
+     * skip reading the other fields. In the example above the required
+     * fields are {@code {1, 2}}.
+     * <p>
+     * The default implementation ignores the {@code requiredFields}.
+     *
+     * @param table          the table object
+     * @param predicate      SQL expression to filter the rows
+     * @param projection     the list of field names to return
+     * @param requiredFields indexes of the fields the predicate and projection
+     *                       refer to
+     * @return The DAG Vertex handling the reading
+     */
+    @Nonnull
+    default Vertex fullScanReader(
+            @Nonnull DAG dag,
+            @Nonnull Table table,
+            @Nullable Expression<Boolean> predicate,
+            @Nonnull List<Expression<?>> projection,
+            @Nonnull List<Integer> requiredFields
+    ) {
+        return fullScanReader(dag, table, predicate, projection);
+    }
+
     /**
      * Creates a vertex to read the given {@code table} as a part of a
      * nested-loop join. The vertex will receive items from the left side of
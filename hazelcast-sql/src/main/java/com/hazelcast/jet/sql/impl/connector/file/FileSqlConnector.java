@@ -17,16 +17,26 @@
 package com.hazelcast.jet.sql.impl.connector.file;
 
 import com.hazelcast.jet.core.DAG;
+import com.hazelcast.jet.core.ProcessorMetaSupplier;
 import com.hazelcast.jet.core.Vertex;
+import com.hazelcast.jet.pipeline.file.ParquetFileFormat.Comparison;
 import com.hazelcast.jet.sql.impl.connector.SqlConnector;
 import com.hazelcast.jet.sql.impl.connector.SqlProcessors;
 import com.hazelcast.sql.impl.schema.MappingField;
 import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
 import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.predicate.AndPredicate;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonMode;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonPredicate;
+import com.hazelcast.sql.impl.row.EmptyRow;
 import com.hazelcast.sql.impl.schema.Table;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -131,7 +141,149 @@ public class FileSqlConnector implements SqlConnector {
     ) {
         FileTable table = (FileTable) table0;
 
-        Vertex vStart = dag.newUniqueVertex(table.toString(), table.processorMetaSupplier());
+        ProcessorMetaSupplier processorMetaSupplier =
+                table.processorMetaSupplier(null, rowGroupFilter(table.paths(), predicate));
+        return fullScanReader(dag, table, processorMetaSupplier, predicate, projections);
+    }
+
+    @Nonnull
+    @Override
+    public Vertex fullScanReader(
+            @Nonnull DAG dag,
+            @Nonnull Table table0,
+            @Nullable Expression<Boolean> predicate,
+            @Nonnull List<Expression<?>> projections,
+            @Nonnull List<Integer> requiredFields
+    ) {
+        FileTable table = (FileTable) table0;
+
+        String[] paths = table.paths();
+        List<String> fieldNames = new ArrayList<>(requiredFields.size());
+        for (int index : requiredFields) {
+            String path = paths[index];
+            if (path == null) {
+                // the whole record is needed
+                fieldNames = null;
+                break;
+            }
+            fieldNames.add(path);
+        }
+        ProcessorMetaSupplier processorMetaSupplier =
+                table.processorMetaSupplier(fieldNames, rowGroupFilter(paths, predicate));
+        return fullScanReader(dag, table, processorMetaSupplier, predicate, projections);
+    }
+
+    /**
+     * Returns the conjuncts of the predicate comparing a top-level field to
+     * a literal, which the source can use to skip the parts of the files
+     * that can't match. The predicate is still evaluated for all the
+     * records read.
+     * <p>
+     * Only the comparisons for which the file statistics order the values
+     * the same way as SQL does are returned: equality and ordering of
+     * integers and equality of strings and booleans. Parameters aren't
+     * returned, their values are not known when the source is created.
+     */
+    private static List<Comparison> rowGroupFilter(String[] paths, @Nullable Expression<Boolean> predicate) {
+        List<Comparison> comparisons = new ArrayList<>();
+        if (predicate instanceof AndPredicate) {
+            for (Expression<?> operand : ((AndPredicate) predicate).getOperands()) {
+                addComparison(paths, operand, comparisons);
+            }
+        } else if (predicate != null) {
+            addComparison(paths, predicate, comparisons);
+        }
+        return comparisons;
+    }
+
+    private static void addComparison(String[] paths, Expression<?> expression, List<Comparison> comparisons) {
+        if (!(expression instanceof ComparisonPredicate)) {
+            return;
+        }
+        ComparisonPredicate comparison = (ComparisonPredicate) expression;
+        Expression<?> operand1 = comparison.getOperand1();
+        Expression<?> operand2 = comparison.getOperand2();
+        if (operand1 instanceof ColumnExpression && operand2 instanceof ConstantExpression) {
+            addComparison(paths, (ColumnExpression<?>) operand1, comparison.getMode(), operand2, comparisons);
+        } else if (operand1 instanceof ConstantExpression && operand2 instanceof ColumnExpression) {
+            addComparison(paths, (ColumnExpression<?>) operand2, inverse(comparison.getMode()), operand1, comparisons);
+        }
+    }
+
+    private static void addComparison(
+            String[] paths,
+            ColumnExpression<?> column,
+            ComparisonMode mode,
+            Expression<?> constant,
+            List<Comparison> comparisons
+    ) {
+        String path = paths[column.getIndex()];
+        Object value = constant.eval(EmptyRow.INSTANCE, null);
+        if (path == null || value == null) {
+            return;
+        }
+        Comparison.Operator operator = operator(mode);
+        if (operator == null) {
+            return;
+        }
+        switch (column.getType().getTypeFamily()) {
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case BIGINT:
+                comparisons.add(new Comparison(path, operator, (Serializable) value));
+                break;
+            case VARCHAR:
+            case BOOLEAN:
+                if (operator == Comparison.Operator.EQUAL) {
+                    comparisons.add(new Comparison(path, operator, (Serializable) value));
+                }
+                break;
+            default:
+                // the statistics of other types don't necessarily match the SQL ordering
+        }
+    }
+
+    private static Comparison.Operator operator(ComparisonMode mode) {
+        switch (mode) {
+            case EQUALS:
+                return Comparison.Operator.EQUAL;
+            case LESS_THAN:
+                return Comparison.Operator.LESS_THAN;
+            case LESS_THAN_OR_EQUAL:
+                return Comparison.Operator.LESS_THAN_OR_EQUAL;
+            case GREATER_THAN:
+                return Comparison.Operator.GREATER_THAN;
+            case GREATER_THAN_OR_EQUAL:
+                return Comparison.Operator.GREATER_THAN_OR_EQUAL;
+            default:
+                return null;
+        }
+    }
+
+    private static ComparisonMode inverse(ComparisonMode mode) {
+        switch (mode) {
+            case GREATER_THAN:
+                return ComparisonMode.LESS_THAN;
+            case GREATER_THAN_OR_EQUAL:
+                return ComparisonMode.LESS_THAN_OR_EQUAL;
+            case LESS_THAN:
+                return ComparisonMode.GREATER_THAN;
+            case LESS_THAN_OR_EQUAL:
+                return ComparisonMode.GREATER_THAN_OR_EQUAL;
+            default:
+                return mode;
+        }
+    }
+
+    private static Vertex fullScanReader(
+            DAG dag,
+            FileTable table,
+            ProcessorMetaSupplier processorMetaSupplier,
+            @Nullable Expression<Boolean> predicate,
+            List<Expression<?>> projections
+    ) {
+        Vertex vStart = dag.newUniqueVertex(table.toString(), processorMetaSupplier);
 
         Vertex vEnd = dag.newUniqueVertex(
                 "Project(" + table + ")",
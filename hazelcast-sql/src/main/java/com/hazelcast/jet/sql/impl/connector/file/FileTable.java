@@ -18,6 +18,7 @@ package com.hazelcast.jet.sql.impl.connector.file;
 
 import com.hazelcast.function.SupplierEx;
 import com.hazelcast.jet.core.ProcessorMetaSupplier;
+import com.hazelcast.jet.pipeline.file.ParquetFileFormat.Comparison;
 import com.hazelcast.jet.sql.impl.connector.SqlConnector;
 import com.hazelcast.jet.sql.impl.schema.JetTable;
 import com.hazelcast.sql.impl.extract.QueryTarget;
@@ -48,8 +49,8 @@ abstract class FileTable extends JetTable {
         this.queryTargetSupplier = queryTargetSupplier;
     }
 
-    ProcessorMetaSupplier processorMetaSupplier() {
-        return processorMetaSupplierProvider.get();
+    ProcessorMetaSupplier processorMetaSupplier(List<String> fieldNames, List<Comparison> rowGroupFilter) {
+        return processorMetaSupplierProvider.get(fieldNames, rowGroupFilter);
     }
 
     SupplierEx<QueryTarget> queryTargetSupplier() {
@@ -17,10 +17,16 @@
 package com.hazelcast.jet.sql.impl.connector.file;
 
 import com.hazelcast.jet.core.ProcessorMetaSupplier;
+import com.hazelcast.jet.pipeline.file.AvroFileFormat;
 import com.hazelcast.jet.pipeline.file.FileFormat;
 import com.hazelcast.jet.pipeline.file.FileSourceBuilder;
 import com.hazelcast.jet.pipeline.file.FileSources;
+import com.hazelcast.jet.pipeline.file.ParquetFileFormat;
+import com.hazelcast.jet.pipeline.file.ParquetFileFormat.Comparison;
 
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -41,9 +47,35 @@ class ProcessorMetaSupplierProvider implements Supplier<ProcessorMetaSupplier> {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public ProcessorMetaSupplier get() {
-        FileSourceBuilder<?> builder = FileSources.files((String) options.get(OPTION_PATH)).format(format);
+        return get(format);
+    }
+
+    /**
+     * Returns a meta-supplier of a source reading only the given top-level
+     * fields of the records, if the format supports it. Otherwise, or if
+     * {@code fieldNames} is null, all the fields are read.
+     * <p>
+     * If the format supports it, the given comparisons are used to skip
+     * the parts of the files that can't contain a matching record. The
+     * other records aren't filtered.
+     */
+    ProcessorMetaSupplier get(@Nullable List<String> fieldNames, @Nonnull List<Comparison> rowGroupFilter) {
+        if (format instanceof AvroFileFormat && fieldNames != null) {
+            return get(FileFormat.avro().withFieldNames(fieldNames));
+        } else if (format instanceof ParquetFileFormat) {
+            return get(FileFormat.parquet()
+                    // Parquet can't read an empty group of columns
+                    .withFieldNames(fieldNames == null || fieldNames.isEmpty() ? null : fieldNames)
+                    .withRowGroupFilter(rowGroupFilter.isEmpty() ? null : rowGroupFilter));
+        } else {
+            return get(format);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private ProcessorMetaSupplier get(FileFormat<?> fileFormat) {
+        FileSourceBuilder<?> builder = FileSources.files((String) options.get(OPTION_PATH)).format(fileFormat);
 
         String glob = (String) options.get(OPTION_GLOB);
         if (glob != null) {
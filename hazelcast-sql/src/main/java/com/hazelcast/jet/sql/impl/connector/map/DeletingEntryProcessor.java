@@ -0,0 +1,54 @@
+/*
+ * Copyright 2021 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.connector.map;
+
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.DataSerializable;
+
+import java.util.Map;
+
+/**
+ * Entry processor that removes the entries it's executed on. It returns 1
+ * for the removed entries and {@code null} for the missing ones, so that
+ * only the removed entries are sent back and counted.
+ */
+public final class DeletingEntryProcessor implements EntryProcessor<Object, Object, Long>, DataSerializable {
+
+    public static final DeletingEntryProcessor INSTANCE = new DeletingEntryProcessor();
+
+    private DeletingEntryProcessor() {
+    }
+
+    @Override
+    public Long process(Map.Entry<Object, Object> entry) {
+        if (entry.getValue() == null) {
+            return null;
+        }
+        entry.setValue(null);
+        return 1L;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) {
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) {
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2021 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.connector.map;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.function.FunctionEx;
+import com.hazelcast.jet.Util;
+import com.hazelcast.jet.aggregate.AggregateOperation;
+import com.hazelcast.jet.core.Outbox;
+import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.core.ProcessorMetaSupplier;
+import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.impl.processor.GroupP;
+import com.hazelcast.jet.impl.processor.ProcessorWrapper;
+import com.hazelcast.jet.sql.impl.SimpleExpressionEvalContext;
+import com.hazelcast.jet.sql.impl.connector.keyvalue.KvRowProjector;
+import com.hazelcast.map.impl.LazyMapEntry;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.query.impl.getters.Extractors;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.security.Permission;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Function;
+
+import static com.hazelcast.jet.impl.util.ExceptionUtil.rethrow;
+import static java.util.Collections.singletonList;
+
+/**
+ * A meta-supplier of processors that scan the local partitions of an IMap,
+ * project and filter the entries and accumulate the resulting rows by the
+ * group key, all in the same processor. This is the first stage of a
+ * two-stage group-by-key aggregation: only the {@code Entry<groupKey,
+ * accumulator>} items are emitted, the same as from {@link
+ * com.hazelcast.jet.core.processor.Processors#accumulateByKeyP}, and the
+ * scanned entries and projected rows never travel through a conveyor.
+ * <p>
+ * The scanning processors are supplied by the wrapped meta-supplier, their
+ * output is consumed by the accumulation instead of their outbox.
+ */
+@SuppressFBWarnings(
+        value = {"SE_BAD_FIELD", "SE_NO_SERIALVERSIONID"},
+        justification = "the class is never java-serialized"
+)
+final class FullScanAccumulateByKeyProcessorMetaSupplier implements ProcessorMetaSupplier, DataSerializable {
+
+    private ProcessorMetaSupplier scanMetaSupplier;
+    private KvRowProjector.Supplier projectorSupplier;
+    private FunctionEx<Object[], ?> groupKeyFn;
+    private AggregateOperation<?, Object[]> aggrOp;
+
+    @SuppressWarnings("unused")
+    private FullScanAccumulateByKeyProcessorMetaSupplier() {
+    }
+
+    FullScanAccumulateByKeyProcessorMetaSupplier(
+            ProcessorMetaSupplier scanMetaSupplier,
+            KvRowProjector.Supplier projectorSupplier,
+            FunctionEx<Object[], ?> groupKeyFn,
+            AggregateOperation<?, Object[]> aggrOp
+    ) {
+        this.scanMetaSupplier = scanMetaSupplier;
+        this.projectorSupplier = projectorSupplier;
+        this.groupKeyFn = groupKeyFn;
+        this.aggrOp = aggrOp;
+    }
+
+    @Override
+    public int preferredLocalParallelism() {
+        return scanMetaSupplier.preferredLocalParallelism();
+    }
+
+    @Nonnull
+    @Override
+    public Map<String, String> getTags() {
+        return scanMetaSupplier.getTags();
+    }
+
+    @Override
+    public Permission getRequiredPermission() {
+        return scanMetaSupplier.getRequiredPermission();
+    }
+
+    @Override
+    public void init(@Nonnull Context context) throws Exception {
+        scanMetaSupplier.init(context);
+    }
+
+    @Nonnull
+    @Override
+    public Function<? super Address, ? extends ProcessorSupplier> get(@Nonnull List<Address> addresses) {
+        Function<? super Address, ? extends ProcessorSupplier> scanSuppliers = scanMetaSupplier.get(addresses);
+        return address -> new Supplier(scanSuppliers.apply(address), projectorSupplier, groupKeyFn, aggrOp);
+    }
+
+    @Override
+    public void close(@Nullable Throwable error) throws Exception {
+        scanMetaSupplier.close(error);
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeObject(scanMetaSupplier);
+        out.writeObject(projectorSupplier);
+        out.writeObject(groupKeyFn);
+        out.writeObject(aggrOp);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        scanMetaSupplier = in.readObject();
+        projectorSupplier = in.readObject();
+        groupKeyFn = in.readObject();
+        aggrOp = in.readObject();
+    }
+
+    @SuppressFBWarnings(
+            value = {"SE_BAD_FIELD", "SE_NO_SERIALVERSIONID"},
+            justification = "the class is never java-serialized"
+    )
+    private static final class Supplier implements ProcessorSupplier, DataSerializable {
+
+        private ProcessorSupplier scanSupplier;
+        private KvRowProjector.Supplier projectorSupplier;
+        private FunctionEx<Object[], ?> groupKeyFn;
+        private AggregateOperation<?, Object[]> aggrOp;
+
+        private transient ExpressionEvalContext evalContext;
+        private transient Extractors extractors;
+
+        @SuppressWarnings("unused")
+        private Supplier() {
+        }
+
+        private Supplier(
+                ProcessorSupplier scanSupplier,
+                KvRowProjector.Supplier projectorSupplier,
+                FunctionEx<Object[], ?> groupKeyFn,
+                AggregateOperation<?, Object[]> aggrOp
+        ) {
+            this.scanSupplier = scanSupplier;
+            this.projectorSupplier = projectorSupplier;
+            this.groupKeyFn = groupKeyFn;
+            this.aggrOp = aggrOp;
+        }
+
+        @Override
+        public void init(@Nonnull Context context) throws Exception {
+            scanSupplier.init(context);
+            evalContext = SimpleExpressionEvalContext.from(context);
+            extractors = Extractors.newBuilder(evalContext.getSerializationService()).build();
+        }
+
+        @Nonnull
+        @Override
+        public Collection<? extends Processor> get(int count) {
+            List<Processor> processors = new ArrayList<>(count);
+            for (Processor scanProcessor : scanSupplier.get(count)) {
+                KvRowProjector projector = projectorSupplier.get(evalContext, extractors);
+                processors.add(new ScanAccumulateByKeyP(scanProcessor, projector, groupKeyFn, aggrOp));
+            }
+            return processors;
+        }
+
+        @Override
+        public void close(@Nullable Throwable error) throws Exception {
+            scanSupplier.close(error);
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) throws IOException {
+            out.writeObject(scanSupplier);
+            out.writeObject(projectorSupplier);
+            out.writeObject(groupKeyFn);
+            out.writeObject(aggrOp);
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) throws IOException {
+            scanSupplier = in.readObject();
+            projectorSupplier = in.readObject();
+            groupKeyFn = in.readObject();
+            aggrOp = in.readObject();
+        }
+    }
+
+    /**
+     * Runs the wrapped scanning processor with an outbox that accumulates
+     * every emitted entry, then emits the accumulators once the scan is
+     * complete.
+     */
+    private static final class ScanAccumulateByKeyP extends ProcessorWrapper {
+
+        private final AccumulateByKeyP accumulator;
+        private boolean scanCompleted;
+
+        private ScanAccumulateByKeyP(
+                Processor scanProcessor,
+                KvRowProjector projector,
+                FunctionEx<Object[], ?> groupKeyFn,
+                AggregateOperation<?, Object[]> aggrOp
+        ) {
+            super(scanProcessor);
+            this.accumulator = new AccumulateByKeyP(projector, groupKeyFn, aggrOp);
+        }
+
+        @Override
+        protected Outbox wrapOutbox(Outbox outbox) {
+            return new AccumulatingOutbox(outbox);
+        }
+
+        @Override
+        protected void initWrapper(Outbox outbox, Context context) {
+            try {
+                accumulator.init(((AccumulatingOutbox) outbox).outbox, context);
+            } catch (Exception e) {
+                throw rethrow(e);
+            }
+        }
+
+        @Override
+        public boolean complete() {
+            if (!scanCompleted) {
+                if (!super.complete()) {
+                    return false;
+                }
+                scanCompleted = true;
+            }
+            return accumulator.complete();
+        }
+
+        private final class AccumulatingOutbox implements Outbox {
+
+            private final Outbox outbox;
+
+            private AccumulatingOutbox(Outbox outbox) {
+                this.outbox = outbox;
+            }
+
+            @Override
+            public int bucketCount() {
+                return outbox.bucketCount();
+            }
+
+            @Override
+            public boolean offer(int ordinal, @Nonnull Object item) {
+                return accumulator.accumulate(item);
+            }
+
+            @Override
+            public boolean offer(@Nonnull int[] ordinals, @Nonnull Object item) {
+                return accumulator.accumulate(item);
+            }
+
+            @Override
+            public boolean offerToSnapshot(@Nonnull Object key, @Nonnull Object value) {
+                return outbox.offerToSnapshot(key, value);
+            }
+
+            @Override
+            public boolean hasUnfinishedItem() {
+                return false;
+            }
+        }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final class AccumulateByKeyP extends GroupP<Object, Object, Object, Entry<Object, Object>> {
+
+        private final KvRowProjector projector;
+
+        private AccumulateByKeyP(
+                KvRowProjector projector,
+                FunctionEx<Object[], ?> groupKeyFn,
+                AggregateOperation<?, Object[]> aggrOp
+        ) {
+            super(singletonList(groupKeyFn), withIdentityFinish(aggrOp), Util::entry);
+            this.projector = projector;
+        }
+
+        private static AggregateOperation<Object, Object> withIdentityFinish(AggregateOperation<?, ?> aggrOp) {
+            return (AggregateOperation<Object, Object>) (AggregateOperation) aggrOp.withIdentityFinish();
+        }
+
+        private boolean accumulate(Object item) {
+            LazyMapEntry<Object, Object> entry = (LazyMapEntry<Object, Object>) item;
+            Object[] row = projector.project(entry.getKeyData(), entry.getValueData());
+            // a null row is a row rejected by the filter
+            return row == null || tryProcess(0, row);
+        }
+    }
+}
@@ -22,6 +22,7 @@ import com.hazelcast.config.IndexType;
 import com.hazelcast.function.ComparatorEx;
 import com.hazelcast.function.FunctionEx;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.jet.aggregate.AggregateOperation;
 import com.hazelcast.jet.core.DAG;
 import com.hazelcast.jet.core.Edge;
 import com.hazelcast.jet.core.ProcessorMetaSupplier;
@@ -179,6 +180,42 @@ public class IMapSqlConnector implements SqlConnector {
         return vEnd;
     }
 
+    /**
+     * Same as {@link #fullScanReader}, but the rows are also accumulated by
+     * the {@code groupKeyFn} in the scanning processors. The returned vertex
+     * emits only one {@code Entry<groupKey, accumulator>} per group key and
+     * processor, the same as {@link
+     * com.hazelcast.jet.core.processor.Processors#accumulateByKeyP}.
+     */
+    @Nonnull
+    public Vertex fullScanAccumulateByKeyReader(
+            @Nonnull DAG dag,
+            @Nonnull Table table0,
+            @Nullable Expression<Boolean> filter,
+            @Nonnull List<Expression<?>> projection,
+            @Nonnull FunctionEx<Object[], ?> groupKeyFn,
+            @Nonnull AggregateOperation<?, Object[]> aggrOp
+    ) {
+        PartitionedMapTable table = (PartitionedMapTable) table0;
+
+        return dag.newUniqueVertex(
+                "AccumulateByKey(Project(" + toString(table) + "))",
+                new FullScanAccumulateByKeyProcessorMetaSupplier(
+                        SourceProcessors.readMapP(table.getMapName()),
+                        KvRowProjector.supplier(
+                                table.paths(),
+                                table.types(),
+                                table.getKeyDescriptor(),
+                                table.getValueDescriptor(),
+                                filter,
+                                projection
+                        ),
+                        groupKeyFn,
+                        aggrOp
+                )
+        );
+    }
+
     @Nonnull
     @SuppressWarnings("checkstyle:ParameterNumber")
     public Vertex indexScanReader(
@@ -190,7 +227,9 @@ public class IMapSqlConnector implements SqlConnector {
             @Nonnull List<Expression<?>> projection,
             @Nullable IndexFilter indexFilter,
             @Nullable ComparatorEx<Object[]> comparator,
-            boolean descending
+            boolean descending,
+            @Nullable Expression<?> fetch,
+            @Nullable Expression<?> offset
     ) {
         PartitionedMapTable table = (PartitionedMapTable) table0;
         MapIndexScanMetadata indexScanMetadata = new MapIndexScanMetadata(
@@ -204,7 +243,9 @@ public class IMapSqlConnector implements SqlConnector {
                 projection,
                 remainingFilter,
                 comparator,
-                descending
+                descending,
+                fetch,
+                offset
         );
 
         Vertex scanner = dag.newUniqueVertex(
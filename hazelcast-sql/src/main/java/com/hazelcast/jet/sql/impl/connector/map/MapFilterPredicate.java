@@ -0,0 +1,267 @@
+/*
+ * Copyright 2021 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.connector.map;
+
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.SerializationServiceAware;
+import com.hazelcast.jet.sql.impl.SimpleExpressionEvalContext;
+import com.hazelcast.jet.sql.impl.connector.keyvalue.KvRowProjector;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.query.impl.getters.Extractors;
+import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.expression.ParameterExpression;
+import com.hazelcast.sql.impl.expression.predicate.AndPredicate;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonMode;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonPredicate;
+import com.hazelcast.sql.impl.extract.QueryPath;
+import com.hazelcast.sql.impl.row.EmptyRow;
+import com.hazelcast.sql.impl.schema.map.PartitionedMapTable;
+import com.hazelcast.sql.impl.type.QueryDataTypeFamily;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * A predicate that selects the map entries matching a SQL filter. It's
+ * used to run an entry processor only on the matching entries.
+ */
+@SuppressFBWarnings(
+        value = {"SE_BAD_FIELD", "SE_NO_SERIALVERSIONID"},
+        justification = "the class is never java-serialized"
+)
+public final class MapFilterPredicate
+        implements Predicate<Object, Object>, SerializationServiceAware, DataSerializable {
+
+    /**
+     * The column types for which the IMap predicates compare the values
+     * the same way as SQL does.
+     */
+    private static final Set<QueryDataTypeFamily> INDEXABLE_TYPES = EnumSet.of(
+            QueryDataTypeFamily.VARCHAR,
+            QueryDataTypeFamily.BOOLEAN,
+            QueryDataTypeFamily.TINYINT,
+            QueryDataTypeFamily.SMALLINT,
+            QueryDataTypeFamily.INTEGER,
+            QueryDataTypeFamily.BIGINT
+    );
+
+    private KvRowProjector.Supplier rowProjectorSupplier;
+    private List<Object> arguments;
+
+    // the projector is stateful and the same predicate instance is applied
+    // on all the partition threads of a member, each of them gets its own
+    private transient ThreadLocal<KvRowProjector> rowProjector;
+
+    @SuppressWarnings("unused")
+    private MapFilterPredicate() {
+    }
+
+    private MapFilterPredicate(KvRowProjector.Supplier rowProjectorSupplier, ExpressionEvalContext evalContext) {
+        this.rowProjectorSupplier = rowProjectorSupplier;
+        this.arguments = evalContext.getArguments();
+        this.rowProjector = createRowProjector(evalContext);
+    }
+
+    @Override
+    public boolean apply(Map.Entry<Object, Object> entry) {
+        return entry.getValue() != null
+                && rowProjector.get().project(entry.getKey(), entry.getValue()) != null;
+    }
+
+    @Override
+    public void setSerializationService(SerializationService serializationService) {
+        this.rowProjector = createRowProjector(
+                new SimpleExpressionEvalContext(arguments, (InternalSerializationService) serializationService)
+        );
+    }
+
+    private ThreadLocal<KvRowProjector> createRowProjector(ExpressionEvalContext evalContext) {
+        return ThreadLocal.withInitial(() -> rowProjectorSupplier.get(
+                evalContext,
+                Extractors.newBuilder(evalContext.getSerializationService()).build()
+        ));
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeObject(rowProjectorSupplier);
+        out.writeObject(arguments);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        rowProjectorSupplier = in.readObject();
+        arguments = in.readObject();
+    }
+
+    /**
+     * Returns a supplier of predicates matching the entries for which the
+     * {@code filter} is true.
+     * <p>
+     * The conjuncts of the filter that compare a column to a literal or to
+     * a parameter are also translated to the equivalent IMap predicates,
+     * so that the query engine can use the map indexes to skip the entries
+     * that can't match. The whole filter is still evaluated for the
+     * remaining entries.
+     */
+    public static Supplier supplier(PartitionedMapTable table, Expression<Boolean> filter) {
+        // only the filter is evaluated, no columns are projected
+        KvRowProjector.Supplier rowProjectorSupplier = KvRowProjector.supplier(
+                table.paths(),
+                table.types(),
+                table.getKeyDescriptor(),
+                table.getValueDescriptor(),
+                filter,
+                emptyList()
+        );
+
+        List<Comparison> comparisons = new ArrayList<>();
+        if (filter instanceof AndPredicate) {
+            for (Expression<?> operand : ((AndPredicate) filter).getOperands()) {
+                addComparison(table.paths(), operand, comparisons);
+            }
+        } else if (filter != null) {
+            addComparison(table.paths(), filter, comparisons);
+        }
+
+        return new Supplier(rowProjectorSupplier, comparisons);
+    }
+
+    private static void addComparison(QueryPath[] paths, Expression<?> expression, List<Comparison> comparisons) {
+        if (!(expression instanceof ComparisonPredicate)) {
+            return;
+        }
+        ComparisonPredicate comparison = (ComparisonPredicate) expression;
+        if (isColumn(comparison.getOperand1()) && isValue(comparison.getOperand2())) {
+            ColumnExpression<?> column = (ColumnExpression<?>) comparison.getOperand1();
+            comparisons.add(new Comparison(paths[column.getIndex()], comparison.getMode(), comparison.getOperand2()));
+        } else if (isValue(comparison.getOperand1()) && isColumn(comparison.getOperand2())) {
+            ColumnExpression<?> column = (ColumnExpression<?>) comparison.getOperand2();
+            comparisons.add(new Comparison(paths[column.getIndex()], inverse(comparison.getMode()), comparison.getOperand1()));
+        }
+    }
+
+    private static boolean isColumn(Expression<?> expression) {
+        return expression instanceof ColumnExpression
+                && INDEXABLE_TYPES.contains(expression.getType().getTypeFamily());
+    }
+
+    private static boolean isValue(Expression<?> expression) {
+        return expression instanceof ConstantExpression || expression instanceof ParameterExpression;
+    }
+
+    private static ComparisonMode inverse(ComparisonMode mode) {
+        switch (mode) {
+            case GREATER_THAN:
+                return ComparisonMode.LESS_THAN;
+            case GREATER_THAN_OR_EQUAL:
+                return ComparisonMode.LESS_THAN_OR_EQUAL;
+            case LESS_THAN:
+                return ComparisonMode.GREATER_THAN;
+            case LESS_THAN_OR_EQUAL:
+                return ComparisonMode.GREATER_THAN_OR_EQUAL;
+            default:
+                return mode;
+        }
+    }
+
+    public static final class Supplier {
+
+        private final KvRowProjector.Supplier rowProjectorSupplier;
+        private final List<Comparison> comparisons;
+
+        private Supplier(KvRowProjector.Supplier rowProjectorSupplier, List<Comparison> comparisons) {
+            this.rowProjectorSupplier = rowProjectorSupplier;
+            this.comparisons = comparisons;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public Predicate<Object, Object> get(ExpressionEvalContext evalContext) {
+            List<Predicate> predicates = new ArrayList<>();
+            for (Comparison comparison : comparisons) {
+                Comparable value = comparison.value(evalContext);
+                if (value == null) {
+                    // the comparison to NULL is never true, neither is the whole conjunction
+                    return Predicates.alwaysFalse();
+                }
+                Predicate predicate = comparison.toPredicate(value);
+                if (predicate != null) {
+                    predicates.add(predicate);
+                }
+            }
+            MapFilterPredicate filterPredicate = new MapFilterPredicate(rowProjectorSupplier, evalContext);
+            if (predicates.isEmpty()) {
+                return filterPredicate;
+            }
+            predicates.add(filterPredicate);
+            return Predicates.and(predicates.toArray(new Predicate[0]));
+        }
+    }
+
+    private static final class Comparison {
+
+        private final QueryPath path;
+        private final ComparisonMode mode;
+        private final Expression<?> value;
+
+        private Comparison(QueryPath path, ComparisonMode mode, Expression<?> value) {
+            this.path = path;
+            this.mode = mode;
+            this.value = value;
+        }
+
+        @SuppressWarnings("rawtypes")
+        private Comparable value(ExpressionEvalContext evalContext) {
+            return (Comparable) value.eval(EmptyRow.INSTANCE, evalContext);
+        }
+
+        @SuppressWarnings("rawtypes")
+        private Predicate toPredicate(Comparable value) {
+            String attribute = path.toString();
+            switch (mode) {
+                case EQUALS:
+                    return Predicates.equal(attribute, value);
+                case GREATER_THAN:
+                    return Predicates.greaterThan(attribute, value);
+                case GREATER_THAN_OR_EQUAL:
+                    return Predicates.greaterEqual(attribute, value);
+                case LESS_THAN:
+                    return Predicates.lessThan(attribute, value);
+                case LESS_THAN_OR_EQUAL:
+                    return Predicates.lessEqual(attribute, value);
+                default:
+                    // NOT_EQUALS can't use an index
+                    return null;
+            }
+        }
+    }
+}
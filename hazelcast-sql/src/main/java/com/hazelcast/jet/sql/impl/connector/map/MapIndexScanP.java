@@ -101,6 +101,7 @@ final class MapIndexScanP extends AbstractProcessor {
     private MapScanRow row;
     private Object[] pendingItem;
     private boolean isIndexSorted;
+    private long remainingRows;
 
     private MapIndexScanP(@Nonnull MapIndexScanMetadata indexScanMetadata) {
         this.metadata = indexScanMetadata;
@@ -128,6 +129,7 @@ final class MapIndexScanP extends AbstractProcessor {
                 evalContext.getSerializationService()
         );
         isIndexSorted = metadata.getComparator() != null;
+        remainingRows = ExpressionUtil.evaluateLimit(metadata.getFetch(), metadata.getOffset(), evalContext);
     }
 
     private static IndexIterationPointer[] filtersToPointers(
@@ -150,10 +152,17 @@ final class MapIndexScanP extends AbstractProcessor {
 
     private boolean runSortedIndex() {
         for (; ; ) {
-            if (pendingItem != null && !tryEmit(pendingItem)) {
-                return false;
-            } else {
+            if (pendingItem != null) {
+                if (!tryEmit(pendingItem)) {
+                    return false;
+                }
                 pendingItem = null;
+                remainingRows--;
+            }
+            // The rows are emitted in the final order, the rows after the limit can't be
+            // a part of the result.
+            if (remainingRows == 0) {
+                return true;
             }
 
             Object[] extreme = null;
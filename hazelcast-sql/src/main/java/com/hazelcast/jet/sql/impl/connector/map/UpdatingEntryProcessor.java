@@ -44,6 +44,11 @@ import java.util.stream.IntStream;
 import static com.hazelcast.sql.impl.extract.QueryPath.VALUE;
 import static java.util.stream.Collectors.toList;
 
+/**
+ * Entry processor that updates the entries it's executed on. It returns 1
+ * for the updated entries and {@code null} for the missing ones, so that
+ * only the updated entries are sent back and counted.
+ */
 public final class UpdatingEntryProcessor
         implements EntryProcessor<Object, Object, Long>, SerializationServiceAware, DataSerializable {
 
@@ -71,17 +76,15 @@ public final class UpdatingEntryProcessor
     @Override
     public Long process(Map.Entry<Object, Object> entry) {
         if (entry.getValue() == null) {
-            return 0L;
-        } else {
-            Object[] row = rowProjectorSupplier.get(evalContext, extractors).project(entry.getKey(), entry.getValue());
-            Object value = valueProjectorSupplier.get(evalContext).project(row);
-            if (value == null) {
-                throw QueryException.error("Cannot assign null to value");
-            } else {
-                entry.setValue(value);
-                return 1L;
-            }
+            return null;
+        }
+        Object[] row = rowProjectorSupplier.get(evalContext, extractors).project(entry.getKey(), entry.getValue());
+        Object value = valueProjectorSupplier.get(evalContext).project(row);
+        if (value == null) {
+            throw QueryException.error("Cannot assign null to value");
         }
+        entry.setValue(value);
+        return 1L;
     }
 
     @Override
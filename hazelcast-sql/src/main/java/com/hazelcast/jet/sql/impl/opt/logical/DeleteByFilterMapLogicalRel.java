@@ -0,0 +1,78 @@
+/*
+ * Copyright 2021 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.opt.logical;
+
+import com.hazelcast.jet.sql.impl.schema.HazelcastTable;
+import com.hazelcast.sql.impl.schema.map.PartitionedMapTable;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.AbstractRelNode;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.SqlKind;
+
+import java.util.List;
+
+public class DeleteByFilterMapLogicalRel extends AbstractRelNode implements LogicalRel {
+
+    private final RelOptTable table;
+
+    DeleteByFilterMapLogicalRel(
+            RelOptCluster cluster,
+            RelTraitSet traitSet,
+            RelOptTable table
+    ) {
+        super(cluster, traitSet);
+
+        assert table.unwrap(HazelcastTable.class).getTarget() instanceof PartitionedMapTable;
+
+        this.table = table;
+    }
+
+    public RelOptTable table() {
+        return table;
+    }
+
+    @Override
+    public RelDataType deriveRowType() {
+        return RelOptUtil.createDmlRowType(SqlKind.DELETE, getCluster().getTypeFactory());
+    }
+
+    @Override
+    public RelOptCost computeSelfCost(RelOptPlanner planner, RelMetadataQuery mq) {
+        // tiny as not starting any job, but more than a single key delete
+        return planner.getCostFactory().makeTinyCost();
+    }
+
+    @Override
+    public RelWriter explainTerms(RelWriter pw) {
+        return pw
+                .item("table", table.getQualifiedName())
+                .item("filter", table.unwrap(HazelcastTable.class).getFilter());
+    }
+
+    @Override
+    public RelNode copy(RelTraitSet traitSet, List<RelNode> inputs) {
+        return new DeleteByFilterMapLogicalRel(getCluster(), traitSet, table);
+    }
+}
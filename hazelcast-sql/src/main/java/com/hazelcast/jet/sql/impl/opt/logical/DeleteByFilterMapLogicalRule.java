@@ -0,0 +1,71 @@
+/*
+ * Copyright 2021 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.opt.logical;
+
+import com.hazelcast.jet.sql.impl.opt.OptUtils;
+import com.hazelcast.sql.impl.schema.map.PartitionedMapTable;
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.rel.logical.LogicalTableModify;
+import org.apache.calcite.rel.logical.LogicalTableScan;
+
+/**
+ * Planner rule that matches {@link PartitionedMapTable} DELETE with an
+ * arbitrary filter that doesn't reduce to a single key.
+ * <p>For example,</p>
+ * <blockquote><code>DELETE FROM map WHERE this &gt; 1</code></blockquote>
+ * <p>
+ * Such DELETE is translated to an entry processor, executed on all
+ * entries in the partition threads of the owning members, which does not
+ * involve starting any job.
+ */
+final class DeleteByFilterMapLogicalRule extends RelOptRule {
+
+    static final RelOptRule INSTANCE = new DeleteByFilterMapLogicalRule();
+
+    private DeleteByFilterMapLogicalRule() {
+        super(
+                operandJ(
+                        LogicalTableModify.class, null, modify -> !OptUtils.requiresJob(modify) && modify.isDelete(),
+                        operandJ(
+                                LogicalTableScan.class,
+                                null,
+                                scan -> OptUtils.hasTableType(scan, PartitionedMapTable.class),
+                                none()
+                        )
+                ),
+                DeleteByFilterMapLogicalRule.class.getSimpleName()
+        );
+    }
+
+    @Override
+    public void onMatch(RelOptRuleCall call) {
+        LogicalTableModify delete = call.rel(0);
+        LogicalTableScan scan = call.rel(1);
+
+        RelOptTable table = scan.getTable();
+        if (OptUtils.extractKeyConstantExpression(table, delete.getCluster().getRexBuilder()) == null) {
+            DeleteByFilterMapLogicalRel rel = new DeleteByFilterMapLogicalRel(
+                    delete.getCluster(),
+                    OptUtils.toLogicalConvention(delete.getTraitSet()),
+                    table
+            );
+            call.transformTo(rel);
+        }
+    }
+}
@@ -49,6 +49,9 @@ public final class LogicalRules {
                 FullFunctionScanLogicalRules.SPECIFIC_FUNCTION_INSTANCE,
                 FullFunctionScanLogicalRules.DYNAMIC_FUNCTION_INSTANCE,
 
+                // Window rules
+                SlidingWindowLogicalRule.INSTANCE,
+
                 // Aggregate rules
                 AggregateLogicalRule.INSTANCE,
 
@@ -83,6 +86,8 @@ public final class LogicalRules {
                 SinkMapLogicalRule.INSTANCE,
                 UpdateByKeyMapLogicalRule.INSTANCE,
                 DeleteByKeyMapLogicalRule.INSTANCE,
+                UpdateByFilterMapLogicalRule.INSTANCE,
+                DeleteByFilterMapLogicalRule.INSTANCE,
 
                 // Miscellaneous
                 PruneEmptyRules.PROJECT_INSTANCE,
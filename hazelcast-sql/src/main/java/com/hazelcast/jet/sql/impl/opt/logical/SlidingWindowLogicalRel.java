@@ -0,0 +1,136 @@
+/*
+ * Copyright 2021 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.opt.logical;
+
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.SingleRel;
+import org.apache.calcite.rel.type.RelDataType;
+
+import java.util.List;
+
+/**
+ * A logical rel for the TUMBLE and HOP windowing functions. It appends
+ * the {@code window_start} and {@code window_end} columns to the rows of
+ * its input. All durations are in milliseconds.
+ * <p>
+ * If it's {@code framed}, each row is emitted once with its time value
+ * in place of both bounds, an aggregation above it assigns the rows to
+ * the frames of their windows. See {@link #toFramed()}.
+ */
+public class SlidingWindowLogicalRel extends SingleRel implements LogicalRel {
+
+    private final int timeFieldIndex;
+    private final long windowSize;
+    private final long windowSlide;
+    private final long lag;
+    private final boolean framed;
+
+    SlidingWindowLogicalRel(
+            RelOptCluster cluster,
+            RelTraitSet traits,
+            RelNode input,
+            RelDataType rowType,
+            int timeFieldIndex,
+            long windowSize,
+            long windowSlide,
+            long lag,
+            boolean framed
+    ) {
+        super(cluster, traits, input);
+        this.rowType = rowType;
+
+        this.timeFieldIndex = timeFieldIndex;
+        this.windowSize = windowSize;
+        this.windowSlide = windowSlide;
+        this.lag = lag;
+        this.framed = framed;
+    }
+
+    public int timeFieldIndex() {
+        return timeFieldIndex;
+    }
+
+    public long windowSize() {
+        return windowSize;
+    }
+
+    public long windowSlide() {
+        return windowSlide;
+    }
+
+    public long lag() {
+        return lag;
+    }
+
+    public boolean framed() {
+        return framed;
+    }
+
+    /**
+     * Returns a framed copy of this rel. The bound fields hold the time
+     * value, so the rels using them must be replaced too.
+     */
+    public SlidingWindowLogicalRel toFramed() {
+        return new SlidingWindowLogicalRel(
+                getCluster(),
+                getTraitSet(),
+                getInput(),
+                rowType,
+                timeFieldIndex,
+                windowSize,
+                windowSlide,
+                lag,
+                true
+        );
+    }
+
+    /**
+     * Returns the index of the {@code window_start} field, the {@code
+     * window_end} field follows it.
+     */
+    public int windowStartIndex() {
+        return getInput().getRowType().getFieldCount();
+    }
+
+    @Override
+    public RelWriter explainTerms(RelWriter pw) {
+        return super.explainTerms(pw)
+                .item("timeField", timeFieldIndex)
+                .item("size", windowSize)
+                .item("slide", windowSlide)
+                .item("lag", lag)
+                .itemIf("framed", true, framed);
+    }
+
+    @Override
+    public RelNode copy(RelTraitSet traitSet, List<RelNode> inputs) {
+        return new SlidingWindowLogicalRel(
+                getCluster(),
+                traitSet,
+                sole(inputs),
+                rowType,
+                timeFieldIndex,
+                windowSize,
+                windowSlide,
+                lag,
+                framed
+        );
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.opt.logical;
+
+import com.hazelcast.jet.sql.impl.opt.OptUtils;
+import com.hazelcast.jet.sql.impl.validate.operators.window.HazelcastWindowTableFunction;
+import org.apache.calcite.plan.Convention;
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.convert.ConverterRule;
+import org.apache.calcite.rel.logical.LogicalTableFunctionScan;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+
+import java.util.List;
+
+import static com.hazelcast.jet.sql.impl.opt.JetConventions.LOGICAL;
+
+/**
+ * Converts the TUMBLE and HOP function scans to {@link
+ * SlidingWindowLogicalRel}. The operands of the call are the time column
+ * descriptor followed by the interval literals, the input table is the
+ * input of the scan.
+ */
+final class SlidingWindowLogicalRule extends ConverterRule {
+
+    static final RelOptRule INSTANCE = new SlidingWindowLogicalRule();
+
+    private SlidingWindowLogicalRule() {
+        super(
+                LogicalTableFunctionScan.class, scan -> extractFunction(scan) != null,
+                Convention.NONE, LOGICAL,
+                SlidingWindowLogicalRule.class.getSimpleName()
+        );
+    }
+
+    @Override
+    public RelNode convert(RelNode rel) {
+        LogicalTableFunctionScan scan = (LogicalTableFunctionScan) rel;
+        HazelcastWindowTableFunction function = extractFunction(scan);
+        List<RexNode> operands = ((RexCall) scan.getCall()).getOperands();
+
+        RexCall descriptor = (RexCall) operands.get(0);
+        int timeFieldIndex = ((RexInputRef) descriptor.getOperands().get(0)).getIndex();
+        long windowSlide = intervalMillis(operands.get(1));
+        long windowSize = function.isHopping() ? intervalMillis(operands.get(2)) : windowSlide;
+        int lagIndex = function.isHopping() ? 3 : 2;
+        long lag = operands.size() > lagIndex ? intervalMillis(operands.get(lagIndex)) : 0;
+
+        return new SlidingWindowLogicalRel(
+                scan.getCluster(),
+                OptUtils.toLogicalConvention(scan.getTraitSet()),
+                OptUtils.toLogicalInput(scan.getInputs().get(0)),
+                scan.getRowType(),
+                timeFieldIndex,
+                windowSize,
+                windowSlide,
+                lag,
+                false
+        );
+    }
+
+    private static long intervalMillis(RexNode node) {
+        return ((RexLiteral) node).getValueAs(Long.class);
+    }
+
+    private static HazelcastWindowTableFunction extractFunction(LogicalTableFunctionScan scan) {
+        if (scan == null || !(scan.getCall() instanceof RexCall) || scan.getInputs().size() != 1) {
+            return null;
+        }
+        RexCall call = (RexCall) scan.getCall();
+
+        if (!(call.getOperator() instanceof HazelcastWindowTableFunction)) {
+            return null;
+        }
+        return (HazelcastWindowTableFunction) call.getOperator();
+    }
+}
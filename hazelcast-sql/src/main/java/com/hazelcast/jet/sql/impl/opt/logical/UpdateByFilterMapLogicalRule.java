@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.opt.logical;
+
+import com.hazelcast.jet.sql.impl.opt.OptUtils;
+import com.hazelcast.sql.impl.schema.map.PartitionedMapTable;
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.rel.logical.LogicalProject;
+import org.apache.calcite.rel.logical.LogicalTableModify;
+import org.apache.calcite.rel.logical.LogicalTableScan;
+
+/**
+ * Planner rule that matches {@link PartitionedMapTable} UPDATE with an
+ * arbitrary filter that doesn't reduce to a single key.
+ * <p>For example,</p>
+ * <blockquote><code>UPDATE map SET this = 2 WHERE this &gt; 1</code></blockquote>
+ * <p>
+ * Such UPDATE is translated to an entry processor, executed on all
+ * entries in the partition threads of the owning members, which does not
+ * involve starting any job.
+ */
+final class UpdateByFilterMapLogicalRule extends RelOptRule {
+
+    static final RelOptRule INSTANCE = new UpdateByFilterMapLogicalRule();
+
+    private UpdateByFilterMapLogicalRule() {
+        super(
+                operandJ(
+                        LogicalTableModify.class, null, modify -> !OptUtils.requiresJob(modify) && modify.isUpdate(),
+                        operand(
+                                LogicalProject.class,
+                                operandJ(
+                                        LogicalTableScan.class,
+                                        null,
+                                        scan -> OptUtils.hasTableType(scan, PartitionedMapTable.class),
+                                        none()
+                                )
+                        )
+                ),
+                UpdateByFilterMapLogicalRule.class.getSimpleName()
+        );
+    }
+
+    @Override
+    public void onMatch(RelOptRuleCall call) {
+        LogicalTableModify update = call.rel(0);
+        LogicalTableScan scan = call.rel(2);
+
+        RelOptTable table = scan.getTable();
+        if (OptUtils.extractKeyConstantExpression(table, update.getCluster().getRexBuilder()) == null) {
+            UpdateByFilterMapLogicalRel rel = new UpdateByFilterMapLogicalRel(
+                    update.getCluster(),
+                    OptUtils.toLogicalConvention(update.getTraitSet()),
+                    table,
+                    update.getUpdateColumnList(),
+                    update.getSourceExpressionList()
+            );
+            call.transformTo(rel);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2021 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.opt.physical;
+
+import com.hazelcast.function.FunctionEx;
+import com.hazelcast.function.ToLongFunctionEx;
+import com.hazelcast.jet.aggregate.AggregateOperation;
+import com.hazelcast.jet.core.SlidingWindowPolicy;
+import com.hazelcast.jet.core.Vertex;
+import com.hazelcast.jet.sql.impl.aggregate.ObjectArrayKey;
+import com.hazelcast.sql.impl.QueryParameterMetadata;
+import com.hazelcast.sql.impl.plan.node.PlanNodeSchema;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.SingleRel;
+import org.apache.calcite.util.ImmutableBitSet;
+
+import java.util.List;
+
+/**
+ * The first stage of an aggregation grouped by the bounds of a TUMBLE or
+ * HOP window. Each row is accumulated into the frame of its timestamp.
+ */
+public class AggregateAccumulateByKeyAndWindowPhysicalRel extends SingleRel implements PhysicalRel {
+
+    private final ImmutableBitSet groupSet;
+    private final FunctionEx<Object[], ObjectArrayKey> groupKeyFn;
+    private final ToLongFunctionEx<Object[]> timestampFn;
+    private final SlidingWindowPolicy windowPolicy;
+    private final AggregateOperation<?, Object[]> aggrOp;
+
+    AggregateAccumulateByKeyAndWindowPhysicalRel(
+            RelOptCluster cluster,
+            RelTraitSet traits,
+            RelNode input,
+            ImmutableBitSet groupSet,
+            FunctionEx<Object[], ObjectArrayKey> groupKeyFn,
+            ToLongFunctionEx<Object[]> timestampFn,
+            SlidingWindowPolicy windowPolicy,
+            AggregateOperation<?, Object[]> aggrOp
+    ) {
+        super(cluster, traits, input);
+
+        this.groupSet = groupSet;
+        this.groupKeyFn = groupKeyFn;
+        this.timestampFn = timestampFn;
+        this.windowPolicy = windowPolicy;
+        this.aggrOp = aggrOp;
+    }
+
+    public FunctionEx<Object[], ObjectArrayKey> groupKeyFn() {
+        return groupKeyFn;
+    }
+
+    public ToLongFunctionEx<Object[]> timestampFn() {
+        return timestampFn;
+    }
+
+    public SlidingWindowPolicy windowPolicy() {
+        return windowPolicy;
+    }
+
+    public AggregateOperation<?, Object[]> aggrOp() {
+        return aggrOp;
+    }
+
+    @Override
+    public PlanNodeSchema schema(QueryParameterMetadata parameterMetadata) {
+        // intermediate operator, schema should not be ever needed
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Vertex accept(CreateDagVisitor visitor) {
+        return visitor.onAccumulateByKeyAndWindow(this);
+    }
+
+    @Override
+    public RelWriter explainTerms(RelWriter pw) {
+        return super.explainTerms(pw)
+                    .item("group", groupSet)
+                    .item("frameSize", windowPolicy.frameSize());
+    }
+
+    @Override
+    public RelNode copy(RelTraitSet traitSet, List<RelNode> inputs) {
+        return new AggregateAccumulateByKeyAndWindowPhysicalRel(
+                getCluster(),
+                traitSet,
+                sole(inputs),
+                groupSet,
+                groupKeyFn,
+                timestampFn,
+                windowPolicy,
+                aggrOp
+        );
+    }
+}
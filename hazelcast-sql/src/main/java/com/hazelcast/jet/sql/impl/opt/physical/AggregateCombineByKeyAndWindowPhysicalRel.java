@@ -0,0 +1,107 @@
+/*
+ * Copyright 2021 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.opt.physical;
+
+import com.hazelcast.jet.aggregate.AggregateOperation;
+import com.hazelcast.jet.core.SlidingWindowPolicy;
+import com.hazelcast.jet.core.Vertex;
+import com.hazelcast.jet.core.function.KeyedWindowResultFunction;
+import com.hazelcast.jet.sql.impl.opt.OptUtils;
+import com.hazelcast.sql.impl.QueryParameterMetadata;
+import com.hazelcast.sql.impl.plan.node.PlanNodeSchema;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.util.ImmutableBitSet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The second stage of an aggregation grouped by the bounds of a TUMBLE or
+ * HOP window. It emits the rows of a window when the watermark passes its
+ * end.
+ */
+public class AggregateCombineByKeyAndWindowPhysicalRel extends Aggregate implements PhysicalRel {
+
+    private final SlidingWindowPolicy windowPolicy;
+    private final AggregateOperation<?, Object[]> aggrOp;
+    private final KeyedWindowResultFunction<Object, Object[], Object[]> resultFn;
+
+    AggregateCombineByKeyAndWindowPhysicalRel(
+            RelOptCluster cluster,
+            RelTraitSet traits,
+            RelNode input,
+            ImmutableBitSet groupSet,
+            List<ImmutableBitSet> groupSets,
+            List<AggregateCall> aggCalls,
+            SlidingWindowPolicy windowPolicy,
+            AggregateOperation<?, Object[]> aggrOp,
+            KeyedWindowResultFunction<Object, Object[], Object[]> resultFn
+    ) {
+        super(cluster, traits, new ArrayList<>(), input, groupSet, groupSets, aggCalls);
+
+        this.windowPolicy = windowPolicy;
+        this.aggrOp = aggrOp;
+        this.resultFn = resultFn;
+    }
+
+    public SlidingWindowPolicy windowPolicy() {
+        return windowPolicy;
+    }
+
+    public AggregateOperation<?, Object[]> aggrOp() {
+        return aggrOp;
+    }
+
+    public KeyedWindowResultFunction<Object, Object[], Object[]> resultFn() {
+        return resultFn;
+    }
+
+    @Override
+    public PlanNodeSchema schema(QueryParameterMetadata parameterMetadata) {
+        return OptUtils.schema(getRowType());
+    }
+
+    @Override
+    public Vertex accept(CreateDagVisitor visitor) {
+        return visitor.onCombineByKeyAndWindow(this);
+    }
+
+    @Override
+    public final Aggregate copy(
+            RelTraitSet traitSet,
+            RelNode input,
+            ImmutableBitSet groupSet,
+            List<ImmutableBitSet> groupSets,
+            List<AggregateCall> aggCalls
+    ) {
+        return new AggregateCombineByKeyAndWindowPhysicalRel(
+                getCluster(),
+                traitSet,
+                input,
+                groupSet,
+                groupSets,
+                aggCalls,
+                windowPolicy,
+                aggrOp,
+                resultFn
+        );
+    }
+}
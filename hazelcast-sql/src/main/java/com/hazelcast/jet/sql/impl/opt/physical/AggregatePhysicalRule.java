@@ -18,32 +18,48 @@ package com.hazelcast.jet.sql.impl.opt.physical;
 
 import com.hazelcast.function.FunctionEx;
 import com.hazelcast.function.SupplierEx;
+import com.hazelcast.function.ToLongFunctionEx;
 import com.hazelcast.jet.aggregate.AggregateOperation;
+import com.hazelcast.jet.core.SlidingWindowPolicy;
+import com.hazelcast.jet.core.function.KeyedWindowResultFunction;
+import com.hazelcast.jet.sql.impl.WindowUtil;
 import com.hazelcast.jet.sql.impl.aggregate.AvgSqlAggregations;
 import com.hazelcast.jet.sql.impl.aggregate.CountSqlAggregations;
 import com.hazelcast.jet.sql.impl.aggregate.MaxSqlAggregation;
 import com.hazelcast.jet.sql.impl.aggregate.MinSqlAggregation;
+import com.hazelcast.jet.sql.impl.aggregate.ObjectArrayKey;
 import com.hazelcast.jet.sql.impl.aggregate.SqlAggregation;
 import com.hazelcast.jet.sql.impl.aggregate.SumSqlAggregations;
 import com.hazelcast.jet.sql.impl.aggregate.ValueSqlAggregation;
 import com.hazelcast.jet.sql.impl.opt.OptUtils;
 import com.hazelcast.jet.sql.impl.opt.logical.AggregateLogicalRel;
+import com.hazelcast.jet.sql.impl.opt.logical.FilterLogicalRel;
+import com.hazelcast.jet.sql.impl.opt.logical.ProjectLogicalRel;
+import com.hazelcast.jet.sql.impl.opt.logical.SlidingWindowLogicalRel;
 import com.hazelcast.sql.impl.QueryException;
 import com.hazelcast.sql.impl.type.QueryDataType;
 import org.apache.calcite.plan.RelOptRule;
 import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.plan.volcano.RelSubset;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.core.Aggregate.Group;
 import org.apache.calcite.rel.core.AggregateCall;
 import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.sql.SqlKind;
 import org.apache.calcite.util.ImmutableBitSet;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import static com.hazelcast.jet.core.SlidingWindowPolicy.slidingWinPolicy;
+import static com.hazelcast.jet.core.SlidingWindowPolicy.tumblingWinPolicy;
 import static com.hazelcast.jet.sql.impl.opt.JetConventions.LOGICAL;
+import static java.util.Collections.singletonList;
 
 final class AggregatePhysicalRule extends RelOptRule {
 
@@ -63,23 +79,41 @@ final class AggregatePhysicalRule extends RelOptRule {
 
         assert logicalAggregate.getGroupType() == Group.SIMPLE;
 
+        WindowBound windowBound = findWindowBound(logicalAggregate);
+        if (windowBound != null && !windowBound.window.framed()) {
+            // replace the aggregation over the copies of the rows with one
+            // over the frames of their windows, if possible
+            RelNode framedAggregate = toFramedAggregate(logicalAggregate, windowBound);
+            if (framedAggregate != null) {
+                call.transformTo(framedAggregate);
+                return;
+            }
+        }
+
         RelNode convertedInput = OptUtils.toPhysicalInput(input);
         Collection<RelNode> transformedInputs = OptUtils.extractPhysicalRelsFromSubset(convertedInput);
         for (RelNode transformedInput : transformedInputs) {
-            call.transformTo(optimize(logicalAggregate, transformedInput));
+            call.transformTo(optimize(logicalAggregate, transformedInput, windowBound));
         }
     }
 
-    private static RelNode optimize(AggregateLogicalRel logicalAggregate, RelNode physicalInput) {
-        return logicalAggregate.getGroupSet().cardinality() == 0
-                ? toAggregate(logicalAggregate, physicalInput)
-                : toAggregateByKey(logicalAggregate, physicalInput);
+    private static RelNode optimize(
+            AggregateLogicalRel logicalAggregate,
+            RelNode physicalInput,
+            @Nullable WindowBound windowBound
+    ) {
+        if (logicalAggregate.getGroupSet().cardinality() == 0) {
+            return toAggregate(logicalAggregate, physicalInput);
+        }
+        return windowBound == null
+                ? toAggregateByKey(logicalAggregate, physicalInput)
+                : toAggregateByKeyAndWindow(logicalAggregate, physicalInput, windowBound);
     }
 
     private static RelNode toAggregate(AggregateLogicalRel logicalAggregate, RelNode physicalInput) {
         AggregateOperation<?, Object[]> aggrOp = aggregateOperation(
                 physicalInput.getRowType(),
-                logicalAggregate.getGroupSet(),
+                groupValueFns(logicalAggregate.getGroupSet()),
                 logicalAggregate.getAggCallList()
         );
 
@@ -116,7 +150,7 @@ final class AggregatePhysicalRule extends RelOptRule {
     private static RelNode toAggregateByKey(AggregateLogicalRel logicalAggregate, RelNode physicalInput) {
         AggregateOperation<?, Object[]> aggrOp = aggregateOperation(
                 physicalInput.getRowType(),
-                logicalAggregate.getGroupSet(),
+                groupValueFns(logicalAggregate.getGroupSet()),
                 logicalAggregate.getAggCallList()
         );
 
@@ -151,9 +185,160 @@ final class AggregatePhysicalRule extends RelOptRule {
         }
     }
 
+    private static RelNode toAggregateByKeyAndWindow(
+            AggregateLogicalRel logicalAggregate,
+            RelNode physicalInput,
+            WindowBound windowBound
+    ) {
+        ImmutableBitSet groupSet = logicalAggregate.getGroupSet();
+        List<FunctionEx<Object[], Object>> groupValueFns = windowBound.groupValueFns(groupSet);
+        AggregateOperation<?, Object[]> aggrOp = aggregateOperation(
+                physicalInput.getRowType(),
+                groupValueFns,
+                logicalAggregate.getAggCallList()
+        );
+        FunctionEx<Object[], ObjectArrayKey> groupKeyFn = ObjectArrayKey.projectFn(groupValueFns);
+        ToLongFunctionEx<Object[]> timestampFn = windowBound.timestampFn();
+        SlidingWindowPolicy windowPolicy = windowBound.windowPolicy();
+        KeyedWindowResultFunction<Object, Object[], Object[]> resultFn = windowBound.resultFn(groupSet);
+
+        if (logicalAggregate.containsDistinctCall()) {
+            return new AggregateByKeyAndWindowPhysicalRel(
+                    physicalInput.getCluster(),
+                    physicalInput.getTraitSet(),
+                    physicalInput,
+                    logicalAggregate.getGroupSet(),
+                    logicalAggregate.getGroupSets(),
+                    logicalAggregate.getAggCallList(),
+                    groupKeyFn,
+                    timestampFn,
+                    windowPolicy,
+                    aggrOp,
+                    resultFn
+            );
+        } else {
+            RelNode rel = new AggregateAccumulateByKeyAndWindowPhysicalRel(
+                    physicalInput.getCluster(),
+                    physicalInput.getTraitSet(),
+                    physicalInput,
+                    logicalAggregate.getGroupSet(),
+                    groupKeyFn,
+                    timestampFn,
+                    windowPolicy,
+                    aggrOp
+            );
+
+            return new AggregateCombineByKeyAndWindowPhysicalRel(
+                    rel.getCluster(),
+                    rel.getTraitSet(),
+                    rel,
+                    logicalAggregate.getGroupSet(),
+                    logicalAggregate.getGroupSets(),
+                    logicalAggregate.getAggCallList(),
+                    windowPolicy,
+                    aggrOp,
+                    resultFn
+            );
+        }
+    }
+
+    /**
+     * Looks for a grouping field that is the {@code window_start} or {@code
+     * window_end} column of a TUMBLE or HOP function in the input, passed
+     * through any number of filters and projections. Returns null, if there's
+     * no such field.
+     */
+    @Nullable
+    private static WindowBound findWindowBound(AggregateLogicalRel logicalAggregate) {
+        for (int groupIndex : logicalAggregate.getGroupSet()) {
+            RelNode rel = logicalAggregate.getInput();
+            int fieldIndex = groupIndex;
+            while (rel != null) {
+                if (rel instanceof RelSubset) {
+                    rel = ((RelSubset) rel).getOriginal();
+                } else if (rel instanceof FilterLogicalRel) {
+                    rel = ((FilterLogicalRel) rel).getInput();
+                } else if (rel instanceof ProjectLogicalRel) {
+                    RexNode project = ((ProjectLogicalRel) rel).getProjects().get(fieldIndex);
+                    if (!(project instanceof RexInputRef)) {
+                        break;
+                    }
+                    fieldIndex = ((RexInputRef) project).getIndex();
+                    rel = ((ProjectLogicalRel) rel).getInput();
+                } else if (rel instanceof SlidingWindowLogicalRel) {
+                    SlidingWindowLogicalRel window = (SlidingWindowLogicalRel) rel;
+                    int boundIndex = fieldIndex - window.windowStartIndex();
+                    if (boundIndex == 0 || boundIndex == 1) {
+                        return new WindowBound(groupIndex, boundIndex == 1, window);
+                    }
+                    break;
+                } else {
+                    break;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a copy of the aggregate over a framed copy of the window,
+     * which emits each row once. Returns null, if the window bounds are used
+     * by anything but the grouping field, their values aren't known before
+     * the aggregation then.
+     */
+    @Nullable
+    private static RelNode toFramedAggregate(AggregateLogicalRel logicalAggregate, WindowBound windowBound) {
+        ImmutableBitSet.Builder usedFields = ImmutableBitSet.builder();
+        usedFields.addAll(logicalAggregate.getGroupSet().clear(windowBound.fieldIndex));
+        for (AggregateCall aggregateCall : logicalAggregate.getAggCallList()) {
+            usedFields.addAll(aggregateCall.getArgList());
+            if (aggregateCall.filterArg >= 0) {
+                usedFields.set(aggregateCall.filterArg);
+            }
+        }
+        RelNode framedInput = toFramedInput(logicalAggregate.getInput(), usedFields.build());
+        return framedInput == null ? null : logicalAggregate.copy(logicalAggregate.getTraitSet(), singletonList(framedInput));
+    }
+
+    @Nullable
+    private static RelNode toFramedInput(RelNode rel, ImmutableBitSet usedFields) {
+        if (rel instanceof RelSubset) {
+            return toFramedInput(((RelSubset) rel).getOriginal(), usedFields);
+        } else if (rel instanceof FilterLogicalRel) {
+            FilterLogicalRel filter = (FilterLogicalRel) rel;
+            ImmutableBitSet inputFields = usedFields.union(RelOptUtil.InputFinder.bits(filter.getCondition()));
+            RelNode input = toFramedInput(filter.getInput(), inputFields);
+            return input == null ? null : filter.copy(filter.getTraitSet(), singletonList(input));
+        } else if (rel instanceof ProjectLogicalRel) {
+            ProjectLogicalRel project = (ProjectLogicalRel) rel;
+            ImmutableBitSet.Builder inputFields = ImmutableBitSet.builder();
+            for (int field : usedFields) {
+                inputFields.addAll(RelOptUtil.InputFinder.bits(project.getProjects().get(field)));
+            }
+            RelNode input = toFramedInput(project.getInput(), inputFields.build());
+            return input == null ? null : project.copy(project.getTraitSet(), singletonList(input));
+        } else if (rel instanceof SlidingWindowLogicalRel) {
+            SlidingWindowLogicalRel window = (SlidingWindowLogicalRel) rel;
+            int windowStartIndex = window.windowStartIndex();
+            return usedFields.get(windowStartIndex) || usedFields.get(windowStartIndex + 1)
+                    ? null
+                    : window.toFramed();
+        } else {
+            return null;
+        }
+    }
+
+    private static List<FunctionEx<Object[], Object>> groupValueFns(ImmutableBitSet groupSet) {
+        List<FunctionEx<Object[], Object>> groupValueFns = new ArrayList<>(groupSet.cardinality());
+        for (int groupIndex : groupSet) {
+            groupValueFns.add(row -> row[groupIndex]);
+        }
+        return groupValueFns;
+    }
+
     private static AggregateOperation<?, Object[]> aggregateOperation(
             RelDataType inputType,
-            ImmutableBitSet groupSet,
+            List<FunctionEx<Object[], Object>> groupValueFns,
             List<AggregateCall> aggregateCalls
     ) {
         List<QueryDataType> operandTypes = OptUtils.schema(inputType).getTypes();
@@ -161,9 +346,9 @@ final class AggregatePhysicalRule extends RelOptRule {
         List<SupplierEx<SqlAggregation>> aggregationProviders = new ArrayList<>();
         List<FunctionEx<Object[], Object>> valueProviders = new ArrayList<>();
 
-        for (Integer groupIndex : groupSet.toList()) {
+        for (FunctionEx<Object[], Object> groupValueFn : groupValueFns) {
             aggregationProviders.add(ValueSqlAggregation::new);
-            valueProviders.add(row -> row[groupIndex]);
+            valueProviders.add(groupValueFn);
         }
         for (AggregateCall aggregateCall : aggregateCalls) {
             boolean distinct = aggregateCall.isDistinct();
@@ -239,4 +424,65 @@ final class AggregatePhysicalRule extends RelOptRule {
                     return values;
                 });
     }
+
+    /**
+     * A grouping field holding the start or the end of a window.
+     * <p>
+     * If the window is framed, the field holds the time value of the row.
+     * The rows are accumulated into the frames of their timestamps and the
+     * frames are combined into the windows, the field is set to the window
+     * bound in the result. Otherwise there's a copy of the row for each of
+     * its windows, they are aggregated in tumbling windows of the slide.
+     */
+    private static final class WindowBound {
+
+        private final int fieldIndex;
+        private final boolean end;
+        private final SlidingWindowLogicalRel window;
+
+        private WindowBound(int fieldIndex, boolean end, SlidingWindowLogicalRel window) {
+            this.fieldIndex = fieldIndex;
+            this.end = end;
+            this.window = window;
+        }
+
+        /**
+         * Returns the functions extracting the grouping fields. A framed
+         * window bound is grouped by a placeholder of the same type and
+         * offset instead of the time value.
+         */
+        private List<FunctionEx<Object[], Object>> groupValueFns(ImmutableBitSet groupSet) {
+            List<FunctionEx<Object[], Object>> groupValueFns = AggregatePhysicalRule.groupValueFns(groupSet);
+            if (window.framed()) {
+                groupValueFns.set(groupSet.indexOf(fieldIndex), WindowUtil.epochFn(fieldIndex));
+            }
+            return groupValueFns;
+        }
+
+        /**
+         * Returns a function that maps a row to its time value, if the
+         * window is framed. Otherwise to the start of the last frame of its
+         * window, so that the window is emitted when the watermark passes
+         * its end.
+         */
+        private ToLongFunctionEx<Object[]> timestampFn() {
+            if (window.framed()) {
+                return WindowUtil.timestampFn(fieldIndex, 0);
+            }
+            long offset = end ? -window.windowSlide() : window.windowSize() - window.windowSlide();
+            return WindowUtil.timestampFn(fieldIndex, offset);
+        }
+
+        private SlidingWindowPolicy windowPolicy() {
+            return window.framed()
+                    ? slidingWinPolicy(window.windowSize(), window.windowSlide())
+                    : tumblingWinPolicy(window.windowSlide());
+        }
+
+        private KeyedWindowResultFunction<Object, Object[], Object[]> resultFn(ImmutableBitSet groupSet) {
+            return window.framed()
+                    ? WindowUtil.windowBoundResultFn(groupSet.indexOf(fieldIndex), end)
+                    : (windowStart, windowEnd, key, row, isEarly) -> row;
+        }
+    }
 }
@@ -22,13 +22,17 @@ import com.hazelcast.function.BiPredicateEx;
 import com.hazelcast.function.ComparatorEx;
 import com.hazelcast.function.ConsumerEx;
 import com.hazelcast.function.FunctionEx;
+import com.hazelcast.function.ToLongFunctionEx;
 import com.hazelcast.jet.aggregate.AggregateOperation;
 import com.hazelcast.jet.core.DAG;
 import com.hazelcast.jet.core.Edge;
+import com.hazelcast.jet.core.Processor;
 import com.hazelcast.jet.core.ProcessorMetaSupplier;
 import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.core.TimestampKind;
 import com.hazelcast.jet.core.Vertex;
 import com.hazelcast.jet.core.processor.Processors;
+import com.hazelcast.jet.impl.processor.TopNP;
 import com.hazelcast.jet.pipeline.ServiceFactories;
 import com.hazelcast.jet.sql.impl.ExpressionUtil;
 import com.hazelcast.jet.sql.impl.SimpleExpressionEvalContext;
@@ -43,6 +47,7 @@ import com.hazelcast.sql.impl.expression.ConstantExpression;
 import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.optimizer.PlanObjectKey;
 import com.hazelcast.sql.impl.schema.Table;
+import com.hazelcast.sql.impl.schema.map.PartitionedMapTable;
 import com.hazelcast.sql.impl.type.QueryDataType;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.SingleRel;
@@ -70,6 +75,7 @@ public class CreateDagVisitor {
 
     private final DAG dag = new DAG();
     private final Set<PlanObjectKey> objectKeys = new HashSet<>();
+    private final Set<String> indexScanVertexNames = new HashSet<>();
     private final NodeEngine nodeEngine;
     private final Address localMemberAddress;
     private final QueryParameterMetadata parameterMetadata;
@@ -139,14 +145,33 @@ public class CreateDagVisitor {
         collectObjectKeys(table);
 
         return getJetSqlConnector(table)
-                .fullScanReader(dag, table, rel.filter(parameterMetadata), rel.projection(parameterMetadata));
+                .fullScanReader(
+                        dag,
+                        table,
+                        rel.filter(parameterMetadata),
+                        rel.projection(parameterMetadata),
+                        rel.requiredFields()
+                );
     }
 
     public Vertex onMapIndexScan(IndexScanMapPhysicalRel rel) {
+        return createMapIndexScan(rel, null, null);
+    }
+
+    /**
+     * Creates the vertex for the {@code rel}. If the {@code fetch} is not
+     * null, each processor of a sorted index scan stops after emitting the
+     * first {@code fetch + offset} rows.
+     */
+    private Vertex createMapIndexScan(
+            IndexScanMapPhysicalRel rel,
+            @Nullable Expression<?> fetch,
+            @Nullable Expression<?> offset
+    ) {
         Table table = rel.getTable().unwrap(HazelcastTable.class).getTarget();
         collectObjectKeys(table);
 
-        return SqlConnectorUtil.<IMapSqlConnector>getJetSqlConnector(table)
+        Vertex vertex = SqlConnectorUtil.<IMapSqlConnector>getJetSqlConnector(table)
                 .indexScanReader(
                         dag,
                         localMemberAddress,
@@ -156,8 +181,12 @@ public class CreateDagVisitor {
                         rel.projection(parameterMetadata),
                         rel.getIndexFilter(),
                         rel.getComparator(),
-                        rel.isDescending()
+                        rel.isDescending(),
+                        fetch,
+                        offset
                 );
+        indexScanVertexNames.add(vertex.getName());
+        return vertex;
     }
 
     public Vertex onFilter(FilterPhysicalRel rel) {
@@ -184,13 +213,32 @@ public class CreateDagVisitor {
     }
 
     public Vertex onSort(SortPhysicalRel rel) {
-        ComparatorEx<?> comparator = ExpressionUtil.comparisonFn(rel.getCollations());
+        ComparatorEx<Object[]> comparator = ExpressionUtil.comparisonFn(rel.getCollations());
 
         // Use 2-Phase sort for maximum parallelism
         // First, construct processors for local sorting
-        Vertex sortVertex = dag.newUniqueVertex("Sort",
-                ProcessorMetaSupplier.of(sortP(comparator)));
-        connectInput(rel.getInput(), sortVertex, null);
+        Vertex sortVertex;
+        if (rel.fetch == null) {
+            sortVertex = dag.newUniqueVertex("Sort",
+                    ProcessorMetaSupplier.of(sortP(comparator)));
+            connectInput(rel.getInput(), sortVertex, null);
+        } else {
+            // With a LIMIT, each processor retains only the first `fetch + offset` rows.
+            // The same is then done once per member, so that at most `fetch + offset`
+            // rows per member travel to the combining vertex.
+            Expression<?> fetch = rel.fetch(parameterMetadata);
+            Expression<?> offset = rel.offset == null ? null : rel.offset(parameterMetadata);
+            ToLongFunctionEx<Processor.Context> limitFn = ctx ->
+                    ExpressionUtil.evaluateLimit(fetch, offset, SimpleExpressionEvalContext.from(ctx));
+
+            Vertex localTopNVertex = dag.newUniqueVertex("SortTopN",
+                    ProcessorMetaSupplier.of(() -> new TopNP<>(comparator, limitFn)));
+            connectInput(rel.getInput(), localTopNVertex, null);
+
+            sortVertex = dag.newUniqueVertex("SortTopNMember",
+                    ProcessorMetaSupplier.of(1, () -> new TopNP<>(comparator, limitFn)));
+            dag.edge(between(localTopNVertex, sortVertex).allToOne(""));
+        }
 
         // Then, combine the locally sorted inputs while preserving the ordering
         Vertex combineVertex = dag.newUniqueVertex("SortCombine",
@@ -263,6 +311,25 @@ public class CreateDagVisitor {
         FunctionEx<Object[], ?> groupKeyFn = rel.groupKeyFn();
         AggregateOperation<?, Object[]> aggregateOperation = rel.aggrOp();
 
+        if (rel.getInput() instanceof FullScanPhysicalRel) {
+            FullScanPhysicalRel scanRel = (FullScanPhysicalRel) rel.getInput();
+            Table table = scanRel.getTable().unwrap(HazelcastTable.class).getTarget();
+            if (table instanceof PartitionedMapTable) {
+                // Accumulate directly in the scanning processors, only the accumulators
+                // travel to the combining vertex instead of all the projected rows.
+                collectObjectKeys(table);
+                return SqlConnectorUtil.<IMapSqlConnector>getJetSqlConnector(table)
+                        .fullScanAccumulateByKeyReader(
+                                dag,
+                                table,
+                                scanRel.filter(parameterMetadata),
+                                scanRel.projection(parameterMetadata),
+                                groupKeyFn,
+                                aggregateOperation
+                        );
+            }
+        }
+
         Vertex vertex = dag.newUniqueVertex(
                 "AccumulateByKey",
                 Processors.accumulateByKeyP(singletonList(groupKeyFn), aggregateOperation)
@@ -282,6 +349,79 @@ public class CreateDagVisitor {
         return vertex;
     }
 
+    public Vertex onSlidingWindow(SlidingWindowPhysicalRel rel) {
+        Vertex insertWatermarksVertex = dag.newUniqueVertex(
+                "InsertWatermarks",
+                Processors.insertWatermarksP(rel.eventTimePolicy())
+        );
+        connectInput(rel.getInput(), insertWatermarksVertex, null);
+
+        Vertex vertex = dag.newUniqueVertex(
+                "SlidingWindow",
+                Processors.flatMapP(rel.windowBoundsFn())
+        );
+        // The watermarks of each processor must stay with its rows
+        int cooperativeThreadCount = nodeEngine.getConfig().getJetConfig().getCooperativeThreadCount();
+        int localParallelism = insertWatermarksVertex.determineLocalParallelism(cooperativeThreadCount);
+        insertWatermarksVertex.localParallelism(localParallelism);
+        vertex.localParallelism(localParallelism);
+        dag.edge(between(insertWatermarksVertex, vertex).isolated());
+        return vertex;
+    }
+
+    public Vertex onAggregateByKeyAndWindow(AggregateByKeyAndWindowPhysicalRel rel) {
+        FunctionEx<Object[], ?> groupKeyFn = rel.groupKeyFn();
+        AggregateOperation<?, Object[]> aggregateOperation = rel.aggrOp();
+
+        Vertex vertex = dag.newUniqueVertex(
+                "AggregateByKeyAndWindow",
+                Processors.aggregateToSlidingWindowP(
+                        singletonList(groupKeyFn),
+                        singletonList(rel.timestampFn()),
+                        TimestampKind.EVENT,
+                        rel.windowPolicy(),
+                        0,
+                        aggregateOperation,
+                        rel.resultFn()
+                )
+        );
+        connectInput(rel.getInput(), vertex, edge -> edge.distributed().partitioned(groupKeyFn));
+        return vertex;
+    }
+
+    public Vertex onAccumulateByKeyAndWindow(AggregateAccumulateByKeyAndWindowPhysicalRel rel) {
+        FunctionEx<Object[], ?> groupKeyFn = rel.groupKeyFn();
+        AggregateOperation<?, Object[]> aggregateOperation = rel.aggrOp();
+
+        Vertex vertex = dag.newUniqueVertex(
+                "AccumulateByKeyAndWindow",
+                Processors.accumulateByFrameP(
+                        singletonList(groupKeyFn),
+                        singletonList(rel.timestampFn()),
+                        TimestampKind.EVENT,
+                        rel.windowPolicy(),
+                        aggregateOperation
+                )
+        );
+        connectInput(rel.getInput(), vertex, edge -> edge.partitioned(groupKeyFn));
+        return vertex;
+    }
+
+    public Vertex onCombineByKeyAndWindow(AggregateCombineByKeyAndWindowPhysicalRel rel) {
+        AggregateOperation<?, Object[]> aggregateOperation = rel.aggrOp();
+
+        Vertex vertex = dag.newUniqueVertex(
+                "CombineByKeyAndWindow",
+                Processors.combineToSlidingWindowP(
+                        rel.windowPolicy(),
+                        aggregateOperation,
+                        rel.resultFn()
+                )
+        );
+        connectInput(rel.getInput(), vertex, edge -> edge.distributed().partitioned(entryKey()));
+        return vertex;
+    }
+
     public Vertex onNestedLoopJoin(JoinNestedLoopPhysicalRel rel) {
         assert rel.getRight() instanceof FullScanPhysicalRel : rel.getRight().getClass();
 
@@ -324,6 +464,16 @@ public class CreateDagVisitor {
 
             if (!sortRel.requiresSort()) {
                 input = sortRel.getInput();
+                if (input instanceof IndexScanMapPhysicalRel && sortRel.fetch != null) {
+                    // The index returns the rows already sorted, read only the rows we need
+                    Vertex vertex = dag.newUniqueVertex(
+                            "ClientSink",
+                            rootResultConsumerSink(localMemberAddress, fetch, offset)
+                    );
+                    Vertex inputVertex = createMapIndexScan((IndexScanMapPhysicalRel) input, fetch, offset);
+                    dag.edge(between(inputVertex, vertex).distributeTo(localMemberAddress).allToOne(""));
+                    return vertex;
+                }
             }
         } else {
             fetch = ConstantExpression.create(Long.MAX_VALUE, QueryDataType.BIGINT);
@@ -350,6 +500,13 @@ public class CreateDagVisitor {
         return objectKeys;
     }
 
+    /**
+     * Returns the names of the vertices that scan a map index.
+     */
+    public Set<String> getIndexScanVertexNames() {
+        return indexScanVertexNames;
+    }
+
     /**
      * Converts the {@code inputRel} into a {@code Vertex} by visiting it and
      * create an edge from the input vertex into {@code thisVertex}.
@@ -29,6 +29,7 @@ import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelOptCost;
 import org.apache.calcite.plan.RelOptPlanner;
 import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.plan.RelTraitSet;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.core.TableScan;
@@ -37,6 +38,7 @@ import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rex.RexInputRef;
 import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.ImmutableBitSet;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -78,6 +80,21 @@ public class FullScanPhysicalRel extends TableScan implements PhysicalRel {
         return project(schema, projection, parameterMetadata);
     }
 
+    /**
+     * Returns the sorted indexes of the table fields referenced by the
+     * projection or by the filter.
+     */
+    public List<Integer> requiredFields() {
+        HazelcastTable table = getTable().unwrap(HazelcastTable.class);
+
+        ImmutableBitSet.Builder fields = ImmutableBitSet.builder();
+        fields.addAll(table.getProjects());
+        if (table.getFilter() != null) {
+            fields.addAll(RelOptUtil.InputFinder.bits(table.getFilter()));
+        }
+        return fields.build().asList();
+    }
+
     @Override
     public PlanNodeSchema schema(QueryParameterMetadata parameterMetadata) {
         List<QueryDataType> fieldTypes = toList(projection(parameterMetadata), Expression::getType);
@@ -38,6 +38,9 @@ public final class PhysicalRules {
                 FullScanPhysicalRule.INSTANCE,
                 IndexScanMapPhysicalRule.INSTANCE,
 
+                // Window rules
+                SlidingWindowPhysicalRule.INSTANCE,
+
                 // Aggregate rules
                 AggregatePhysicalRule.INSTANCE,
 
@@ -61,6 +64,8 @@ public final class PhysicalRules {
                 SinkMapPhysicalRule.INSTANCE,
                 UpdateByKeyMapPhysicalRule.INSTANCE,
                 DeleteByKeyMapPhysicalRule.INSTANCE,
+                UpdateByFilterMapPhysicalRule.INSTANCE,
+                DeleteByFilterMapPhysicalRule.INSTANCE,
 
                 new AbstractConverter.ExpandConversionRule(RelFactories.LOGICAL_BUILDER)
         );
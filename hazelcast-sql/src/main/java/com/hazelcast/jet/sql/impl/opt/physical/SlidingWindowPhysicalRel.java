@@ -0,0 +1,123 @@
+/*
+ * Copyright 2021 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.opt.physical;
+
+import com.hazelcast.function.FunctionEx;
+import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.core.EventTimePolicy;
+import com.hazelcast.jet.core.Vertex;
+import com.hazelcast.jet.sql.impl.WindowUtil;
+import com.hazelcast.jet.sql.impl.opt.OptUtils;
+import com.hazelcast.sql.impl.QueryParameterMetadata;
+import com.hazelcast.sql.impl.plan.node.PlanNodeSchema;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.SingleRel;
+import org.apache.calcite.rel.type.RelDataType;
+
+import java.util.List;
+
+import static com.hazelcast.jet.core.EventTimePolicy.DEFAULT_IDLE_TIMEOUT;
+import static com.hazelcast.jet.core.WatermarkPolicy.limitingLag;
+
+public class SlidingWindowPhysicalRel extends SingleRel implements PhysicalRel {
+
+    private final int timeFieldIndex;
+    private final long windowSize;
+    private final long windowSlide;
+    private final long lag;
+    private final boolean framed;
+
+    SlidingWindowPhysicalRel(
+            RelOptCluster cluster,
+            RelTraitSet traits,
+            RelNode input,
+            RelDataType rowType,
+            int timeFieldIndex,
+            long windowSize,
+            long windowSlide,
+            long lag,
+            boolean framed
+    ) {
+        super(cluster, traits, input);
+        this.rowType = rowType;
+
+        this.timeFieldIndex = timeFieldIndex;
+        this.windowSize = windowSize;
+        this.windowSlide = windowSlide;
+        this.lag = lag;
+        this.framed = framed;
+    }
+
+    /**
+     * Returns the policy to insert the watermarks into the input, they
+     * trail the highest time value by the {@code lag} and are throttled to
+     * the window slide.
+     */
+    public EventTimePolicy<Object[]> eventTimePolicy() {
+        return EventTimePolicy.eventTimePolicy(
+                WindowUtil.timestampFn(timeFieldIndex, 0),
+                limitingLag(lag),
+                windowSlide,
+                0,
+                DEFAULT_IDLE_TIMEOUT
+        );
+    }
+
+    public FunctionEx<Object[], Traverser<Object[]>> windowBoundsFn() {
+        return framed
+                ? WindowUtil.timeValueBoundsFn(timeFieldIndex)
+                : WindowUtil.windowBoundsFn(timeFieldIndex, windowSize, windowSlide);
+    }
+
+    @Override
+    public PlanNodeSchema schema(QueryParameterMetadata parameterMetadata) {
+        return OptUtils.schema(rowType);
+    }
+
+    @Override
+    public Vertex accept(CreateDagVisitor visitor) {
+        return visitor.onSlidingWindow(this);
+    }
+
+    @Override
+    public RelWriter explainTerms(RelWriter pw) {
+        return super.explainTerms(pw)
+                .item("timeField", timeFieldIndex)
+                .item("size", windowSize)
+                .item("slide", windowSlide)
+                .item("lag", lag)
+                .itemIf("framed", true, framed);
+    }
+
+    @Override
+    public RelNode copy(RelTraitSet traitSet, List<RelNode> inputs) {
+        return new SlidingWindowPhysicalRel(
+                getCluster(),
+                traitSet,
+                sole(inputs),
+                rowType,
+                timeFieldIndex,
+                windowSize,
+                windowSlide,
+                lag,
+                framed
+        );
+    }
+}
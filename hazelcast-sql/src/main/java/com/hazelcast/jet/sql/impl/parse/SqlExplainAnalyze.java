@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.parse;
+
+import org.apache.calcite.sql.SqlCall;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.SqlOperator;
+import org.apache.calcite.sql.SqlSpecialOperator;
+import org.apache.calcite.sql.SqlWriter;
+import org.apache.calcite.sql.parser.SqlParserPos;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * EXPLAIN ANALYZE statement: executes the query, discards the result rows
+ * and returns the runtime metrics of each vertex of the query DAG.
+ */
+public class SqlExplainAnalyze extends SqlCall {
+
+    public static final SqlSpecialOperator OPERATOR = new SqlSpecialOperator("EXPLAIN ANALYZE", SqlKind.OTHER);
+
+    private SqlNode query;
+
+    public SqlExplainAnalyze(SqlParserPos pos, SqlNode query) {
+        super(pos);
+        this.query = requireNonNull(query, "Query should not be null");
+    }
+
+    public SqlNode getQuery() {
+        return query;
+    }
+
+    public void setQuery(SqlNode query) {
+        this.query = query;
+    }
+
+    @Nonnull
+    @Override
+    public SqlOperator getOperator() {
+        return OPERATOR;
+    }
+
+    @Nonnull
+    @Override
+    public List<SqlNode> getOperandList() {
+        return singletonList(query);
+    }
+
+    @Override
+    public void unparse(SqlWriter writer, int leftPrec, int rightPrec) {
+        writer.keyword("EXPLAIN ANALYZE");
+        writer.newlineAndIndent();
+        query.unparse(writer, leftPrec, rightPrec);
+    }
+}
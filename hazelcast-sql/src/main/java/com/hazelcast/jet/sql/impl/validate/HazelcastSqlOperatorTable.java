@@ -63,6 +63,7 @@ import com.hazelcast.jet.sql.impl.validate.operators.string.HazelcastReplaceFunc
 import com.hazelcast.jet.sql.impl.validate.operators.string.HazelcastStringFunction;
 import com.hazelcast.jet.sql.impl.validate.operators.string.HazelcastSubstringFunction;
 import com.hazelcast.jet.sql.impl.validate.operators.string.HazelcastTrimFunction;
+import com.hazelcast.jet.sql.impl.validate.operators.window.HazelcastWindowTableFunction;
 import org.apache.calcite.runtime.CalciteException;
 import org.apache.calcite.sql.SqlBasicCall;
 import org.apache.calcite.sql.SqlBinaryOperator;
@@ -249,6 +250,9 @@ public final class HazelcastSqlOperatorTable extends ReflectiveSqlOperatorTable
     public static final SqlFunction GENERATE_SERIES = new SeriesGeneratorTableFunction();
     public static final SqlFunction GENERATE_STREAM = new StreamGeneratorTableFunction();
 
+    public static final SqlFunction TUMBLE = HazelcastWindowTableFunction.TUMBLE;
+    public static final SqlFunction HOP = HazelcastWindowTableFunction.HOP;
+
     //#endregion
 
     //#region File table functions.
@@ -274,6 +278,9 @@ public final class HazelcastSqlOperatorTable extends ReflectiveSqlOperatorTable
     // ANY type so there's no need for this
     public static final SqlSpecialOperator ARGUMENT_ASSIGNMENT = SqlStdOperatorTable.ARGUMENT_ASSIGNMENT;
 
+    // The time column operand of the windowing functions, only column references are allowed in it
+    public static final SqlOperator DESCRIPTOR = SqlStdOperatorTable.DESCRIPTOR;
+
     //#endregion
 
     //@formatter:on
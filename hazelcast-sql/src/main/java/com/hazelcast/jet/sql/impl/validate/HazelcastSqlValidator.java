@@ -19,10 +19,12 @@ package com.hazelcast.jet.sql.impl.validate;
 import com.hazelcast.jet.sql.impl.connector.SqlConnector;
 import com.hazelcast.jet.sql.impl.parse.SqlCreateJob;
 import com.hazelcast.jet.sql.impl.parse.SqlCreateMapping;
+import com.hazelcast.jet.sql.impl.parse.SqlExplainAnalyze;
 import com.hazelcast.jet.sql.impl.parse.SqlShowStatement;
 import com.hazelcast.jet.sql.impl.schema.HazelcastTable;
 import com.hazelcast.jet.sql.impl.schema.JetTableFunction;
 import com.hazelcast.jet.sql.impl.validate.literal.LiteralUtils;
+import com.hazelcast.jet.sql.impl.validate.operators.window.HazelcastWindowTableFunction;
 import com.hazelcast.jet.sql.impl.validate.param.AbstractParameterConverter;
 import com.hazelcast.jet.sql.impl.validate.types.HazelcastTypeCoercion;
 import com.hazelcast.jet.sql.impl.validate.types.HazelcastTypeFactory;
@@ -73,6 +75,8 @@ import java.util.Set;
 
 import static com.hazelcast.jet.sql.impl.connector.SqlConnectorUtil.getJetSqlConnector;
 import static com.hazelcast.jet.sql.impl.validate.ValidatorResource.RESOURCE;
+import static com.hazelcast.jet.sql.impl.validate.operators.window.HazelcastWindowTableFunction.WINDOW_END;
+import static com.hazelcast.jet.sql.impl.validate.operators.window.HazelcastWindowTableFunction.WINDOW_START;
 import static org.apache.calcite.sql.SqlKind.AGGREGATE;
 import static org.apache.calcite.sql.SqlKind.VALUES;
 
@@ -133,6 +137,12 @@ public class HazelcastSqlValidator extends SqlValidatorImplBridge {
             return topNode;
         }
 
+        if (topNode instanceof SqlExplainAnalyze) {
+            SqlExplainAnalyze explain = (SqlExplainAnalyze) topNode;
+            explain.setQuery(super.validate(explain.getQuery()));
+            return explain;
+        }
+
         return super.validate(topNode);
     }
 
@@ -188,11 +198,43 @@ public class HazelcastSqlValidator extends SqlValidatorImplBridge {
     protected void validateGroupClause(SqlSelect select) {
         super.validateGroupClause(select);
 
-        if (containsGroupingOrAggregation(select) && isInfiniteRows(select)) {
+        if (containsGroupingOrAggregation(select) && isInfiniteRows(select) && !isWindowedAggregation(select)) {
             throw newValidationError(select, RESOURCE.streamingAggregationsNotSupported());
         }
     }
 
+    /**
+     * Returns true, if the {@code select} reads from a windowing table
+     * function and groups by the bounds of the window. Such an aggregation
+     * emits the result for each window when the watermark passes its end,
+     * so it can be used with a streaming source.
+     */
+    private static boolean isWindowedAggregation(SqlSelect select) {
+        SqlNode from = select.getFrom();
+        if (from != null && from.getKind() == SqlKind.AS) {
+            from = ((SqlCall) from).operand(0);
+        }
+        if (from == null || from.getKind() != SqlKind.COLLECTION_TABLE) {
+            return false;
+        }
+        SqlNode function = ((SqlCall) from).operand(0);
+        if (!(function instanceof SqlCall) || !(((SqlCall) function).getOperator() instanceof HazelcastWindowTableFunction)) {
+            return false;
+        }
+        if (select.getGroup() == null) {
+            return false;
+        }
+        for (SqlNode node : select.getGroup()) {
+            if (node instanceof SqlIdentifier) {
+                String name = Util.last(((SqlIdentifier) node).names);
+                if (WINDOW_START.equalsIgnoreCase(name) || WINDOW_END.equalsIgnoreCase(name)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     private boolean containsGroupingOrAggregation(SqlSelect select) {
         if (select.getGroup() != null && select.getGroup().size() > 0) {
             return true;
@@ -21,6 +21,7 @@ import com.hazelcast.jet.sql.impl.parse.SqlCreateJob;
 import com.hazelcast.jet.sql.impl.parse.SqlCreateSnapshot;
 import com.hazelcast.jet.sql.impl.parse.SqlDropJob;
 import com.hazelcast.jet.sql.impl.parse.SqlDropSnapshot;
+import com.hazelcast.jet.sql.impl.parse.SqlExplainAnalyze;
 import com.hazelcast.jet.sql.impl.parse.SqlOption;
 import com.hazelcast.jet.sql.impl.parse.SqlShowStatement;
 import com.hazelcast.jet.sql.impl.schema.JetDynamicTableFunction;
@@ -139,6 +140,8 @@ public final class UnsupportedOperationVisitor extends SqlBasicVisitor<Void> {
         // Table functions
         SUPPORTED_KINDS.add(SqlKind.COLLECTION_TABLE);
         SUPPORTED_KINDS.add(SqlKind.ARGUMENT_ASSIGNMENT);
+        SUPPORTED_KINDS.add(SqlKind.EXPLICIT_TABLE);
+        SUPPORTED_KINDS.add(SqlKind.DESCRIPTOR);
 
         // Ordering
         SUPPORTED_KINDS.add(SqlKind.DESCENDING);
@@ -198,10 +201,15 @@ public final class UnsupportedOperationVisitor extends SqlBasicVisitor<Void> {
         SUPPORTED_OPERATORS.add(SqlOption.OPERATOR);
         SUPPORTED_OPERATORS.add(SqlShowStatement.SHOW_MAPPINGS);
         SUPPORTED_OPERATORS.add(SqlShowStatement.SHOW_JOBS);
+        SUPPORTED_OPERATORS.add(SqlExplainAnalyze.OPERATOR);
 
         SUPPORTED_OPERATORS.add(HazelcastSqlOperatorTable.GENERATE_SERIES);
         SUPPORTED_OPERATORS.add(HazelcastSqlOperatorTable.GENERATE_STREAM);
 
+        SUPPORTED_OPERATORS.add(HazelcastSqlOperatorTable.TUMBLE);
+        SUPPORTED_OPERATORS.add(HazelcastSqlOperatorTable.HOP);
+        SUPPORTED_OPERATORS.add(HazelcastSqlOperatorTable.DESCRIPTOR);
+
         SUPPORTED_OPERATORS.add(HazelcastSqlOperatorTable.CSV_FILE);
         SUPPORTED_OPERATORS.add(HazelcastSqlOperatorTable.JSON_FLAT_FILE);
         SUPPORTED_OPERATORS.add(HazelcastSqlOperatorTable.AVRO_FILE);
@@ -55,6 +55,9 @@ public interface ValidatorResource {
     @BaseMessage("The right side of a LEFT JOIN or the left side of a RIGHT JOIN cannot be a streaming source")
     ExInst<SqlValidatorException> streamingSourceOnWrongSide();
 
+    @BaseMessage("Window size and slide must be positive, size must be a multiple of slide and lag must not be negative")
+    ExInst<SqlValidatorException> invalidWindowParameters();
+
     static String imapNotMapped(String originalMessage, String identifier, String suggestion) {
         return originalMessage + " If you want to use the IMap named '" + identifier + "', execute this command first: "
                 + suggestion;
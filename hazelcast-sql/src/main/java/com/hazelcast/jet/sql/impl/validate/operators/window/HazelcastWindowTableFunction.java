@@ -0,0 +1,216 @@
+/*
+ * Copyright 2021 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.sql.impl.validate.operators.window;
+
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rel.type.RelDataTypeField;
+import org.apache.calcite.sql.SqlCall;
+import org.apache.calcite.sql.SqlCallBinding;
+import org.apache.calcite.sql.SqlIdentifier;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.SqlLiteral;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.SqlOperandCountRange;
+import org.apache.calcite.sql.SqlOperator;
+import org.apache.calcite.sql.SqlOperatorBinding;
+import org.apache.calcite.sql.SqlWindowTableFunction;
+import org.apache.calcite.sql.type.SqlOperandCountRanges;
+import org.apache.calcite.sql.type.SqlOperandMetadata;
+import org.apache.calcite.sql.type.SqlReturnTypeInference;
+import org.apache.calcite.sql.type.SqlTypeFamily;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.sql.validate.SqlNameMatcher;
+
+import java.util.Collections;
+import java.util.List;
+
+import static com.hazelcast.jet.sql.impl.validate.ValidatorResource.RESOURCE;
+import static java.util.Arrays.asList;
+
+/**
+ * The TUMBLE and HOP windowing table functions. They return all the
+ * columns of the input table and two additional columns, {@code
+ * window_start} and {@code window_end}, of the same type as the time
+ * column:
+ * <pre>{@code
+ *     TUMBLE(TABLE t, DESCRIPTOR(time_column), size [, lag])
+ *     HOP(TABLE t, DESCRIPTOR(time_column), slide, size [, lag])
+ * }</pre>
+ * TUMBLE assigns each row to a single window, HOP to {@code size / slide}
+ * overlapping windows. The time column must be a TIMESTAMP or a TIMESTAMP
+ * WITH TIME ZONE. The size, slide and lag are DAY-TIME interval literals.
+ * <p>
+ * The optional {@code lag} is the maximum time a row can be late relative
+ * to the row with the highest timestamp seen so far, it defaults to zero.
+ * A window is emitted from a streaming aggregation when the watermark,
+ * that is the highest timestamp minus the lag, passes its end. Later rows
+ * for that window are dropped.
+ */
+public final class HazelcastWindowTableFunction extends SqlWindowTableFunction {
+
+    public static final HazelcastWindowTableFunction TUMBLE = new HazelcastWindowTableFunction(
+            "TUMBLE", asList(PARAM_DATA, PARAM_TIMECOL, PARAM_SIZE, "LAG"), 3
+    );
+    public static final HazelcastWindowTableFunction HOP = new HazelcastWindowTableFunction(
+            "HOP", asList(PARAM_DATA, PARAM_TIMECOL, PARAM_SLIDE, PARAM_SIZE, "LAG"), 4
+    );
+
+    public static final String WINDOW_START = "window_start";
+    public static final String WINDOW_END = "window_end";
+
+    private static final int TIMECOL_OPERAND_INDEX = 1;
+    private static final int FIRST_INTERVAL_OPERAND_INDEX = 2;
+
+    private HazelcastWindowTableFunction(String name, List<String> paramNames, int mandatoryParamCount) {
+        super(name, new OperandMetadata(paramNames, mandatoryParamCount));
+    }
+
+    /**
+     * Returns true, if the windows can overlap, that is for HOP.
+     */
+    public boolean isHopping() {
+        return this == HOP;
+    }
+
+    @Override
+    public SqlReturnTypeInference getRowTypeInference() {
+        return HazelcastWindowTableFunction::inferRowType;
+    }
+
+    private static RelDataType inferRowType(SqlOperatorBinding binding) {
+        RelDataType inputRowType = binding.getOperandType(0);
+        RelDataType timeColumnType = timeColumn((SqlCallBinding) binding).getType();
+        return binding.getTypeFactory().builder()
+                      .kind(inputRowType.getStructKind())
+                      .addAll(inputRowType.getFieldList())
+                      .add(WINDOW_START, timeColumnType)
+                      .add(WINDOW_END, timeColumnType)
+                      .build();
+    }
+
+    private static RelDataTypeField timeColumn(SqlCallBinding binding) {
+        SqlNode descriptor = binding.operand(TIMECOL_OPERAND_INDEX);
+        if (descriptor.getKind() != SqlKind.DESCRIPTOR || ((SqlCall) descriptor).operandCount() != 1) {
+            return null;
+        }
+        SqlIdentifier column = (SqlIdentifier) ((SqlCall) descriptor).operand(0);
+        SqlNameMatcher matcher = binding.getValidator().getCatalogReader().nameMatcher();
+        for (RelDataTypeField field : binding.getOperandType(0).getFieldList()) {
+            if (matcher.matches(field.getName(), column.getSimple())) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private static final class OperandMetadata implements SqlOperandMetadata {
+
+        private final List<String> paramNames;
+        private final int mandatoryParamCount;
+
+        private OperandMetadata(List<String> paramNames, int mandatoryParamCount) {
+            this.paramNames = paramNames;
+            this.mandatoryParamCount = mandatoryParamCount;
+        }
+
+        @Override
+        public List<RelDataType> paramTypes(RelDataTypeFactory typeFactory) {
+            return Collections.nCopies(paramNames.size(), typeFactory.createSqlType(SqlTypeName.ANY));
+        }
+
+        @Override
+        public List<String> paramNames() {
+            return paramNames;
+        }
+
+        @Override
+        public boolean checkOperandTypes(SqlCallBinding binding, boolean throwOnFailure) {
+            boolean valid = checkTimeColumn(binding) && checkIntervals(binding);
+            if (!valid && throwOnFailure) {
+                throw binding.newValidationSignatureError();
+            }
+            if (valid && !checkIntervalValues(binding)) {
+                if (throwOnFailure) {
+                    throw binding.newError(RESOURCE.invalidWindowParameters());
+                }
+                return false;
+            }
+            return valid;
+        }
+
+        private static boolean checkTimeColumn(SqlCallBinding binding) {
+            RelDataTypeField field = timeColumn(binding);
+            if (field == null) {
+                return false;
+            }
+            SqlTypeName typeName = field.getType().getSqlTypeName();
+            return typeName == SqlTypeName.TIMESTAMP || typeName == SqlTypeName.TIMESTAMP_WITH_LOCAL_TIME_ZONE;
+        }
+
+        private static boolean checkIntervals(SqlCallBinding binding) {
+            for (int i = FIRST_INTERVAL_OPERAND_INDEX; i < binding.getOperandCount(); i++) {
+                if (!(binding.operand(i) instanceof SqlLiteral)
+                        || !SqlTypeFamily.INTERVAL_DAY_TIME.contains(binding.getOperandType(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean checkIntervalValues(SqlCallBinding binding) {
+            boolean hopping = binding.getOperator() == HOP;
+            long slide = intervalMillis(binding, FIRST_INTERVAL_OPERAND_INDEX);
+            long size = hopping ? intervalMillis(binding, FIRST_INTERVAL_OPERAND_INDEX + 1) : slide;
+            long lag = binding.getOperandCount() > mandatoryParamCount
+                    ? intervalMillis(binding, mandatoryParamCount)
+                    : 0;
+            return slide > 0 && size > 0 && size % slide == 0 && lag >= 0;
+        }
+
+        private static long intervalMillis(SqlCallBinding binding, int index) {
+            return ((SqlLiteral) binding.operand(index)).getValueAs(Long.class);
+        }
+
+        @Override
+        public SqlOperandCountRange getOperandCountRange() {
+            return SqlOperandCountRanges.between(mandatoryParamCount, paramNames.size());
+        }
+
+        @Override
+        public String getAllowedSignatures(SqlOperator op, String opName) {
+            StringBuilder signature = new StringBuilder(opName).append("(TABLE table_name, DESCRIPTOR(column_name)");
+            for (int i = FIRST_INTERVAL_OPERAND_INDEX; i < paramNames.size(); i++) {
+                signature.append(i < mandatoryParamCount ? ", " : " [, ")
+                         .append(paramNames.get(i).toLowerCase())
+                         .append(i < mandatoryParamCount ? "" : "]");
+            }
+            return signature.append(')').toString();
+        }
+
+        @Override
+        public Consistency getConsistency() {
+            return Consistency.NONE;
+        }
+
+        @Override
+        public boolean isOptional(int i) {
+            return i >= mandatoryParamCount;
+        }
+    }
+}
@@ -21,6 +21,8 @@ import com.hazelcast.sql.SqlResult;
 import com.hazelcast.sql.SqlRow;
 import com.hazelcast.sql.SqlStatement;
 import com.hazelcast.sql.impl.SqlErrorCode;
+import com.hazelcast.sql.impl.client.SqlClientResult;
+import com.hazelcast.sql.impl.state.QueryClientStateRegistry;
 import com.hazelcast.test.annotation.ParallelJVMTest;
 import com.hazelcast.test.annotation.QuickTest;
 import org.junit.Before;
@@ -28,8 +30,10 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -96,6 +100,57 @@ public class SqlClientResultTest extends SqlTestSupport {
         }
     }
 
+    @Test
+    public void testManyPages() {
+        Map<Integer, Integer> map = instance().getMap(MAP_NAME);
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, i);
+        }
+
+        Set<Integer> keys = new HashSet<>();
+        try (SqlResult result = execute(SQL_GOOD)) {
+            for (SqlRow row : result) {
+                assertTrue(keys.add(row.getObject(0)));
+            }
+        }
+        assertEquals(1000, keys.size());
+    }
+
+    @Test
+    public void testManyPages_prefetched() {
+        Map<Integer, Integer> map = instance().getMap(MAP_NAME);
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, i);
+        }
+
+        try (SqlResult result = execute(SQL_GOOD)) {
+            Iterator<SqlRow> iterator = result.iterator();
+            iterator.next();
+
+            // the client fetches the following pages while the consumer is idle, up to the default limit of 2
+            SqlClientResult clientResult = (SqlClientResult) result;
+            assertTrueEventually(() -> assertEquals(2, clientResult.getPrefetchedPageCount()));
+            assertTrueAllTheTime(() -> assertEquals(2, clientResult.getPrefetchedPageCount()), 1);
+        }
+    }
+
+    @Test
+    public void testLastPageReceived_then_serverCursorReleased() {
+        QueryClientStateRegistry cursorRegistry = sqlInternalService(instance()).getClientStateRegistry();
+
+        try (SqlResult result = execute(SQL_GOOD)) {
+            int rowCount = 0;
+            for (SqlRow ignored : result) {
+                rowCount++;
+            }
+            assertEquals(2, rowCount);
+
+            // the client doesn't send the close request after the last page, the server releases the cursor by itself
+            assertEquals(0, cursorRegistry.getCursorCount());
+        }
+        assertEquals(0, cursorRegistry.getCursorCount());
+    }
+
     private void checkSqlException(Runnable task, int expectedCode, String expectedMessage) {
         HazelcastSqlException err = assertThrows(HazelcastSqlException.class, task);
 
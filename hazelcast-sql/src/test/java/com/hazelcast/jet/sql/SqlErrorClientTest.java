@@ -141,7 +141,8 @@ public class SqlErrorClientTest extends SqlErrorAbstractTest {
         client = newClient();
 
         createMapping(instance1, MAP_NAME, long.class, long.class);
-        populate(instance1, DEFAULT_CURSOR_BUFFER_SIZE + 1);
+        // more rows than the first page and the pages the client prefetches
+        populate(instance1, DEFAULT_CURSOR_BUFFER_SIZE * 4 + 1);
 
         // Get the first row.
         boolean shutdown = true;
@@ -168,7 +169,8 @@ public class SqlErrorClientTest extends SqlErrorAbstractTest {
         client = newClient();
 
         createMapping(instance1, MAP_NAME, long.class, long.class);
-        populate(instance1, DEFAULT_CURSOR_BUFFER_SIZE + 1);
+        // more rows than the first page and the pages the client prefetches
+        populate(instance1, DEFAULT_CURSOR_BUFFER_SIZE * 4 + 1);
 
         try {
             SqlResult result = client.getSql().execute(query());
@@ -198,7 +200,8 @@ public class SqlErrorClientTest extends SqlErrorAbstractTest {
         Map<Integer, Integer> localMap = new HashMap<>();
         Map<Integer, Integer> map = instance1.getMap(MAP_NAME);
 
-        for (int i = 0; i < DEFAULT_CURSOR_BUFFER_SIZE + 1; i++) {
+        // more rows than the first page and the pages the client prefetches
+        for (int i = 0; i < DEFAULT_CURSOR_BUFFER_SIZE * 4 + 1; i++) {
             localMap.put(i, i);
         }
 
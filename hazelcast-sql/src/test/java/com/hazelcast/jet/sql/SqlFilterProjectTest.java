@@ -658,7 +658,7 @@ public class SqlFilterProjectTest extends SqlTestSupport {
 
         SqlResult result = sqlService.execute("SINK INTO m(__key, this) VALUES (1, 1), (2, 2)");
 
-        assertThat(result.updateCount()).isEqualTo(0);
+        assertThat(result.updateCount()).isEqualTo(2);
     }
 
     @Test
@@ -72,8 +72,7 @@ public class SqlQueryResultTest extends SqlTestSupport {
         checkFailure(target, SQL_READ, SqlExpectedResultType.UPDATE_COUNT);
 
         // Check update count
-        // TODO: implement updateCount for DML and single key plans.
-        checkSuccess(target, SQL_DELETE, SqlExpectedResultType.ANY, emptyList(), 0);
+        checkSuccess(target, SQL_DELETE, SqlExpectedResultType.ANY, emptyList(), 1);
         checkFailure(target, SQL_DELETE, SqlExpectedResultType.ROWS);
         checkSuccess(target, SQL_DELETE, SqlExpectedResultType.UPDATE_COUNT, emptyList(), 0);
     }
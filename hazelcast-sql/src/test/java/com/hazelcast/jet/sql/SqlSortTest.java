@@ -215,6 +215,24 @@ public class SqlSortTest extends SqlTestSupport {
         );
     }
 
+    @Test
+    public void test_sortWithLimitSmallerThanInput() {
+        String[][] values = new String[100][];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = new String[]{"N" + i, String.valueOf((i * 37) % values.length)};
+        }
+        String tableName = createTable(values);
+
+        assertRowsOrdered(
+                String.format("SELECT distance FROM %s ORDER BY distance LIMIT 3 OFFSET 1", tableName),
+                asList(
+                        new Row(1),
+                        new Row(2),
+                        new Row(3)
+                )
+        );
+    }
+
     @Test
     public void whenOffsetEqualsZero_thenNoOffset() {
         String tableName = createTable(
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2021 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl;
+
+import com.hazelcast.config.IndexType;
+import com.hazelcast.jet.sql.SqlTestSupport;
+import com.hazelcast.sql.HazelcastSqlException;
+import com.hazelcast.sql.SqlResult;
+import com.hazelcast.sql.SqlRow;
+import com.hazelcast.sql.SqlService;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ExplainAnalyzeTest extends SqlTestSupport {
+
+    private final SqlService sqlService = instance().getSql();
+
+    @BeforeClass
+    public static void beforeClass() {
+        initialize(2, null);
+    }
+
+    @Test
+    public void test_explainAnalyze_metadata() {
+        try (SqlResult result = sqlService.execute("EXPLAIN ANALYZE SELECT * FROM TABLE(generate_series(1, 10))")) {
+            assertThat(result.getRowMetadata().getColumnCount()).isEqualTo(9);
+            assertThat(result.getRowMetadata().getColumn(0).getName()).isEqualTo("vertex");
+            assertThat(result.getRowMetadata().getColumn(2).getName()).isEqualTo("rows_in");
+            assertThat(result.getRowMetadata().getColumn(6).getName()).isEqualTo("busy_time_ms");
+            assertThat(result.getRowMetadata().getColumn(7).getName()).isEqualTo("backpressure_time_ms");
+            assertThat(result.getRowMetadata().getColumn(8).getName()).isEqualTo("index_used");
+        }
+    }
+
+    @Test
+    public void test_explainAnalyze_rowCounts() {
+        Map<String, SqlRow> rowsByVertex = explainAnalyze("EXPLAIN ANALYZE SELECT * FROM TABLE(generate_series(1, 10))");
+
+        SqlRow sink = rowsByVertex.get("ClientSink");
+        assertThat(sink).isNotNull();
+        assertThat((int) sink.getObject("processors")).isPositive();
+        assertThat((long) sink.getObject("rows_in")).isEqualTo(10L);
+        assertThat((long) sink.getObject("rows_out")).isEqualTo(0L);
+        assertThat((long) sink.getObject("busy_time_ms")).isNotNegative();
+        assertThat((long) sink.getObject("backpressure_time_ms")).isNotNegative();
+        assertThat((boolean) sink.getObject("index_used")).isFalse();
+    }
+
+    @Test
+    public void test_explainAnalyze_indexUsed() {
+        String name = randomName();
+        createMapping(name, int.class, int.class);
+        instance().getMap(name).addIndex(IndexType.SORTED, "this");
+        for (int i = 0; i < 100; i++) {
+            instance().getMap(name).put(i, i);
+        }
+
+        Map<String, SqlRow> rowsByVertex = explainAnalyze("EXPLAIN ANALYZE SELECT * FROM " + name + " WHERE this > 90");
+
+        assertThat(rowsByVertex.values())
+                .anySatisfy(row -> assertThat((boolean) row.getObject("index_used")).isTrue());
+        assertThat(rowsByVertex.get("ClientSink").<Boolean>getObject("index_used")).isFalse();
+    }
+
+    @Test
+    public void test_explainAnalyze_withLimit() {
+        Map<String, SqlRow> rowsByVertex =
+                explainAnalyze("EXPLAIN ANALYZE SELECT * FROM TABLE(generate_series(1, 10)) ORDER BY 1 LIMIT 3");
+
+        SqlRow topN = rowsByVertex.get("SortTopN");
+        assertThat(topN).isNotNull();
+        assertThat((long) topN.getObject("rows_in")).isEqualTo(10L);
+        // each of the 2 members retains at most 3 rows
+        assertThat((long) topN.getObject("rows_out")).isBetween(3L, 6L);
+    }
+
+    @Test
+    public void when_explainAnalyzeStreamingQuery_then_fail() {
+        assertThatThrownBy(() -> sqlService.execute("EXPLAIN ANALYZE SELECT * FROM TABLE(generate_stream(1))"))
+                .isInstanceOf(HazelcastSqlException.class)
+                .hasMessageContaining("EXPLAIN ANALYZE is not supported for streaming queries");
+    }
+
+    private Map<String, SqlRow> explainAnalyze(String sql) {
+        Map<String, SqlRow> rowsByVertex = new HashMap<>();
+        try (SqlResult result = sqlService.execute(sql)) {
+            for (SqlRow row : result) {
+                rowsByVertex.put(row.getObject("vertex"), row);
+            }
+        }
+        return rowsByVertex;
+    }
+}
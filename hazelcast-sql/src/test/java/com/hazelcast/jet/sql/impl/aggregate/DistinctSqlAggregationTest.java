@@ -30,6 +30,9 @@ public class DistinctSqlAggregationTest {
     @Mock
     private SqlAggregation delegate;
 
+    @Mock
+    private SqlAggregation otherDelegate;
+
     @Test
     public void test_accumulate() {
         SqlAggregation aggregation = new DistinctSqlAggregation(delegate);
@@ -41,4 +44,20 @@ public class DistinctSqlAggregationTest {
         verify(delegate).accumulate("2");
         verifyNoMoreInteractions(delegate);
     }
+
+    @Test
+    public void test_combine() {
+        SqlAggregation aggregation = new DistinctSqlAggregation(delegate);
+        aggregation.accumulate("1");
+
+        SqlAggregation other = new DistinctSqlAggregation(otherDelegate);
+        other.accumulate("1");
+        other.accumulate("2");
+
+        aggregation.combine(other);
+
+        verify(delegate).accumulate("1");
+        verify(delegate).accumulate("2");
+        verifyNoMoreInteractions(delegate);
+    }
 }
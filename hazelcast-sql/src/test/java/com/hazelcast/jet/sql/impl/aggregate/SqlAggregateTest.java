@@ -30,6 +30,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import java.math.BigDecimal;
+import java.util.Map;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
@@ -77,6 +78,25 @@ public class SqlAggregateTest extends SqlTestSupport {
         );
     }
 
+    @Test
+    public void test_groupByOnIMap() {
+        String name = randomName();
+        createMapping(name, int.class, int.class);
+        Map<Integer, Integer> map = instance().getMap(name);
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i % 3);
+        }
+
+        assertRowsAnyOrder(
+                "SELECT this, COUNT(*), SUM(__key) FROM " + name + " WHERE __key < 90 GROUP BY this",
+                asList(
+                        new Row(0, 30L, 1305L),
+                        new Row(1, 30L, 1335L),
+                        new Row(2, 30L, 1365L)
+                )
+        );
+    }
+
     @Test
     public void test_groupByEmpty() {
         String name = createTable();
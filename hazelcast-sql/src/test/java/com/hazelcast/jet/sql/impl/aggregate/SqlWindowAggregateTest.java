@@ -0,0 +1,191 @@
+/*
+ * Copyright 2021 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.aggregate;
+
+import com.hazelcast.jet.sql.SqlTestSupport;
+import com.hazelcast.sql.HazelcastSqlException;
+import com.hazelcast.sql.SqlService;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SqlWindowAggregateTest extends SqlTestSupport {
+
+    private static SqlService sqlService;
+
+    @BeforeClass
+    public static void setUpClass() {
+        initialize(1, null);
+        sqlService = instance().getSql();
+    }
+
+    @Test
+    public void test_tumble() {
+        assertRowsAnyOrder(
+                "SELECT v, window_start, window_end FROM TABLE(TUMBLE("
+                        + "(SELECT TO_TIMESTAMP_TZ(v) ts, v FROM TABLE(GENERATE_SERIES(0, 2)))"
+                        + ", DESCRIPTOR(ts), INTERVAL '2' SECOND))",
+                asList(
+                        new Row(0, timestampTz(0), timestampTz(2)),
+                        new Row(1, timestampTz(0), timestampTz(2)),
+                        new Row(2, timestampTz(2), timestampTz(4))
+                )
+        );
+    }
+
+    @Test
+    public void test_hop() {
+        assertRowsAnyOrder(
+                "SELECT v, window_start, window_end FROM TABLE(HOP("
+                        + "(SELECT TO_TIMESTAMP_TZ(v) ts, v FROM TABLE(GENERATE_SERIES(0, 1)))"
+                        + ", DESCRIPTOR(ts), INTERVAL '1' SECOND, INTERVAL '2' SECOND))",
+                asList(
+                        new Row(0, timestampTz(-1), timestampTz(1)),
+                        new Row(0, timestampTz(0), timestampTz(2)),
+                        new Row(1, timestampTz(0), timestampTz(2)),
+                        new Row(1, timestampTz(1), timestampTz(3))
+                )
+        );
+    }
+
+    @Test
+    public void test_tumbleAggregation() {
+        assertRowsAnyOrder(
+                "SELECT window_start, COUNT(*), SUM(v) FROM TABLE(TUMBLE("
+                        + "(SELECT TO_TIMESTAMP_TZ(v) ts, v FROM TABLE(GENERATE_SERIES(0, 4)))"
+                        + ", DESCRIPTOR(ts), INTERVAL '2' SECOND, INTERVAL '1' MINUTE)) GROUP BY window_start",
+                asList(
+                        new Row(timestampTz(0), 2L, 1L),
+                        new Row(timestampTz(2), 2L, 5L),
+                        new Row(timestampTz(4), 1L, 4L)
+                )
+        );
+    }
+
+    @Test
+    public void test_hopAggregation() {
+        assertRowsAnyOrder(
+                "SELECT window_end, COUNT(v), MAX(v) FROM TABLE(HOP("
+                        + "(SELECT TO_TIMESTAMP_TZ(v) ts, v FROM TABLE(GENERATE_SERIES(0, 2)))"
+                        + ", DESCRIPTOR(ts), INTERVAL '1' SECOND, INTERVAL '2' SECOND, INTERVAL '1' MINUTE))"
+                        + " GROUP BY window_end",
+                asList(
+                        new Row(timestampTz(1), 1L, 0),
+                        new Row(timestampTz(2), 2L, 1),
+                        new Row(timestampTz(3), 2L, 2),
+                        new Row(timestampTz(4), 1L, 2)
+                )
+        );
+    }
+
+    @Test
+    public void test_hopDistinctAggregation() {
+        assertRowsAnyOrder(
+                "SELECT window_start, COUNT(DISTINCT v / 2) FROM TABLE(HOP("
+                        + "(SELECT TO_TIMESTAMP_TZ(v) ts, v FROM TABLE(GENERATE_SERIES(0, 3)))"
+                        + ", DESCRIPTOR(ts), INTERVAL '1' SECOND, INTERVAL '2' SECOND, INTERVAL '1' MINUTE))"
+                        + " GROUP BY window_start",
+                asList(
+                        new Row(timestampTz(-1), 1L),
+                        new Row(timestampTz(0), 1L),
+                        new Row(timestampTz(1), 2L),
+                        new Row(timestampTz(2), 1L),
+                        new Row(timestampTz(3), 1L)
+                )
+        );
+    }
+
+    @Test
+    public void test_hopAggregationWithFilterOnWindowBound() {
+        assertRowsAnyOrder(
+                "SELECT window_start, COUNT(*) FROM TABLE(HOP("
+                        + "(SELECT TO_TIMESTAMP_TZ(v) ts, v FROM TABLE(GENERATE_SERIES(0, 2)))"
+                        + ", DESCRIPTOR(ts), INTERVAL '1' SECOND, INTERVAL '2' SECOND, INTERVAL '1' MINUTE))"
+                        + " WHERE window_end > TO_TIMESTAMP_TZ(1) GROUP BY window_start",
+                asList(
+                        new Row(timestampTz(0), 2L),
+                        new Row(timestampTz(1), 2L),
+                        new Row(timestampTz(2), 1L)
+                )
+        );
+    }
+
+    @Test
+    public void test_distinctAggregationWithFilter() {
+        assertRowsAnyOrder(
+                "SELECT window_start, COUNT(DISTINCT v / 2) FROM TABLE(TUMBLE("
+                        + "(SELECT TO_TIMESTAMP_TZ(v) ts, v FROM TABLE(GENERATE_SERIES(0, 5)))"
+                        + ", DESCRIPTOR(ts), INTERVAL '4' SECOND, INTERVAL '1' MINUTE))"
+                        + " WHERE v > 0 GROUP BY window_start",
+                asList(
+                        new Row(timestampTz(0), 2L),
+                        new Row(timestampTz(4), 1L)
+                )
+        );
+    }
+
+    @Test
+    public void test_streamingAggregation() {
+        assertRowsEventuallyInAnyOrder(
+                "SELECT window_start, window_end, COUNT(*) FROM TABLE(TUMBLE("
+                        + "(SELECT TO_TIMESTAMP_TZ(v) ts, v FROM TABLE(GENERATE_STREAM(100)))"
+                        + ", DESCRIPTOR(ts), INTERVAL '10' SECOND, INTERVAL '1' SECOND)) GROUP BY window_start, window_end",
+                asList(
+                        new Row(timestampTz(0), timestampTz(10), 10L),
+                        new Row(timestampTz(10), timestampTz(20), 10L)
+                )
+        );
+    }
+
+    @Test
+    public void test_streamingAggregationWithoutWindowBounds() {
+        assertThatThrownBy(() -> sqlService.execute(
+                "SELECT v, COUNT(*) FROM TABLE(TUMBLE("
+                        + "(SELECT TO_TIMESTAMP_TZ(v) ts, v FROM TABLE(GENERATE_STREAM(1)))"
+                        + ", DESCRIPTOR(ts), INTERVAL '1' SECOND)) GROUP BY v"))
+                .isInstanceOf(HazelcastSqlException.class)
+                .hasMessageContaining("not supported");
+    }
+
+    @Test
+    public void test_nonTimestampTimeColumn() {
+        assertThatThrownBy(() -> sqlService.execute(
+                "SELECT * FROM TABLE(TUMBLE((SELECT v FROM TABLE(GENERATE_SERIES(0, 1))), DESCRIPTOR(v), INTERVAL '1' SECOND))"))
+                .isInstanceOf(HazelcastSqlException.class)
+                .hasMessageContaining("Cannot apply 'TUMBLE' to arguments");
+    }
+
+    @Test
+    public void test_sizeNotMultipleOfSlide() {
+        assertThatThrownBy(() -> sqlService.execute(
+                "SELECT * FROM TABLE(HOP("
+                        + "(SELECT TO_TIMESTAMP_TZ(v) ts FROM TABLE(GENERATE_SERIES(0, 1)))"
+                        + ", DESCRIPTOR(ts), INTERVAL '2' SECOND, INTERVAL '3' SECOND))"))
+                .isInstanceOf(HazelcastSqlException.class)
+                .hasMessageContaining("size must be a multiple of slide");
+    }
+
+    private static OffsetDateTime timestampTz(long epochSecond) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault());
+    }
+}
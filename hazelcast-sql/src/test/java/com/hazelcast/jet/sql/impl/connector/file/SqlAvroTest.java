@@ -88,6 +88,31 @@ public class SqlAvroTest extends SqlTestSupport {
         );
     }
 
+    @Test
+    public void test_projectionAndFilterOnDifferentFields() {
+        String name = randomName();
+        sqlService.execute("CREATE MAPPING " + name + " ("
+                + "string VARCHAR"
+                + ", byte TINYINT"
+                + ", long BIGINT"
+                + ") TYPE " + FileSqlConnector.TYPE_NAME + ' '
+                + "OPTIONS ("
+                + '\'' + OPTION_FORMAT + "'='" + AVRO_FORMAT + '\''
+                + ", '" + FileSqlConnector.OPTION_PATH + "'='" + RESOURCES_PATH + '\''
+                + ", '" + FileSqlConnector.OPTION_GLOB + "'='" + "file.avro" + '\''
+                + ")"
+        );
+
+        assertRowsAnyOrder(
+                "SELECT string FROM " + name + " WHERE long > 0",
+                singletonList(new Row("string"))
+        );
+        assertRowsAnyOrder(
+                "SELECT COUNT(*) FROM " + name,
+                singletonList(new Row(1L))
+        );
+    }
+
     @Test
     public void test_allTypes() {
         String name = randomName();
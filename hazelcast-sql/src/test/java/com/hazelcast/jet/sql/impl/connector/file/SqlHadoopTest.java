@@ -44,6 +44,7 @@ import static com.hazelcast.jet.sql.impl.connector.SqlConnector.OPTION_FORMAT;
 import static com.hazelcast.jet.sql.impl.connector.SqlConnector.PARQUET_FORMAT;
 import static java.time.ZoneOffset.UTC;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -249,6 +250,62 @@ public class SqlHadoopTest extends SqlTestSupport {
         );
     }
 
+    @Test
+    public void test_parquet_projectionAndFilterOnDifferentFields() throws IOException {
+        storeParquet("/parquet-projection/file.parquet");
+
+        String name = randomName();
+        sqlService.execute("CREATE MAPPING " + name + " ("
+                + "string VARCHAR"
+                + ", byte TINYINT"
+                + ", long BIGINT"
+                + ") TYPE " + FileSqlConnector.TYPE_NAME + ' '
+                + "OPTIONS ("
+                + '\'' + OPTION_FORMAT + "'='" + PARQUET_FORMAT + '\''
+                + ", '" + FileSqlConnector.OPTION_PATH + "'='" + path("parquet-projection") + '\''
+                + ")"
+        );
+
+        assertRowsAnyOrder(
+                "SELECT string FROM " + name + " WHERE long > 0",
+                singletonList(new Row("string"))
+        );
+        assertRowsAnyOrder(
+                "SELECT COUNT(*) FROM " + name,
+                singletonList(new Row(1L))
+        );
+    }
+
+    @Test
+    public void test_parquet_rowGroupFilter() throws IOException {
+        storeParquet("/parquet-row-group-filter/file.parquet");
+
+        String name = randomName();
+        sqlService.execute("CREATE MAPPING " + name + " ("
+                + "string VARCHAR"
+                + ", byte TINYINT"
+                + ", long BIGINT"
+                + ") TYPE " + FileSqlConnector.TYPE_NAME + ' '
+                + "OPTIONS ("
+                + '\'' + OPTION_FORMAT + "'='" + PARQUET_FORMAT + '\''
+                + ", '" + FileSqlConnector.OPTION_PATH + "'='" + path("parquet-row-group-filter") + '\''
+                + ")"
+        );
+
+        assertRowsAnyOrder(
+                "SELECT string FROM " + name + " WHERE byte = 127 AND long > 0 AND string = 'string'",
+                singletonList(new Row("string"))
+        );
+        assertRowsAnyOrder(
+                "SELECT string FROM " + name + " WHERE 0 > long",
+                emptyList()
+        );
+        assertRowsAnyOrder(
+                "SELECT string FROM " + name + " WHERE string = 'other'",
+                emptyList()
+        );
+    }
+
     @Test
     public void test_parquet_allTypes() throws IOException {
         storeParquet("/parquet-all-types/file.parquet");
@@ -16,14 +16,17 @@
 
 package com.hazelcast.jet.sql.impl.connector.map;
 
+import com.hazelcast.config.IndexType;
 import com.hazelcast.jet.sql.SqlTestSupport;
 import com.hazelcast.jet.sql.impl.connector.map.model.PersonId;
 import com.hazelcast.map.IMap;
+import com.hazelcast.query.LocalIndexStats;
 import com.hazelcast.sql.SqlResult;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -41,11 +44,11 @@ public class SqlDeleteTest extends SqlTestSupport {
         createMapping("test_map", int.class, int.class);
         put(1);
 
-        checkUpdateCount("delete from test_map where __key = 1", 0);
+        checkUpdateCount("delete from test_map where __key = 1", 1);
         assertMapDoesNotContainKey(1);
 
         put(1);
-        checkUpdateCount("delete from test_map where 1 = __key", 0);
+        checkUpdateCount("delete from test_map where 1 = __key", 1);
         assertMapDoesNotContainKey(1);
 
         put(1);
@@ -53,7 +56,7 @@ public class SqlDeleteTest extends SqlTestSupport {
         assertMapContainsKey(1);
 
         put(1, 1);
-        checkUpdateCount("delete from test_map where __key = this", 0);
+        checkUpdateCount("delete from test_map where __key = this", 1);
         assertMapDoesNotContainKey(1);
     }
 
@@ -62,11 +65,11 @@ public class SqlDeleteTest extends SqlTestSupport {
         createMapping("test_map", int.class, int.class);
         put(2);
 
-        checkUpdateCount("delete from test_map where __key = 1 + 1 ", 0);
+        checkUpdateCount("delete from test_map where __key = 1 + 1 ", 1);
         assertMapDoesNotContainKey(2);
 
         put(1, 1);
-        checkUpdateCount("delete from test_map where __key = this + 0", 0);
+        checkUpdateCount("delete from test_map where __key = this + 0", 1);
         assertMapDoesNotContainKey(1);
     }
 
@@ -75,25 +78,73 @@ public class SqlDeleteTest extends SqlTestSupport {
         createMapping("test_map", int.class, int.class);
         put(1, 1);
 
-        checkUpdateCount("delete from test_map where this = 1", 0);
+        checkUpdateCount("delete from test_map where this = 1", 1);
         assertMapDoesNotContainKey(1);
 
         put(1, 1);
-        checkUpdateCount("delete from test_map where 1 = this", 0);
+        checkUpdateCount("delete from test_map where 1 = this", 1);
         assertMapDoesNotContainKey(1);
 
         createMapping("test_map", int.class, Person.class);
         put(1, new Person("name", 18));
-        checkUpdateCount("delete from test_map where name = 'name' and age = 18", 0);
+        checkUpdateCount("delete from test_map where name = 'name' and age = 18", 1);
         assertMapDoesNotContainKey(1);
     }
 
+    @Test
+    public void deleteWithoutKeyInPredicate_onlyMatchingEntriesDeleted() {
+        createMapping("test_map", int.class, int.class);
+        IMap<Object, Object> map = instance().getMap("test_map");
+        map.clear();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+        }
+
+        checkUpdateCount("delete from test_map where this % 10 = ?", 10, 3);
+        assertThat(map.size()).isEqualTo(90);
+        for (int i = 0; i < 100; i++) {
+            assertThat(map.containsKey(i)).isEqualTo(i % 10 != 3);
+        }
+    }
+
+    @Test
+    public void deleteWithoutKeyInPredicate_comparisonToNull_nothingDeleted() {
+        createMapping("test_map", int.class, int.class);
+        put(1, 1);
+
+        checkUpdateCount("delete from test_map where this = ? or this = 1", 1, (Object) null);
+        assertMapDoesNotContainKey(1);
+
+        put(1, 1);
+        checkUpdateCount("delete from test_map where this > ? and __key > 0", 0, (Object) null);
+        assertMapContainsKey(1);
+    }
+
+    @Test
+    public void deleteWithoutKeyInPredicate_withIndex_then_indexUsed() {
+        createMapping("test_map_indexed", int.class, Person.class);
+        IMap<Object, Object> map = instance().getMap("test_map_indexed");
+        map.addIndex(IndexType.HASH, "age");
+        for (int i = 0; i < 100; i++) {
+            map.put(i, new Person("name" + i, i % 10));
+        }
+
+        checkUpdateCount("delete from test_map_indexed where ? = age and name <> 'name3'", 9, 3);
+        assertThat(map.size()).isEqualTo(91);
+        assertThat(map.containsKey(3)).isTrue();
+        long indexQueryCount = Arrays.stream(instances())
+                .flatMap(instance -> instance.getMap("test_map_indexed").getLocalMapStats().getIndexStats().values().stream())
+                .mapToLong(LocalIndexStats::getQueryCount)
+                .sum();
+        assertThat(indexQueryCount).isPositive();
+    }
+
     @Test
     public void deleteByKey_andAnotherFields() {
         createMapping("test_map", int.class, Person.class);
         put(1, new Person("name1", 18));
 
-        checkUpdateCount("delete from test_map where __key = 1 and age = 18", 0);
+        checkUpdateCount("delete from test_map where __key = 1 and age = 18", 1);
         assertMapDoesNotContainKey(1);
 
         put(1, new Person("name1", 18));
@@ -107,7 +158,7 @@ public class SqlDeleteTest extends SqlTestSupport {
         put(1);
         put(2);
 
-        checkUpdateCount("delete from test_map where __key = 1 or __key = 2", 0);
+        checkUpdateCount("delete from test_map where __key = 1 or __key = 2", 1);
         assertMapDoesNotContainKey(1);
         assertMapDoesNotContainKey(2);
     }
@@ -117,7 +168,7 @@ public class SqlDeleteTest extends SqlTestSupport {
         createMapping("test_map", int.class, int.class);
         put(10);
 
-        checkUpdateCount("delete from test_map where __key > 1", 0);
+        checkUpdateCount("delete from test_map where __key > 1", 1);
         assertMapDoesNotContainKey(10);
     }
 
@@ -189,8 +240,8 @@ public class SqlDeleteTest extends SqlTestSupport {
         return instance().getSql().execute(sql, arguments);
     }
 
-    private void checkUpdateCount(String sql, int expected) {
-        assertThat(execute(sql).updateCount()).isEqualTo(expected);
+    private void checkUpdateCount(String sql, int expected, Object... arguments) {
+        assertThat(execute(sql, arguments).updateCount()).isEqualTo(expected);
     }
 
     private void put(Object key, Object value) {
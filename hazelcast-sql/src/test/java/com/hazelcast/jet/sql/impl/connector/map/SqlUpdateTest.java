@@ -17,12 +17,16 @@
 package com.hazelcast.jet.sql.impl.connector.map;
 
 import com.google.common.collect.ImmutableMap;
+import com.hazelcast.config.IndexType;
 import com.hazelcast.jet.sql.SqlTestSupport;
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.LocalIndexStats;
 import com.hazelcast.sql.SqlResult;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 
@@ -50,7 +54,7 @@ public class SqlUpdateTest extends SqlTestSupport {
         map.put(2, 2);
         map.put(3, 3);
 
-        checkUpdateCount("UPDATE test_map SET this = 100 WHERE __key = 2", 0);
+        checkUpdateCount("UPDATE test_map SET this = 100 WHERE __key = 2", 1);
         assertThat(map).containsExactlyInAnyOrderEntriesOf(ImmutableMap.of(1, 1, 2, 100, 3, 3));
     }
 
@@ -60,7 +64,7 @@ public class SqlUpdateTest extends SqlTestSupport {
         Map<Object, Object> map = instance().getMap("test_map");
         map.put(1, new Value(100, 200L, "300"));
 
-        checkUpdateCount("UPDATE test_map SET field1 = 200 WHERE __key = 1", 0);
+        checkUpdateCount("UPDATE test_map SET field1 = 200 WHERE __key = 1", 1);
         assertThat(map).containsExactly(entry(1, new Value(200, 200L, "300")));
     }
 
@@ -70,7 +74,7 @@ public class SqlUpdateTest extends SqlTestSupport {
         Map<Object, Object> map = instance().getMap("test_map");
         map.put(1, new Value(100, 200L, "300"));
 
-        checkUpdateCount("UPDATE test_map SET field2 = 100 WHERE __key = 1", 0);
+        checkUpdateCount("UPDATE test_map SET field2 = 100 WHERE __key = 1", 1);
         assertThat(map).containsExactly(entry(1, new Value(100, 100L, "300")));
     }
 
@@ -80,7 +84,7 @@ public class SqlUpdateTest extends SqlTestSupport {
         Map<Object, Object> map = instance().getMap("test_map");
         map.put(1, new Value(100, 200L, "300"));
 
-        checkUpdateCount("UPDATE test_map SET field3 = '400' WHERE __key = 1", 0);
+        checkUpdateCount("UPDATE test_map SET field3 = '400' WHERE __key = 1", 1);
         assertThat(map).containsExactly(entry(1, new Value(100, 200L, "400")));
     }
 
@@ -90,7 +94,7 @@ public class SqlUpdateTest extends SqlTestSupport {
         Map<Object, Object> map = instance().getMap("test_map");
         map.put(1, new Value(100, 200L, "300"));
 
-        checkUpdateCount("UPDATE test_map SET field3 = '200', field1 = 400, field2 = 600 WHERE __key = 1", 0);
+        checkUpdateCount("UPDATE test_map SET field3 = '200', field1 = 400, field2 = 600 WHERE __key = 1", 1);
         assertThat(map).containsExactly(entry(1, new Value(400, 600L, "200")));
     }
 
@@ -100,7 +104,7 @@ public class SqlUpdateTest extends SqlTestSupport {
         Map<Object, Object> map = instance().getMap("test_map");
         map.put(1, new Value(100, 200L, "300"));
 
-        checkUpdateCount("UPDATE test_map SET field2 = 4 * field1 WHERE __key = 1", 0);
+        checkUpdateCount("UPDATE test_map SET field2 = 4 * field1 WHERE __key = 1", 1);
         assertThat(map).containsExactly(entry(1, new Value(100, 400L, "300")));
     }
 
@@ -110,7 +114,7 @@ public class SqlUpdateTest extends SqlTestSupport {
         Map<Object, Object> map = instance().getMap("test_map");
         map.put(1, new Value(100, 200L, "300"));
 
-        checkUpdateCount("UPDATE test_map SET field1 = CAST(field3 AS INT) WHERE __key = 1", 0);
+        checkUpdateCount("UPDATE test_map SET field1 = CAST(field3 AS INT) WHERE __key = 1", 1);
         assertThat(map).containsExactly(entry(1, new Value(300, 200L, "300")));
     }
 
@@ -122,7 +126,7 @@ public class SqlUpdateTest extends SqlTestSupport {
         map.put(2, 2);
         map.put(3, 3);
 
-        checkUpdateCount("UPDATE test_map SET this = this + 1 WHERE __key = 1 OR __key = 3", 0);
+        checkUpdateCount("UPDATE test_map SET this = this + 1 WHERE __key = 1 OR __key = 3", 2);
         assertThat(map).containsExactlyInAnyOrderEntriesOf(ImmutableMap.of(1, 2, 2, 2, 3, 4));
     }
 
@@ -143,7 +147,7 @@ public class SqlUpdateTest extends SqlTestSupport {
         Map<Object, Object> map = instance().getMap("test_map");
         map.put(1, new Value(100, 200L, "300"));
 
-        checkUpdateCount("UPDATE test_map SET field3 = 'p-' || ? WHERE __key = 1", 0, "300");
+        checkUpdateCount("UPDATE test_map SET field3 = 'p-' || ? WHERE __key = 1", 1, "300");
         assertThat(map).containsExactly(entry(1, new Value(100, 200L, "p-300")));
     }
 
@@ -153,17 +157,47 @@ public class SqlUpdateTest extends SqlTestSupport {
         Map<Object, Object> map = instance().getMap("test_map");
         map.put(1, new Value(100, 200L, "300"));
 
-        checkUpdateCount("UPDATE test_map SET field3 = '600' WHERE field1 = 100", 0);
+        checkUpdateCount("UPDATE test_map SET field3 = '600' WHERE field1 = 100", 1);
         assertThat(map).containsExactly(entry(1, new Value(100, 200L, "600")));
     }
 
+    @Test
+    public void updateByNonKeyField_onlyMatchingEntriesUpdated() {
+        createMapping("test_map", int.class, int.class);
+        Map<Object, Object> map = instance().getMap("test_map");
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+        }
+
+        checkUpdateCount("UPDATE test_map SET this = -this WHERE this >= ?", 10, 90);
+        for (int i = 0; i < 100; i++) {
+            assertThat(map.get(i)).isEqualTo(i >= 90 ? -i : i);
+        }
+    }
+
+    @Test
+    public void updateByNonKeyField_withIndex_then_indexUsed() {
+        createMapping("test_map_indexed", int.class, int.class);
+        IMap<Object, Object> map = instance().getMap("test_map_indexed");
+        map.addIndex(IndexType.SORTED, "this");
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+        }
+
+        checkUpdateCount("UPDATE test_map_indexed SET this = -this WHERE this >= ? AND this % 2 = 0", 5, 90);
+        for (int i = 0; i < 100; i++) {
+            assertThat(map.get(i)).isEqualTo(i >= 90 && i % 2 == 0 ? -i : i);
+        }
+        assertThat(indexQueryCount("test_map_indexed")).isPositive();
+    }
+
     @Test
     public void update_complexKey() {
         createMapping("test_map", Key.class, Value.class);
         Map<Object, Object> map = instance().getMap("test_map");
         map.put(new Key(1), new Value(100, 200L, "300"));
 
-        checkUpdateCount("UPDATE test_map SET field3 = CAST(3 + keyField AS VARCHAR), field2 = 2 + 1, field1 = 1 WHERE keyField = 1", 0);
+        checkUpdateCount("UPDATE test_map SET field3 = CAST(3 + keyField AS VARCHAR), field2 = 2 + 1, field1 = 1 WHERE keyField = 1", 1);
         assertThat(map).containsExactly(entry(new Key(1), new Value(1, 3L, "4")));
     }
 
@@ -173,7 +207,7 @@ public class SqlUpdateTest extends SqlTestSupport {
         Map<Object, Object> map = instance().getMap("test_map");
         map.put(new Key(1), 1);
 
-        checkUpdateCount("UPDATE test_map SET this = CASE WHEN __key IS NULL THEN 2 ELSE 3 END", 0);
+        checkUpdateCount("UPDATE test_map SET this = CASE WHEN __key IS NULL THEN 2 ELSE 3 END", 1);
         assertThat(map).containsExactly(entry(new Key(1), 3));
     }
 
@@ -183,7 +217,7 @@ public class SqlUpdateTest extends SqlTestSupport {
         Map<Object, Object> map = instance().getMap("test_map");
         map.put(1, new Value(100, 200L, "300"));
 
-        checkUpdateCount("UPDATE test_map SET field1 = CASE WHEN this IS NULL THEN 2 ELSE 3 END", 0);
+        checkUpdateCount("UPDATE test_map SET field1 = CASE WHEN this IS NULL THEN 2 ELSE 3 END", 1);
         assertThat(map).containsExactly(entry(1, new Value(3, 200L, "300")));
     }
 
@@ -194,7 +228,7 @@ public class SqlUpdateTest extends SqlTestSupport {
         map.put(1, 1);
         map.put(2, 2);
 
-        checkUpdateCount("UPDATE test_map SET this = this + 1", 0);
+        checkUpdateCount("UPDATE test_map SET this = this + 1", 2);
         assertThat(map).containsExactlyInAnyOrderEntriesOf(ImmutableMap.of(1, 2, 2, 3));
     }
 
@@ -205,7 +239,7 @@ public class SqlUpdateTest extends SqlTestSupport {
         map.put(1, 1);
         map.put(2, 2);
 
-        checkUpdateCount("UPDATE test_map SET this = this + 1 WHERE 1 = 1", 0);
+        checkUpdateCount("UPDATE test_map SET this = this + 1 WHERE 1 = 1", 2);
         assertThat(map).containsExactlyInAnyOrderEntriesOf(ImmutableMap.of(1, 2, 2, 3));
     }
 
@@ -298,6 +332,13 @@ public class SqlUpdateTest extends SqlTestSupport {
                 .hasMessageContaining("Object 'test_map' not found");
     }
 
+    private static long indexQueryCount(String mapName) {
+        return Arrays.stream(instances())
+                .flatMap(instance -> instance.getMap(mapName).getLocalMapStats().getIndexStats().values().stream())
+                .mapToLong(LocalIndexStats::getQueryCount)
+                .sum();
+    }
+
     private void checkUpdateCount(String sql, int expected, Object... params) {
         assertThat(execute(sql, params).updateCount()).isEqualTo(expected);
     }
@@ -69,4 +69,20 @@ public class MapSortedIndexScanIntegrationTest extends SqlTestSupport {
             assertRowsOrdered("SELECT * FROM " + MAP_NAME + " ORDER BY this DESC", expected);
         }
     }
+
+    @Test
+    public void test_sortedWithLimit() {
+        for (int i = 0; i <= ITEM_COUNT; i++) {
+            map.put(i, i);
+        }
+
+        IndexConfig indexConfig = new IndexConfig(IndexType.SORTED, "this").setName(randomName());
+        map.addIndex(indexConfig);
+
+        List<Row> expected = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            expected.add(new Row(ITEM_COUNT - 2 - i, ITEM_COUNT - 2 - i));
+        }
+        assertRowsOrdered("SELECT * FROM " + MAP_NAME + " ORDER BY this DESC LIMIT 3 OFFSET 2", expected);
+    }
 }
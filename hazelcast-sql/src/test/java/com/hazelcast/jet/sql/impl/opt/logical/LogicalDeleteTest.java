@@ -57,8 +57,7 @@ public class LogicalDeleteTest extends OptimizerTestSupport {
         assertPlan(
                 optimizeLogical("DELETE FROM m", table),
                 plan(
-                        planRow(0, DeleteLogicalRel.class),
-                        planRow(1, FullScanLogicalRel.class)
+                        planRow(0, DeleteByFilterMapLogicalRel.class)
                 )
         );
     }
@@ -69,8 +68,7 @@ public class LogicalDeleteTest extends OptimizerTestSupport {
         assertPlan(
                 optimizeLogical("DELETE FROM m WHERE this = '1'", table),
                 plan(
-                        planRow(0, DeleteLogicalRel.class),
-                        planRow(1, FullScanLogicalRel.class)
+                        planRow(0, DeleteByFilterMapLogicalRel.class)
                 )
         );
     }
@@ -81,8 +79,7 @@ public class LogicalDeleteTest extends OptimizerTestSupport {
         assertPlan(
                 optimizeLogical("DELETE FROM m WHERE __key = 1 AND this = '1'", table),
                 plan(
-                        planRow(0, DeleteLogicalRel.class),
-                        planRow(1, FullScanLogicalRel.class)
+                        planRow(0, DeleteByFilterMapLogicalRel.class)
                 )
         );
     }
@@ -105,8 +102,7 @@ public class LogicalDeleteTest extends OptimizerTestSupport {
         assertPlan(
                 optimizeLogical("DELETE FROM m WHERE __key = 1 OR __key = 2", table),
                 plan(
-                        planRow(0, DeleteLogicalRel.class),
-                        planRow(1, FullScanLogicalRel.class)
+                        planRow(0, DeleteByFilterMapLogicalRel.class)
                 )
         );
     }
@@ -117,8 +113,7 @@ public class LogicalDeleteTest extends OptimizerTestSupport {
         assertPlan(
                 optimizeLogical("DELETE FROM m WHERE 1 = 1", table),
                 plan(
-                        planRow(0, DeleteLogicalRel.class),
-                        planRow(1, FullScanLogicalRel.class)
+                        planRow(0, DeleteByFilterMapLogicalRel.class)
                 )
         );
     }
@@ -211,8 +206,7 @@ public class LogicalDeleteTest extends OptimizerTestSupport {
         assertPlan(
                 optimizeLogical("DELETE FROM m WHERE __key = ? + 1", table),
                 plan(
-                        planRow(0, DeleteLogicalRel.class),
-                        planRow(1, FullScanLogicalRel.class)
+                        planRow(0, DeleteByFilterMapLogicalRel.class)
                 )
         );
     }
@@ -57,8 +57,7 @@ public class LogicalUpdateTest extends OptimizerTestSupport {
         assertPlan(
                 optimizeLogical("UPDATE m SET this = '2'", table),
                 plan(
-                        planRow(0, UpdateLogicalRel.class),
-                        planRow(1, FullScanLogicalRel.class)
+                        planRow(0, UpdateByFilterMapLogicalRel.class)
                 )
         );
     }
@@ -69,8 +68,7 @@ public class LogicalUpdateTest extends OptimizerTestSupport {
         assertPlan(
                 optimizeLogical("UPDATE m SET this = '2' WHERE this = '1'", table),
                 plan(
-                        planRow(0, UpdateLogicalRel.class),
-                        planRow(1, FullScanLogicalRel.class)
+                        planRow(0, UpdateByFilterMapLogicalRel.class)
                 )
         );
     }
@@ -81,8 +79,7 @@ public class LogicalUpdateTest extends OptimizerTestSupport {
         assertPlan(
                 optimizeLogical("UPDATE m SET this = '2' WHERE __key = 1 AND this = '1'", table),
                 plan(
-                        planRow(0, UpdateLogicalRel.class),
-                        planRow(1, FullScanLogicalRel.class)
+                        planRow(0, UpdateByFilterMapLogicalRel.class)
                 )
         );
     }
@@ -105,8 +102,7 @@ public class LogicalUpdateTest extends OptimizerTestSupport {
         assertPlan(
                 optimizeLogical("UPDATE m SET this = '2' WHERE __key = 1 OR __key = 2", table),
                 plan(
-                        planRow(0, UpdateLogicalRel.class),
-                        planRow(1, FullScanLogicalRel.class)
+                        planRow(0, UpdateByFilterMapLogicalRel.class)
                 )
         );
     }
@@ -117,8 +113,7 @@ public class LogicalUpdateTest extends OptimizerTestSupport {
         assertPlan(
                 optimizeLogical("UPDATE m SET this = '2' WHERE 1 = 1", table),
                 plan(
-                        planRow(0, UpdateLogicalRel.class),
-                        planRow(1, FullScanLogicalRel.class)
+                        planRow(0, UpdateByFilterMapLogicalRel.class)
                 )
         );
     }
@@ -211,8 +206,7 @@ public class LogicalUpdateTest extends OptimizerTestSupport {
         assertPlan(
                 optimizeLogical("UPDATE m SET this = '2' WHERE __key = ? + 1", table),
                 plan(
-                        planRow(0, UpdateLogicalRel.class),
-                        planRow(1, FullScanLogicalRel.class)
+                        planRow(0, UpdateByFilterMapLogicalRel.class)
                 )
         );
     }
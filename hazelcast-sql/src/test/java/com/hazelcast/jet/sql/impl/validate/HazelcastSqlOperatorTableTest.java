@@ -22,6 +22,7 @@ import com.hazelcast.jet.sql.impl.validate.operators.common.HazelcastFunction;
 import com.hazelcast.jet.sql.impl.validate.operators.common.HazelcastOperandTypeCheckerAware;
 import com.hazelcast.jet.sql.impl.validate.operators.misc.HazelcastCaseOperator;
 import com.hazelcast.jet.sql.impl.validate.operators.typeinference.HazelcastReturnTypeInference;
+import com.hazelcast.jet.sql.impl.validate.operators.window.HazelcastWindowTableFunction;
 import com.hazelcast.test.HazelcastParallelClassRunner;
 import com.hazelcast.test.annotation.ParallelJVMTest;
 import com.hazelcast.test.annotation.QuickTest;
@@ -66,7 +67,9 @@ public class HazelcastSqlOperatorTableTest {
             boolean valid = operator instanceof HazelcastOperandTypeCheckerAware
                     || operator instanceof JetTableFunction
                     || operator instanceof HazelcastCaseOperator
-                    || operator == HazelcastSqlOperatorTable.ARGUMENT_ASSIGNMENT;
+                    || operator instanceof HazelcastWindowTableFunction
+                    || operator == HazelcastSqlOperatorTable.ARGUMENT_ASSIGNMENT
+                    || operator == HazelcastSqlOperatorTable.DESCRIPTOR;
 
             assertTrue("Operator must implement one of classes from " + HazelcastFunction.class.getPackage().toString()
                     + ": " + operator.getClass().getSimpleName(), valid);
@@ -77,9 +80,11 @@ public class HazelcastSqlOperatorTableTest {
     public void testReturnTypeInference() {
         for (SqlOperator operator : HazelcastSqlOperatorTable.instance().getOperatorList()) {
             if (operator instanceof JetTableFunction
+                    || operator instanceof HazelcastWindowTableFunction
                     || operator == HazelcastSqlOperatorTable.IN
                     || operator == HazelcastSqlOperatorTable.NOT_IN
-                    || operator == HazelcastSqlOperatorTable.ARGUMENT_ASSIGNMENT) {
+                    || operator == HazelcastSqlOperatorTable.ARGUMENT_ASSIGNMENT
+                    || operator == HazelcastSqlOperatorTable.DESCRIPTOR) {
                 continue;
             }
             boolean valid = operator.getReturnTypeInference() instanceof HazelcastReturnTypeInference;
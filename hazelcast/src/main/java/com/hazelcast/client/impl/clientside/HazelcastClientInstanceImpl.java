@@ -153,6 +153,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+import static com.hazelcast.client.properties.ClientProperty.BACKPRESSURE_ADAPTIVE_LATENCY_THRESHOLD_MILLIS;
 import static com.hazelcast.client.properties.ClientProperty.CONCURRENT_WINDOW_MS;
 import static com.hazelcast.client.properties.ClientProperty.IO_WRITE_THROUGH_ENABLED;
 import static com.hazelcast.client.properties.ClientProperty.MAX_CONCURRENT_INVOCATIONS;
@@ -271,7 +272,8 @@ public class HazelcastClientInstanceImpl implements HazelcastInstance, Serializa
     private ConcurrencyDetection initConcurrencyDetection() {
         boolean writeThrough = properties.getBoolean(IO_WRITE_THROUGH_ENABLED);
         boolean dynamicResponse = properties.getBoolean(RESPONSE_THREAD_DYNAMIC);
-        boolean backPressureEnabled = properties.getInteger(MAX_CONCURRENT_INVOCATIONS) < Integer.MAX_VALUE;
+        boolean backPressureEnabled = properties.getInteger(MAX_CONCURRENT_INVOCATIONS) < Integer.MAX_VALUE
+                || properties.getMillis(BACKPRESSURE_ADAPTIVE_LATENCY_THRESHOLD_MILLIS) > 0;
 
         if (writeThrough || dynamicResponse || backPressureEnabled) {
             return ConcurrencyDetection.createEnabled(properties.getInteger(CONCURRENT_WINDOW_MS));
@@ -106,6 +106,10 @@ public class TcpClientConnection implements ClientConnection {
         return attributeMap;
     }
 
+    public Channel getChannel() {
+        return channel;
+    }
+
     @Override
     public boolean write(OutboundFrame frame) {
         if (channel.write(frame)) {
@@ -157,6 +157,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -1133,6 +1134,65 @@ public class ClientMapProxy<K, V> extends ClientProxy
         return Collections.unmodifiableMap(result);
     }
 
+    /**
+     * Asynchronously gets the values for the given keys. Like {@link
+     * #getAll}, it sends a single request for each partition the keys
+     * belong to. The keys missing from the map are missing from the result.
+     *
+     * @param keys keys to get
+     * @return a future completed with the map of the found entries
+     */
+    public CompletableFuture<Map<K, V>> getAllAsync(@Nonnull Set<K> keys) {
+        checkNotNull(keys, "Null keys collection is not allowed!");
+        if (keys.isEmpty()) {
+            return InternalCompletableFuture.newCompletedFuture(Collections.unmodifiableMap(emptyMap()));
+        }
+
+        int keysSize = keys.size();
+        Map<Integer, List<Data>> partitionToKeyData = new HashMap<>();
+        List<Object> resultingKeyValuePairs = new ArrayList<>(keysSize * 2);
+        return getAllAsyncInternal(keys, partitionToKeyData, resultingKeyValuePairs).thenApply(v -> {
+            Map<K, V> result = createHashMap(keysSize);
+            for (int i = 0; i < resultingKeyValuePairs.size(); ) {
+                K key = toObject(resultingKeyValuePairs.get(i++));
+                V value = toObject(resultingKeyValuePairs.get(i++));
+                result.put(key, value);
+            }
+            return Collections.unmodifiableMap(result);
+        });
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAllInternal}. The returned future
+     * completes after the fetched key-value pairs were added to {@code
+     * resultingKeyValuePairs}.
+     */
+    protected CompletableFuture<Void> getAllAsyncInternal(Set<K> keys, Map<Integer, List<Data>> partitionToKeyData,
+                                                          List<Object> resultingKeyValuePairs) {
+        if (partitionToKeyData.isEmpty()) {
+            fillPartitionToKeyData(keys, partitionToKeyData, null, null);
+        }
+        List<ClientInvocationFuture> futures = new ArrayList<>(partitionToKeyData.size());
+        for (Map.Entry<Integer, List<Data>> entry : partitionToKeyData.entrySet()) {
+            int partitionId = entry.getKey();
+            List<Data> keyList = entry.getValue();
+            if (!keyList.isEmpty()) {
+                ClientMessage request = MapGetAllCodec.encodeRequest(name, keyList);
+                futures.add(new ClientInvocation(getClient(), request, getName(), partitionId).invoke());
+            }
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenRun(() -> {
+            for (ClientInvocationFuture future : futures) {
+                List<Entry<Data, Data>> entries = MapGetAllCodec.decodeResponse(future.join());
+                for (Entry<Data, Data> entry : entries) {
+                    resultingKeyValuePairs.add(entry.getKey());
+                    resultingKeyValuePairs.add(entry.getValue());
+                }
+            }
+        });
+    }
+
     protected void getAllInternal(Set<K> keys, Map<Integer, List<Data>> partitionToKeyData, List<Object> resultingKeyValuePairs) {
         if (partitionToKeyData.isEmpty()) {
             fillPartitionToKeyData(keys, partitionToKeyData, null, null);
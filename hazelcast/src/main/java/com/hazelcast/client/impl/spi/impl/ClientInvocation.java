@@ -19,12 +19,15 @@ package com.hazelcast.client.impl.spi.impl;
 import com.hazelcast.client.HazelcastClientNotActiveException;
 import com.hazelcast.client.impl.clientside.HazelcastClientInstanceImpl;
 import com.hazelcast.client.impl.connection.ClientConnection;
+import com.hazelcast.client.impl.connection.tcp.TcpClientConnection;
 import com.hazelcast.client.impl.protocol.ClientMessage;
 import com.hazelcast.client.impl.spi.EventHandler;
 import com.hazelcast.core.HazelcastInstanceNotActiveException;
 import com.hazelcast.core.LifecycleService;
 import com.hazelcast.core.OperationTimeoutException;
+import com.hazelcast.internal.networking.Channel;
 import com.hazelcast.internal.nio.Connection;
+import com.hazelcast.internal.util.Timer;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.exception.RetryableException;
 import com.hazelcast.spi.exception.TargetDisconnectedException;
@@ -83,6 +86,10 @@ public class ClientInvocation extends BaseInvocation implements Runnable {
      * {@link #getPermissionToNotify(long)}
      */
     private volatile ClientConnection sentConnection;
+    // when the last attempt was started and the channel it was sent over, sentConnection
+    // is cleared before the invocation completes so the channel is kept separately
+    private volatile long attemptStartTimeNanos;
+    private volatile Channel attemptChannel;
     private EventHandler handler;
     private volatile long invokeCount;
     private volatile long invocationTimeoutMillis;
@@ -108,7 +115,10 @@ public class ClientInvocation extends BaseInvocation implements Runnable {
         this.retryPauseMillis = invocationService.getInvocationRetryPauseMillis();
         this.logger = invocationService.invocationLogger;
         this.callIdSequence = invocationService.getCallIdSequence();
-        this.clientInvocationFuture = new ClientInvocationFuture(this, clientMessage, logger, callIdSequence);
+        // only the latency of partition invocations adapts the limit of concurrent invocations,
+        // the latency of the other invocations varies too much
+        this.clientInvocationFuture = new ClientInvocationFuture(this, clientMessage, logger, callIdSequence,
+                partitionId != UNASSIGNED_PARTITION);
         this.invocationTimeoutMillis = invocationService.getInvocationTimeoutMillis();
         this.isSmartRoutingEnabled = invocationService.isSmartRoutingEnabled();
     }
@@ -176,6 +186,7 @@ public class ClientInvocation extends BaseInvocation implements Runnable {
     private void invokeOnSelection() {
         try {
             INVOKE_COUNT.incrementAndGet(this);
+            attemptStartTimeNanos = Timer.nanos();
             if (!urgent) {
                 invocationService.checkInvocationAllowed();
             }
@@ -385,6 +396,7 @@ public class ClientInvocation extends BaseInvocation implements Runnable {
     }
 
     public void setSentConnection(ClientConnection connection) {
+        attemptChannel = connection instanceof TcpClientConnection ? ((TcpClientConnection) connection).getChannel() : null;
         SENT_CONNECTION.set(this, connection);
     }
 
@@ -439,6 +451,14 @@ public class ClientInvocation extends BaseInvocation implements Runnable {
                 + ", sentConnection = " + sentConnection + '}';
     }
 
+    /**
+     * Completes the invocation in the given sequence with the start time of
+     * the last attempt and the channel it was sent over.
+     */
+    void completeAttempt(CallIdSequence sequence) {
+        sequence.complete(attemptStartTimeNanos, attemptChannel);
+    }
+
     // package private methods for tests
     CallIdSequence getCallIdSequence() {
         return callIdSequence;
@@ -42,15 +42,30 @@ public class ClientInvocationFuture extends AbstractInvocationFuture<ClientMessa
     private final ClientMessage request;
     private final ClientInvocation invocation;
     private final CallIdSequence callIdSequence;
+    private final boolean reportLatency;
 
     public ClientInvocationFuture(ClientInvocation invocation,
                                   ClientMessage request,
                                   ILogger logger,
                                   CallIdSequence callIdSequence) {
+        this(invocation, request, logger, callIdSequence, false);
+    }
+
+    /**
+     * @param reportLatency if the latency of the invocation should be reported to the
+     *                      callIdSequence on completion, see
+     *                      {@link CallIdSequence#complete(long, com.hazelcast.internal.networking.Channel)}
+     */
+    public ClientInvocationFuture(ClientInvocation invocation,
+                                  ClientMessage request,
+                                  ILogger logger,
+                                  CallIdSequence callIdSequence,
+                                  boolean reportLatency) {
         super(logger);
         this.request = request;
         this.invocation = invocation;
         this.callIdSequence = callIdSequence;
+        this.reportLatency = reportLatency;
     }
 
     @Override
@@ -87,7 +102,11 @@ public class ClientInvocationFuture extends AbstractInvocationFuture<ClientMessa
     @Override
     protected void onComplete() {
         super.onComplete();
-        callIdSequence.complete();
+        if (reportLatency) {
+            invocation.completeAttempt(callIdSequence);
+        } else {
+            callIdSequence.complete();
+        }
     }
 
     @Override
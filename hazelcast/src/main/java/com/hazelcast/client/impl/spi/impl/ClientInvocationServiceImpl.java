@@ -30,6 +30,7 @@ import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.exception.TargetDisconnectedException;
 import com.hazelcast.spi.impl.executionservice.TaskScheduler;
+import com.hazelcast.spi.impl.sequence.AdaptiveConcurrencyLimit;
 import com.hazelcast.spi.impl.sequence.CallIdFactory;
 import com.hazelcast.spi.impl.sequence.CallIdSequence;
 import com.hazelcast.spi.properties.HazelcastProperties;
@@ -41,6 +42,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
 
+import static com.hazelcast.client.properties.ClientProperty.BACKPRESSURE_ADAPTIVE_LATENCY_THRESHOLD_MILLIS;
+import static com.hazelcast.client.properties.ClientProperty.BACKPRESSURE_ADAPTIVE_QUEUE_DEPTH_THRESHOLD;
 import static com.hazelcast.client.properties.ClientProperty.BACKPRESSURE_BACKOFF_TIMEOUT_MILLIS;
 import static com.hazelcast.client.properties.ClientProperty.FAIL_ON_INDETERMINATE_OPERATION_STATE;
 import static com.hazelcast.client.properties.ClientProperty.INVOCATION_RETRY_PAUSE_MILLIS;
@@ -52,6 +55,7 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_ME
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_INVOCATIONS_STARTED_INVOCATIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_PREFIX_INVOCATIONS;
 import static com.hazelcast.internal.metrics.ProbeLevel.MANDATORY;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_COUNT;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 public class ClientInvocationServiceImpl implements ClientInvocationService {
@@ -81,6 +85,11 @@ public class ClientInvocationServiceImpl implements ClientInvocationService {
     private static final HazelcastProperty CLEAN_RESOURCES_MILLIS
             = new HazelcastProperty("hazelcast.client.internal.clean.resources.millis", 100, MILLISECONDS);
 
+    // the adaptive limit never goes below what a single partition-wide fan-out (e.g. getAll)
+    // needs on a cluster with the default partition count
+    private static final int MIN_ADAPTIVE_CONCURRENT_INVOCATIONS
+            = Integer.parseInt(PARTITION_COUNT.getDefaultValue()) + 1;
+
     final HazelcastClientInstanceImpl client;
     final ILogger invocationLogger;
     private volatile boolean isShutdown;
@@ -105,10 +114,12 @@ public class ClientInvocationServiceImpl implements ClientInvocationService {
         this.invocationRetryPauseMillis = initInvocationRetryPauseMillis();
         this.responseHandlerSupplier = new ClientResponseHandlerSupplier(this, client.getConcurrencyDetection());
         HazelcastProperties properties = client.getProperties();
+        int maxConcurrentInvocations = properties.getInteger(MAX_CONCURRENT_INVOCATIONS);
         this.callIdSequence = CallIdFactory.newCallIdSequence(
-                properties.getInteger(MAX_CONCURRENT_INVOCATIONS),
+                maxConcurrentInvocations,
                 properties.getLong(BACKPRESSURE_BACKOFF_TIMEOUT_MILLIS),
-                client.getConcurrencyDetection());
+                client.getConcurrencyDetection(),
+                newAdaptiveConcurrencyLimit(properties, maxConcurrentInvocations));
 
         this.operationBackupTimeoutMillis = properties.getInteger(OPERATION_BACKUP_TIMEOUT_MILLIS);
         this.shouldFailOnIndeterminateOperationState = properties.getBoolean(FAIL_ON_INDETERMINATE_OPERATION_STATE);
@@ -119,6 +130,17 @@ public class ClientInvocationServiceImpl implements ClientInvocationService {
         this.partitionService = client.getClientPartitionService();
     }
 
+    private static AdaptiveConcurrencyLimit newAdaptiveConcurrencyLimit(HazelcastProperties properties,
+                                                                        int maxConcurrentInvocations) {
+        long latencyThresholdMillis = properties.getMillis(BACKPRESSURE_ADAPTIVE_LATENCY_THRESHOLD_MILLIS);
+        if (latencyThresholdMillis <= 0) {
+            return null;
+        }
+        return new AdaptiveConcurrencyLimit(Math.min(MIN_ADAPTIVE_CONCURRENT_INVOCATIONS, maxConcurrentInvocations),
+                maxConcurrentInvocations, MILLISECONDS.toNanos(latencyThresholdMillis),
+                properties.getInteger(BACKPRESSURE_ADAPTIVE_QUEUE_DEPTH_THRESHOLD));
+    }
+
     private long initInvocationRetryPauseMillis() {
         return client.getProperties().getPositiveMillisOrDefault(INVOCATION_RETRY_PAUSE_MILLIS);
     }
@@ -50,6 +50,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import static com.hazelcast.core.EntryEventType.INVALIDATION;
@@ -61,6 +62,7 @@ import static com.hazelcast.internal.util.CollectionUtil.objectToDataCollection;
 import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
 import static com.hazelcast.internal.util.MapUtil.createHashMap;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static com.hazelcast.internal.util.SetUtil.createHashSet;
 import static com.hazelcast.spi.impl.InternalCompletableFuture.newCompletedFuture;
 import static java.util.Collections.emptyMap;
 
@@ -423,6 +425,34 @@ public class NearCachedClientMapProxy<K, V> extends ClientMapProxy<K, V> {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The values found in the Near Cache are added to the result right away,
+     * the rest is fetched from the partitions. The values fetched remotely
+     * aren't added to the Near Cache.
+     */
+    @Override
+    protected CompletableFuture<Void> getAllAsyncInternal(Set<K> keys, Map<Integer, List<Data>> partitionToKeyData,
+                                                          List<Object> resultingKeyValuePairs) {
+        Map<Object, K> ncKeyToKey = createHashMap(keys.size());
+        for (K key : keys) {
+            ncKeyToKey.put(serializeKeys ? toData(key) : key, key);
+        }
+        Collection<Object> ncKeys = new LinkedList<>(ncKeyToKey.keySet());
+
+        populateResultFromNearCache(ncKeys, resultingKeyValuePairs);
+        if (ncKeys.isEmpty()) {
+            return newCompletedFuture(null);
+        }
+
+        Set<K> remoteKeys = createHashSet(ncKeys.size());
+        for (Object ncKey : ncKeys) {
+            remoteKeys.add(ncKeyToKey.get(ncKey));
+        }
+        return super.getAllAsyncInternal(remoteKeys, partitionToKeyData, resultingKeyValuePairs);
+    }
+
     private void populateResultFromNearCache(Collection<?> keys, List<Object> resultingKeyValuePairs) {
         Iterator<?> iterator = keys.iterator();
         while (iterator.hasNext()) {
@@ -106,6 +106,43 @@ public final class ClientProperty {
     public static final HazelcastProperty BACKPRESSURE_BACKOFF_TIMEOUT_MILLIS
             = new HazelcastProperty("hazelcast.client.invocation.backoff.timeout.millis", -1, MILLISECONDS);
 
+    /**
+     * The invocation latency in milliseconds above which the client considers
+     * the cluster overloaded. When set, the maximum number of concurrent
+     * invocations adapts to the observed latency of the partition invocations:
+     * it grows by one with every invocation that completes faster than this
+     * threshold while the limit is in use, and it shrinks to 90% of the
+     * concurrent invocations when an invocation is slower, or when the queue
+     * towards its target is deeper than {@link #BACKPRESSURE_ADAPTIVE_QUEUE_DEPTH_THRESHOLD},
+     * at most once per threshold period. The latency is measured per attempt,
+     * so a retried invocation isn't penalized for the time spent before the
+     * retry. The limit never exceeds {@link #MAX_CONCURRENT_INVOCATIONS} and
+     * never goes below the default partition count plus one (272), so a
+     * partition-wide fan-out such as {@code IMap.getAll()} keeps working.
+     * <p>
+     * It's best combined with {@link #BACKPRESSURE_BACKOFF_TIMEOUT_MILLIS}, so
+     * invocations wait for space instead of failing immediately. Note that the
+     * latency of blocking calls, such as {@code IQueue.take()}, counts as well.
+     * <p>
+     * The value 0 disables the adaptive limit.
+     */
+    public static final HazelcastProperty BACKPRESSURE_ADAPTIVE_LATENCY_THRESHOLD_MILLIS
+            = new HazelcastProperty("hazelcast.client.invocation.backoff.adaptive.latency.threshold.millis", 0, MILLISECONDS);
+
+    /**
+     * The number of messages waiting to be written to a member above which the
+     * client considers the connection to that member congested. When an
+     * invocation completes while the outbound queue of the connection it was
+     * sent over is deeper than this threshold, the adaptive limit of
+     * concurrent invocations shrinks the same way as for a slow invocation.
+     * The queue depth is sampled on 1 in 8 completions.
+     * <p>
+     * This property only has meaning when the adaptive limit is enabled with
+     * {@link #BACKPRESSURE_ADAPTIVE_LATENCY_THRESHOLD_MILLIS}.
+     */
+    public static final HazelcastProperty BACKPRESSURE_ADAPTIVE_QUEUE_DEPTH_THRESHOLD
+            = new HazelcastProperty("hazelcast.client.invocation.backoff.adaptive.queue.depth.threshold", 1000);
+
     /**
      * <p>Enables the Discovery SPI</p>
      * <p>Discovery SPI is <b>disabled</b> by default</p>
@@ -157,6 +194,16 @@ public final class ClientProperty {
     public static final HazelcastProperty IO_WRITE_THROUGH_ENABLED
             = new HazelcastProperty("hazelcast.client.io.write.through", true);
 
+    /**
+     * Lets a connection to a member on the same host move its bytes through a pair of memory mapped ring buffers
+     * in {@code /dev/shm} instead of the socket. It is only used if it is enabled on the member as well, see
+     * {@code hazelcast.io.shared.memory.enabled}, which also describes when it pays off.
+     * <p>
+     * It is disabled by default.
+     */
+    public static final HazelcastProperty IO_SHARED_MEMORY_ENABLED
+            = new HazelcastProperty("hazelcast.client.io.shared.memory.enabled", false);
+
     /**
      * Property needed for concurrency detection so that write through and dynamic response handling
      * can be done correctly. This property sets the window the concurrency detection will signalling
@@ -310,6 +357,23 @@ public final class ClientProperty {
     public static final HazelcastProperty METRICS_COLLECTION_FREQUENCY
             = new HazelcastProperty("hazelcast.client.metrics.collection.frequency", 5);
 
+    /**
+     * The maximum number of SQL result pages the client fetches ahead of the
+     * consumer of the result. The next page is requested as soon as the
+     * previous one arrives, so that the transfer of a large result isn't
+     * bound by the round-trip latency. The size of the requested pages is
+     * adapted to the row width and to the speed of the consumer, starting at
+     * the {@link com.hazelcast.sql.SqlStatement#getCursorBufferSize() cursor
+     * buffer size}.
+     * <p>
+     * If set to 0, the next page is requested only after the current one is
+     * consumed and the page size is always the cursor buffer size.
+     * <p>
+     * The default is 2.
+     */
+    public static final HazelcastProperty SQL_PREFETCH_PAGES
+            = new HazelcastProperty("hazelcast.client.sql.prefetch.pages", 2);
+
 
     private ClientProperty() {
     }
@@ -35,6 +35,7 @@ import com.hazelcast.internal.util.InstantiationUtils;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.logging.impl.LoggingServiceImpl;
 import com.hazelcast.spi.MemberAddressProvider;
+import com.hazelcast.spi.impl.operationexecutor.impl.OperationExecutorImpl;
 import com.hazelcast.spi.properties.HazelcastProperties;
 
 import java.util.List;
@@ -45,6 +46,7 @@ import static com.hazelcast.internal.util.ThreadAffinity.newSystemThreadAffinity
 import static com.hazelcast.spi.properties.ClusterProperty.IO_BALANCER_INTERVAL_SECONDS;
 import static com.hazelcast.spi.properties.ClusterProperty.IO_INPUT_THREAD_COUNT;
 import static com.hazelcast.spi.properties.ClusterProperty.IO_OUTPUT_THREAD_COUNT;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_SHARED_MEMORY_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.IO_WRITE_THROUGH_ENABLED;
 import static java.util.Arrays.asList;
 import static java.util.Collections.unmodifiableList;
@@ -162,6 +164,8 @@ public class DefaultNodeContext implements NodeContext {
         ILogger logger = loggingService.getLogger(TcpServerConnectionChannelErrorHandler.class);
         ChannelErrorHandler errorHandler = new TcpServerConnectionChannelErrorHandler(logger);
         HazelcastProperties props = node.getProperties();
+        OperationExecutorImpl operationExecutor
+                = (OperationExecutorImpl) node.nodeEngine.getOperationService().getOperationExecutor();
 
         return new NioNetworking(
                 new NioNetworking.Context()
@@ -175,7 +179,9 @@ public class DefaultNodeContext implements NodeContext {
                         .outputThreadAffinity(newSystemThreadAffinity("hazelcast.io.output.thread.affinity"))
                         .balancerIntervalSeconds(props.getInteger(IO_BALANCER_INTERVAL_SECONDS))
                         .writeThroughEnabled(props.getBoolean(IO_WRITE_THROUGH_ENABLED))
+                        .sharedMemoryEnabled(props.getBoolean(IO_SHARED_MEMORY_ENABLED))
                         .concurrencyDetection(node.nodeEngine.getConcurrencyDetection())
+                        .hostedEventLoops(operationExecutor.getHostedEventLoops())
         );
     }
 }
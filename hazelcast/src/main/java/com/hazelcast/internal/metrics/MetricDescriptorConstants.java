@@ -354,10 +354,12 @@ public final class MetricDescriptorConstants {
     public static final String OPERATION_PREFIX_INVOCATIONS = "operation.invocations";
     public static final String OPERATION_PREFIX_PARKER = "operation.parker";
     public static final String OPERATION_PREFIX_PARTITION = "operation.partition";
+    public static final String OPERATION_PREFIX_SCHEDULER = "operation.scheduler";
     public static final String OPERATION_PREFIX_THREAD = "operation.thread";
     public static final String OPERATION_DISCRIMINATOR_THREAD = "thread";
     public static final String OPERATION_DISCRIMINATOR_PARTITIONID = "partitionId";
     public static final String OPERATION_DISCRIMINATOR_GENERICID = "genericId";
+    public static final String OPERATION_DISCRIMINATOR_SCHEDULER_QUEUE = "queue";
     public static final String OPERATION_METRIC_EXECUTOR_RUNNING_COUNT = "runningCount";
     public static final String OPERATION_METRIC_EXECUTOR_RUNNING_PARTITION_COUNT = "runningPartitionCount";
     public static final String OPERATION_METRIC_EXECUTOR_RUNNING_GENERIC_COUNT = "runningGenericCount";
@@ -378,6 +380,12 @@ public final class MetricDescriptorConstants {
     public static final String OPERATION_METRIC_THREAD_COMPLETED_OPERATION_BATCH_COUNT = "completedOperationBatchCount";
     public static final String OPERATION_METRIC_PARTITION_OPERATION_THREAD_NORMAL_PENDING_COUNT = "normalPendingCount";
     public static final String OPERATION_METRIC_PARTITION_OPERATION_THREAD_PRIORITY_PENDING_COUNT = "priorityPendingCount";
+    public static final String OPERATION_METRIC_SCHEDULER_WEIGHT = "weight";
+    public static final String OPERATION_METRIC_SCHEDULER_PENDING_COUNT = "pendingCount";
+    public static final String OPERATION_METRIC_SCHEDULER_COMPLETED_COUNT = "completedCount";
+    public static final String OPERATION_METRIC_SCHEDULER_WAIT_TIME_AVG = "waitTimeAvg";
+    public static final String OPERATION_METRIC_SCHEDULER_WAIT_TIME_MAX = "waitTimeMax";
+    public static final String OPERATION_METRIC_SCHEDULER_WAIT_TIME_P99 = "waitTimeP99";
     public static final String OPERATION_METRIC_PARKER_PARK_QUEUE_COUNT = "parkQueueCount";
     public static final String OPERATION_METRIC_PARKER_TOTAL_PARKED_OPERATION_COUNT = "totalParkedOperationCount";
     public static final String OPERATION_METRIC_INBOUND_RESPONSE_HANDLER_RESPONSE_QUEUE_SIZE = "responseQueueSize";
@@ -513,6 +521,13 @@ public final class MetricDescriptorConstants {
     public static final String RUNTIME_FULL_METRIC_UPTIME = "runtime.uptime";
     // ===[/RUNTIME]====================================================
 
+    // ===[SERIALIZATION]===============================================
+    public static final String SERIALIZATION_BUFFER_POOL_PREFIX = "serialization.bufferPool";
+    public static final String SERIALIZATION_BUFFER_POOL_METRIC_HITS = "hits";
+    public static final String SERIALIZATION_BUFFER_POOL_METRIC_MISSES = "misses";
+    public static final String SERIALIZATION_BUFFER_POOL_METRIC_RETAINED_BYTES = "retainedBytes";
+    // ===[/SERIALIZATION]==============================================
+
     // ===[SET]=======================================================
     public static final String SET_PREFIX = "set";
     public static final String SET_METRIC_LAST_ACCESS_TIME = "lastAccessTime";
@@ -86,4 +86,15 @@ public interface OutboundPipeline {
      * @return this
      */
     OutboundPipeline wakeup();
+
+    /**
+     * Returns the number of frames waiting to be written, but counts no
+     * further than {@code max} since the queues have no constant time size.
+     *
+     * This method is threadsafe and can safely be called from any thread.
+     *
+     * @param max the maximum number of frames to count
+     * @return the number of pending frames, at most {@code max}
+     */
+    int framesPending(int max);
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.networking.nio;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+import static com.hazelcast.internal.util.Preconditions.checkTrue;
+
+/**
+ * Binds the event loops of the {@link NioNetworking} input threads to
+ * externally managed host threads, e.g. the partition threads in the
+ * thread-per-core mode.
+ * <p>
+ * The hosts are registered first. When the networking starts, it doesn't
+ * start its input {@link NioThread}s but attaches them here; from then on
+ * host {@code i} runs the event loop of input thread {@code i} using
+ * {@link NioThread#runEventLoopOnce(boolean)}. When the networking shuts
+ * down, the event loops are detached again. Since the networking can be
+ * restarted, a host should look up its event loop with {@link #get(int)}
+ * every time instead of caching it.
+ */
+public final class HostedEventLoops {
+
+    private final Thread[] hosts;
+    private final AtomicReferenceArray<NioThread> eventLoops;
+
+    public HostedEventLoops(int count) {
+        checkPositive("count", count);
+        this.hosts = new Thread[count];
+        this.eventLoops = new AtomicReferenceArray<>(count);
+    }
+
+    /**
+     * Returns the number of event loops, which is also the number of input
+     * threads of the networking.
+     *
+     * @return the number of event loops
+     */
+    public int count() {
+        return hosts.length;
+    }
+
+    /**
+     * Registers the thread that hosts the event loop with the given index.
+     * <p>
+     * This method should be called before the networking is started.
+     *
+     * @param index the index of the event loop
+     * @param host  the hosting thread
+     */
+    public void setHost(int index, Thread host) {
+        hosts[index] = checkNotNull(host, "host can't be null");
+    }
+
+    /**
+     * Returns the event loop with the given index.
+     *
+     * @param index the index of the event loop
+     * @return the event loop or {@code null} if the networking isn't running
+     */
+    public NioThread get(int index) {
+        return eventLoops.get(index);
+    }
+
+    void attach(NioThread[] threads) {
+        checkTrue(threads.length == hosts.length, "the number of input threads should match the number of hosts");
+        for (int i = 0; i < threads.length; i++) {
+            Thread host = checkNotNull(hosts[i], "no host registered for event loop " + i);
+            threads[i].setEventLoopThread(host);
+            eventLoops.set(i, threads[i]);
+            // the host may be parked because it had no event loop to run so far
+            LockSupport.unpark(host);
+        }
+    }
+
+    void detach() {
+        for (int i = 0; i < hosts.length; i++) {
+            eventLoops.set(i, null);
+        }
+    }
+}
@@ -41,6 +41,7 @@ public final class NioChannel extends AbstractChannel {
     private final Executor closeListenerExecutor;
     private final ChannelInitializer channelInitializer;
     private final NioChannelOptions config;
+    private SharedMemoryTransport transport;
 
     public NioChannel(SocketChannel socketChannel,
                       boolean clientMode,
@@ -62,6 +63,31 @@ public final class NioChannel extends AbstractChannel {
         this.outboundPipeline = outboundPipeline;
     }
 
+    /**
+     * Lets the bytes of this channel be moved through shared memory when the
+     * other side of the channel is on the same host. Should be called after
+     * {@link #init(NioInboundPipeline, NioOutboundPipeline)} and before the
+     * channel is started.
+     *
+     * @param enabled true if shared memory should be offered when connecting,
+     *                or used when offered by the connecting side. A channel that
+     *                accepted the connection negotiates even if disabled, so it
+     *                can decline the offer.
+     */
+    void initSharedMemory(boolean enabled) {
+        if (!enabled && isClientMode()) {
+            return;
+        }
+        transport = new SharedMemoryTransport(this, socketChannel, isClientMode(), enabled, logger);
+        inboundPipeline.transport = transport;
+        outboundPipeline.transport = transport;
+    }
+
+    // for testing
+    SharedMemoryTransport sharedMemoryTransport() {
+        return transport;
+    }
+
     public NioOutboundPipeline outboundPipeline() {
         return outboundPipeline;
     }
@@ -95,6 +121,9 @@ public final class NioChannel extends AbstractChannel {
             // before starting the channel, the socketChannel need to be put in
             // non blocking mode since that is mandatory for the NioChannel.
             socketChannel.configureBlocking(false);
+            if (transport != null) {
+                transport.start();
+            }
             channelInitializer.initChannel(this);
         } catch (Exception e) {
             throw new HazelcastException("Failed to start " + this, e);
@@ -107,6 +136,10 @@ public final class NioChannel extends AbstractChannel {
     protected void close0() {
         outboundPipeline.drainWriteQueues();
 
+        if (transport != null) {
+            transport.close();
+        }
+
         // the socket is immediately closed.
         try {
             socketChannel.close();
@@ -116,8 +149,9 @@ public final class NioChannel extends AbstractChannel {
             }
         }
 
-        if (Thread.currentThread() instanceof NioThread) {
-            // we don't want to do any tasks on an io thread; we offload it instead
+        if (Thread.currentThread() instanceof NioThread || inboundPipeline.runsOnOwner()) {
+            // we don't want to do any tasks on an io thread or a thread hosting its
+            // event loop; we offload it instead
             try {
                 closeListenerExecutor.execute(() -> {
                     try {
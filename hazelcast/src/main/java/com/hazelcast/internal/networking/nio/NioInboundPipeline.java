@@ -43,7 +43,6 @@ import static com.hazelcast.internal.util.collection.ArrayUtils.append;
 import static com.hazelcast.internal.util.collection.ArrayUtils.replaceFirst;
 import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
 import static java.lang.System.currentTimeMillis;
-import static java.lang.Thread.currentThread;
 import static java.nio.channels.SelectionKey.OP_READ;
 
 /**
@@ -111,7 +110,7 @@ public final class NioInboundPipeline extends NioPipeline implements InboundPipe
 
     @Override
     void process() throws Exception {
-        int readBytes = socketChannel.read(receiveBuffer);
+        int readBytes = transport == null ? socketChannel.read(receiveBuffer) : transport.read(receiveBuffer);
 
         if (readBytes == -1) {
             throw new EOFException("Remote socket closed!");
@@ -123,6 +122,36 @@ public final class NioInboundPipeline extends NioPipeline implements InboundPipe
             bytesRead.inc(readBytes);
         }
 
+        boolean unregisterRead = processHandlers();
+
+        if (migrationRequested()) {
+            // the new owner isn't notified by a selection key about bytes already in shared memory
+            boolean pendingInput = !unregisterRead && hasPendingTransportInput();
+            startMigration();
+            if (pendingInput) {
+                ownerAddTaskAndWakeup(this);
+            }
+            return;
+        }
+
+        if (unregisterRead) {
+            unregisterOp(OP_READ);
+        } else if (hasPendingTransportInput()) {
+            // there are no selection key events for bytes in shared memory
+            owner.addTaskNextRound(this);
+        }
+    }
+
+    private boolean hasPendingTransportInput() {
+        return transport != null && transport.hasPendingInput();
+    }
+
+    /**
+     * Runs the handlers until none of them is dirty.
+     *
+     * @return true if one of the handlers is blocked and the pipeline should stop reading
+     */
+    private boolean processHandlers() throws Exception {
         // currently the whole pipeline is retried when one of the handlers is dirty; but only the dirty handler
         // and the remaining sequence should need to retry.
         InboundHandler[] localHandlers = handlers;
@@ -157,15 +186,7 @@ public final class NioInboundPipeline extends NioPipeline implements InboundPipe
                 }
             }
         } while (!cleanPipeline);
-
-        if (migrationRequested()) {
-            startMigration();
-            return;
-        }
-
-        if (unregisterRead) {
-            unregisterOp(OP_READ);
-        }
+        return unregisterRead;
     }
 
     long bytesRead() {
@@ -174,7 +195,7 @@ public final class NioInboundPipeline extends NioPipeline implements InboundPipe
 
     @Override
     void publishMetrics() {
-        if (currentThread() != owner) {
+        if (!runsOnOwner()) {
             return;
         }
         // since this is executed by the owner, the owner field can't change while
@@ -121,6 +121,8 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
     private final ConcurrencyDetection concurrencyDetection;
     private final boolean writeThroughEnabled;
     private final ThreadAffinity inputThreadAffinity;
+    private final HostedEventLoops hostedEventLoops;
+    private final boolean sharedMemoryEnabled;
     private volatile IOBalancer ioBalancer;
     private volatile NioThread[] inputThreads;
     private volatile NioThread[] outputThreads;
@@ -141,7 +143,9 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
         this.threadNamePrefix = ctx.threadNamePrefix;
         this.metricsRegistry = ctx.metricsRegistry;
         this.loggingService = ctx.loggingService;
-        this.inputThreadCount = ctx.inputThreadCount;
+        this.hostedEventLoops = ctx.hostedEventLoops;
+        this.sharedMemoryEnabled = ctx.sharedMemoryEnabled;
+        this.inputThreadCount = hostedEventLoops != null ? hostedEventLoops.count() : ctx.inputThreadCount;
         this.outputThreadCount = ctx.outputThreadCount;
         this.logger = loggingService.getLogger(NioNetworking.class);
         this.errorHandler = ctx.errorHandler;
@@ -202,6 +206,10 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
 
         logger.log(selectorMode != SELECT ? Level.INFO : FINE, "IO threads selector mode is " + selectorMode);
 
+        if (sharedMemoryEnabled) {
+            SharedMemoryTransport.deleteStaleRings(logger);
+        }
+
         publishFuture = metricsRegistry.scheduleAtFixedRate(new PublishAllTask(), 1, SECONDS, ProbeLevel.INFO);
 
         this.closeListenerExecutor = newSingleThreadExecutor(r -> {
@@ -222,7 +230,12 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
             thread.setSelectorWorkaroundTest(selectorWorkaroundTest);
             thread.setThreadAffinity(inputThreadAffinity);
             inThreads[i] = thread;
-            thread.start();
+            if (hostedEventLoops == null) {
+                thread.start();
+            }
+        }
+        if (hostedEventLoops != null) {
+            hostedEventLoops.attach(inThreads);
         }
         this.inputThreads = inThreads;
 
@@ -280,6 +293,10 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
             logger.finest("Shutting down IO Threads... Total: " + (inputThreads.length + outputThreads.length));
         }
 
+        if (hostedEventLoops != null) {
+            hostedEventLoops.detach();
+        }
+
         shutdown(inputThreads);
         inputThreads = null;
         shutdown(outputThreads);
@@ -312,6 +329,7 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
         NioInboundPipeline inboundPipeline = newInboundPipeline(channel);
         NioOutboundPipeline outboundPipeline = newOutboundPipeline(channel);
         channel.init(inboundPipeline, outboundPipeline);
+        channel.initSharedMemory(sharedMemoryEnabled);
         ioBalancer.channelAdded(inboundPipeline, outboundPipeline);
         channel.addCloseListener(channelCloseListener);
         channels.add(channel);
@@ -498,6 +516,8 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
         private boolean selectionKeyWakeupEnabled
                 = Boolean.parseBoolean(System.getProperty("hazelcast.io.selectionKeyWakeupEnabled", "true"));
         private ConcurrencyDetection concurrencyDetection;
+        private HostedEventLoops hostedEventLoops;
+        private boolean sharedMemoryEnabled;
 
         // if the calling thread is allowed to write through to the socket if that is possible.
         // this is an optimization that can speed up low threaded setups
@@ -510,6 +530,26 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
             }
         }
 
+        /**
+         * Lets the event loops of the input threads be run by the host threads
+         * of the given {@link HostedEventLoops} instead of dedicated threads.
+         * The number of input threads is then the number of hosted event loops.
+         */
+        public Context hostedEventLoops(HostedEventLoops hostedEventLoops) {
+            this.hostedEventLoops = hostedEventLoops;
+            return this;
+        }
+
+        /**
+         * Lets channels move their bytes through shared memory instead of the
+         * socket when both ends are on the same host. Channels in client mode
+         * offer it when connecting, the other channels accept the offer.
+         */
+        public Context sharedMemoryEnabled(boolean sharedMemoryEnabled) {
+            this.sharedMemoryEnabled = sharedMemoryEnabled;
+            return this;
+        }
+
         public Context selectionKeyWakeupEnabled(boolean selectionKeyWakeupEnabled) {
             this.selectionKeyWakeupEnabled = selectionKeyWakeupEnabled;
             return this;
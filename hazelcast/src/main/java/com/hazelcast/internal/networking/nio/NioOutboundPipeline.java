@@ -33,6 +33,7 @@ import java.nio.ByteBuffer;
 import java.nio.channels.CancelledKeyException;
 import java.nio.channels.SelectionKey;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicReference;
@@ -50,6 +51,7 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKIN
 import static com.hazelcast.internal.metrics.ProbeLevel.DEBUG;
 import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
 import static com.hazelcast.internal.metrics.ProbeUnit.MS;
+import static com.hazelcast.internal.networking.HandlerStatus.BLOCKED;
 import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
 import static com.hazelcast.internal.networking.HandlerStatus.DIRTY;
 import static com.hazelcast.internal.util.EmptyStatement.ignore;
@@ -59,7 +61,6 @@ import static com.hazelcast.internal.util.collection.ArrayUtils.replaceFirst;
 import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
 import static java.lang.Math.max;
 import static java.lang.System.currentTimeMillis;
-import static java.lang.Thread.currentThread;
 import static java.nio.channels.SelectionKey.OP_WRITE;
 
 public final class NioOutboundPipeline
@@ -166,6 +167,22 @@ public final class NioOutboundPipeline
         return writeQueue.size() + priorityWriteQueue.size();
     }
 
+    @Override
+    public int framesPending(int max) {
+        int count = framesPending(priorityWriteQueue, max);
+        return count + framesPending(writeQueue, max - count);
+    }
+
+    private static int framesPending(Queue<OutboundFrame> writeQueue, int max) {
+        int count = 0;
+        Iterator<OutboundFrame> it = writeQueue.iterator();
+        while (count < max && it.hasNext()) {
+            it.next();
+            count++;
+        }
+        return count;
+    }
+
     public long lastWriteTimeMillis() {
         return lastWriteTime;
     }
@@ -330,11 +347,7 @@ public final class NioOutboundPipeline
             return;
         }
 
-        if (sendBuffer.remaining() > 0) {
-            pipelineStatus = DIRTY;
-        }
-
-        switch (pipelineStatus) {
+        switch (flushStatus(pipelineStatus)) {
             case CLEAN:
                 postProcessClean();
                 break;
@@ -349,6 +362,16 @@ public final class NioOutboundPipeline
         }
     }
 
+    private HandlerStatus flushStatus(HandlerStatus handlersStatus) {
+        if (transport != null && transport.isWaitingForRoom()) {
+            // the shared memory ring is full; the reader wakes up the pipeline once it has made room
+            return BLOCKED;
+        } else if (sendBuffer.remaining() > 0 || transport != null && transport.hasPendingOutput()) {
+            return DIRTY;
+        }
+        return handlersStatus;
+    }
+
     private void postProcessBlocked() throws IOException {
         // pipeline is blocked; no point in receiving OP_WRITE events.
         unregisterOp(OP_WRITE);
@@ -436,7 +459,7 @@ public final class NioOutboundPipeline
 
     private void flushToSocket() throws IOException {
         lastWriteTime = currentTimeMillis();
-        int written = socketChannel.write(sendBuffer);
+        int written = transport == null ? socketChannel.write(sendBuffer) : transport.write(sendBuffer);
         bytesWritten.inc(written);
         //System.out.println(channel + " bytes written:" + written);
     }
@@ -452,7 +475,7 @@ public final class NioOutboundPipeline
 
     @Override
     protected void publishMetrics() {
-        if (currentThread() != owner) {
+        if (!runsOnOwner()) {
             return;
         }
 
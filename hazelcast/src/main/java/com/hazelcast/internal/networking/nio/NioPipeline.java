@@ -62,6 +62,9 @@ public abstract class NioPipeline implements MigratablePipeline, Runnable {
     // in case of outbound pipeline, this selectionKey is only changed when the pipeline is scheduled
     // (so a single thread has claimed possession of the pipeline)
     protected volatile SelectionKey selectionKey;
+    // moves the bytes through shared memory instead of the socket; null if the channel
+    // only uses the socket. Set before the pipeline is started.
+    SharedMemoryTransport transport;
     private final ChannelErrorHandler errorHandler;
     private final int initialOps;
     private final IOBalancer ioBalancer;
@@ -120,6 +123,17 @@ public abstract class NioPipeline implements MigratablePipeline, Runnable {
         return owner;
     }
 
+    /**
+     * Checks if the calling thread runs the event loop of the current owner.
+     *
+     * @return true if the calling thread runs the owner's event loop, false
+     * otherwise or if the pipeline is being migrated
+     */
+    final boolean runsOnOwner() {
+        NioThread localOwner = owner;
+        return localOwner != null && localOwner.isEventLoopThread();
+    }
+
     void start() {
         owner.addTaskAndWakeup(() -> {
             try {
@@ -225,7 +239,7 @@ public abstract class NioPipeline implements MigratablePipeline, Runnable {
 
     @Override
     public final void run() {
-        if (owner == currentThread()) {
+        if (runsOnOwner()) {
             try {
                 process();
             } catch (Throwable t) {
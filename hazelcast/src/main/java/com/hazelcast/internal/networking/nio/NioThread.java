@@ -28,8 +28,10 @@ import com.hazelcast.spi.impl.operationexecutor.OperationHostileThread;
 import java.io.IOException;
 import java.nio.channels.CancelledKeyException;
 import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
+import java.util.ArrayDeque;
 import java.util.Iterator;
 import java.util.Queue;
 import java.util.Random;
@@ -89,6 +91,8 @@ public class NioThread extends HazelcastManagedThread implements OperationHostil
 
     @Probe(name = NETWORKING_METRIC_NIO_THREAD_TASK_QUEUE_SIZE)
     private final Queue<Runnable> taskQueue = new ConcurrentLinkedQueue<>();
+    // tasks that are run in the next round of the event loop; only accessed by the event loop thread
+    private final Queue<Runnable> nextRoundTasks = new ArrayDeque<>();
     @Probe(name = NETWORKING_METRIC_NIO_THREAD_EVENT_COUNT)
     private final SwCounter eventCount = newSwCounter();
     @Probe(name = NETWORKING_METRIC_NIO_THREAD_SELECTOR_IO_EXCEPTION_COUNT)
@@ -114,6 +118,9 @@ public class NioThread extends HazelcastManagedThread implements OperationHostil
 
     private volatile boolean stop;
 
+    // the thread running the event loop; this thread unless the event loop is hosted by another thread
+    private volatile Thread eventLoopThread = this;
+
     // set to true while testing
     private boolean selectorWorkaroundTest;
 
@@ -174,6 +181,31 @@ public class NioThread extends HazelcastManagedThread implements OperationHostil
         return completedTaskCount.get();
     }
 
+    /**
+     * Lets the given thread run the event loop of this NioThread instead of
+     * this thread itself. The hosting thread drives the event loop by calling
+     * {@link #runEventLoopOnce(boolean)} and this NioThread must not be
+     * started.
+     * <p>
+     * This method should be called before any pipeline is assigned to this
+     * NioThread.
+     *
+     * @param eventLoopThread the thread hosting the event loop
+     */
+    public void setEventLoopThread(Thread eventLoopThread) {
+        this.eventLoopThread = eventLoopThread;
+    }
+
+    /**
+     * Checks if the calling thread is the thread running the event loop of
+     * this NioThread.
+     *
+     * @return true if the calling thread runs the event loop, false otherwise
+     */
+    public boolean isEventLoopThread() {
+        return Thread.currentThread() == eventLoopThread;
+    }
+
     /**
      * Gets the Selector
      *
@@ -226,6 +258,61 @@ public class NioThread extends HazelcastManagedThread implements OperationHostil
         }
     }
 
+    /**
+     * Adds a task that is run in the next round of the event loop, so after
+     * the ready selection keys are processed. Unlike {@link #addTask(Runnable)},
+     * a task that keeps adding itself this way can't starve the other pipelines
+     * of this NioThread. While there are such tasks, the event loop doesn't
+     * block on the selector.
+     * <p>
+     * This method should only be called by the thread running the event loop.
+     *
+     * @param task the task to add
+     * @throws NullPointerException if task is null
+     */
+    void addTaskNextRound(Runnable task) {
+        nextRoundTasks.add(task);
+    }
+
+    /**
+     * Runs a single round of the event loop on the hosting thread: the
+     * pending tasks are executed and the ready selection keys are processed.
+     * <p>
+     * This method should only be called by the thread set with
+     * {@link #setEventLoopThread(Thread)}. The selector workaround of
+     * {@link SelectorMode#SELECT_WITH_FIX} isn't applied to a hosted event
+     * loop.
+     *
+     * @param block true if the call should block until an event arrives or
+     *              the {@link #getSelector() selector} is woken up, false if only the events that
+     *              are already pending should be processed
+     */
+    public void runEventLoopOnce(boolean block) {
+        if (stop) {
+            return;
+        }
+
+        try {
+            processTaskQueue();
+
+            int selectedKeys = block && selectMode != SELECT_NOW
+                    ? select()
+                    : selector.selectNow();
+            if (selectedKeys > 0) {
+                processSelectionKeys();
+            }
+        } catch (ClosedSelectorException e) {
+            // the event loop was shut down while it was running
+            ignore(e);
+        } catch (IOException e) {
+            selectorIOExceptionCount.inc();
+            logger.warning(getName() + " " + e.toString(), e);
+        } catch (Throwable e) {
+            // unlike a dedicated NioThread, the hosting thread keeps running
+            errorHandler.onError(null, e);
+        }
+    }
+
     @Override
     public void executeRun() {
         // This outer loop is a bit complex but it takes care of a lot of stuff:
@@ -289,7 +376,7 @@ public class NioThread extends HazelcastManagedThread implements OperationHostil
         while (!stop) {
             processTaskQueue();
 
-            int selectedKeys = selector.select(SELECT_WAIT_TIME_MILLIS);
+            int selectedKeys = select();
             if (selectedKeys > 0) {
                 processSelectionKeys();
             }
@@ -302,11 +389,11 @@ public class NioThread extends HazelcastManagedThread implements OperationHostil
             processTaskQueue();
 
             long before = currentTimeMillis();
-            int selectedKeys = selector.select(SELECT_WAIT_TIME_MILLIS);
+            int selectedKeys = select();
             if (selectedKeys > 0) {
                 idleCount = 0;
                 processSelectionKeys();
-            } else if (!taskQueue.isEmpty()) {
+            } else if (!taskQueue.isEmpty() || !nextRoundTasks.isEmpty()) {
                 idleCount = 0;
             } else {
                 // no keys were selected, not interrupted by wakeup therefore we hit an issue with JDK/network stack
@@ -345,8 +432,18 @@ public class NioThread extends HazelcastManagedThread implements OperationHostil
         }
     }
 
+    private int select() throws IOException {
+        return nextRoundTasks.isEmpty() ? selector.select(SELECT_WAIT_TIME_MILLIS) : selector.selectNow();
+    }
+
     private boolean processTaskQueue() {
         boolean tasksProcessed = false;
+        // only the tasks added in the previous round are run; the ones they add are left for the next round
+        for (int k = nextRoundTasks.size(); k > 0 && !stop; k--) {
+            nextRoundTasks.poll().run();
+            completedTaskCount.inc();
+            tasksProcessed = true;
+        }
         while (!stop) {
             Runnable task = taskQueue.poll();
             if (task == null) {
@@ -401,7 +498,12 @@ public class NioThread extends HazelcastManagedThread implements OperationHostil
     public void shutdown() {
         stop = true;
         taskQueue.clear();
-        interrupt();
+        if (eventLoopThread == this) {
+            interrupt();
+        } else {
+            // a hosted event loop isn't ended by its hosting thread, so the selector is closed here
+            closeSelector();
+        }
     }
 
     // this method is always invoked in this thread
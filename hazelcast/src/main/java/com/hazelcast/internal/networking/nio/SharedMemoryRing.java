@@ -0,0 +1,409 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.networking.nio;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static com.hazelcast.internal.memory.GlobalMemoryAccessorRegistry.MEM;
+import static com.hazelcast.internal.memory.GlobalMemoryAccessorRegistry.MEM_AVAILABLE;
+import static com.hazelcast.internal.memory.impl.UnsafeUtil.UNSAFE;
+import static com.hazelcast.internal.nio.IOUtil.closeResource;
+import static com.hazelcast.internal.nio.IOUtil.deleteQuietly;
+import static com.hazelcast.internal.util.EmptyStatement.ignore;
+import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
+import static com.hazelcast.internal.util.Preconditions.checkTrue;
+import static com.hazelcast.internal.util.QuickMath.isPowerOfTwo;
+import static java.lang.Math.min;
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * A single producer single consumer ring buffer of bytes in a memory mapped
+ * file, so it can be shared by two processes on the same host.
+ * <p>
+ * The file starts with a header that contains the head (the read
+ * position), the tail (the write position), the reader-waiting flag and the
+ * writer-waiting flag, each on its own cache line, followed by the data. The
+ * positions only grow; the index of a position in the data is
+ * {@code position & (capacity - 1)}. The header fields are accessed with
+ * volatile semantics since the ring is shared across processes.
+ * <p>
+ * The reader-waiting flag lets the reader sleep when the ring is empty: the
+ * reader sets it and checks the ring again, the writer clears it after
+ * publishing data and, if it was set, notifies the reader out of band. The
+ * writer-waiting flag works the same way the other way around, so the writer
+ * can sleep while the ring is full.
+ * <p>
+ * The file is created readable and writable by its owner only, and all its
+ * pages are allocated upfront: if the memory of the file system runs out,
+ * the creation fails instead of the process being killed by a
+ * {@code SIGBUS} when it touches a page that can't be allocated.
+ * <p>
+ * The memory is unmapped when the ring is closed, once the accesses that are
+ * in progress have {@link #release() released} it.
+ */
+final class SharedMemoryRing {
+
+    static final int HEADER_LENGTH = 256;
+
+    private static final int HEAD_OFFSET = 0;
+    private static final int TAIL_OFFSET = 64;
+    private static final int READER_WAITING_OFFSET = 128;
+    private static final int WRITER_WAITING_OFFSET = 192;
+    private static final int PREALLOCATION_CHUNK_SIZE = 1 << 16;
+    private static final FileAttribute<Set<PosixFilePermission>> OWNER_ONLY
+            = PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------"));
+    private static final long BUFFER_ADDRESS_OFFSET = bufferAddressOffset();
+    private static final Consumer<ByteBuffer> UNMAPPER = unmapper();
+
+    private final File file;
+    private final MappedByteBuffer mapped;
+    private final ByteBuffer data;
+    private final long headAddress;
+    private final long tailAddress;
+    private final long readerWaitingAddress;
+    private final long writerWaitingAddress;
+    private final int capacity;
+    private final int mask;
+    // the reference of the ring itself plus one per access in progress
+    private final AtomicInteger references = new AtomicInteger(1);
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private SharedMemoryRing(File file, MappedByteBuffer mapped) {
+        this.file = file;
+        this.mapped = mapped;
+        this.capacity = mapped.capacity() - HEADER_LENGTH;
+        this.mask = capacity - 1;
+        // the methods of ByteBuffer are used, since MappedByteBuffer only overrides them since Java 13
+        ByteBuffer buffer = mapped;
+        buffer.position(HEADER_LENGTH);
+        this.data = buffer.slice();
+        long address = MEM.getLong(mapped, BUFFER_ADDRESS_OFFSET);
+        this.headAddress = address + HEAD_OFFSET;
+        this.tailAddress = address + TAIL_OFFSET;
+        this.readerWaitingAddress = address + READER_WAITING_OFFSET;
+        this.writerWaitingAddress = address + WRITER_WAITING_OFFSET;
+    }
+
+    /**
+     * Checks if shared memory rings can be used in this JVM, which requires
+     * access to the address of a direct buffer.
+     */
+    static boolean isSupported() {
+        return BUFFER_ADDRESS_OFFSET >= 0;
+    }
+
+    /**
+     * Creates a new ring in the given file.
+     *
+     * @param file     the file to create, should not exist yet
+     * @param capacity the number of data bytes, a power of two
+     * @return the created ring
+     * @throws IOException if the file can't be created or mapped, or if there
+     *                     isn't enough space left for it
+     */
+    static SharedMemoryRing create(File file, int capacity) throws IOException {
+        checkTrue(isPowerOfTwo(capacity), "capacity should be a power of two");
+        int length = HEADER_LENGTH + capacity;
+        File directory = file.getAbsoluteFile().getParentFile();
+        if (directory.getUsableSpace() < length) {
+            throw new IOException("Not enough space left in " + directory + " for " + file);
+        }
+
+        FileChannel channel = FileChannel.open(file.toPath(), EnumSet.of(CREATE_NEW, READ, WRITE), OWNER_ONLY);
+        try {
+            preallocate(channel, length);
+            return new SharedMemoryRing(file, channel.map(READ_WRITE, 0, length));
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw e;
+        } finally {
+            closeResource(channel);
+        }
+    }
+
+    /**
+     * Opens a ring that was created by another process.
+     *
+     * @param file the file of the ring
+     * @return the opened ring
+     * @throws IOException if the file doesn't exist, can't be mapped or has
+     *                     an invalid length
+     */
+    static SharedMemoryRing open(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), READ, WRITE)) {
+            long length = channel.size();
+            long capacity = length - HEADER_LENGTH;
+            if (capacity <= 0 || capacity > Integer.MAX_VALUE - HEADER_LENGTH || !isPowerOfTwo(capacity)) {
+                throw new IOException("File " + file + " has an invalid length " + length);
+            }
+            return new SharedMemoryRing(file, channel.map(READ_WRITE, 0, length));
+        }
+    }
+
+    File file() {
+        return file;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Acquires a reference to the memory of this ring, which should be
+     * {@link #release() released} once the access is done. The memory isn't
+     * unmapped while it's referenced.
+     *
+     * @return true if the memory can be accessed, false if the ring has been
+     * closed and its memory unmapped
+     */
+    boolean acquire() {
+        for (; ; ) {
+            int current = references.get();
+            if (current == 0) {
+                return false;
+            }
+            if (references.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a reference acquired by {@link #acquire()}.
+     */
+    void release() {
+        if (references.decrementAndGet() == 0) {
+            unmap(mapped);
+        }
+    }
+
+    /**
+     * Closes this ring. The memory is unmapped once all the references are
+     * released. Can be called multiple times and by any thread.
+     */
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            release();
+        }
+    }
+
+    /**
+     * Copies as many bytes from the source into this ring as fit. Should only
+     * be called by the writer.
+     *
+     * @param src the buffer to copy from, in reading mode
+     * @return the number of bytes written
+     */
+    int write(ByteBuffer src) {
+        long tail = MEM.getLongVolatile(tailAddress);
+        long head = MEM.getLongVolatile(headAddress);
+        int length = min(capacity - (int) (tail - head), src.remaining());
+        if (length == 0) {
+            return 0;
+        }
+
+        int index = (int) tail & mask;
+        int first = min(length, capacity - index);
+        copyToRing(src, index, first);
+        copyToRing(src, 0, length - first);
+        // a full fence, so the publication is ordered before reading the reader-waiting flag
+        MEM.putLongVolatile(tailAddress, tail + length);
+        return length;
+    }
+
+    /**
+     * Copies as many bytes from this ring into the destination as are
+     * available and fit. Should only be called by the reader.
+     *
+     * @param dst the buffer to copy into, in writing mode
+     * @return the number of bytes read
+     */
+    int read(ByteBuffer dst) {
+        long head = MEM.getLongVolatile(headAddress);
+        long tail = MEM.getLongVolatile(tailAddress);
+        int length = (int) min(tail - head, dst.remaining());
+        if (length == 0) {
+            return 0;
+        }
+
+        int index = (int) head & mask;
+        int first = min(length, capacity - index);
+        copyFromRing(dst, index, first);
+        copyFromRing(dst, 0, length - first);
+        // a full fence, so the room made is ordered before reading the writer-waiting flag
+        MEM.putLongVolatile(headAddress, head + length);
+        return length;
+    }
+
+    boolean isEmpty() {
+        return MEM.getLongVolatile(headAddress) == MEM.getLongVolatile(tailAddress);
+    }
+
+    boolean isFull() {
+        return MEM.getLongVolatile(tailAddress) - MEM.getLongVolatile(headAddress) == capacity;
+    }
+
+    /**
+     * Marks the reader as waiting for data. The reader should check the ring
+     * again afterwards, since data could have been written in the meantime.
+     */
+    void setReaderWaiting() {
+        MEM.putLongVolatile(readerWaitingAddress, 1);
+    }
+
+    /**
+     * Clears the reader-waiting flag. Should be called by the writer after
+     * writing data.
+     *
+     * @return true if the reader was waiting and needs to be notified
+     */
+    boolean clearReaderWaiting() {
+        return clearFlag(readerWaitingAddress);
+    }
+
+    /**
+     * Marks the writer as waiting for room. The writer should check the ring
+     * again afterwards, since room could have been made in the meantime.
+     */
+    void setWriterWaiting() {
+        MEM.putLongVolatile(writerWaitingAddress, 1);
+    }
+
+    /**
+     * Clears the writer-waiting flag. Should be called by the reader after
+     * reading data.
+     *
+     * @return true if the writer was waiting and needs to be notified
+     */
+    boolean clearWriterWaiting() {
+        return clearFlag(writerWaitingAddress);
+    }
+
+    private static boolean clearFlag(long address) {
+        return MEM.getLongVolatile(address) == 1
+                && MEM.compareAndSwapLong(address, 1, 0);
+    }
+
+    private void copyToRing(ByteBuffer src, int index, int length) {
+        if (length == 0) {
+            return;
+        }
+        int limit = src.limit();
+        src.limit(src.position() + length);
+        data.limit(index + length).position(index);
+        data.put(src);
+        src.limit(limit);
+    }
+
+    private void copyFromRing(ByteBuffer dst, int index, int length) {
+        if (length == 0) {
+            return;
+        }
+        data.limit(index + length).position(index);
+        dst.put(data);
+    }
+
+    // writes zeros instead of extending the file, so the pages are allocated now and not on the first access
+    private static void preallocate(FileChannel channel, int length) throws IOException {
+        ByteBuffer zeros = ByteBuffer.allocate(min(length, PREALLOCATION_CHUNK_SIZE));
+        int position = 0;
+        while (position < length) {
+            zeros.clear();
+            zeros.limit(min(zeros.capacity(), length - position));
+            position += channel.write(zeros, position);
+        }
+    }
+
+    private static void unmap(ByteBuffer buffer) {
+        if (UNMAPPER == null) {
+            // the memory is released once the buffer is garbage collected
+            return;
+        }
+        try {
+            UNMAPPER.accept(buffer);
+        } catch (Exception e) {
+            ignore(e);
+        }
+    }
+
+    private static long bufferAddressOffset() {
+        if (!MEM_AVAILABLE) {
+            return -1;
+        }
+        try {
+            Field field = Buffer.class.getDeclaredField("address");
+            return MEM.objectFieldOffset(field);
+        } catch (Exception e) {
+            ignore(e);
+            return -1;
+        }
+    }
+
+    private static Consumer<ByteBuffer> unmapper() {
+        if (UNSAFE == null) {
+            return null;
+        }
+        try {
+            // Java 9 and later
+            Method invokeCleaner = UNSAFE.getClass().getMethod("invokeCleaner", ByteBuffer.class);
+            return buffer -> invoke(invokeCleaner, UNSAFE, buffer);
+        } catch (Exception e) {
+            ignore(e);
+        }
+        try {
+            // Java 8
+            Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+            Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+            return buffer -> invoke(clean, invoke(cleaner, buffer));
+        } catch (Exception e) {
+            ignore(e);
+            return null;
+        }
+    }
+
+    private static Object invoke(Method method, Object target, Object... arguments) {
+        try {
+            return method.invoke(target, arguments);
+        } catch (Exception e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SharedMemoryRing{file=" + file + ", capacity=" + capacity + '}';
+    }
+}
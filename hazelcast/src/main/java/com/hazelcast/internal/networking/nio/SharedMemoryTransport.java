@@ -0,0 +1,603 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.networking.nio;
+
+import com.hazelcast.internal.util.UuidUtil;
+import com.hazelcast.logging.ILogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+import static com.hazelcast.internal.nio.IOUtil.deleteQuietly;
+import static com.hazelcast.internal.util.StringUtil.bytesToString;
+import static com.hazelcast.internal.util.StringUtil.stringToBytes;
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+/**
+ * Moves the bytes of a {@link NioChannel} through a pair of
+ * {@link SharedMemoryRing}s instead of the socket when both ends of the
+ * channel are on the same host.
+ * <p>
+ * The socket is still used to set up the channel and to detect that it is
+ * closed. The side that connects (the channel in client mode) creates the
+ * rings in {@code /dev/shm} and sends their name in a preamble before
+ * anything else. The accepting side replies with {@link #ACCEPTED} once it
+ * has opened the rings, or with {@link #DECLINED} if it can't or doesn't want
+ * to, and then both sides fall back to the socket. If the first bytes aren't
+ * a preamble, the accepting side passes them on untouched and the channel
+ * uses the socket without any reply.
+ * <p>
+ * Once the rings are used, the socket only carries doorbells: a single byte
+ * that a writer sends after writing to a ring while the reader is waiting
+ * for data, or that a reader sends after reading from a ring while the writer
+ * is waiting for room, so the other side is woken up by its selector. A
+ * doorbell costs a socket write on the sending side and a selector wakeup
+ * plus a socket read on the receiving side, which is about what a small frame
+ * costs over the loopback interface, so a request-response exchange between
+ * two idle sides doesn't get cheaper. While data keeps flowing, no doorbells
+ * are needed since both sides check the rings again in the next round of
+ * their event loops; that's where the rings save the system calls.
+ * <p>
+ * If a ring is full, the writer marks itself as waiting for room and its
+ * outbound pipeline is blocked until the doorbell of the reader arrives,
+ * instead of retrying on every {@code OP_WRITE} event.
+ * <p>
+ * The connecting side deletes the files of the rings when the channel is
+ * closed, the accepting side as soon as it has opened them. The files left
+ * behind by a process that died before that are deleted by
+ * {@link #deleteStaleRings(ILogger)}.
+ * <p>
+ * The {@link #read(ByteBuffer)} and {@link #hasPendingInput()} methods are
+ * called by the thread owning the inbound pipeline, the {@link
+ * #write(ByteBuffer)} and {@link #hasPendingOutput()} methods by the
+ * thread owning the outbound pipeline.
+ */
+final class SharedMemoryTransport {
+
+    static final byte[] MAGIC = stringToBytes("HSM");
+    static final byte VERSION = 1;
+    static final byte ACCEPTED = 'Y';
+    static final byte DECLINED = 'N';
+    // the bits of a doorbell
+    static final byte DOORBELL_DATA = 1;
+    static final byte DOORBELL_ROOM = 2;
+    static final int RING_CAPACITY = 1 << 20;
+    static final File DIRECTORY = new File("/dev/shm");
+
+    private static final String PREFIX = "hz-shm-";
+    private static final String CLIENT_TO_SERVER = "-c2s";
+    private static final String SERVER_TO_CLIENT = "-s2c";
+    private static final Pattern NAME_PATTERN = Pattern.compile(PREFIX + "[0-9a-f-]{36}");
+    private static final Pattern FILE_NAME_PATTERN
+            = Pattern.compile(NAME_PATTERN.pattern() + "(" + CLIENT_TO_SERVER + "|" + SERVER_TO_CLIENT + ")");
+    // the files of a connection only exist while it's being set up
+    private static final long STALE_RING_AGE_MILLIS = MINUTES.toMillis(1);
+    private static final int PREAMBLE_HEADER_LENGTH = MAGIC.length + 2;
+    private static final int MAX_NAME_LENGTH = 64;
+    private static final int DOORBELL_BUFFER_SIZE = 64;
+    private static final int FALLBACK_BUFFER_SIZE = 1 << 16;
+
+    enum Mode {
+        NEGOTIATING,
+        SHARED_MEMORY,
+        SOCKET
+    }
+
+    private final NioChannel channel;
+    private final SocketChannel socketChannel;
+    private final boolean clientMode;
+    private final boolean enabled;
+    private final ILogger logger;
+    private volatile Mode mode = Mode.SOCKET;
+
+    // the ring this side reads from and the ring this side writes to
+    private volatile SharedMemoryRing inRing;
+    private volatile SharedMemoryRing outRing;
+
+    // the preamble or the reply waiting to be written to the socket
+    private volatile ByteBuffer controlOut;
+    // the preamble or the reply being read from the socket
+    private final ByteBuffer controlIn = ByteBuffer.allocate(PREAMBLE_HEADER_LENGTH + MAX_NAME_LENGTH);
+    private final ByteBuffer doorbellIn = ByteBuffer.allocate(DOORBELL_BUFFER_SIZE);
+    private final ByteBuffer doorbellOut = ByteBuffer.allocate(1);
+    // the bits of the doorbell waiting to be written to the socket
+    private byte doorbell;
+    // set by the inbound pipeline when it made room the other side is waiting for
+    private final AtomicBoolean roomDoorbellPending = new AtomicBoolean();
+    private boolean waitingForRoom;
+    private ByteBuffer fallbackOut;
+    private boolean endOfStream;
+
+    /**
+     * @param channel       the channel
+     * @param socketChannel the socket of the channel
+     * @param clientMode    true if this side connected, false if it accepted
+     *                      the connection
+     * @param enabled       true if shared memory should be offered when
+     *                      connecting or used when offered by the connecting side
+     * @param logger        the logger
+     */
+    SharedMemoryTransport(NioChannel channel,
+                          SocketChannel socketChannel,
+                          boolean clientMode,
+                          boolean enabled,
+                          ILogger logger) {
+        this.channel = channel;
+        this.socketChannel = socketChannel;
+        this.clientMode = clientMode;
+        this.enabled = enabled;
+        this.logger = logger;
+    }
+
+    /**
+     * Checks if shared memory can be used for a connection from this host to
+     * the given address.
+     */
+    static boolean isSupported(InetAddress remoteAddress) {
+        if (remoteAddress == null || !DIRECTORY.isDirectory() || !SharedMemoryRing.isSupported()) {
+            return false;
+        }
+        try {
+            return remoteAddress.isLoopbackAddress()
+                    || remoteAddress.isAnyLocalAddress()
+                    || NetworkInterface.getByInetAddress(remoteAddress) != null;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Deletes the files of rings that are older than a minute. They were left
+     * behind by a process that died while it was setting up a connection.
+     * Should be called when the networking starts.
+     */
+    static void deleteStaleRings(ILogger logger) {
+        File[] files = DIRECTORY.listFiles((dir, name) -> FILE_NAME_PATTERN.matcher(name).matches());
+        if (files == null) {
+            return;
+        }
+        long staleBefore = System.currentTimeMillis() - STALE_RING_AGE_MILLIS;
+        for (File file : files) {
+            if (file.lastModified() < staleBefore) {
+                logger.fine("Deleting stale shared memory ring " + file);
+                deleteQuietly(file);
+            }
+        }
+    }
+
+    /**
+     * Starts the negotiation. Should be called before the pipelines of the
+     * channel are started.
+     */
+    void start() {
+        controlIn.limit(clientMode ? 1 : MAGIC.length);
+        if (!clientMode) {
+            mode = Mode.NEGOTIATING;
+            return;
+        }
+
+        if (!enabled || !isSupported(socketChannel.socket().getInetAddress())) {
+            return;
+        }
+
+        String name = PREFIX + UuidUtil.newUnsecureUUID();
+        try {
+            outRing = SharedMemoryRing.create(new File(DIRECTORY, name + CLIENT_TO_SERVER), RING_CAPACITY);
+            inRing = SharedMemoryRing.create(new File(DIRECTORY, name + SERVER_TO_CLIENT), RING_CAPACITY);
+        } catch (IOException e) {
+            logger.fine("Failed to create the shared memory rings for " + channel + ", using the socket", e);
+            deleteRings();
+            closeRings();
+            outRing = null;
+            inRing = null;
+            return;
+        }
+
+        byte[] nameBytes = stringToBytes(name);
+        ByteBuffer preamble = ByteBuffer.allocate(PREAMBLE_HEADER_LENGTH + nameBytes.length);
+        preamble.put(MAGIC).put(VERSION).put((byte) nameBytes.length).put(nameBytes).flip();
+        controlOut = preamble;
+        mode = Mode.NEGOTIATING;
+    }
+
+    Mode mode() {
+        return mode;
+    }
+
+    /**
+     * Reads bytes into the destination buffer, like {@link SocketChannel#read(ByteBuffer)}.
+     *
+     * @return the number of bytes read, or -1 if the channel was closed by the
+     * other side
+     */
+    int read(ByteBuffer dst) throws IOException {
+        switch (mode) {
+            case SOCKET:
+                return socketChannel.read(dst);
+            case SHARED_MEMORY:
+                return readSharedMemory(dst);
+            case NEGOTIATING:
+                return clientMode ? readReply(dst) : readPreamble(dst);
+            default:
+                throw new IllegalStateException();
+        }
+    }
+
+    private int readSharedMemory(ByteBuffer dst) throws IOException {
+        if (!endOfStream) {
+            readDoorbells();
+        }
+
+        SharedMemoryRing ring = acquire(inRing);
+        try {
+            // the ring is drained before the end of stream is reported, so the
+            // last bytes written before the other side closed aren't lost
+            int read = ring.read(dst);
+            if (read > 0 && ring.clearWriterWaiting()) {
+                // the doorbell is sent by the outbound pipeline
+                roomDoorbellPending.set(true);
+                channel.outboundPipeline().wakeup();
+            }
+            return read == 0 && endOfStream ? -1 : read;
+        } finally {
+            ring.release();
+        }
+    }
+
+    // the socket only carries doorbells; only the ones for room in the ring this side writes to matter
+    private void readDoorbells() throws IOException {
+        boolean room = false;
+        for (; ; ) {
+            doorbellIn.clear();
+            int read = socketChannel.read(doorbellIn);
+            for (int k = 0; k < read; k++) {
+                room |= (doorbellIn.get(k) & DOORBELL_ROOM) != 0;
+            }
+            if (read == -1) {
+                endOfStream = true;
+                break;
+            } else if (read < doorbellIn.capacity()) {
+                break;
+            }
+        }
+        if (room) {
+            channel.outboundPipeline().wakeup();
+        }
+    }
+
+    private int readReply(ByteBuffer dst) throws IOException {
+        if (socketChannel.read(controlIn) == -1) {
+            return -1;
+        }
+        if (controlIn.hasRemaining()) {
+            return 0;
+        }
+
+        if (controlIn.get(0) == ACCEPTED) {
+            mode = Mode.SHARED_MEMORY;
+            return readSharedMemory(dst);
+        } else if (controlIn.get(0) == DECLINED) {
+            logger.fine("Shared memory was declined for " + channel + ", using the socket");
+            // the outbound pipeline copies what it already wrote to the ring to the socket
+            deleteRings();
+            inRing.close();
+            inRing = null;
+            mode = Mode.SOCKET;
+            channel.outboundPipeline().wakeup();
+            return socketChannel.read(dst);
+        } else {
+            throw new IOException("Unexpected reply " + controlIn.get(0) + " to the shared memory preamble");
+        }
+    }
+
+    private int readPreamble(ByteBuffer dst) throws IOException {
+        int read = socketChannel.read(controlIn);
+        int position = controlIn.position();
+        if (!startsWithMagic(position)) {
+            // not a preamble; the bytes read so far are passed on untouched
+            mode = Mode.SOCKET;
+            controlIn.flip();
+            dst.put(controlIn);
+            return position;
+        }
+
+        if (read == -1) {
+            return -1;
+        }
+        if (controlIn.hasRemaining()) {
+            return 0;
+        }
+        if (position == MAGIC.length) {
+            controlIn.limit(PREAMBLE_HEADER_LENGTH);
+            return readPreamble(dst);
+        }
+        if (position == PREAMBLE_HEADER_LENGTH) {
+            controlIn.limit(PREAMBLE_HEADER_LENGTH + nameLength());
+            return readPreamble(dst);
+        }
+
+        acceptPreamble(position);
+        return read(dst);
+    }
+
+    private boolean startsWithMagic(int position) {
+        for (int k = 0; k < position && k < MAGIC.length; k++) {
+            if (controlIn.get(k) != MAGIC[k]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int nameLength() throws IOException {
+        int nameLength = Byte.toUnsignedInt(controlIn.get(MAGIC.length + 1));
+        if (nameLength == 0 || nameLength > MAX_NAME_LENGTH) {
+            throw new IOException("Invalid shared memory preamble from " + channel);
+        }
+        return nameLength;
+    }
+
+    private void acceptPreamble(int position) {
+        byte version = controlIn.get(MAGIC.length);
+        byte[] nameBytes = new byte[position - PREAMBLE_HEADER_LENGTH];
+        controlIn.position(PREAMBLE_HEADER_LENGTH);
+        controlIn.get(nameBytes);
+        String name = bytesToString(nameBytes);
+        boolean accepted = enabled && version == VERSION && openRings(name);
+        ByteBuffer reply = ByteBuffer.allocate(1);
+        reply.put(accepted ? ACCEPTED : DECLINED).flip();
+        controlOut = reply;
+        mode = accepted ? Mode.SHARED_MEMORY : Mode.SOCKET;
+        channel.outboundPipeline().wakeup();
+    }
+
+    private boolean openRings(String name) {
+        if (!NAME_PATTERN.matcher(name).matches()) {
+            logger.warning("Invalid shared memory ring name '" + name + "' from " + channel);
+            return false;
+        }
+        if (!isSupported(socketChannel.socket().getInetAddress())) {
+            return false;
+        }
+
+        File inFile = new File(DIRECTORY, name + CLIENT_TO_SERVER);
+        File outFile = new File(DIRECTORY, name + SERVER_TO_CLIENT);
+        try {
+            inRing = SharedMemoryRing.open(inFile);
+            outRing = SharedMemoryRing.open(outFile);
+            return true;
+        } catch (IOException e) {
+            logger.fine("Failed to open the shared memory rings for " + channel + ", using the socket", e);
+            closeRings();
+            inRing = null;
+            outRing = null;
+            return false;
+        } finally {
+            // the mappings remain valid after the files are deleted
+            deleteQuietly(inFile);
+            deleteQuietly(outFile);
+        }
+    }
+
+    /**
+     * Checks if the ring this side reads from contains bytes. If it doesn't,
+     * the reader is marked as waiting so the writer will send a doorbell
+     * after it writes.
+     *
+     * @return true if the inbound pipeline should be processed again
+     */
+    boolean hasPendingInput() {
+        if (mode != Mode.SHARED_MEMORY || endOfStream) {
+            return false;
+        }
+        SharedMemoryRing ring = inRing;
+        if (!ring.acquire()) {
+            return false;
+        }
+        try {
+            if (!ring.isEmpty()) {
+                return true;
+            }
+            ring.setReaderWaiting();
+            // bytes could have been written before the flag was seen by the writer
+            return !ring.isEmpty();
+        } finally {
+            ring.release();
+        }
+    }
+
+    /**
+     * Writes bytes from the source buffer, like {@link SocketChannel#write(ByteBuffer)}.
+     *
+     * @return the number of bytes written
+     */
+    int write(ByteBuffer src) throws IOException {
+        waitingForRoom = false;
+        if (!flushControl()) {
+            return 0;
+        }
+
+        switch (mode) {
+            case NEGOTIATING:
+                // the connecting side optimistically writes to the ring; the accepting
+                // side has nothing to write until the preamble has been read
+                return clientMode ? writeSharedMemory(src) : 0;
+            case SHARED_MEMORY:
+                return writeSharedMemory(src);
+            case SOCKET:
+                return drainRingToSocket() ? socketChannel.write(src) : 0;
+            default:
+                throw new IllegalStateException();
+        }
+    }
+
+    private int writeSharedMemory(ByteBuffer src) throws IOException {
+        SharedMemoryRing ring = acquire(outRing);
+        int written;
+        try {
+            written = ring.write(src);
+            if (written > 0 && ring.clearReaderWaiting()) {
+                doorbell |= DOORBELL_DATA;
+            }
+            if (src.hasRemaining()) {
+                ring.setWriterWaiting();
+                // room could have been made before the flag was seen by the reader
+                waitingForRoom = ring.isFull();
+            }
+        } finally {
+            ring.release();
+        }
+        if (roomDoorbellPending.getAndSet(false)) {
+            doorbell |= DOORBELL_ROOM;
+        }
+
+        if (doorbell != 0) {
+            doorbellOut.clear();
+            doorbellOut.put(doorbell).flip();
+            if (socketChannel.write(doorbellOut) == 1) {
+                doorbell = 0;
+            }
+        }
+        return written;
+    }
+
+    private static SharedMemoryRing acquire(SharedMemoryRing ring) throws ClosedChannelException {
+        if (!ring.acquire()) {
+            // the channel has been closed concurrently
+            throw new ClosedChannelException();
+        }
+        return ring;
+    }
+
+    private boolean flushControl() throws IOException {
+        ByteBuffer control = controlOut;
+        if (control == null) {
+            return true;
+        }
+        socketChannel.write(control);
+        if (control.hasRemaining()) {
+            return false;
+        }
+        controlOut = null;
+        return true;
+    }
+
+    // copies the bytes written to the ring before the shared memory was declined to the socket
+    private boolean drainRingToSocket() throws IOException {
+        SharedMemoryRing ring = outRing;
+        if (ring == null) {
+            return true;
+        }
+
+        if (fallbackOut == null) {
+            fallbackOut = ByteBuffer.allocate(FALLBACK_BUFFER_SIZE);
+            fallbackOut.flip();
+        }
+        for (; ; ) {
+            if (!fallbackOut.hasRemaining()) {
+                fallbackOut.clear();
+                acquire(ring);
+                try {
+                    ring.read(fallbackOut);
+                } finally {
+                    ring.release();
+                }
+                fallbackOut.flip();
+                if (!fallbackOut.hasRemaining()) {
+                    ring.close();
+                    outRing = null;
+                    fallbackOut = null;
+                    return true;
+                }
+            }
+            socketChannel.write(fallbackOut);
+            if (fallbackOut.hasRemaining()) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Checks if there are bytes that still need to be written, apart from the
+     * ones in the send buffer of the outbound pipeline.
+     *
+     * @return true if the outbound pipeline should be processed again
+     */
+    boolean hasPendingOutput() {
+        return controlOut != null
+                || doorbell != 0
+                || roomDoorbellPending.get()
+                || (mode == Mode.SOCKET && outRing != null);
+    }
+
+    /**
+     * Checks if the outbound pipeline can't make progress until the reader
+     * has made room in the ring this side writes to. The doorbell of the
+     * reader then wakes up the outbound pipeline.
+     *
+     * @return true if the outbound pipeline should be blocked
+     */
+    boolean isWaitingForRoom() {
+        return waitingForRoom && !hasPendingOutput();
+    }
+
+    /**
+     * Deletes the files of the rings if they still exist and unmaps their
+     * memory. Can be called by any thread.
+     */
+    void close() {
+        if (clientMode) {
+            deleteRings();
+        }
+        closeRings();
+    }
+
+    private void closeRings() {
+        SharedMemoryRing ring = outRing;
+        if (ring != null) {
+            ring.close();
+        }
+        ring = inRing;
+        if (ring != null) {
+            ring.close();
+        }
+    }
+
+    private void deleteRings() {
+        SharedMemoryRing ring = outRing;
+        if (ring != null) {
+            deleteQuietly(ring.file());
+        }
+        ring = inRing;
+        if (ring != null) {
+            deleteQuietly(ring.file());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SharedMemoryTransport{channel=" + channel + ", mode=" + mode + '}';
+    }
+}
@@ -43,7 +43,7 @@ public final class Packet extends HeapData implements OutboundFrame {
     // Flags are dispatched against in a cascade:
     // 1. URGENT (bit 4)
     // 2. Packet type (bits 0, 2, 5)
-    // 3. Flags specific to a given packet type (bits 1, 6)
+    // 3. Flags specific to a given packet type (bits 1, 6, 8)
     // 4. 4.x flag (bit 7)
 
     // 1. URGENT flag
@@ -88,6 +88,11 @@ public final class Packet extends HeapData implements OutboundFrame {
      * Marks an Operation packet as Operation control (like invocation-heartbeats)
      */
     public static final int FLAG_OP_CONTROL = 1 << 6;
+    /**
+     * Marks an Operation packet as a batch of operations for the same partition
+     * or a batch of responses, each one prefixed with its length
+     */
+    public static final int FLAG_OP_BATCH = 1 << 8;
 
     // 3.b Jet packet flags
 
@@ -287,7 +292,8 @@ public final class Packet extends HeapData implements OutboundFrame {
             @Override
             public String describeFlags(char flags) {
                 return "[isResponse=" + isFlagRaised(flags, FLAG_OP_RESPONSE)
-                        + ", isOpControl=" + isFlagRaised(flags, FLAG_OP_CONTROL) + ']';
+                        + ", isOpControl=" + isFlagRaised(flags, FLAG_OP_CONTROL)
+                        + ", isOpBatch=" + isFlagRaised(flags, FLAG_OP_BATCH) + ']';
             }
         },
         /**
@@ -426,6 +426,10 @@ public abstract class AbstractSerializationService implements InternalSerializat
         return managedContext;
     }
 
+    public final BufferPoolThreadLocal getBufferPoolThreadLocal() {
+        return bufferPoolThreadLocal;
+    }
+
     @Override
     public ByteOrder getByteOrder() {
         return inputOutputFactory.getByteOrder();
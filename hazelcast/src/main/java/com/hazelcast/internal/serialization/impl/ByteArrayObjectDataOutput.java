@@ -452,14 +452,38 @@ public class ByteArrayObjectDataOutput extends VersionedObjectDataOutput impleme
 
     @Override
     public void clear() {
+        clear(defaultRetainedCapacity());
+    }
+
+    /**
+     * Same as {@link #clear()}, but retains a buffer of up to the given
+     * capacity instead of the {@linkplain #defaultRetainedCapacity() default}.
+     *
+     * @param maxRetainedCapacity the maximum size of the retained buffer
+     */
+    public void clear(int maxRetainedCapacity) {
         pos = 0;
-        if (buffer != null && buffer.length > initialSize * 8) {
-            buffer = new byte[initialSize * 8];
+        if (buffer != null && buffer.length > maxRetainedCapacity) {
+            buffer = new byte[maxRetainedCapacity];
         }
         version = UNKNOWN;
         wanProtocolVersion = UNKNOWN;
     }
 
+    /**
+     * Returns the maximum size of the buffer retained by {@link #clear()}.
+     */
+    public int defaultRetainedCapacity() {
+        return initialSize * 8;
+    }
+
+    /**
+     * Returns the size of the current buffer, or 0 if it was released.
+     */
+    public int capacity() {
+        return buffer != null ? buffer.length : 0;
+    }
+
     @Override
     public void close() {
         pos = 0;
@@ -17,30 +17,54 @@
 package com.hazelcast.internal.serialization.impl.bufferpool;
 
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.ByteArrayObjectDataOutput;
 import com.hazelcast.internal.serialization.impl.HeapData;
 import com.hazelcast.internal.nio.BufferObjectDataInput;
 import com.hazelcast.internal.nio.BufferObjectDataOutput;
 import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.util.counters.Counter;
 
 import java.io.Closeable;
 import java.util.ArrayDeque;
 import java.util.Queue;
 
 import static com.hazelcast.internal.nio.IOUtil.closeResource;
+import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
 
 /**
  * Default {@link BufferPool} implementation.
  *
  * This class is designed to that a subclass can be made. This is done for the Enterprise version.
+ *
+ * <h1>Size classes</h1>
+ * Output buffers that grew beyond their {@linkplain ByteArrayObjectDataOutput#defaultRetainedCapacity() default
+ * retained capacity} are pooled by size class: size class {@code i} holds a single buffer of up to
+ * {@code defaultRetainedCapacity << i} bytes. The size class retained is bounded by the high-water size class,
+ * which is raised as soon as a larger value is serialized and falls back to the largest size class used
+ * in the last {@link #HIGH_WATER_WINDOW} returned buffers. This way a thread repeatedly serializing large
+ * values doesn't grow a buffer from scratch each time, while a single large value doesn't leave a large
+ * buffer behind for long.
  */
 public class BufferPoolImpl implements BufferPool {
     static final int MAX_POOLED_ITEMS = 3;
+    static final int MAX_SIZE_CLASS = 6;
+    static final int HIGH_WATER_WINDOW = 64;
 
     protected final InternalSerializationService serializationService;
 
     // accessible for testing.
     final Queue<BufferObjectDataOutput> outputQueue = new ArrayDeque<>(MAX_POOLED_ITEMS);
     final Queue<BufferObjectDataInput> inputQueue = new ArrayDeque<>(MAX_POOLED_ITEMS);
+    // index is the size class, index 0 is unused as those buffers are in the outputQueue
+    final ByteArrayObjectDataOutput[] largeOutputBuffers = new ByteArrayObjectDataOutput[MAX_SIZE_CLASS + 1];
+
+    private final Counter hits = newSwCounter();
+    private final Counter misses = newSwCounter();
+    private final Counter retainedBytes = newSwCounter();
+
+    private int highWaterSizeClass;
+    private int windowMaxSizeClass;
+    private int windowReturnCount;
 
     public BufferPoolImpl(InternalSerializationService serializationService) {
         this.serializationService = serializationService;
@@ -48,29 +72,105 @@ public class BufferPoolImpl implements BufferPool {
 
     @Override
     public BufferObjectDataOutput takeOutputBuffer() {
-        BufferObjectDataOutput out = outputQueue.poll();
+        BufferObjectDataOutput out = pollLargeOutputBuffer();
+        if (out == null) {
+            out = outputQueue.poll();
+        }
         if (out == null) {
+            misses.inc();
             out = serializationService.createObjectDataOutput();
+        } else {
+            hits.inc();
+            retainedBytes.inc(-capacity(out));
         }
         return out;
     }
 
+    private BufferObjectDataOutput pollLargeOutputBuffer() {
+        for (int sizeClass = highWaterSizeClass; sizeClass > 0; sizeClass--) {
+            ByteArrayObjectDataOutput out = largeOutputBuffers[sizeClass];
+            if (out != null) {
+                largeOutputBuffers[sizeClass] = null;
+                return out;
+            }
+        }
+        return null;
+    }
+
     @Override
     public void returnOutputBuffer(BufferObjectDataOutput out) {
         if (out == null) {
             return;
         }
 
-        out.clear();
+        if (!(out instanceof ByteArrayObjectDataOutput)) {
+            out.clear();
+            offerOrClose(outputQueue, out);
+            return;
+        }
+
+        ByteArrayObjectDataOutput byteArrayOut = (ByteArrayObjectDataOutput) out;
+        int defaultCapacity = byteArrayOut.defaultRetainedCapacity();
+        updateHighWater(sizeClass(byteArrayOut.position(), defaultCapacity));
+
+        int sizeClass = Math.min(sizeClass(byteArrayOut.capacity(), defaultCapacity), highWaterSizeClass);
+        if (sizeClass > 0 && largeOutputBuffers[sizeClass] == null) {
+            byteArrayOut.clear(defaultCapacity << sizeClass);
+            largeOutputBuffers[sizeClass] = byteArrayOut;
+            retainedBytes.inc(byteArrayOut.capacity());
+            return;
+        }
+
+        byteArrayOut.clear();
+        if (offerOrClose(outputQueue, out)) {
+            retainedBytes.inc(byteArrayOut.capacity());
+        }
+    }
+
+    private void updateHighWater(int usedSizeClass) {
+        highWaterSizeClass = Math.max(highWaterSizeClass, usedSizeClass);
+        windowMaxSizeClass = Math.max(windowMaxSizeClass, usedSizeClass);
+        if (++windowReturnCount < HIGH_WATER_WINDOW) {
+            return;
+        }
+        highWaterSizeClass = windowMaxSizeClass;
+        windowMaxSizeClass = 0;
+        windowReturnCount = 0;
+        // release the buffers no longer needed
+        for (int sizeClass = highWaterSizeClass + 1; sizeClass <= MAX_SIZE_CLASS; sizeClass++) {
+            ByteArrayObjectDataOutput out = largeOutputBuffers[sizeClass];
+            if (out != null) {
+                largeOutputBuffers[sizeClass] = null;
+                retainedBytes.inc(-out.capacity());
+                closeResource(out);
+            }
+        }
+    }
+
+    /**
+     * Returns the smallest size class whose buffers can hold the given number
+     * of bytes, but at most {@link #MAX_SIZE_CLASS}.
+     */
+    static int sizeClass(int size, int defaultCapacity) {
+        int sizeClass = 0;
+        while (sizeClass < MAX_SIZE_CLASS && size > defaultCapacity << sizeClass) {
+            sizeClass++;
+        }
+        return sizeClass;
+    }
 
-        offerOrClose(outputQueue, out);
+    private static int capacity(BufferObjectDataOutput out) {
+        return out instanceof ByteArrayObjectDataOutput ? ((ByteArrayObjectDataOutput) out).capacity() : 0;
     }
 
     @Override
     public BufferObjectDataInput takeInputBuffer(Data data) {
         BufferObjectDataInput in = inputQueue.poll();
         if (in == null) {
+            misses.inc();
             in = serializationService.createObjectDataInput((byte[]) null);
+        } else {
+            hits.inc();
         }
         in.init(data.toByteArray(), HeapData.DATA_OFFSET);
         return in;
@@ -87,12 +187,34 @@ public class BufferPoolImpl implements BufferPool {
         offerOrClose(inputQueue, in);
     }
 
-    private static <C extends Closeable> void offerOrClose(Queue<C> queue, C item) {
+    /**
+     * Returns the number of buffers taken from the pool.
+     */
+    long hits() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of buffers created because the pool had none.
+     */
+    long misses() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the total size of the output buffers retained in the pool.
+     */
+    long retainedBytes() {
+        return retainedBytes.get();
+    }
+
+    private static <C extends Closeable> boolean offerOrClose(Queue<C> queue, C item) {
         if (queue.size() == MAX_POOLED_ITEMS) {
             closeResource(item);
-            return;
+            return false;
         }
 
         queue.offer(item);
+        return true;
     }
 }
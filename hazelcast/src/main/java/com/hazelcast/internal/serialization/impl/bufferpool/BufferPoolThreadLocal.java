@@ -16,6 +16,7 @@
 
 package com.hazelcast.internal.serialization.impl.bufferpool;
 
+import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.nio.BufferObjectDataOutput;
 import com.hazelcast.internal.util.ConcurrentReferenceHashMap;
@@ -23,7 +24,12 @@ import com.hazelcast.internal.util.ConcurrentReferenceHashMap;
 import java.lang.ref.WeakReference;
 import java.util.Map;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SERIALIZATION_BUFFER_POOL_METRIC_HITS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SERIALIZATION_BUFFER_POOL_METRIC_MISSES;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SERIALIZATION_BUFFER_POOL_METRIC_RETAINED_BYTES;
+import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
 import static com.hazelcast.internal.util.ConcurrentReferenceHashMap.ReferenceType.STRONG;
 import static com.hazelcast.internal.util.ConcurrentReferenceHashMap.ReferenceType.WEAK;
 
@@ -113,4 +119,29 @@ public final class BufferPoolThreadLocal {
     public void clear() {
         strongReferences.clear();
     }
+
+    @Probe(name = SERIALIZATION_BUFFER_POOL_METRIC_HITS)
+    public long hits() {
+        return sumOverPools(BufferPoolImpl::hits);
+    }
+
+    @Probe(name = SERIALIZATION_BUFFER_POOL_METRIC_MISSES)
+    public long misses() {
+        return sumOverPools(BufferPoolImpl::misses);
+    }
+
+    @Probe(name = SERIALIZATION_BUFFER_POOL_METRIC_RETAINED_BYTES, unit = BYTES)
+    public long retainedBytes() {
+        return sumOverPools(BufferPoolImpl::retainedBytes);
+    }
+
+    private long sumOverPools(ToLongFunction<BufferPoolImpl> metric) {
+        long sum = 0;
+        for (BufferPool pool : strongReferences.values()) {
+            if (pool instanceof BufferPoolImpl) {
+                sum += metric.applyAsLong((BufferPoolImpl) pool);
+            }
+        }
+        return sum;
+    }
 }
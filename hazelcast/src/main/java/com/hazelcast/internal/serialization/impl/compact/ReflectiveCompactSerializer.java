@@ -26,6 +26,8 @@ import com.hazelcast.nio.serialization.compact.CompactWriter;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
@@ -33,6 +35,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
@@ -69,6 +72,7 @@ import static com.hazelcast.nio.serialization.FieldKind.TIMESTAMP_ARRAY;
 import static com.hazelcast.nio.serialization.FieldKind.TIMESTAMP_WITH_TIMEZONE;
 import static com.hazelcast.nio.serialization.FieldKind.TIMESTAMP_WITH_TIMEZONE_ARRAY;
 import static com.hazelcast.nio.serialization.FieldKind.TIME_ARRAY;
+import static java.lang.invoke.MethodType.methodType;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 
@@ -87,8 +91,10 @@ import static java.util.stream.Collectors.toList;
  */
 public class ReflectiveCompactSerializer implements CompactSerializer<Object> {
 
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
     private final Map<Class, Writer[]> writersCache = new ConcurrentHashMap<>();
-    private final Map<Class, Reader[]> readersCache = new ConcurrentHashMap<>();
+    private final Map<Class, ClassReaders> readersCache = new ConcurrentHashMap<>();
 
     @Override
     public void write(@Nonnull CompactWriter writer, @Nonnull Object object) throws IOException {
@@ -108,24 +114,23 @@ public class ReflectiveCompactSerializer implements CompactSerializer<Object> {
         for (Writer writer : writers) {
             try {
                 writer.write(compactWriter, object);
-            } catch (Exception e) {
-                ExceptionUtil.rethrow(e, IOException.class);
+            } catch (Throwable t) {
+                throw ExceptionUtil.rethrow(t, IOException.class);
             }
         }
         return true;
     }
 
     private boolean readFast(Class clazz, DefaultCompactReader compactReader, Object object) throws IOException {
-        Reader[] readers = readersCache.get(clazz);
-        Schema schema = compactReader.getSchema();
-        if (readers == null) {
+        ClassReaders classReaders = readersCache.get(clazz);
+        if (classReaders == null) {
             return false;
         }
-        for (Reader reader : readers) {
+        for (Reader reader : classReaders.forSchema(compactReader.getSchema())) {
             try {
-                reader.read(compactReader, schema, object);
-            } catch (Exception e) {
-                ExceptionUtil.rethrow(e, IOException.class);
+                reader.read(compactReader, object);
+            } catch (Throwable t) {
+                throw ExceptionUtil.rethrow(t, IOException.class);
             }
         }
         return true;
@@ -173,11 +178,6 @@ public class ReflectiveCompactSerializer implements CompactSerializer<Object> {
         return fields;
     }
 
-    private boolean fieldExists(Schema schema, String name, FieldKind fieldKind) {
-        FieldDescriptor fieldDescriptor = schema.getField(name);
-        return fieldDescriptor != null && fieldDescriptor.getKind() == fieldKind;
-    }
-
     private void createFastReadWriteCaches(Class clazz) throws IOException {
         //Create object to test if it is empty constructable to fail-fast on the write path
         createObject(clazz);
@@ -186,256 +186,259 @@ public class ReflectiveCompactSerializer implements CompactSerializer<Object> {
         List<Field> allFields = getAllFields(new LinkedList<>(), clazz);
         Writer[] writers = new Writer[allFields.size()];
         Reader[] readers = new Reader[allFields.size()];
+        String[] names = new String[allFields.size()];
+        FieldKind[] kinds = new FieldKind[allFields.size()];
 
         int index = 0;
         for (Field field : allFields) {
             field.setAccessible(true);
+            MethodHandle getter = getter(field);
+            MethodHandle setter = setter(field);
             Class<?> type = field.getType();
             String name = field.getName();
+            names[index] = name;
             if (Byte.TYPE.equals(type)) {
-                readers[index] = (reader, schema, o) -> {
-                    if (fieldExists(schema, name, BYTE)) {
-                        field.setByte(o, reader.readByte(name));
-                    }
+                kinds[index] = BYTE;
+                readers[index] = (reader, o) -> {
+                    setter.invokeExact(o, reader.readByte(name));
                 };
-                writers[index] = (w, o) -> w.writeByte(name, field.getByte(o));
+                writers[index] = (w, o) -> w.writeByte(name, (byte) getter.invokeExact(o));
             } else if (Short.TYPE.equals(type)) {
-                readers[index] = (reader, schema, o) -> {
-                    if (fieldExists(schema, name, SHORT)) {
-                        field.setShort(o, reader.readShort(name));
-                    }
+                kinds[index] = SHORT;
+                readers[index] = (reader, o) -> {
+                    setter.invokeExact(o, reader.readShort(name));
                 };
-                writers[index] = (w, o) -> w.writeShort(name, field.getShort(o));
+                writers[index] = (w, o) -> w.writeShort(name, (short) getter.invokeExact(o));
             } else if (Integer.TYPE.equals(type)) {
-                readers[index] = (reader, schema, o) -> {
-                    if (fieldExists(schema, name, INT)) {
-                        field.setInt(o, reader.readInt(name));
-                    }
+                kinds[index] = INT;
+                readers[index] = (reader, o) -> {
+                    setter.invokeExact(o, reader.readInt(name));
                 };
-                writers[index] = (w, o) -> w.writeInt(name, field.getInt(o));
+                writers[index] = (w, o) -> w.writeInt(name, (int) getter.invokeExact(o));
             } else if (Long.TYPE.equals(type)) {
-                readers[index] = (reader, schema, o) -> {
-                    if (fieldExists(schema, name, LONG)) {
-                        field.setLong(o, reader.readLong(name));
-                    }
+                kinds[index] = LONG;
+                readers[index] = (reader, o) -> {
+                    setter.invokeExact(o, reader.readLong(name));
                 };
-                writers[index] = (w, o) -> w.writeLong(name, field.getLong(o));
+                writers[index] = (w, o) -> w.writeLong(name, (long) getter.invokeExact(o));
             } else if (Float.TYPE.equals(type)) {
-                readers[index] = (reader, schema, o) -> {
-                    if (fieldExists(schema, name, FLOAT)) {
-                        field.setFloat(o, reader.readFloat(name));
-                    }
+                kinds[index] = FLOAT;
+                readers[index] = (reader, o) -> {
+                    setter.invokeExact(o, reader.readFloat(name));
                 };
-                writers[index] = (w, o) -> w.writeFloat(name, field.getFloat(o));
+                writers[index] = (w, o) -> w.writeFloat(name, (float) getter.invokeExact(o));
             } else if (Double.TYPE.equals(type)) {
-                readers[index] = (reader, schema, o) -> {
-                    if (fieldExists(schema, name, DOUBLE)) {
-                        field.setDouble(o, reader.readDouble(name));
-                    }
+                kinds[index] = DOUBLE;
+                readers[index] = (reader, o) -> {
+                    setter.invokeExact(o, reader.readDouble(name));
                 };
-                writers[index] = (w, o) -> w.writeDouble(name, field.getDouble(o));
+                writers[index] = (w, o) -> w.writeDouble(name, (double) getter.invokeExact(o));
             } else if (Boolean.TYPE.equals(type)) {
-                readers[index] = (reader, schema, o) -> {
-                    if (fieldExists(schema, name, BOOLEAN)) {
-                        field.setBoolean(o, reader.readBoolean(name));
-                    }
+                kinds[index] = BOOLEAN;
+                readers[index] = (reader, o) -> {
+                    setter.invokeExact(o, reader.readBoolean(name));
                 };
-                writers[index] = (w, o) -> w.writeBoolean(name, field.getBoolean(o));
+                writers[index] = (w, o) -> w.writeBoolean(name, (boolean) getter.invokeExact(o));
             } else if (Character.TYPE.equals(type)) {
-                readers[index] = (reader, schema, o) -> {
-                    if (fieldExists(schema, name, CHAR)) {
-                        field.setChar(o, reader.readChar(name));
-                    }
+                kinds[index] = CHAR;
+                readers[index] = (reader, o) -> {
+                    setter.invokeExact(o, reader.readChar(name));
                 };
-                writers[index] = (w, o) -> w.writeChar(name, field.getChar(o));
+                writers[index] = (w, o) -> w.writeChar(name, (char) getter.invokeExact(o));
             } else if (String.class.equals(type)) {
-                readers[index] = (reader, schema, o) -> {
-                    if (fieldExists(schema, name, STRING)) {
-                        field.set(o, reader.readString(name));
-                    }
+                kinds[index] = STRING;
+                readers[index] = (reader, o) -> {
+                    setter.invokeExact(o, (Object) reader.readString(name));
                 };
-                writers[index] = (w, o) -> w.writeString(name, (String) field.get(o));
+                writers[index] = (w, o) -> w.writeString(name, (String) (Object) getter.invokeExact(o));
             } else if (BigDecimal.class.equals(type)) {
-                readers[index] = (reader, schema, o) -> {
-                    if (fieldExists(schema, name, DECIMAL)) {
-                        field.set(o, reader.readDecimal(name));
-                    }
+                kinds[index] = DECIMAL;
+                readers[index] = (reader, o) -> {
+                    setter.invokeExact(o, (Object) reader.readDecimal(name));
                 };
-                writers[index] = (w, o) -> w.writeDecimal(name, (BigDecimal) field.get(o));
+                writers[index] = (w, o) -> w.writeDecimal(name, (BigDecimal) (Object) getter.invokeExact(o));
             } else if (LocalTime.class.equals(type)) {
-                readers[index] = (reader, schema, o) -> {
-                    if (fieldExists(schema, name, TIME)) {
-                        field.set(o, reader.readTime(name));
-                    }
+                kinds[index] = TIME;
+                readers[index] = (reader, o) -> {
+                    setter.invokeExact(o, (Object) reader.readTime(name));
                 };
-                writers[index] = (w, o) -> w.writeTime(name, (LocalTime) field.get(o));
+                writers[index] = (w, o) -> w.writeTime(name, (LocalTime) (Object) getter.invokeExact(o));
             } else if (LocalDate.class.equals(type)) {
-                readers[index] = (reader, schema, o) -> {
-                    if (fieldExists(schema, name, DATE)) {
-                        field.set(o, reader.readDate(name));
-                    }
+                kinds[index] = DATE;
+                readers[index] = (reader, o) -> {
+                    setter.invokeExact(o, (Object) reader.readDate(name));
                 };
-                writers[index] = (w, o) -> w.writeDate(name, (LocalDate) field.get(o));
+                writers[index] = (w, o) -> w.writeDate(name, (LocalDate) (Object) getter.invokeExact(o));
             } else if (LocalDateTime.class.equals(type)) {
-                readers[index] = (reader, schema, o) -> {
-                    if (fieldExists(schema, name, TIMESTAMP)) {
-                        field.set(o, reader.readTimestamp(name));
-                    }
+                kinds[index] = TIMESTAMP;
+                readers[index] = (reader, o) -> {
+                    setter.invokeExact(o, (Object) reader.readTimestamp(name));
                 };
-                writers[index] = (w, o) -> w.writeTimestamp(name, (LocalDateTime) field.get(o));
+                writers[index] = (w, o) -> w.writeTimestamp(name, (LocalDateTime) (Object) getter.invokeExact(o));
             } else if (OffsetDateTime.class.equals(type)) {
-                readers[index] = (reader, schema, o) -> {
-                    if (fieldExists(schema, name, TIMESTAMP_WITH_TIMEZONE)) {
-                        field.set(o, reader.readTimestampWithTimezone(name));
-                    }
+                kinds[index] = TIMESTAMP_WITH_TIMEZONE;
+                readers[index] = (reader, o) -> {
+                    setter.invokeExact(o, (Object) reader.readTimestampWithTimezone(name));
                 };
-                writers[index] = (w, o) -> w.writeTimestampWithTimezone(name, (OffsetDateTime) field.get(o));
+                writers[index] = (w, o) -> w.writeTimestampWithTimezone(name, (OffsetDateTime) (Object) getter.invokeExact(o));
             } else if (type.isEnum()) {
-                readers[index] = (reader, schema, o) -> {
-                    if (fieldExists(schema, name, STRING)) {
-                        String enumName = reader.readString(name);
-                        field.set(o, enumName == null ? null : Enum.valueOf((Class<? extends Enum>) type, enumName));
-                    }
+                kinds[index] = STRING;
+                readers[index] = (reader, o) -> {
+                    String enumName = reader.readString(name);
+                    Object value = enumName == null ? null : Enum.valueOf((Class<? extends Enum>) type, enumName);
+                    setter.invokeExact(o, value);
                 };
                 writers[index] = (w, o) -> {
-                    Object rawValue = field.get(o);
+                    Object rawValue = (Object) getter.invokeExact(o);
                     String value = rawValue == null ? null : ((Enum) rawValue).name();
                     w.writeString(name, value);
                 };
             } else if (type.isArray()) {
                 Class<?> componentType = type.getComponentType();
                 if (Byte.TYPE.equals(componentType)) {
-                    readers[index] = (reader, schema, o) -> {
-                        if (fieldExists(schema, name, BYTE_ARRAY)) {
-                            field.set(o, reader.readByteArray(name));
-                        }
+                    kinds[index] = BYTE_ARRAY;
+                    readers[index] = (reader, o) -> {
+                        setter.invokeExact(o, (Object) reader.readByteArray(name));
                     };
-                    writers[index] = (w, o) -> w.writeByteArray(name, (byte[]) field.get(o));
+                    writers[index] = (w, o) -> w.writeByteArray(name, (byte[]) (Object) getter.invokeExact(o));
                 } else if (Short.TYPE.equals(componentType)) {
-                    readers[index] = (reader, schema, o) -> {
-                        if (fieldExists(schema, name, SHORT_ARRAY)) {
-                            field.set(o, reader.readShortArray(name));
-                        }
+                    kinds[index] = SHORT_ARRAY;
+                    readers[index] = (reader, o) -> {
+                        setter.invokeExact(o, (Object) reader.readShortArray(name));
                     };
-                    writers[index] = (w, o) -> w.writeShortArray(name, (short[]) field.get(o));
+                    writers[index] = (w, o) -> w.writeShortArray(name, (short[]) (Object) getter.invokeExact(o));
                 } else if (Integer.TYPE.equals(componentType)) {
-                    readers[index] = (reader, schema, o) -> {
-                        if (fieldExists(schema, name, INT_ARRAY)) {
-                            field.set(o, reader.readIntArray(name));
-                        }
+                    kinds[index] = INT_ARRAY;
+                    readers[index] = (reader, o) -> {
+                        setter.invokeExact(o, (Object) reader.readIntArray(name));
                     };
-                    writers[index] = (w, o) -> w.writeIntArray(name, (int[]) field.get(o));
+                    writers[index] = (w, o) -> w.writeIntArray(name, (int[]) (Object) getter.invokeExact(o));
                 } else if (Long.TYPE.equals(componentType)) {
-                    readers[index] = (reader, schema, o) -> {
-                        if (fieldExists(schema, name, LONG_ARRAY)) {
-                            field.set(o, reader.readLongArray(name));
-                        }
+                    kinds[index] = LONG_ARRAY;
+                    readers[index] = (reader, o) -> {
+                        setter.invokeExact(o, (Object) reader.readLongArray(name));
                     };
-                    writers[index] = (w, o) -> w.writeLongArray(name, (long[]) field.get(o));
+                    writers[index] = (w, o) -> w.writeLongArray(name, (long[]) (Object) getter.invokeExact(o));
                 } else if (Float.TYPE.equals(componentType)) {
-                    readers[index] = (reader, schema, o) -> {
-                        if (fieldExists(schema, name, FLOAT_ARRAY)) {
-                            field.set(o, reader.readFloatArray(name));
-                        }
+                    kinds[index] = FLOAT_ARRAY;
+                    readers[index] = (reader, o) -> {
+                        setter.invokeExact(o, (Object) reader.readFloatArray(name));
                     };
-                    writers[index] = (w, o) -> w.writeFloatArray(name, (float[]) field.get(o));
+                    writers[index] = (w, o) -> w.writeFloatArray(name, (float[]) (Object) getter.invokeExact(o));
                 } else if (Double.TYPE.equals(componentType)) {
-                    readers[index] = (reader, schema, o) -> {
-                        if (fieldExists(schema, name, DOUBLE_ARRAY)) {
-                            field.set(o, reader.readDoubleArray(name));
-                        }
+                    kinds[index] = DOUBLE_ARRAY;
+                    readers[index] = (reader, o) -> {
+                        setter.invokeExact(o, (Object) reader.readDoubleArray(name));
                     };
-                    writers[index] = (w, o) -> w.writeDoubleArray(name, (double[]) field.get(o));
+                    writers[index] = (w, o) -> w.writeDoubleArray(name, (double[]) (Object) getter.invokeExact(o));
                 } else if (Boolean.TYPE.equals(componentType)) {
-                    readers[index] = (reader, schema, o) -> {
-                        if (fieldExists(schema, name, BOOLEAN_ARRAY)) {
-                            field.set(o, reader.readBooleanArray(name));
-                        }
+                    kinds[index] = BOOLEAN_ARRAY;
+                    readers[index] = (reader, o) -> {
+                        setter.invokeExact(o, (Object) reader.readBooleanArray(name));
                     };
-                    writers[index] = (w, o) -> w.writeBooleanArray(name, (boolean[]) field.get(o));
+                    writers[index] = (w, o) -> w.writeBooleanArray(name, (boolean[]) (Object) getter.invokeExact(o));
                 } else if (Character.TYPE.equals(componentType)) {
-                    readers[index] = (reader, schema, o) -> {
-                        if (fieldExists(schema, name, CHAR_ARRAY)) {
-                            field.set(o, reader.readCharArray(name));
-                        }
+                    kinds[index] = CHAR_ARRAY;
+                    readers[index] = (reader, o) -> {
+                        setter.invokeExact(o, (Object) reader.readCharArray(name));
                     };
-                    writers[index] = (w, o) -> w.writeCharArray(name, (char[]) field.get(o));
+                    writers[index] = (w, o) -> w.writeCharArray(name, (char[]) (Object) getter.invokeExact(o));
                 } else if (String.class.equals(componentType)) {
-                    readers[index] = (reader, schema, o) -> {
-                        if (fieldExists(schema, name, STRING_ARRAY)) {
-                            field.set(o, reader.readStringArray(name));
-                        }
+                    kinds[index] = STRING_ARRAY;
+                    readers[index] = (reader, o) -> {
+                        setter.invokeExact(o, (Object) reader.readStringArray(name));
                     };
-                    writers[index] = (w, o) -> w.writeStringArray(name, (String[]) field.get(o));
+                    writers[index] = (w, o) -> w.writeStringArray(name, (String[]) (Object) getter.invokeExact(o));
                 } else if (BigDecimal.class.equals(componentType)) {
-                    readers[index] = (reader, schema, o) -> {
-                        if (fieldExists(schema, name, DECIMAL_ARRAY)) {
-                            field.set(o, reader.readDecimalArray(name));
-                        }
+                    kinds[index] = DECIMAL_ARRAY;
+                    readers[index] = (reader, o) -> {
+                        setter.invokeExact(o, (Object) reader.readDecimalArray(name));
                     };
-                    writers[index] = (w, o) -> w.writeDecimalArray(name, (BigDecimal[]) field.get(o));
+                    writers[index] = (w, o) -> w.writeDecimalArray(name, (BigDecimal[]) (Object) getter.invokeExact(o));
                 } else if (LocalTime.class.equals(componentType)) {
-                    readers[index] = (reader, schema, o) -> {
-                        if (fieldExists(schema, name, TIME_ARRAY)) {
-                            field.set(o, reader.readTimeArray(name));
-                        }
+                    kinds[index] = TIME_ARRAY;
+                    readers[index] = (reader, o) -> {
+                        setter.invokeExact(o, (Object) reader.readTimeArray(name));
                     };
-                    writers[index] = (w, o) -> w.writeTimeArray(name, (LocalTime[]) field.get(o));
+                    writers[index] = (w, o) -> w.writeTimeArray(name, (LocalTime[]) (Object) getter.invokeExact(o));
                 } else if (LocalDate.class.equals(componentType)) {
-                    readers[index] = (reader, schema, o) -> {
-                        if (fieldExists(schema, name, DATE_ARRAY)) {
-                            field.set(o, reader.readDateArray(name));
-                        }
+                    kinds[index] = DATE_ARRAY;
+                    readers[index] = (reader, o) -> {
+                        setter.invokeExact(o, (Object) reader.readDateArray(name));
                     };
-                    writers[index] = (w, o) -> w.writeDateArray(name, (LocalDate[]) field.get(o));
+                    writers[index] = (w, o) -> w.writeDateArray(name, (LocalDate[]) (Object) getter.invokeExact(o));
                 } else if (LocalDateTime.class.equals(componentType)) {
-                    readers[index] = (reader, schema, o) -> {
-                        if (fieldExists(schema, name, TIMESTAMP_ARRAY)) {
-                            field.set(o, reader.readTimestampArray(name));
-                        }
+                    kinds[index] = TIMESTAMP_ARRAY;
+                    readers[index] = (reader, o) -> {
+                        setter.invokeExact(o, (Object) reader.readTimestampArray(name));
                     };
-                    writers[index] = (w, o) -> w.writeTimestampArray(name, (LocalDateTime[]) field.get(o));
+                    writers[index] = (w, o) -> w.writeTimestampArray(name, (LocalDateTime[]) (Object) getter.invokeExact(o));
                 } else if (OffsetDateTime.class.equals(componentType)) {
-                    readers[index] = (reader, schema, o) -> {
-                        if (fieldExists(schema, name, TIMESTAMP_WITH_TIMEZONE_ARRAY)) {
-                            field.set(o, reader.readTimestampWithTimezoneArray(name));
-                        }
+                    kinds[index] = TIMESTAMP_WITH_TIMEZONE_ARRAY;
+                    readers[index] = (reader, o) -> {
+                        setter.invokeExact(o, (Object) reader.readTimestampWithTimezoneArray(name));
                     };
-                    writers[index] = (w, o) -> w.writeTimestampWithTimezoneArray(name, (OffsetDateTime[]) field.get(o));
+                    writers[index] = (w, o) ->
+                            w.writeTimestampWithTimezoneArray(name, (OffsetDateTime[]) (Object) getter.invokeExact(o));
                 } else if (componentType.isEnum()) {
-                    readers[index] = (reader, schema, o) -> {
-                        if (fieldExists(schema, name, STRING_ARRAY)) {
-                            String[] stringArray = reader.readStringArray(name);
-                            Enum[] enumArray = enumsFromString((Class<? extends Enum>) componentType, stringArray);
-                            field.set(o, enumArray);
-                        }
+                    kinds[index] = STRING_ARRAY;
+                    readers[index] = (reader, o) -> {
+                        String[] stringArray = reader.readStringArray(name);
+                        Enum[] enumArray = enumsFromString((Class<? extends Enum>) componentType, stringArray);
+                        setter.invokeExact(o, (Object) enumArray);
                     };
                     writers[index] = (w, o) -> {
-                        Enum[] values = (Enum[]) field.get(o);
+                        Enum[] values = (Enum[]) (Object) getter.invokeExact(o);
                         String[] stringArray = enumsAsStrings(values);
                         w.writeStringArray(name, stringArray);
                     };
                 } else {
-                    readers[index] = (reader, schema, o) -> {
-                        if (fieldExists(schema, name, COMPACT_ARRAY)) {
-                            field.set(o, reader.readObjectArray(name, componentType));
-                        }
+                    kinds[index] = COMPACT_ARRAY;
+                    readers[index] = (reader, o) -> {
+                        setter.invokeExact(o, (Object) reader.readObjectArray(name, componentType));
                     };
-                    writers[index] = (w, o) -> w.writeObjectArray(name, (Object[]) field.get(o));
+                    writers[index] = (w, o) -> w.writeObjectArray(name, (Object[]) (Object) getter.invokeExact(o));
                 }
             } else {
-                readers[index] = (reader, schema, o) -> {
-                    if (fieldExists(schema, name, COMPACT)) {
-                        field.set(o, reader.readObject(name));
-                    }
+                kinds[index] = COMPACT;
+                readers[index] = (reader, o) -> {
+                    setter.invokeExact(o, (Object) reader.readObject(name));
                 };
-                writers[index] = (w, o) -> w.writeObject(name, field.get(o));
+                writers[index] = (w, o) -> w.writeObject(name, (Object) getter.invokeExact(o));
             }
             index++;
         }
 
         writersCache.put(clazz, writers);
-        readersCache.put(clazz, readers);
+        readersCache.put(clazz, new ClassReaders(names, kinds, readers));
+    }
+
+    /**
+     * Returns a handle reading the field of an object of any class. A
+     * primitive field is read without boxing.
+     */
+    private static MethodHandle getter(Field field) {
+        try {
+            return LOOKUP.unreflectGetter(field).asType(methodType(erasedType(field), Object.class));
+        } catch (IllegalAccessException e) {
+            throw new HazelcastSerializationException("Could not access the field " + field, e);
+        }
+    }
+
+    /**
+     * Returns a handle setting the field of an object of any class. A
+     * primitive field is set without boxing.
+     */
+    private static MethodHandle setter(Field field) {
+        try {
+            return LOOKUP.unreflectSetter(field).asType(methodType(void.class, Object.class, erasedType(field)));
+        } catch (IllegalAccessException e) {
+            throw new HazelcastSerializationException("Could not access the field " + field, e);
+        }
+    }
+
+    private static Class<?> erasedType(Field field) {
+        return field.getType().isPrimitive() ? field.getType() : Object.class;
     }
 
     private String[] enumsAsStrings(Enum[] values) {
@@ -463,10 +466,47 @@ public class ReflectiveCompactSerializer implements CompactSerializer<Object> {
     }
 
     interface Reader {
-        void read(CompactReader reader, Schema schema, Object o) throws Exception;
+        void read(CompactReader reader, Object o) throws Throwable;
     }
 
     interface Writer {
-        void write(CompactWriter writer, Object o) throws Exception;
+        void write(CompactWriter writer, Object o) throws Throwable;
+    }
+
+    /**
+     * Readers for all fields of a class and, for each schema the class was
+     * read with, the readers of the fields present in that schema with the
+     * expected kind. The schema is checked once, not for each read object.
+     */
+    private static final class ClassReaders {
+        private final String[] names;
+        private final FieldKind[] kinds;
+        private final Reader[] readers;
+        private final Map<Long, Reader[]> readersBySchemaId = new ConcurrentHashMap<>();
+
+        ClassReaders(String[] names, FieldKind[] kinds, Reader[] readers) {
+            this.names = names;
+            this.kinds = kinds;
+            this.readers = readers;
+        }
+
+        Reader[] forSchema(Schema schema) {
+            Reader[] schemaReaders = readersBySchemaId.get(schema.getSchemaId());
+            if (schemaReaders == null) {
+                schemaReaders = readersBySchemaId.computeIfAbsent(schema.getSchemaId(), id -> readersFor(schema));
+            }
+            return schemaReaders;
+        }
+
+        private Reader[] readersFor(Schema schema) {
+            List<Reader> result = new ArrayList<>(readers.length);
+            for (int i = 0; i < readers.length; i++) {
+                FieldDescriptor fieldDescriptor = schema.getField(names[i]);
+                if (fieldDescriptor != null && fieldDescriptor.getKind() == kinds[i]) {
+                    result.add(readers[i]);
+                }
+            }
+            return result.toArray(new Reader[0]);
+        }
     }
 }
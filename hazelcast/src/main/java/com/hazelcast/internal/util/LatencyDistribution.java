@@ -92,6 +92,31 @@ public final class LatencyDistribution {
         return count == 0 ? 0 : totalMicros / count;
     }
 
+    /**
+     * Returns the upper bound of the bucket containing the given percentile of
+     * the recorded values, or -1 if nothing was recorded.
+     *
+     * @param percentile the percentile in the range (0, 1]
+     */
+    public long percentileMaxUs(double percentile) {
+        long total = 0;
+        for (int k = 0; k < BUCKET_COUNT; k++) {
+            total += buckets.get(k);
+        }
+        if (total == 0) {
+            return -1;
+        }
+        long rank = (long) Math.ceil(percentile * total);
+        long cumulative = 0;
+        for (int k = 0; k < BUCKET_COUNT; k++) {
+            cumulative += buckets.get(k);
+            if (cumulative >= rank) {
+                return bucketMaxUs(k);
+            }
+        }
+        return bucketMaxUs(BUCKET_COUNT - 1);
+    }
+
     public void done(long startNanos) {
         recordNanos(System.nanoTime() - startNanos);
     }
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.util.concurrent;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static java.util.concurrent.locks.LockSupport.park;
+import static java.util.concurrent.locks.LockSupport.unpark;
+
+/**
+ * Unbounded multi producer single consumer queue backed by linked chunks of
+ * arrays. Like the {@link MPSCQueue}, it has a configurable {@link IdleStrategy}
+ * so the consumer can idle before it does the more expensive blocking.
+ * <p>
+ * A producer claims a slot in the current tail chunk with a single
+ * getAndIncrement and then writes the item into it, so unlike the
+ * {@link MPSCQueue} there is no node allocated per item and producers don't
+ * retry a CAS on a shared head. A new chunk is only allocated every
+ * {@link #CHUNK_SIZE} items. The consumer reads the slots in the order they
+ * were claimed, so the items of each producer are taken in the order they
+ * were offered.
+ * <p>
+ * A claimed slot can be observed empty by the consumer for a short time
+ * before the producer writes it. The consumer then treats the queue as empty
+ * and the producer wakes it up after the write.
+ *
+ * @param <E> the type of elements held in this collection
+ */
+public final class MPSCArrayQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+    static final int CHUNK_SIZE = 1024;
+
+    private final AtomicReference<Chunk> tailChunk;
+    private final AtomicLong takenCount = new AtomicLong();
+    private final IdleStrategy idleStrategy;
+    private volatile boolean consumerParked;
+
+    private Thread consumerThread;
+    private Chunk headChunk;
+    private int headIndex;
+
+    /**
+     * Creates a new {@link MPSCArrayQueue} with the provided {@link IdleStrategy}.
+     *
+     * @param idleStrategy the idleStrategy. If null, the consumer will block.
+     */
+    public MPSCArrayQueue(IdleStrategy idleStrategy) {
+        this.idleStrategy = idleStrategy;
+        this.headChunk = new Chunk(0);
+        this.tailChunk = new AtomicReference<>(headChunk);
+    }
+
+    /**
+     * Sets the consumer thread.
+     * <p>
+     * The consumer thread is needed for blocking, so that an offering thread
+     * knows which thread to wake up. There can only be a single consumerThread
+     * and this method should be called before the queue is safely published.
+     * It will not provide a happens before relation on its own.
+     *
+     * @param consumerThread the consumer thread.
+     * @throws NullPointerException when consumerThread null.
+     */
+    public void setConsumerThread(Thread consumerThread) {
+        this.consumerThread = checkNotNull(consumerThread, "consumerThread can't be null");
+    }
+
+    @Override
+    public boolean offer(E item) {
+        checkNotNull(item, "item can't be null");
+
+        for (; ; ) {
+            Chunk chunk = tailChunk.get();
+            int index = chunk.producerIndex.getAndIncrement();
+            if (index < CHUNK_SIZE) {
+                // a volatile write, so that it's ordered before the read of consumerParked
+                chunk.slots.set(index, item);
+                if (consumerParked) {
+                    unpark(consumerThread);
+                }
+                return true;
+            }
+
+            // the chunk is full, move the tail to the next chunk
+            Chunk next = chunk.next.get();
+            if (next == null) {
+                Chunk newChunk = new Chunk(chunk.firstSequence + CHUNK_SIZE);
+                next = chunk.next.compareAndSet(null, newChunk) ? newChunk : chunk.next.get();
+            }
+            tailChunk.compareAndSet(chunk, next);
+        }
+    }
+
+    @Override
+    public E poll() {
+        E item = peek();
+        if (item != null) {
+            headChunk.slots.lazySet(headIndex, null);
+            headIndex++;
+            takenCount.lazySet(takenCount.get() + 1);
+        }
+        return item;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        if (headIndex == CHUNK_SIZE) {
+            Chunk next = headChunk.next.get();
+            if (next == null) {
+                return null;
+            }
+            headChunk = next;
+            headIndex = 0;
+        }
+        return (E) headChunk.slots.get(headIndex);
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        long iteration = 0;
+        for (; ; ) {
+            E item = poll();
+            if (item != null) {
+                return item;
+            }
+
+            if (consumerThread.isInterrupted()) {
+                throw new InterruptedException();
+            }
+
+            if (idleStrategy != null) {
+                idleStrategy.idle(iteration++);
+                continue;
+            }
+
+            // a volatile write, so that it's ordered before the read of the slot in poll()
+            consumerParked = true;
+            item = poll();
+            if (item != null) {
+                consumerParked = false;
+                return item;
+            }
+            park();
+            consumerParked = false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     *
+     * Best effort implementation, it includes the items being written by the
+     * producers.
+     */
+    @Override
+    public int size() {
+        Chunk chunk = tailChunk.get();
+        long offeredCount = chunk.firstSequence + Math.min(chunk.producerIndex.get(), CHUNK_SIZE);
+        return (int) Math.max(0, offeredCount - takenCount.get());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public void put(E e) {
+        offer(e);
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) {
+        add(e);
+        return true;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        throw new UnsupportedOperationException();
+    }
+
+    private static final class Chunk {
+        final long firstSequence;
+        final AtomicReferenceArray<Object> slots = new AtomicReferenceArray<>(CHUNK_SIZE);
+        final AtomicInteger producerIndex = new AtomicInteger();
+        final AtomicReference<Chunk> next = new AtomicReference<>();
+
+        Chunk(long firstSequence) {
+            this.firstSequence = firstSequence;
+        }
+    }
+}
@@ -117,6 +117,88 @@ public final class MetricNames {
      */
     public static final String LAST_FORWARDED_WM_LATENCY = "lastForwardedWmLatency";
 
+    /**
+     * The median of the latencies from the sources to a particular {@link
+     * Processor} of a particular {@link Vertex}, or to a particular
+     * distributed edge. The latency is measured using latency markers the
+     * sources emit periodically. They are queued behind the items emitted
+     * before them and the time since they were created is recorded when they
+     * are received. The value is an upper bound with a precision of a power
+     * of two in microseconds, reported in milliseconds.
+     * <p>
+     * For a processor, the {@link Vertex} and the {@link Processor} can be
+     * identified based on the {@link MetricTags#VERTEX} & {@link
+     * MetricTags#PROCESSOR} tags of the metric. For a distributed edge, the
+     * metric has the {@link MetricTags#VERTEX}, {@link MetricTags#ORDINAL}
+     * and {@link MetricTags#SOURCE_ADDRESS} tags of the receiving side.
+     * <p>
+     * The metric is present only if latency tracking is enabled using {@link
+     * com.hazelcast.spi.properties.ClusterProperty#JET_LATENCY_MARKER_INTERVAL_MILLIS}.
+     *
+     * @since 5.1
+     */
+    public static final String EVENT_LATENCY_P50 = "eventLatencyP50";
+
+    /**
+     * The 99th percentile of the latencies from the sources, see {@link
+     * #EVENT_LATENCY_P50}.
+     *
+     * @since 5.1
+     */
+    public static final String EVENT_LATENCY_P99 = "eventLatencyP99";
+
+    /**
+     * The 99.9th percentile of the latencies from the sources, see {@link
+     * #EVENT_LATENCY_P50}.
+     *
+     * @since 5.1
+     */
+    public static final String EVENT_LATENCY_P999 = "eventLatencyP999";
+
+    /**
+     * Counts the calls of the tasklet of a particular {@link Processor} of
+     * a particular {@link Vertex}. The number of items received per call can
+     * be derived by dividing the {@link #RECEIVED_COUNT} by this value. The
+     * {@link Vertex} and the {@link Processor} can be identified based on the
+     * {@link MetricTags#VERTEX} & {@link MetricTags#PROCESSOR} tags of the
+     * metric.
+     * <p>
+     * The metric is present only if {@link
+     * com.hazelcast.spi.properties.ClusterProperty#JET_TASKLET_PROFILING_ENABLED}
+     * is enabled, as are the other {@code tasklet*} metrics.
+     *
+     * @since 5.1
+     */
+    public static final String TASKLET_CALLS = "taskletCalls";
+
+    /**
+     * Counts the calls of the tasklet of a particular {@link Processor} that
+     * made no progress, see {@link #TASKLET_CALLS}. A processor whose
+     * tasklet is rarely idle is likely a bottleneck.
+     *
+     * @since 5.1
+     */
+    public static final String TASKLET_IDLE_CALLS = "taskletIdleCalls";
+
+    /**
+     * The total time in nanoseconds spent in the calls of the tasklet of a
+     * particular {@link Processor} that made progress, see {@link
+     * #TASKLET_CALLS}.
+     *
+     * @since 5.1
+     */
+    public static final String TASKLET_BUSY_TIME = "taskletBusyTime";
+
+    /**
+     * The total time in nanoseconds during which a particular {@link
+     * Processor} couldn't emit because an output queue was full, see {@link
+     * #TASKLET_CALLS}. High values indicate that a downstream vertex is a
+     * bottleneck.
+     *
+     * @since 5.1
+     */
+    public static final String TASKLET_BACKPRESSURE_TIME = "taskletBackpressureTime";
+
     /**
      * Tracks the total number of bytes written in the last snapshot
      * by a particular {@link Vertex}. The name of the vertex can be found
@@ -56,7 +56,6 @@ import javax.annotation.Nullable;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map.Entry;
-import java.util.PriorityQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
@@ -969,8 +968,8 @@ public final class Processors {
     }
 
     /**
-     * Returns a supplier of processors for a vertex that sorts its input using
-     * a {@link PriorityQueue} and emits it in the {@code complete} phase.
+     * Returns a supplier of processors for a vertex that sorts its input in
+     * memory and emits it in the {@code complete} phase.
      * <p>
      * The output edge of this vertex should be {@link Edge#distributed
      * distributed} {@link Edge#ordered monotonicOrder} {@link
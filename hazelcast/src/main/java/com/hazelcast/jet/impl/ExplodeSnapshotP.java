@@ -23,6 +23,7 @@ import com.hazelcast.jet.core.AbstractProcessor;
 import com.hazelcast.jet.core.BroadcastKey;
 import com.hazelcast.jet.impl.execution.BroadcastEntry;
 import com.hazelcast.jet.impl.execution.init.Contexts.ProcCtx;
+import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataCompressedValue;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataKey;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataValueTerminator;
 
@@ -36,7 +37,7 @@ import static com.hazelcast.jet.impl.util.Util.uncheckCall;
 
 public class ExplodeSnapshotP extends AbstractProcessor {
 
-    private final Map<String, FlatMapper<byte[], Object>> vertexToFlatMapper = new HashMap<>();
+    private final Map<String, FlatMapper<Object, Object>> vertexToFlatMapper = new HashMap<>();
     private final long expectedSnapshotId;
     private InternalSerializationService serializationService;
 
@@ -53,7 +54,10 @@ public class ExplodeSnapshotP extends AbstractProcessor {
         serializationService = ((ProcCtx) context).serializationService();
     }
 
-    private Traverser<Object> traverser(byte[] data) {
+    private Traverser<Object> traverser(Object chunk) {
+        byte[] data = chunk instanceof SnapshotDataCompressedValue
+                ? ((SnapshotDataCompressedValue) chunk).decompress()
+                : (byte[]) chunk;
         BufferObjectDataInput in = serializationService.createObjectDataInput(data);
 
         return () -> uncheckCall(() -> {
@@ -75,9 +79,9 @@ public class ExplodeSnapshotP extends AbstractProcessor {
             // ignore the validation record
             return true;
         }
-        Entry<SnapshotDataKey, byte[]> castItem = (Entry<SnapshotDataKey, byte[]>) item;
+        Entry<SnapshotDataKey, Object> castItem = (Entry<SnapshotDataKey, Object>) item;
         String vertexName = castItem.getKey().vertexName();
-        FlatMapper<byte[], Object> flatMapper = vertexToFlatMapper.get(vertexName);
+        FlatMapper<Object, Object> flatMapper = vertexToFlatMapper.get(vertexName);
         if (flatMapper == null) {
             if (!vertexToFlatMapper.containsKey(vertexName)) {
                 // log only once
@@ -47,6 +47,7 @@ import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.spi.merge.DiscardMergePolicy;
 import com.hazelcast.spi.properties.HazelcastProperties;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.Map;
 import java.util.Properties;
@@ -60,6 +61,7 @@ import static com.hazelcast.jet.impl.JobRepository.JOB_METRICS_MAP_NAME;
 import static com.hazelcast.jet.impl.JobRepository.JOB_RESULTS_MAP_NAME;
 import static com.hazelcast.jet.impl.util.ExceptionUtil.sneakyThrow;
 import static com.hazelcast.jet.impl.util.Util.memoizeConcurrent;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SNAPSHOT_LOCAL_DIRECTORY;
 import static com.hazelcast.spi.properties.ClusterProperty.JOB_RESULTS_TTL_SECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
@@ -84,6 +86,7 @@ public class JetServiceBackend implements ManagedService, MembershipAwareService
     private JobCoordinationService jobCoordinationService;
     private JobClassLoaderService jobClassLoaderService;
     private JobExecutionService jobExecutionService;
+    private LocalSnapshotStore localSnapshotStore;
 
     private final AtomicInteger numConcurrentAsyncOps = new AtomicInteger();
 
@@ -105,6 +108,10 @@ public class JetServiceBackend implements ManagedService, MembershipAwareService
                 nodeEngine, jetConfig.getCooperativeThreadCount(), nodeEngine.getProperties()
         );
         jobRepository = new JobRepository(engine.getHazelcastInstance());
+        String localSnapshotDirectory = nodeEngine.getProperties().getString(JET_SNAPSHOT_LOCAL_DIRECTORY);
+        if (localSnapshotDirectory != null) {
+            localSnapshotStore = new LocalSnapshotStore(nodeEngine, localSnapshotDirectory);
+        }
 
         jobCoordinationService = createJobCoordinationService();
         jobClassLoaderService = new JobClassLoaderService(nodeEngine, jobRepository);
@@ -193,6 +200,9 @@ public class JetServiceBackend implements ManagedService, MembershipAwareService
         taskletExecutionService.shutdown();
         taskletExecutionService.awaitWorkerTermination();
         networking.shutdown();
+        if (localSnapshotStore != null) {
+            localSnapshotStore.deleteLocally();
+        }
     }
 
     @Override
@@ -244,6 +254,15 @@ public class JetServiceBackend implements ManagedService, MembershipAwareService
         return jobClassLoaderService;
     }
 
+    /**
+     * Returns the store of the snapshot chunks on the local disk, or {@code
+     * null}, if the snapshots are stored in {@code IMap}s.
+     */
+    @Nullable
+    public LocalSnapshotStore getLocalSnapshotStore() {
+        return localSnapshotStore;
+    }
+
     public JobExecutionService getJobExecutionService() {
         return jobExecutionService;
     }
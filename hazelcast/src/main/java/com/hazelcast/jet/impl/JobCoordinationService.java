@@ -75,6 +75,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -99,11 +100,13 @@ import java.util.stream.StreamSupport;
 import static com.hazelcast.cluster.ClusterState.IN_TRANSITION;
 import static com.hazelcast.cluster.ClusterState.PASSIVE;
 import static com.hazelcast.cluster.memberselector.MemberSelectors.DATA_MEMBER_SELECTOR;
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
 import static com.hazelcast.internal.util.executor.ExecutorType.CACHED;
 import static com.hazelcast.jet.Util.idToString;
 import static com.hazelcast.jet.core.JobStatus.COMPLETING;
 import static com.hazelcast.jet.core.JobStatus.NOT_RUNNING;
 import static com.hazelcast.jet.core.JobStatus.RUNNING;
+import static com.hazelcast.jet.core.JobStatus.STARTING;
 import static com.hazelcast.jet.core.JobStatus.SUSPENDED;
 import static com.hazelcast.jet.datamodel.Tuple2.tuple2;
 import static com.hazelcast.jet.impl.JobClassLoaderService.JobPhase.COORDINATOR;
@@ -114,6 +117,7 @@ import static com.hazelcast.jet.impl.util.ExceptionUtil.sneakyThrow;
 import static com.hazelcast.jet.impl.util.ExceptionUtil.withTryCatch;
 import static com.hazelcast.jet.impl.util.LoggingUtil.logFine;
 import static com.hazelcast.jet.impl.util.LoggingUtil.logFinest;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SCALE_UP_MAX_CONCURRENT_JOBS;
 import static com.hazelcast.spi.properties.ClusterProperty.JOB_SCAN_PERIOD;
 import static java.util.Collections.emptyList;
 import static java.util.Comparator.comparing;
@@ -168,6 +172,9 @@ public class JobCoordinationService {
     private volatile boolean jobsScanned;
 
     private final AtomicInteger scaleUpScheduledCount = new AtomicInteger();
+    // IDs of jobs restarted to scale up that aren't running again yet, accessed only from the coordinator thread.
+    // Only used if the number of concurrently restarted jobs is limited.
+    private final Set<Long> jobsScalingUp = new HashSet<>();
 
     @Probe(name = MetricNames.JOBS_SUBMITTED)
     private final Counter jobSubmitted = MwCounter.newMwCounter();
@@ -176,6 +183,7 @@ public class JobCoordinationService {
     @Probe(name = MetricNames.JOBS_COMPLETED_WITH_FAILURE)
     private final Counter jobCompletedWithFailure = MwCounter.newMwCounter();
 
+    private final int maxConcurrentScaleUpJobs;
     private long maxJobScanPeriodInMillis;
 
     JobCoordinationService(
@@ -186,6 +194,8 @@ public class JobCoordinationService {
         this.config = config;
         this.logger = nodeEngine.getLogger(getClass());
         this.jobRepository = jobRepository;
+        this.maxConcurrentScaleUpJobs = checkPositive(JET_SCALE_UP_MAX_CONCURRENT_JOBS.getName(),
+                nodeEngine.getProperties().getInteger(JET_SCALE_UP_MAX_CONCURRENT_JOBS));
 
         ExecutionService executionService = nodeEngine.getExecutionService();
         executionService.register(COORDINATOR_EXECUTOR_NAME, COORDINATOR_THREADS_POOL_SIZE, Integer.MAX_VALUE, CACHED);
@@ -914,6 +924,7 @@ public class JobCoordinationService {
                             ? masterContext.jobContext().jobMetrics()
                             : null;
             jobRepository.completeJob(masterContext, jobMetrics, error, completionTime);
+            jobsScalingUp.remove(masterContext.jobId());
             if (masterContexts.remove(masterContext.jobId(), masterContext)) {
                 completeObservables(masterContext.jobRecord().getOwnedObservables(), error);
                 logger.fine(masterContext.jobIdString() + " is completed");
@@ -998,8 +1009,37 @@ public class JobCoordinationService {
             // If the number of partitions is lower than the data member count, some members won't have
             // any partitions assigned. Jet doesn't use such members.
             int dataMembersWithPartitionsCount = Math.min(dataMembersCount, partitionCount);
+            // a job stops counting against the limit once its new execution is running or if it
+            // left the restart in any other way, e.g. it was suspended, cancelled or failed
+            jobsScalingUp.removeIf(jobId -> {
+                MasterContext mc = masterContexts.get(jobId);
+                if (mc == null) {
+                    return true;
+                }
+                JobStatus status = mc.jobStatus();
+                return status != STARTING
+                        && (status != RUNNING || mc.jobContext().requestedTerminationMode() == null);
+            });
+            boolean limited = maxConcurrentScaleUpJobs != Integer.MAX_VALUE;
             for (MasterContext mc : masterContexts.values()) {
-                allSucceeded &= mc.jobContext().maybeScaleUp(dataMembersWithPartitionsCount);
+                if (!mc.jobContext().needsScaleUp(dataMembersWithPartitionsCount)
+                        || jobsScalingUp.contains(mc.jobId())) {
+                    continue;
+                }
+                if (jobsScalingUp.size() >= maxConcurrentScaleUpJobs) {
+                    // the job keeps running on the current members, we'll scale it up after others have restarted
+                    allSucceeded = false;
+                    continue;
+                }
+                if (!mc.jobContext().maybeScaleUp(dataMembersWithPartitionsCount)) {
+                    allSucceeded = false;
+                } else if (limited) {
+                    jobsScalingUp.add(mc.jobId());
+                }
+            }
+            if (!jobsScalingUp.isEmpty()) {
+                // check again after the restarted jobs are running
+                allSucceeded = false;
             }
             if (!allSucceeded) {
                 scheduleScaleUp(RETRY_DELAY_IN_MILLIS);
@@ -451,6 +451,10 @@ public class JobRepository {
                 if (!activeJobs.contains(id)) {
                     logFine(logger, "Deleting snapshot data map '%s' because job already finished", map.getName());
                     map.destroy();
+                    LocalSnapshotStore localSnapshotStore = localSnapshotStore(nodeEngine);
+                    if (localSnapshotStore != null) {
+                        localSnapshotStore.deleteOnAllMembers(map.getName());
+                    }
                 }
             } else if (map.getName().startsWith(RESOURCES_MAP_NAME_PREFIX)) {
                 deleteMap(activeJobs, map);
@@ -458,6 +462,11 @@ public class JobRepository {
         }
     }
 
+    private static LocalSnapshotStore localSnapshotStore(NodeEngine nodeEngine) {
+        JetServiceBackend jetServiceBackend = nodeEngine.getService(JetServiceBackend.SERVICE_NAME);
+        return jetServiceBackend.getLocalSnapshotStore();
+    }
+
     private void deleteMap(Set<Long> activeJobs, DistributedObject map) {
         long id = jobIdFromPrefixedName(map.getName(), RESOURCES_MAP_NAME_PREFIX);
         if (activeJobs.contains(id)) {
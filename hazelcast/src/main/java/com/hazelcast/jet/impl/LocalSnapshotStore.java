@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl;
+
+import com.hazelcast.cluster.Member;
+import com.hazelcast.internal.nio.Bits;
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.jet.JetException;
+import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.Traversers;
+import com.hazelcast.jet.impl.operation.DeleteLocalSnapshotOperation;
+import com.hazelcast.jet.impl.operation.SaveSnapshotChunkOperation;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.impl.executionservice.ExecutionService;
+import com.hazelcast.spi.properties.ClusterProperty;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+import static com.hazelcast.cluster.memberselector.MemberSelectors.DATA_MEMBER_SELECTOR;
+import static com.hazelcast.internal.util.UuidUtil.newUnsecureUUID;
+import static com.hazelcast.jet.Util.entry;
+import static com.hazelcast.jet.impl.JobRepository.SNAPSHOT_DATA_MAP_PREFIX;
+
+/**
+ * Stores the chunks of job snapshots in files on the local disk instead
+ * of in the snapshot {@code IMap}. Used if {@link
+ * ClusterProperty#JET_SNAPSHOT_LOCAL_DIRECTORY} is set.
+ * <p>
+ * A chunk is stored in {@code <directory>/<member UUID>/<map name>/<snapshot
+ * ID>-<random UUID>} on the member which took it and on the following data
+ * members, as many as the backup count of the snapshot map. The file starts
+ * with the UUIDs of the members holding a copy. When restoring, the chunk
+ * is read by the first of them that is still a member, so that each chunk
+ * is restored exactly once.
+ * <p>
+ * The validation record of a snapshot is still stored in the snapshot map
+ * by the master.
+ */
+public class LocalSnapshotStore {
+
+    private static final char FILE_NAME_SEPARATOR = '-';
+
+    private final NodeEngine nodeEngine;
+    private final File rootDirectory;
+    private final Executor executor;
+    private final ILogger logger;
+    // the ID of the snapshot last written to each map directory
+    private final ConcurrentMap<String, Long> lastSnapshotIds = new ConcurrentHashMap<>();
+
+    public LocalSnapshotStore(NodeEngine nodeEngine, String rootDirectory) {
+        this.nodeEngine = nodeEngine;
+        this.rootDirectory = new File(rootDirectory);
+        this.executor = nodeEngine.getExecutionService().getExecutor(ExecutionService.IO_EXECUTOR);
+        this.logger = nodeEngine.getLogger(getClass());
+    }
+
+    /**
+     * Returns {@code true}, if the chunks written to the given map are stored
+     * by this class. Exported snapshots are always stored in their map.
+     */
+    public static boolean isLocalSnapshotMap(String mapName) {
+        return mapName.startsWith(SNAPSHOT_DATA_MAP_PREFIX);
+    }
+
+    /**
+     * Stores the chunk on this member and sends its copies to the backup
+     * members. The returned future is completed when all copies are written.
+     */
+    public CompletableFuture<Void> writeAsync(String mapName, long snapshotId, Data key, Data chunk) {
+        List<Member> holders = holders(mapName);
+        byte[] contents = fileContents(holders, key, chunk);
+        String fileName = Long.toString(snapshotId) + FILE_NAME_SEPARATOR + newUnsecureUUID();
+        CompletableFuture<?>[] futures = new CompletableFuture[holders.size()];
+        futures[0] = writeLocallyAsync(mapName, fileName, contents);
+        for (int i = 1; i < holders.size(); i++) {
+            futures[i] = nodeEngine.getOperationService()
+                    .createInvocationBuilder(JetServiceBackend.SERVICE_NAME,
+                            new SaveSnapshotChunkOperation(mapName, fileName, contents), holders.get(i).getAddress())
+                    .invoke();
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * Writes the file of a chunk on this member. Deletes the files of
+     * other snapshots in the same map directory when the first chunk of a
+     * snapshot is written.
+     */
+    public CompletableFuture<Void> writeLocallyAsync(String mapName, String fileName, byte[] contents) {
+        return CompletableFuture.runAsync(() -> {
+            File mapDirectory = new File(memberDirectory(), mapName);
+            String snapshotPrefix = fileName.substring(0, fileName.indexOf(FILE_NAME_SEPARATOR) + 1);
+            Long snapshotId = Long.valueOf(snapshotPrefix.substring(0, snapshotPrefix.length() - 1));
+            if (!snapshotId.equals(lastSnapshotIds.put(mapName, snapshotId))) {
+                File[] oldFiles = mapDirectory.listFiles((dir, name) -> !name.startsWith(snapshotPrefix));
+                if (oldFiles != null) {
+                    for (File oldFile : oldFiles) {
+                        IOUtil.deleteQuietly(oldFile);
+                    }
+                }
+            }
+            File file = new File(mapDirectory, fileName);
+            try {
+                Files.createDirectories(mapDirectory.toPath());
+                Files.write(file.toPath(), contents);
+            } catch (IOException e) {
+                throw new JetException("Failed to write a snapshot chunk to " + file + ": " + e, e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Returns a traverser over the entries of the chunks of the given
+     * snapshot which this member restores, that is of the chunks for which
+     * this member is the first holder among the given members.
+     */
+    public Traverser<Entry<Object, Object>> readChunks(
+            String mapName, long snapshotId, Set<UUID> memberUuids, SerializationService serializationService
+    ) {
+        String snapshotPrefix = Long.toString(snapshotId) + FILE_NAME_SEPARATOR;
+        File[] files = new File(memberDirectory(), mapName).listFiles((dir, name) -> name.startsWith(snapshotPrefix));
+        if (files == null) {
+            return Traversers.empty();
+        }
+        UUID localUuid = nodeEngine.getLocalMember().getUuid();
+        return Traversers.traverseArray(files)
+                         .map(file -> readChunk(file, localUuid, memberUuids, serializationService));
+    }
+
+    /**
+     * Deletes the files of the given snapshot map on all data members.
+     */
+    public void deleteOnAllMembers(String mapName) {
+        for (Member member : nodeEngine.getClusterService().getMembers(DATA_MEMBER_SELECTOR)) {
+            nodeEngine.getOperationService()
+                      .createInvocationBuilder(JetServiceBackend.SERVICE_NAME,
+                              new DeleteLocalSnapshotOperation(mapName), member.getAddress())
+                      .invoke();
+        }
+    }
+
+    /**
+     * Deletes the files of the given snapshot map on this member.
+     */
+    public CompletableFuture<Void> deleteLocallyAsync(String mapName) {
+        return CompletableFuture.runAsync(() -> {
+            lastSnapshotIds.remove(mapName);
+            IOUtil.deleteQuietly(new File(memberDirectory(), mapName));
+        }, executor);
+    }
+
+    /**
+     * Deletes all files of this member. The chunks this member took are
+     * still available on the backup members.
+     */
+    public void deleteLocally() {
+        logger.fine("Deleting local snapshot directory " + memberDirectory());
+        IOUtil.deleteQuietly(memberDirectory());
+    }
+
+    // the UUID of the local member changes when it merges into another cluster
+    private File memberDirectory() {
+        return new File(rootDirectory, nodeEngine.getLocalMember().getUuid().toString());
+    }
+
+    private List<Member> holders(String mapName) {
+        List<Member> members = new ArrayList<>(nodeEngine.getClusterService().getMembers(DATA_MEMBER_SELECTOR));
+        Member localMember = nodeEngine.getLocalMember();
+        int localIndex = members.indexOf(localMember);
+        int backupCount = Math.min(nodeEngine.getConfig().findMapConfig(mapName).getTotalBackupCount(),
+                members.size() - 1);
+        List<Member> holders = new ArrayList<>(backupCount + 1);
+        holders.add(localMember);
+        for (int i = 1; i <= backupCount; i++) {
+            holders.add(members.get((localIndex + i) % members.size()));
+        }
+        return holders;
+    }
+
+    private static byte[] fileContents(List<Member> holders, Data key, Data chunk) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Bits.INT_SIZE_IN_BYTES
+                + holders.size() * 2 * Bits.LONG_SIZE_IN_BYTES
+                + 2 * Bits.INT_SIZE_IN_BYTES + key.totalSize() + chunk.totalSize());
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(holders.size());
+            for (Member holder : holders) {
+                out.writeLong(holder.getUuid().getMostSignificantBits());
+                out.writeLong(holder.getUuid().getLeastSignificantBits());
+            }
+            writeData(out, key);
+            writeData(out, chunk);
+        } catch (IOException e) {
+            throw new JetException(e); // should never happen
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeData(DataOutputStream out, Data data) throws IOException {
+        byte[] bytes = data.toByteArray();
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static Entry<Object, Object> readChunk(
+            File file, UUID localUuid, Set<UUID> memberUuids, SerializationService serializationService
+    ) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            UUID restoringMember = null;
+            for (int i = in.readInt(); i > 0; i--) {
+                UUID holder = new UUID(in.readLong(), in.readLong());
+                if (restoringMember == null && memberUuids.contains(holder)) {
+                    restoringMember = holder;
+                }
+            }
+            if (!Objects.equals(restoringMember, localUuid)) {
+                return null;
+            }
+            Object key = serializationService.toObject(readData(in));
+            Object chunk = serializationService.toObject(readData(in));
+            return entry(key, chunk);
+        } catch (IOException e) {
+            throw new JetException("Failed to read a snapshot chunk from " + file + ": " + e, e);
+        }
+    }
+
+    private static Data readData(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new HeapData(bytes);
+    }
+}
@@ -25,6 +25,7 @@ import com.hazelcast.jet.Job;
 import com.hazelcast.jet.core.DAG;
 import com.hazelcast.jet.core.Edge;
 import com.hazelcast.jet.core.JobStatus;
+import com.hazelcast.jet.core.ProcessorMetaSupplier;
 import com.hazelcast.jet.core.TopologyChangedException;
 import com.hazelcast.jet.core.Vertex;
 import com.hazelcast.jet.core.metrics.JobMetrics;
@@ -92,6 +93,8 @@ import static com.hazelcast.jet.core.processor.SourceProcessors.readMapP;
 import static com.hazelcast.jet.datamodel.Tuple2.tuple2;
 import static com.hazelcast.jet.impl.JobClassLoaderService.JobPhase.COORDINATOR;
 import static com.hazelcast.jet.impl.JobRepository.EXPORTED_SNAPSHOTS_PREFIX;
+import static com.hazelcast.jet.impl.LocalSnapshotStore.isLocalSnapshotMap;
+import static com.hazelcast.jet.impl.ReadLocalSnapshotP.readLocalSnapshotP;
 import static com.hazelcast.jet.impl.SnapshotValidator.validateSnapshot;
 import static com.hazelcast.jet.impl.TerminationMode.ActionAfterTerminate.RESTART;
 import static com.hazelcast.jet.impl.TerminationMode.ActionAfterTerminate.SUSPEND;
@@ -384,8 +387,9 @@ public class MasterJobContext {
 
     private void rewriteDagWithSnapshotRestore(DAG dag, long snapshotId, String mapName, String snapshotName) {
         IMap<Object, Object> snapshotMap = mc.nodeEngine().getHazelcastInstance().getMap(mapName);
+        boolean localSnapshot = mc.getJetServiceBackend().getLocalSnapshotStore() != null && isLocalSnapshotMap(mapName);
         long resolvedSnapshotId = validateSnapshot(
-                snapshotId, snapshotMap, mc.jobIdString(), snapshotName);
+                snapshotId, snapshotMap, !localSnapshot, mc.jobIdString(), snapshotName);
         logger.info(String.format(
                 "About to restore the state of %s from snapshot %d, mapName = %s",
                 mc.jobIdString(), resolvedSnapshotId, mapName));
@@ -393,7 +397,10 @@ public class MasterJobContext {
         dag.iterator().forEachRemaining(originalVertices::add);
 
         Map<String, Integer> vertexToOrdinal = new HashMap<>();
-        Vertex readSnapshotVertex = dag.newVertex(SNAPSHOT_VERTEX_PREFIX + "read", readMapP(mapName));
+        ProcessorMetaSupplier readSnapshotP = localSnapshot
+                ? readLocalSnapshotP(mapName, resolvedSnapshotId)
+                : readMapP(mapName);
+        Vertex readSnapshotVertex = dag.newVertex(SNAPSHOT_VERTEX_PREFIX + "read", readSnapshotP);
         Vertex explodeVertex = dag.newVertex(SNAPSHOT_VERTEX_PREFIX + "explode",
                 () -> new ExplodeSnapshotP(vertexToOrdinal, resolvedSnapshotId));
         dag.edge(between(readSnapshotVertex, explodeVertex).isolated());
@@ -835,6 +842,26 @@ public class MasterJobContext {
         return future.thenCompose(Function.identity());
     }
 
+    /**
+     * Returns {@code true}, if the job has auto-scaling enabled and is running
+     * on fewer members than the given count.
+     */
+    boolean needsScaleUp(int dataMembersWithPartitionsCount) {
+        if (!mc.jobConfig().isAutoScaling()) {
+            return false;
+        }
+
+        // We only compare the number of our participating members and current members.
+        // If there is any member in our participants that is not among current data members,
+        // this job will be restarted anyway. If it's the other way, then the sizes won't match.
+        if (mc.executionPlanMap() == null || mc.executionPlanMap().size() == dataMembersWithPartitionsCount) {
+            LoggingUtil.logFine(logger, "Not scaling up %s: not running or already running on all members",
+                    mc.jobIdString());
+            return false;
+        }
+        return true;
+    }
+
     /**
      * Checks if the job is running on all members and maybe restart it.
      * <p>
@@ -848,16 +875,7 @@ public class MasterJobContext {
      */
     boolean maybeScaleUp(int dataMembersWithPartitionsCount) {
         mc.coordinationService().assertOnCoordinatorThread();
-        if (!mc.jobConfig().isAutoScaling()) {
-            return true;
-        }
-
-        // We only compare the number of our participating members and current members.
-        // If there is any member in our participants that is not among current data members,
-        // this job will be restarted anyway. If it's the other way, then the sizes won't match.
-        if (mc.executionPlanMap() == null || mc.executionPlanMap().size() == dataMembersWithPartitionsCount) {
-            LoggingUtil.logFine(logger, "Not scaling up %s: not running or already running on all members",
-                    mc.jobIdString());
+        if (!needsScaleUp(dataMembersWithPartitionsCount)) {
             return true;
         }
 
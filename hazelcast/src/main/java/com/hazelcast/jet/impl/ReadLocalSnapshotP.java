@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl;
+
+import com.hazelcast.cluster.Member;
+import com.hazelcast.jet.JetException;
+import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.core.AbstractProcessor;
+import com.hazelcast.jet.core.ProcessorMetaSupplier;
+import com.hazelcast.jet.impl.execution.init.Contexts.ProcCtx;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+
+import javax.annotation.Nonnull;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.hazelcast.cluster.memberselector.MemberSelectors.DATA_MEMBER_SELECTOR;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SNAPSHOT_LOCAL_DIRECTORY;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Reads the chunks of a snapshot from the {@link LocalSnapshotStore} of
+ * the local member. It's the counterpart of {@code readMapP} when restoring
+ * a job from a snapshot stored on the local disk.
+ */
+public class ReadLocalSnapshotP extends AbstractProcessor {
+
+    private final String mapName;
+    private final long snapshotId;
+    private Traverser<Entry<Object, Object>> traverser;
+
+    ReadLocalSnapshotP(String mapName, long snapshotId) {
+        this.mapName = mapName;
+        this.snapshotId = snapshotId;
+    }
+
+    @Override
+    protected void init(@Nonnull Context context) {
+        NodeEngineImpl nodeEngine = ((ProcCtx) context).nodeEngine();
+        JetServiceBackend jetServiceBackend = nodeEngine.getService(JetServiceBackend.SERVICE_NAME);
+        LocalSnapshotStore store = jetServiceBackend.getLocalSnapshotStore();
+        if (store == null) {
+            throw new JetException(JET_SNAPSHOT_LOCAL_DIRECTORY.getName() + " is not set on member "
+                    + nodeEngine.getLocalMember());
+        }
+        Set<UUID> memberUuids = nodeEngine.getClusterService().getMembers(DATA_MEMBER_SELECTOR).stream()
+                                          .map(Member::getUuid)
+                                          .collect(toSet());
+        traverser = store.readChunks(mapName, snapshotId, memberUuids, ((ProcCtx) context).serializationService());
+    }
+
+    @Override
+    public boolean isCooperative() {
+        return false;
+    }
+
+    @Override
+    public boolean complete() {
+        return emitFromTraverser(traverser);
+    }
+
+    /**
+     * Returns a supplier of processors reading the chunks of the given
+     * snapshot, one processor on each member.
+     */
+    static ProcessorMetaSupplier readLocalSnapshotP(String mapName, long snapshotId) {
+        return ProcessorMetaSupplier.preferLocalParallelismOne(() -> new ReadLocalSnapshotP(mapName, snapshotId));
+    }
+}
@@ -34,13 +34,17 @@ final class SnapshotValidator {
      * @param snapshotId snapshot ID or {@link JobExecutionRecord#NO_SNAPSHOT}
      *                   if snapshot ID is not known
      * @param snapshotMap snapshot map to validate
+     * @param chunksInMap {@code false}, if the chunks are stored in the {@link
+     *                    LocalSnapshotStore} and the map only contains the
+     *                    validation record
      * @param jobIdString name and ID of the job, for debug output
      * @param snapshotName user-supplied snapshot name for debug output,
      *                     null if it's not an exported snapshot
      * @return the snapshot ID of the snapshot being validated
      */
     static long validateSnapshot(
-            long snapshotId, IMap<Object, Object> snapshotMap, String jobIdString, String snapshotName
+            long snapshotId, IMap<Object, Object> snapshotMap, boolean chunksInMap, String jobIdString,
+            String snapshotName
     ) {
         SnapshotValidationRecord validationRecord =
                 (SnapshotValidationRecord) snapshotMap.get(SnapshotValidationRecord.KEY);
@@ -50,7 +54,7 @@ final class SnapshotValidator {
                     "snapshot %s doesn't exist or is damaged. Unable to restore the state for %s.",
                     nameOrId, jobIdString));
         }
-        if (validationRecord.numChunks() != snapshotMap.size() - 1) {
+        if (chunksInMap && validationRecord.numChunks() != snapshotMap.size() - 1) {
             // fallback validation that counts using aggregate(), ignoring different snapshot IDs
             long filteredCount = snapshotMap.aggregate(
                     Aggregators.count(),
@@ -20,10 +20,12 @@ import com.hazelcast.cluster.Address;
 import com.hazelcast.function.FunctionEx;
 import com.hazelcast.jet.JetException;
 import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.Traversers;
 import com.hazelcast.jet.core.AbstractProcessor;
 import com.hazelcast.jet.core.ProcessorMetaSupplier;
 import com.hazelcast.jet.core.ProcessorSupplier;
 import com.hazelcast.jet.core.processor.SourceProcessors;
+import com.hazelcast.jet.function.TriFunction;
 import com.hazelcast.jet.pipeline.file.impl.FileProcessorMetaSupplier;
 import com.hazelcast.jet.pipeline.file.impl.FileTraverser;
 import com.hazelcast.logging.ILogger;
@@ -31,6 +33,7 @@ import com.hazelcast.logging.Logger;
 import com.hazelcast.security.permission.ConnectorPermission;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.DirectoryStream;
@@ -41,7 +44,6 @@ import java.security.Permission;
 import java.util.Iterator;
 import java.util.List;
 import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static com.hazelcast.jet.Traversers.traverseIterator;
@@ -60,10 +62,15 @@ import static com.hazelcast.security.permission.ActionConstants.ACTION_READ;
  * threads, so if running a single Jet job with a single file-reading
  * vertex, the optimal value would be in the range of 4-8. Note that any
  * one file is only read by one thread, so extra parallelism won't improve
- * performance if there aren't enough files to read.
+ * performance if there aren't enough files to read, unless the file format
+ * supports reading a byte range of a file: then the files larger than
+ * {@value #DEFAULT_MIN_SPLIT_SIZE} bytes are split into ranges read by
+ * different processors.
  */
 public final class ReadFilesP<T> extends AbstractProcessor {
 
+    static final long DEFAULT_MIN_SPLIT_SIZE = 32L * 1024 * 1024;
+
     private static final int DEFAULT_LOCAL_PARALLELISM = 4;
 
     private final String directory;
@@ -71,6 +78,8 @@ public final class ReadFilesP<T> extends AbstractProcessor {
     private final boolean sharedFileSystem;
     private final boolean ignoreFileNotFound;
     private final FunctionEx<? super Path, ? extends Stream<T>> readFileFn;
+    private final TriFunction<? super Path, Long, Long, ? extends Stream<T>> readFileRangeFn;
+    private final long minSplitSize;
 
     private LocalFileTraverser<T> traverser;
 
@@ -79,13 +88,17 @@ public final class ReadFilesP<T> extends AbstractProcessor {
             @Nonnull String glob,
             boolean sharedFileSystem,
             boolean ignoreFileNotFound,
-            @Nonnull FunctionEx<? super Path, ? extends Stream<T>> readFileFn
+            @Nonnull FunctionEx<? super Path, ? extends Stream<T>> readFileFn,
+            @Nullable TriFunction<? super Path, Long, Long, ? extends Stream<T>> readFileRangeFn,
+            long minSplitSize
     ) {
         this.directory = directory;
         this.glob = glob;
         this.sharedFileSystem = sharedFileSystem;
         this.ignoreFileNotFound = ignoreFileNotFound;
         this.readFileFn = readFileFn;
+        this.readFileRangeFn = readFileRangeFn;
+        this.minSplitSize = minSplitSize;
     }
 
     @Override
@@ -99,14 +112,36 @@ public final class ReadFilesP<T> extends AbstractProcessor {
                 directory,
                 glob,
                 ignoreFileNotFound,
-                path -> shouldProcessEvent(path, parallelism, processorIndex),
-                readFileFn
+                path -> readFileSplit(path, parallelism, processorIndex)
         );
     }
 
-    private static boolean shouldProcessEvent(Path path, int parallelism, int processorIndex) {
-        int hashCode = path.hashCode();
-        return ((hashCode & Integer.MAX_VALUE) % parallelism) == processorIndex;
+    /**
+     * Returns the items of the split of the file this processor should
+     * read, or null, if it should read none.
+     * <p>
+     * Each file is assigned to a processor by its hash code. If the file is
+     * split into ranges, the following processors read the following
+     * ranges, so that the splits of different files are spread evenly.
+     */
+    @Nullable
+    private Stream<T> readFileSplit(Path path, int parallelism, int processorIndex) throws IOException {
+        int firstProcessorIndex = (path.hashCode() & Integer.MAX_VALUE) % parallelism;
+        int splitIndex = (processorIndex - firstProcessorIndex + parallelism) % parallelism;
+        if (readFileRangeFn == null) {
+            return splitIndex == 0 ? readFileFn.apply(path) : null;
+        }
+        long size = Files.size(path);
+        int splitCount = (int) Math.max(1, Math.min(parallelism, size / minSplitSize));
+        if (splitIndex >= splitCount) {
+            return null;
+        }
+        if (splitCount == 1) {
+            return readFileFn.apply(path);
+        }
+        long start = size * splitIndex / splitCount;
+        long end = size * (splitIndex + 1) / splitCount;
+        return readFileRangeFn.apply(path, start, end);
     }
 
     @Override
@@ -139,7 +174,42 @@ public final class ReadFilesP<T> extends AbstractProcessor {
         checkSerializable(readFileFn, "readFileFn");
 
         return new MetaSupplier<>(DEFAULT_LOCAL_PARALLELISM, directory, glob, sharedFileSystem,
-                ignoreFileNotFound, readFileFn);
+                ignoreFileNotFound, readFileFn, null, DEFAULT_MIN_SPLIT_SIZE);
+    }
+
+    /**
+     * Private API. Returns a supplier of processors that split the files
+     * larger than {@value #DEFAULT_MIN_SPLIT_SIZE} bytes into byte ranges,
+     * which are read in parallel using {@code readFileRangeFn}. It takes
+     * the path, the start (inclusive) and end (exclusive) offset of the
+     * range and must return the items whose records start in the range.
+     */
+    public static <T> ProcessorMetaSupplier metaSupplier(
+            @Nonnull String directory,
+            @Nonnull String glob,
+            boolean sharedFileSystem,
+            boolean ignoreFileNotFound,
+            @Nonnull FunctionEx<? super Path, ? extends Stream<T>> readFileFn,
+            @Nonnull TriFunction<? super Path, Long, Long, ? extends Stream<T>> readFileRangeFn
+    ) {
+        return metaSupplier(directory, glob, sharedFileSystem, ignoreFileNotFound, readFileFn, readFileRangeFn,
+                DEFAULT_MIN_SPLIT_SIZE);
+    }
+
+    static <T> ProcessorMetaSupplier metaSupplier(
+            @Nonnull String directory,
+            @Nonnull String glob,
+            boolean sharedFileSystem,
+            boolean ignoreFileNotFound,
+            @Nonnull FunctionEx<? super Path, ? extends Stream<T>> readFileFn,
+            @Nonnull TriFunction<? super Path, Long, Long, ? extends Stream<T>> readFileRangeFn,
+            long minSplitSize
+    ) {
+        checkSerializable(readFileFn, "readFileFn");
+        checkSerializable(readFileRangeFn, "readFileRangeFn");
+
+        return new MetaSupplier<>(DEFAULT_LOCAL_PARALLELISM, directory, glob, sharedFileSystem,
+                ignoreFileNotFound, readFileFn, readFileRangeFn, minSplitSize);
     }
 
     private static final class MetaSupplier<T> implements FileProcessorMetaSupplier<T> {
@@ -154,6 +224,8 @@ public final class ReadFilesP<T> extends AbstractProcessor {
         private final boolean sharedFileSystem;
         private final boolean ignoreFileNotFound;
         private final FunctionEx<? super Path, ? extends Stream<T>> readFileFn;
+        private final TriFunction<? super Path, Long, Long, ? extends Stream<T>> readFileRangeFn;
+        private final long minSplitSize;
 
         private MetaSupplier(
                 int localParallelism,
@@ -161,7 +233,9 @@ public final class ReadFilesP<T> extends AbstractProcessor {
                 String glob,
                 boolean sharedFileSystem,
                 boolean ignoreFileNotFound,
-                FunctionEx<? super Path, ? extends Stream<T>> readFileFn
+                FunctionEx<? super Path, ? extends Stream<T>> readFileFn,
+                TriFunction<? super Path, Long, Long, ? extends Stream<T>> readFileRangeFn,
+                long minSplitSize
         ) {
             this.localParallelism = localParallelism;
             this.directory = directory;
@@ -169,13 +243,15 @@ public final class ReadFilesP<T> extends AbstractProcessor {
             this.sharedFileSystem = sharedFileSystem;
             this.ignoreFileNotFound = ignoreFileNotFound;
             this.readFileFn = readFileFn;
+            this.readFileRangeFn = readFileRangeFn;
+            this.minSplitSize = minSplitSize;
         }
 
         @Nonnull
         @Override
         public Function<? super Address, ? extends ProcessorSupplier> get(@Nonnull List<Address> addresses) {
             return address -> ProcessorSupplier.of(() -> new ReadFilesP<>(directory, glob, sharedFileSystem,
-                    ignoreFileNotFound, readFileFn));
+                    ignoreFileNotFound, readFileFn, readFileRangeFn, minSplitSize));
         }
 
         @Override
@@ -185,7 +261,7 @@ public final class ReadFilesP<T> extends AbstractProcessor {
 
         @Override
         public FileTraverser<T> traverser() {
-            return new LocalFileTraverser<>(LOGGER, directory, glob, ignoreFileNotFound, path -> true, readFileFn);
+            return new LocalFileTraverser<>(LOGGER, directory, glob, ignoreFileNotFound, readFileFn);
         }
 
         @Override
@@ -212,7 +288,6 @@ public final class ReadFilesP<T> extends AbstractProcessor {
                 String directory,
                 String glob,
                 boolean ignoreFileNotFound,
-                Predicate<Path> pathFilterFn,
                 FunctionEx<? super Path, ? extends Stream<T>> readFileFn
         ) {
             this.logger = logger;
@@ -223,7 +298,6 @@ public final class ReadFilesP<T> extends AbstractProcessor {
             this.delegate = traverseIterator(uncheckCall(this::paths))
                     .filter(path -> !Files.isDirectory(path))
                     .peek(path -> hasResults = true)
-                    .filter(path -> pathFilterFn.test(path))
                     .flatMap(this::processFile);
         }
 
@@ -241,10 +315,12 @@ public final class ReadFilesP<T> extends AbstractProcessor {
         }
 
         private Traverser<T> processFile(Path file) {
-            logger.finest("Processing file " + file);
-
             assert fileStream == null : "fileStream != null";
             fileStream = readFileFn.apply(file);
+            if (fileStream == null) {
+                return Traversers.empty();
+            }
+            logger.finest("Processing file " + file);
             return traverseStream(fileStream)
                     .onFirstNull(() -> {
                         fileStream.close();
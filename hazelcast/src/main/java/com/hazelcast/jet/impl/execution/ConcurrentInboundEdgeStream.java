@@ -202,6 +202,14 @@ public final class ConcurrentInboundEdgeStream {
                     }
                 } else if (itemDetector.item instanceof SnapshotBarrier) {
                     observeBarrier(queueIndex, (SnapshotBarrier) itemDetector.item);
+                } else if (itemDetector.item instanceof LatencyMarker) {
+                    if (itemDetector.drainedItems) {
+                        watermarkCoalescer.observeEvent(queueIndex);
+                    }
+                    // forward the marker right after the items that preceded it
+                    boolean res = dest.test(itemDetector.item);
+                    assert res : "test result expected to be true";
+                    return MADE_PROGRESS;
                 } else if (result.isMadeProgress()) {
                     watermarkCoalescer.observeEvent(queueIndex);
                 }
@@ -234,7 +242,8 @@ public final class ConcurrentInboundEdgeStream {
 
         /**
          * Drains the supplied queue into a {@code dest} collection, up to the next
-         * {@link Watermark} or {@link SnapshotBarrier}. Also updates the {@code tracker} with new status.
+         * {@link Watermark}, {@link SnapshotBarrier} or {@link LatencyMarker}. Also
+         * updates the {@code tracker} with new status.
          */
         private ProgressState drainQueue(Pipe<Object> queue, Predicate<Object> dest) {
             itemDetector.reset(dest);
@@ -281,26 +290,30 @@ public final class ConcurrentInboundEdgeStream {
         }
 
         /**
-         * Drains a concurrent conveyor's queue while watching for {@link Watermark}s
-         * and {@link SnapshotBarrier}s.
-         * When encountering either of them it prevents draining more items.
+         * Drains a concurrent conveyor's queue while watching for {@link Watermark}s,
+         * {@link SnapshotBarrier}s and {@link LatencyMarker}s.
+         * When encountering any of them it prevents draining more items.
          */
         private static final class ItemDetector implements Predicate<Object> {
             Predicate<Object> dest;
             BroadcastItem item;
+            boolean drainedItems;
 
             void reset(Predicate<Object> newDest) {
                 dest = newDest;
                 item = null;
+                drainedItems = false;
             }
 
             @Override
             public boolean test(Object o) {
-                if (o instanceof Watermark || o instanceof SnapshotBarrier || o == DONE_ITEM) {
+                // a BroadcastEntry is a regular item, all the other broadcast items are special
+                if (o instanceof BroadcastItem && !(o instanceof BroadcastEntry)) {
                     assert item == null : "Received multiple special items without a call to reset(): " + item;
                     item = (BroadcastItem) o;
                     return false;
                 }
+                drainedItems = true;
                 return dest.test(o);
             }
         }
@@ -309,7 +322,8 @@ public final class ConcurrentInboundEdgeStream {
     /**
      * This implementation asserts that the inputs are ordered according to the
      * supplied {@code Comparator} and merges them into one output stream while
-     * preserving the order. Currently doesn't handle watermarks or barriers.
+     * preserving the order. Currently doesn't handle watermarks or barriers,
+     * latency markers are dropped.
      */
     private static final class OrderedDrain extends InboundEdgeStreamBase {
         private final Comparator<Object> comparator;
@@ -372,6 +386,11 @@ public final class ConcurrentInboundEdgeStream {
                         }
                         continue outer;
                     }
+                    if (item instanceof LatencyMarker) {
+                        // the markers can't be ordered with the items, drop them
+                        drainedItems.get(i).remove();
+                        continue outer;
+                    }
                     if (item instanceof Watermark || item instanceof SnapshotBarrier) {
                         throw new JetException("Unexpected item observed: " + item);
                     }
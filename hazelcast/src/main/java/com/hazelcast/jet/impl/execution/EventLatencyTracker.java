@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.execution;
+
+import com.hazelcast.internal.metrics.MetricDescriptor;
+import com.hazelcast.internal.metrics.MetricsCollectionContext;
+import com.hazelcast.internal.metrics.ProbeLevel;
+import com.hazelcast.internal.metrics.ProbeUnit;
+import com.hazelcast.internal.util.LatencyDistribution;
+
+import javax.annotation.Nullable;
+
+import static com.hazelcast.jet.core.metrics.MetricNames.EVENT_LATENCY_P50;
+import static com.hazelcast.jet.core.metrics.MetricNames.EVENT_LATENCY_P99;
+import static com.hazelcast.jet.core.metrics.MetricNames.EVENT_LATENCY_P999;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Records the latency of the {@link LatencyMarker}s received by a tasklet,
+ * that is the time elapsed since a source tasklet created them, and
+ * decides when the tasklet forwards a marker.
+ * <p>
+ * A tasklet receives the markers from all upstream tasklets, but forwards
+ * at most one marker per interval, the most recently received one. This
+ * keeps the number of markers constant in each stage of the DAG, no
+ * matter how many upstream tasklets broadcast them. A source tasklet
+ * creates a new marker once per interval.
+ * <p>
+ * The markers are received and forwarded by the tasklet's thread, the
+ * metrics can be collected by any thread.
+ */
+final class EventLatencyTracker {
+
+    private static final double P50 = 0.5;
+    private static final double P99 = 0.99;
+    private static final double P999 = 0.999;
+
+    private final long intervalMillis;
+    private final LatencyDistribution distribution = new LatencyDistribution();
+    private LatencyMarker pendingMarker;
+    private boolean pendingMarkerOffered;
+    private long nextForwardTime;
+
+    EventLatencyTracker(long intervalMillis) {
+        assert intervalMillis > 0 : "intervalMillis=" + intervalMillis;
+        this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * Records the latency of a received marker and keeps the marker to be
+     * forwarded, unless an older one was already offered to the outbox.
+     */
+    void onMarkerReceived(LatencyMarker marker, long now) {
+        distribution.recordNanos(MILLISECONDS.toNanos(Math.max(0, now - marker.sourceTime())));
+        if (!pendingMarkerOffered) {
+            pendingMarker = marker;
+        }
+    }
+
+    /**
+     * Creates a new marker to be forwarded, if the interval elapsed since
+     * the last one was forwarded. Called by source tasklets.
+     */
+    void maybeCreateMarker(long now) {
+        if (pendingMarker == null && now >= nextForwardTime) {
+            pendingMarker = new LatencyMarker(now);
+        }
+    }
+
+    /**
+     * Returns the marker the tasklet should offer to its outbox now, or
+     * {@code null} if there's none. Once a marker was returned, the same
+     * marker is returned until {@link #onMarkerForwarded} is called: the
+     * tasklet must not let the processor emit anything until the outbox
+     * accepts the marker.
+     *
+     * @param outboxBusy whether the outbox has an unfinished item of the
+     *                   processor, in which case a new marker isn't offered
+     */
+    @Nullable
+    LatencyMarker markerToForward(long now, boolean outboxBusy) {
+        if (pendingMarkerOffered) {
+            return pendingMarker;
+        }
+        if (pendingMarker == null || outboxBusy || now < nextForwardTime) {
+            return null;
+        }
+        pendingMarkerOffered = true;
+        return pendingMarker;
+    }
+
+    /**
+     * Called after the outbox accepted the marker returned from {@link
+     * #markerToForward}.
+     */
+    void onMarkerForwarded(long now) {
+        pendingMarker = null;
+        pendingMarkerOffered = false;
+        nextForwardTime = now + intervalMillis;
+    }
+
+    void provideMetrics(MetricDescriptor descriptor, MetricsCollectionContext context) {
+        if (distribution.count() == 0) {
+            return;
+        }
+        context.collect(descriptor, EVENT_LATENCY_P50, ProbeLevel.INFO, ProbeUnit.MS, percentileMs(P50));
+        context.collect(descriptor, EVENT_LATENCY_P99, ProbeLevel.INFO, ProbeUnit.MS, percentileMs(P99));
+        context.collect(descriptor, EVENT_LATENCY_P999, ProbeLevel.INFO, ProbeUnit.MS, percentileMs(P999));
+    }
+
+    // package-visible for tests
+    long percentileMs(double percentile) {
+        return MICROSECONDS.toMillis(distribution.percentileMaxUs(percentile));
+    }
+}
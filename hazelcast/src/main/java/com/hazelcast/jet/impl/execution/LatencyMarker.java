@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.execution;
+
+/**
+ * Special item interleaved with other items on queue to measure how long
+ * the items take to travel from a source to the downstream tasklets. A
+ * source tasklet creates it with the current system time, every tasklet
+ * receiving it records the time elapsed since then. It's never passed to
+ * a processor, the tasklet forwards it in the same position relative to
+ * the items the processor emits.
+ */
+public final class LatencyMarker implements BroadcastItem {
+    private final long sourceTime;
+
+    public LatencyMarker(long sourceTime) {
+        this.sourceTime = sourceTime;
+    }
+
+    /**
+     * Returns the system time in milliseconds when the source tasklet
+     * created the marker.
+     */
+    public long sourceTime() {
+        return sourceTime;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyMarker{sourceTime=" + sourceTime + '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof LatencyMarker && sourceTime == ((LatencyMarker) o).sourceTime;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(sourceTime);
+    }
+}
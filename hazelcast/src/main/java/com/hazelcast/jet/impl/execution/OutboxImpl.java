@@ -59,6 +59,7 @@ public class OutboxImpl implements OutboxInternal {
     private final Counter lastForwardedWm = SwCounter.newSwCounter(Long.MIN_VALUE);
 
     private boolean blocked;
+    private long fullQueueRejections;
 
     /**
      * @param outstreams The output queues
@@ -148,6 +149,7 @@ public class OutboxImpl implements OutboxInternal {
                     }
                 } else {
                     done = false;
+                    fullQueueRejections++;
                 }
             }
         }
@@ -244,6 +246,14 @@ public class OutboxImpl implements OutboxInternal {
         numRemainingInBatch = batchSize;
     }
 
+    /**
+     * Returns the number of times an item couldn't be offered to an output
+     * queue because it was full.
+     */
+    long fullQueueRejections() {
+        return fullQueueRejections;
+    }
+
     private ProgressState doOffer(OutboundCollector collector, Object item) {
         if (item instanceof BroadcastItem) {
             return collector.offerBroadcast((BroadcastItem) item);
@@ -150,6 +150,8 @@ public class ProcessorTasklet implements Tasklet {
     private final Predicate<Object> addToInboxFunction = inbox.queue()::add;
     private final MetricsContext metricsContext = new MetricsContext();
     private Future<?> closeFuture;
+    private EventLatencyTracker latencyTracker;
+    private TaskletProfiler profiler;
 
     @SuppressWarnings("checkstyle:ExecutableStatementCount")
     public ProcessorTasklet(
@@ -219,6 +221,22 @@ public class ProcessorTasklet implements Tasklet {
                 serializationService, OUTBOX_BATCH_SIZE, emittedCounts);
     }
 
+    /**
+     * Enables tracking of the latency from the sources, see {@link
+     * com.hazelcast.spi.properties.ClusterProperty#JET_LATENCY_MARKER_INTERVAL_MILLIS}.
+     */
+    public void initEventLatencyTracking(long markerIntervalMillis) {
+        latencyTracker = new EventLatencyTracker(markerIntervalMillis);
+    }
+
+    /**
+     * Enables the profiling metrics, see {@link
+     * com.hazelcast.spi.properties.ClusterProperty#JET_TASKLET_PROFILING_ENABLED}.
+     */
+    public void initProfiling() {
+        profiler = new TaskletProfiler();
+    }
+
     @Override
     public void init() {
         ManagedContext managedContext = serializationService.getManagedContext();
@@ -249,6 +267,9 @@ public class ProcessorTasklet implements Tasklet {
     @Override @Nonnull
     public ProgressState call() {
         assert state != END : "already in terminal state";
+        if (profiler != null) {
+            return profiledCall();
+        }
         progTracker.reset();
         progTracker.notDone();
         outbox.reset();
@@ -256,6 +277,17 @@ public class ProcessorTasklet implements Tasklet {
         return progTracker.toProgressState();
     }
 
+    private ProgressState profiledCall() {
+        long start = System.nanoTime();
+        long fullQueueRejections = outbox.fullQueueRejections();
+        progTracker.reset();
+        progTracker.notDone();
+        outbox.reset();
+        stateMachineStep();
+        profiler.onCallDone(start, progTracker.isMadeProgress(), outbox.fullQueueRejections() != fullQueueRejections);
+        return progTracker.toProgressState();
+    }
+
     private void closeProcessor() {
         try {
             doWithClassLoader(context.classLoader(), () -> processor.close());
@@ -431,6 +463,9 @@ public class ProcessorTasklet implements Tasklet {
         }
 
         if (inbox.isEmpty()) {
+            if (!tryForwardLatencyMarker()) {
+                return;
+            }
             fillInbox();
         }
         if (!inbox.isEmpty()) {
@@ -459,6 +494,32 @@ public class ProcessorTasklet implements Tasklet {
         }
     }
 
+    /**
+     * Offers the latency marker to be forwarded, if there's one. A source
+     * creates a new marker when it's time to. Returns {@code false} if the
+     * outbox didn't accept the marker, in which case the processor must not
+     * be called until it does.
+     */
+    private boolean tryForwardLatencyMarker() {
+        if (latencyTracker == null) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        if (isSource) {
+            latencyTracker.maybeCreateMarker(now);
+        }
+        LatencyMarker marker = latencyTracker.markerToForward(now, outbox.hasUnfinishedItem());
+        if (marker == null) {
+            return true;
+        }
+        if (!outbox.offer(marker)) {
+            return false;
+        }
+        latencyTracker.onMarkerForwarded(now);
+        progTracker.madeProgress();
+        return true;
+    }
+
     private void complete() {
         // check ssContext to see if a snapshot phase should be executed
         if (pendingSnapshotId1 == pendingSnapshotId2) {
@@ -488,6 +549,9 @@ public class ProcessorTasklet implements Tasklet {
                 return;
             }
         }
+        if (!tryForwardLatencyMarker()) {
+            return;
+        }
         if (processor.complete()) {
             progTracker.madeProgress();
             state = pendingSnapshotId2 < pendingSnapshotId1
@@ -528,6 +592,14 @@ public class ProcessorTasklet implements Tasklet {
             } else if (lastItem instanceof SnapshotBarrier) {
                 SnapshotBarrier barrier = (SnapshotBarrier) inbox.queue().removeLast();
                 observeBarrier(currInstream.ordinal(), barrier);
+            } else if (lastItem instanceof LatencyMarker) {
+                LatencyMarker marker = (LatencyMarker) inbox.queue().removeLast();
+                if (latencyTracker != null) {
+                    latencyTracker.onMarkerReceived(marker, System.currentTimeMillis());
+                }
+                if (!inbox.isEmpty()) {
+                    watermarkCoalescer.observeEvent(currInstream.ordinal());
+                }
             } else if (lastItem != null && !(lastItem instanceof BroadcastItem)) {
                 watermarkCoalescer.observeEvent(currInstream.ordinal());
             }
@@ -664,6 +736,12 @@ public class ProcessorTasklet implements Tasklet {
         context.collect(descriptor, COALESCED_WM, ProbeLevel.INFO, ProbeUnit.MS, watermarkCoalescer.coalescedWm());
         context.collect(descriptor, LAST_FORWARDED_WM, ProbeLevel.INFO, ProbeUnit.MS, outbox.lastForwardedWm());
         context.collect(descriptor, LAST_FORWARDED_WM_LATENCY, ProbeLevel.INFO, ProbeUnit.MS, lastForwardedWmLatency());
+        if (latencyTracker != null) {
+            latencyTracker.provideMetrics(descriptor, context);
+        }
+        if (profiler != null) {
+            profiler.provideMetrics(descriptor, context);
+        }
 
         context.collect(descriptor, this);
 
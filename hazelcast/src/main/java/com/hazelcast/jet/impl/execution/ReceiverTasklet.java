@@ -99,6 +99,7 @@ public class ReceiverTasklet implements Tasklet {
     private final InternalSerializationService serializationService;
 
     private boolean receptionDone;
+    private EventLatencyTracker latencyTracker;
 
     @Probe(name = MetricNames.DISTRIBUTED_ITEMS_IN)
     private final Counter itemsInCounter = SwCounter.newSwCounter();
@@ -298,6 +299,9 @@ public class ReceiverTasklet implements Tasklet {
                     final Object item = input.readObject();
                     final int itemSize = input.position() - mark;
                     inbox.add(new ObjWithPtionIdAndSize(item, input.readInt(), itemSize));
+                    if (item instanceof LatencyMarker && latencyTracker != null) {
+                        latencyTracker.onMarkerReceived((LatencyMarker) item, System.currentTimeMillis());
+                    }
                 }
                 totalItems += itemCount;
                 totalBytes += input.position();
@@ -315,6 +319,15 @@ public class ReceiverTasklet implements Tasklet {
         incoming = incomingQueue;
     }
 
+    /**
+     * Enables tracking of the latency from the sources, see {@link
+     * com.hazelcast.spi.properties.ClusterProperty#JET_LATENCY_MARKER_INTERVAL_MILLIS}.
+     * The received markers are forwarded as any other broadcast item.
+     */
+    public void initEventLatencyTracking(long markerIntervalMillis) {
+        latencyTracker = new EventLatencyTracker(markerIntervalMillis);
+    }
+
     private static class ObjWithPtionIdAndSize extends ObjectWithPartitionId {
         final long estimatedMemoryFootprint;
 
@@ -331,5 +344,8 @@ public class ReceiverTasklet implements Tasklet {
                                .withTag(MetricTags.ORDINAL, ordinalString);
 
         context.collect(descriptor, this);
+        if (latencyTracker != null) {
+            latencyTracker.provideMetrics(descriptor, context);
+        }
     }
 }
@@ -172,6 +172,11 @@ public class StoreSnapshotTasklet implements Tasklet {
         context.collect(descriptor, SNAPSHOT_KEYS, ProbeLevel.INFO, ProbeUnit.COUNT, metricValues.get2());
     }
 
+    @Override
+    public void close() {
+        ssWriter.close();
+    }
+
     @Override
     public String toString() {
         return StoreSnapshotTasklet.class.getSimpleName() + '{' + vertexName + '}';
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.execution;
+
+import com.hazelcast.internal.metrics.MetricDescriptor;
+import com.hazelcast.internal.metrics.MetricsCollectionContext;
+import com.hazelcast.internal.metrics.ProbeLevel;
+import com.hazelcast.internal.metrics.ProbeUnit;
+import com.hazelcast.internal.util.counters.Counter;
+import com.hazelcast.internal.util.counters.SwCounter;
+
+import static com.hazelcast.jet.core.metrics.MetricNames.TASKLET_BACKPRESSURE_TIME;
+import static com.hazelcast.jet.core.metrics.MetricNames.TASKLET_BUSY_TIME;
+import static com.hazelcast.jet.core.metrics.MetricNames.TASKLET_CALLS;
+import static com.hazelcast.jet.core.metrics.MetricNames.TASKLET_IDLE_CALLS;
+
+/**
+ * Measures where a {@link ProcessorTasklet} spends its time: the time in
+ * calls that made progress, the number of calls that didn't and the time
+ * during which the tasklet couldn't emit because an output queue was full.
+ * <p>
+ * Recorded by the tasklet's thread, the metrics can be collected by any
+ * thread.
+ */
+final class TaskletProfiler {
+
+    private static final long NOT_BLOCKED = -1;
+
+    private final Counter calls = SwCounter.newSwCounter();
+    private final Counter idleCalls = SwCounter.newSwCounter();
+    private final Counter busyTimeNanos = SwCounter.newSwCounter();
+    private final Counter backpressureTimeNanos = SwCounter.newSwCounter();
+    private long blockedSinceNanos = NOT_BLOCKED;
+
+    /**
+     * Records the outcome of one {@code call()} of the tasklet.
+     *
+     * @param startNanos    the value of {@link System#nanoTime()} at the
+     *                      start of the call
+     * @param madeProgress  if the call made progress
+     * @param blocked       if an output queue was full during the call
+     */
+    void onCallDone(long startNanos, boolean madeProgress, boolean blocked) {
+        long now = System.nanoTime();
+        calls.inc();
+        if (madeProgress) {
+            busyTimeNanos.inc(now - startNanos);
+        } else {
+            idleCalls.inc();
+        }
+        if (blocked) {
+            if (blockedSinceNanos == NOT_BLOCKED) {
+                blockedSinceNanos = now;
+            }
+        } else if (blockedSinceNanos != NOT_BLOCKED) {
+            backpressureTimeNanos.inc(now - blockedSinceNanos);
+            blockedSinceNanos = NOT_BLOCKED;
+        }
+    }
+
+    void provideMetrics(MetricDescriptor descriptor, MetricsCollectionContext context) {
+        context.collect(descriptor, TASKLET_CALLS, ProbeLevel.INFO, ProbeUnit.COUNT, calls.get());
+        context.collect(descriptor, TASKLET_IDLE_CALLS, ProbeLevel.INFO, ProbeUnit.COUNT, idleCalls.get());
+        context.collect(descriptor, TASKLET_BUSY_TIME, ProbeLevel.INFO, ProbeUnit.NS, busyTimeNanos.get());
+        context.collect(descriptor, TASKLET_BACKPRESSURE_TIME, ProbeLevel.INFO, ProbeUnit.NS,
+                backpressureTimeNanos.get());
+    }
+}
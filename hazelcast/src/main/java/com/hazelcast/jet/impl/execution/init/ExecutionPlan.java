@@ -88,6 +88,8 @@ import static com.hazelcast.jet.impl.util.PrefixedLogger.prefix;
 import static com.hazelcast.jet.impl.util.PrefixedLogger.prefixedLogger;
 import static com.hazelcast.jet.impl.util.Util.doWithClassLoader;
 import static com.hazelcast.jet.impl.util.Util.memoize;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_LATENCY_MARKER_INTERVAL_MILLIS;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_TASKLET_PROFILING_ENABLED;
 import static java.util.Collections.unmodifiableList;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
@@ -97,6 +99,14 @@ import static java.util.stream.Collectors.toMap;
  */
 public class ExecutionPlan implements IdentifiedDataSerializable {
 
+    /**
+     * The key of a {@link JobConfig#getArgument job argument} that enables
+     * the tasklet profiling for a single job, even if {@link
+     * com.hazelcast.spi.properties.ClusterProperty#JET_TASKLET_PROFILING_ENABLED}
+     * is disabled.
+     */
+    public static final String TASKLET_PROFILING_ENABLED_ARGUMENT = "__jet.taskletProfilingEnabled";
+
     // use same size as DEFAULT_QUEUE_SIZE from Edges. In the future we might
     // want to make this configurable
     private static final int SNAPSHOT_QUEUE_SIZE = DEFAULT_QUEUE_SIZE;
@@ -134,6 +144,8 @@ public class ExecutionPlan implements IdentifiedDataSerializable {
     private transient NodeEngineImpl nodeEngine;
     private transient JobClassLoaderService jobClassLoaderService;
     private transient long executionId;
+    private transient long latencyMarkerIntervalMillis;
+    private transient boolean taskletProfilingEnabled;
 
     // list of unique remote members
     private final transient Supplier<Set<Address>> remoteMembers = memoize(() ->
@@ -170,6 +182,9 @@ public class ExecutionPlan implements IdentifiedDataSerializable {
         this.jobClassLoaderService =
                 ((JetServiceBackend) nodeEngine.getService(JetServiceBackend.SERVICE_NAME)).getJobClassLoaderService();
         this.executionId = executionId;
+        this.latencyMarkerIntervalMillis = nodeEngine.getProperties().getMillis(JET_LATENCY_MARKER_INTERVAL_MILLIS);
+        this.taskletProfilingEnabled = nodeEngine.getProperties().getBoolean(JET_TASKLET_PROFILING_ENABLED)
+                || Boolean.TRUE.equals(jobConfig.getArgument(TASKLET_PROFILING_ENABLED_ARGUMENT));
         initProcSuppliers(jobId, tempDirectories, jobSerializationService);
         initDag(jobSerializationService);
 
@@ -254,6 +269,12 @@ public class ExecutionPlan implements IdentifiedDataSerializable {
                         nodeEngine.getExecutionService().getExecutor(TASKLET_INIT_CLOSE_EXECUTOR_NAME),
                         jobSerializationService, processor, inboundStreams, outboundStreams, snapshotContext,
                         snapshotCollector, isSource);
+                if (latencyMarkerIntervalMillis > 0) {
+                    processorTasklet.initEventLatencyTracking(latencyMarkerIntervalMillis);
+                }
+                if (taskletProfilingEnabled) {
+                    processorTasklet.initProfiling();
+                }
                 tasklets.add(processorTasklet);
                 this.processors.add(processor);
                 localProcessorIdx++;
@@ -648,6 +669,9 @@ public class ExecutionPlan implements IdentifiedDataSerializable {
                                    getJetConfig().getFlowControlPeriodMs(),
                                    nodeEngine.getLoggingService(), addr, edge.destOrdinal(), edge.destVertex().name(),
                                    memberConnections.get(addr), jobPrefix);
+                           if (latencyMarkerIntervalMillis > 0) {
+                               receiverTasklet.initEventLatencyTracking(latencyMarkerIntervalMillis);
+                           }
                            addrToTasklet.put(addr, receiverTasklet);
                        }
                        return addrToTasklet;
@@ -29,6 +29,7 @@ import com.hazelcast.jet.impl.JobSuspensionCauseImpl;
 import com.hazelcast.jet.impl.SnapshotValidationRecord;
 import com.hazelcast.jet.impl.connector.WriteFileP;
 import com.hazelcast.jet.impl.operation.CheckLightJobsOperation;
+import com.hazelcast.jet.impl.operation.DeleteLocalSnapshotOperation;
 import com.hazelcast.jet.impl.operation.GetJobConfigOperation;
 import com.hazelcast.jet.impl.operation.GetJobIdsOperation;
 import com.hazelcast.jet.impl.operation.GetJobIdsOperation.GetJobIdsResult;
@@ -43,6 +44,7 @@ import com.hazelcast.jet.impl.operation.JoinSubmittedJobOperation;
 import com.hazelcast.jet.impl.operation.NotifyMemberShutdownOperation;
 import com.hazelcast.jet.impl.operation.PrepareForPassiveClusterOperation;
 import com.hazelcast.jet.impl.operation.ResumeJobOperation;
+import com.hazelcast.jet.impl.operation.SaveSnapshotChunkOperation;
 import com.hazelcast.jet.impl.operation.SnapshotPhase1Operation;
 import com.hazelcast.jet.impl.operation.SnapshotPhase1Operation.SnapshotPhase1Result;
 import com.hazelcast.jet.impl.operation.SnapshotPhase2Operation;
@@ -106,6 +108,9 @@ public final class JetInitDataSerializerHook implements DataSerializerHook {
     public static final int PROCESSOR_SUPPLIER_FROM_SIMPLE_SUPPLIER = 45;
     public static final int NOOP_PROCESSOR_SUPPLIER = 46;
     public static final int CHECK_LIGHT_JOBS_OP = 47;
+    public static final int ASYNC_SNAPSHOT_WRITER_SNAPSHOT_DATA_COMPRESSED_VALUE = 48;
+    public static final int SAVE_SNAPSHOT_CHUNK_OP = 49;
+    public static final int DELETE_LOCAL_SNAPSHOT_OP = 50;
 
     public static final int FACTORY_ID = FactoryIdHelper.getFactoryId(JET_IMPL_DS_FACTORY, JET_IMPL_DS_FACTORY_ID);
 
@@ -172,6 +177,8 @@ public final class JetInitDataSerializerHook implements DataSerializerHook {
                     return new AsyncSnapshotWriterImpl.SnapshotDataKey();
                 case ASYNC_SNAPSHOT_WRITER_SNAPSHOT_DATA_VALUE_TERMINATOR:
                     return AsyncSnapshotWriterImpl.SnapshotDataValueTerminator.INSTANCE;
+                case ASYNC_SNAPSHOT_WRITER_SNAPSHOT_DATA_COMPRESSED_VALUE:
+                    return new AsyncSnapshotWriterImpl.SnapshotDataCompressedValue();
                 case SNAPSHOT_PHASE1_RESULT:
                     return new SnapshotPhase1Result();
                 case RESUME_JOB_OP:
@@ -206,6 +213,10 @@ public final class JetInitDataSerializerHook implements DataSerializerHook {
                     return new NoopP.NoopPSupplier();
                 case CHECK_LIGHT_JOBS_OP:
                     return new CheckLightJobsOperation();
+                case SAVE_SNAPSHOT_CHUNK_OP:
+                    return new SaveSnapshotChunkOperation();
+                case DELETE_LOCAL_SNAPSHOT_OP:
+                    return new DeleteLocalSnapshotOperation();
                 default:
                     throw new IllegalArgumentException("Unknown type id " + typeId);
             }
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.operation;
+
+import com.hazelcast.jet.impl.LocalSnapshotStore;
+import com.hazelcast.jet.impl.execution.init.JetInitDataSerializerHook;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+/**
+ * Operation sent by the master to all members to delete the files of
+ * a snapshot map of a completed job from their {@link LocalSnapshotStore}.
+ */
+public class DeleteLocalSnapshotOperation extends AsyncOperation {
+
+    private String mapName;
+
+    // for deserialization
+    public DeleteLocalSnapshotOperation() {
+    }
+
+    public DeleteLocalSnapshotOperation(String mapName) {
+        this.mapName = mapName;
+    }
+
+    @Override
+    protected CompletableFuture<Void> doRun() {
+        LocalSnapshotStore store = getJetServiceBackend().getLocalSnapshotStore();
+        return store != null ? store.deleteLocallyAsync(mapName) : completedFuture(null);
+    }
+
+    @Override
+    public int getClassId() {
+        return JetInitDataSerializerHook.DELETE_LOCAL_SNAPSHOT_OP;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeString(mapName);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        mapName = in.readString();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.operation;
+
+import com.hazelcast.jet.JetException;
+import com.hazelcast.jet.impl.LocalSnapshotStore;
+import com.hazelcast.jet.impl.execution.init.JetInitDataSerializerHook;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SNAPSHOT_LOCAL_DIRECTORY;
+
+/**
+ * Operation sent by a member taking a snapshot to the backup members of
+ * a snapshot chunk, which store the chunk in their {@link
+ * LocalSnapshotStore}.
+ */
+public class SaveSnapshotChunkOperation extends AsyncOperation {
+
+    private String mapName;
+    private String fileName;
+    private byte[] contents;
+
+    // for deserialization
+    public SaveSnapshotChunkOperation() {
+    }
+
+    public SaveSnapshotChunkOperation(String mapName, String fileName, byte[] contents) {
+        this.mapName = mapName;
+        this.fileName = fileName;
+        this.contents = contents;
+    }
+
+    @Override
+    protected CompletableFuture<Void> doRun() {
+        LocalSnapshotStore store = getJetServiceBackend().getLocalSnapshotStore();
+        if (store == null) {
+            throw new JetException(JET_SNAPSHOT_LOCAL_DIRECTORY.getName() + " is not set on member "
+                    + getNodeEngine().getLocalMember());
+        }
+        return store.writeLocallyAsync(mapName, fileName, contents);
+    }
+
+    @Override
+    public int getClassId() {
+        return JetInitDataSerializerHook.SAVE_SNAPSHOT_CHUNK_OP;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeString(mapName);
+        out.writeString(fileName);
+        out.writeByteArray(contents);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        mapName = in.readString();
+        fileName = in.readString();
+        contents = in.readByteArray();
+    }
+}
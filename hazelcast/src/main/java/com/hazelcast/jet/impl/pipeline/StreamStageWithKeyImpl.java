@@ -24,6 +24,9 @@ import com.hazelcast.jet.Traverser;
 import com.hazelcast.jet.core.ProcessorMetaSupplier;
 import com.hazelcast.jet.function.TriFunction;
 import com.hazelcast.jet.function.TriPredicate;
+import com.hazelcast.jet.impl.JetEvent;
+import com.hazelcast.jet.impl.pipeline.transform.StreamStreamJoinTransform;
+import com.hazelcast.jet.pipeline.GeneralStage;
 import com.hazelcast.jet.pipeline.ServiceFactory;
 import com.hazelcast.jet.pipeline.StreamStage;
 import com.hazelcast.jet.pipeline.StreamStageWithKey;
@@ -33,6 +36,13 @@ import javax.annotation.Nonnull;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import static com.hazelcast.jet.impl.pipeline.ComputeStageImplBase.ADAPT_TO_JET_EVENT;
+import static com.hazelcast.jet.impl.pipeline.ComputeStageImplBase.ensureJetEvents;
+import static com.hazelcast.jet.impl.pipeline.transform.StreamStreamJoinTransform.jetEventMapToOutputFn;
+import static com.hazelcast.jet.impl.util.Util.checkSerializable;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
 public class StreamStageWithKeyImpl<T, K> extends StageWithGroupingBase<T, K> implements StreamStageWithKey<T, K> {
 
     StreamStageWithKeyImpl(
@@ -47,6 +57,34 @@ public class StreamStageWithKeyImpl<T, K> extends StageWithGroupingBase<T, K> im
         return new StageWithKeyAndWindowImpl<>((StreamStageImpl<T>) computeStage, keyFn(), wDef);
     }
 
+    @Nonnull @Override
+    @SuppressWarnings("rawtypes")
+    public <T1, R> StreamStage<R> windowedJoin(
+            @Nonnull StreamStageWithKey<T1, ? extends K> stage1,
+            long lowerBound,
+            long upperBound,
+            @Nonnull BiFunctionEx<? super T, ? super T1, ? extends R> mapToOutputFn
+    ) {
+        checkSerializable(mapToOutputFn, "mapToOutputFn");
+        if (lowerBound > upperBound) {
+            throw new IllegalArgumentException("lowerBound (" + lowerBound + ") must not be larger than upperBound ("
+                    + upperBound + ')');
+        }
+        ComputeStageImplBase computeStage1 = ((StageWithGroupingBase) stage1).computeStage;
+        ensureJetEvents(computeStage, "This pipeline stage");
+        ensureJetEvents(computeStage1, "stage1");
+        FunctionAdapter fnAdapter = ADAPT_TO_JET_EVENT;
+        return computeStage.attach(new StreamStreamJoinTransform<K, JetEvent<R>>(
+                        asList(computeStage.transform, computeStage1.transform),
+                        asList(fnAdapter.adaptKeyFn(keyFn()), fnAdapter.adaptKeyFn(stage1.keyFn())),
+                        lowerBound,
+                        upperBound,
+                        jetEventMapToOutputFn(mapToOutputFn)
+                ),
+                singletonList((GeneralStage<?>) computeStage1),
+                fnAdapter);
+    }
+
     @Nonnull @Override
     public <S, R> StreamStage<R> mapStateful(
             long ttl,
@@ -24,6 +24,7 @@ import com.hazelcast.jet.core.Vertex;
 import com.hazelcast.jet.impl.pipeline.PipelineImpl.Context;
 import com.hazelcast.jet.impl.pipeline.Planner;
 import com.hazelcast.jet.impl.pipeline.Planner.PlannerVertex;
+import com.hazelcast.jet.impl.processor.SortP;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -32,9 +33,20 @@ import static com.hazelcast.function.FunctionEx.identity;
 import static com.hazelcast.jet.core.Edge.between;
 import static com.hazelcast.jet.core.Vertex.LOCAL_PARALLELISM_USE_DEFAULT;
 import static com.hazelcast.jet.core.processor.Processors.mapP;
-import static com.hazelcast.jet.core.processor.Processors.sortP;
-
 
+/**
+ * Adds a two-vertex sort to the DAG. The first vertex sorts its share of
+ * the input locally on every member, spilling to disk if {@link
+ * com.hazelcast.spi.properties.ClusterProperty#JET_SORT_SPILL_THRESHOLD}
+ * is set. The second vertex has total parallelism one and receives the
+ * sorted partial results through a distributed, ordered edge, which merges
+ * them into the total order.
+ * <p>
+ * The input isn't range-partitioned by sampled keys: the stage emits a
+ * single totally ordered stream, so all items must pass through the single
+ * merging processor anyway. Range partitioning would only pay off for a
+ * downstream stage that can consume ordered ranges in parallel.
+ */
 public class SortTransform<T> extends AbstractTransform {
 
     private static final long serialVersionUID = 1L;
@@ -56,7 +68,7 @@ public class SortTransform<T> extends AbstractTransform {
     public void addToDag(Planner p, Context context) {
         String vertexName = name();
         determineLocalParallelism(LOCAL_PARALLELISM_USE_DEFAULT, context, p.isPreserveOrder());
-        Vertex v1 = p.dag.newVertex(vertexName, sortP(comparator))
+        Vertex v1 = p.dag.newVertex(vertexName, SortP.supplier(comparator))
                          .localParallelism(determinedLocalParallelism());
         if (p.isPreserveOrder()) {
             p.addEdges(this, v1, Edge::isolated);
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.pipeline.transform;
+
+import com.hazelcast.function.BiFunctionEx;
+import com.hazelcast.function.FunctionEx;
+import com.hazelcast.function.ToLongFunctionEx;
+import com.hazelcast.jet.impl.JetEvent;
+import com.hazelcast.jet.impl.pipeline.PipelineImpl.Context;
+import com.hazelcast.jet.impl.pipeline.Planner;
+import com.hazelcast.jet.impl.pipeline.Planner.PlannerVertex;
+import com.hazelcast.jet.impl.processor.StreamStreamJoinP;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+
+import static com.hazelcast.jet.core.Vertex.LOCAL_PARALLELISM_USE_DEFAULT;
+import static com.hazelcast.jet.impl.JetEvent.jetEvent;
+import static java.lang.Math.max;
+import static java.util.Collections.nCopies;
+
+public class StreamStreamJoinTransform<K, R> extends AbstractTransform {
+
+    private static final long serialVersionUID = 1L;
+
+    @Nonnull
+    private final List<FunctionEx<?, ? extends K>> keyFns;
+    private final long lowerBound;
+    private final long upperBound;
+    @Nonnull
+    private final BiFunctionEx<?, ?, ? extends R> mapToOutputFn;
+
+    public StreamStreamJoinTransform(
+            @Nonnull List<Transform> upstream,
+            @Nonnull List<FunctionEx<?, ? extends K>> keyFns,
+            long lowerBound,
+            long upperBound,
+            @Nonnull BiFunctionEx<?, ?, ? extends R> mapToOutputFn
+    ) {
+        super("stream-stream-join", upstream);
+        this.keyFns = keyFns;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.mapToOutputFn = mapToOutputFn;
+    }
+
+    //          ---------       ---------
+    //         | source0 |     | source1 |
+    //          ---------       ---------
+    //              |               |
+    //         distributed     distributed
+    //         partitioned     partitioned
+    //               \             /
+    //                v           v
+    //             -------------------
+    //            | StreamStreamJoinP |
+    //             -------------------
+    @Override
+    public void addToDag(Planner p, Context context) {
+        determineLocalParallelism(LOCAL_PARALLELISM_USE_DEFAULT, context, false);
+        List<FunctionEx<?, ? extends K>> keyFns = this.keyFns;
+        long lowerBound = this.lowerBound;
+        long upperBound = this.upperBound;
+        BiFunctionEx<?, ?, ? extends R> mapToOutputFn = this.mapToOutputFn;
+        PlannerVertex pv = p.addVertex(this, name(), determinedLocalParallelism(),
+                () -> new StreamStreamJoinP<K, R>(
+                        keyFns,
+                        nCopies(2, (ToLongFunctionEx<JetEvent<?>>) JetEvent::timestamp),
+                        lowerBound,
+                        upperBound,
+                        mapToOutputFn));
+        p.addEdges(this, pv.v, (e, ord) -> e.distributed().partitioned(keyFns.get(ord)));
+    }
+
+    /**
+     * Returns a function that applies the given {@code mapToOutputFn} to the
+     * payloads of two {@link JetEvent}s and wraps the result into a {@code
+     * JetEvent} with the later of the two timestamps.
+     */
+    @Nonnull
+    public static <T0, T1, R> BiFunctionEx<JetEvent<T0>, JetEvent<T1>, JetEvent<R>> jetEventMapToOutputFn(
+            @Nonnull BiFunctionEx<? super T0, ? super T1, ? extends R> mapToOutputFn
+    ) {
+        return (left, right) -> {
+            R result = mapToOutputFn.apply(left.payload(), right.payload());
+            return result == null ? null : jetEvent(max(left.timestamp(), right.timestamp()), result);
+        };
+    }
+}
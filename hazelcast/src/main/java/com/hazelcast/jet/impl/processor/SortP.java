@@ -16,46 +16,267 @@
 
 package com.hazelcast.jet.impl.processor;
 
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.ObjectDataInputStream;
+import com.hazelcast.internal.serialization.impl.ObjectDataOutputStream;
 import com.hazelcast.jet.Traverser;
 import com.hazelcast.jet.core.AbstractProcessor;
 import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.core.ProcessorSupplier;
 import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.spi.properties.HazelcastProperties;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
 import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import static com.hazelcast.jet.Traversers.traverseIterator;
+import static com.hazelcast.jet.impl.util.ExceptionUtil.sneakyThrow;
+import static com.hazelcast.jet.impl.util.Util.getNodeEngine;
+import static com.hazelcast.jet.impl.util.Util.getSerializationService;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SORT_SPILL_DIRECTORY;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SORT_SPILL_THRESHOLD;
+
+/**
+ * Sorts its input and emits it in the {@code complete} phase.
+ * <p>
+ * If {@code spillThreshold} is positive, at most that many items are kept
+ * in memory. When the in-memory buffer is full, it's sorted and written to
+ * a temporary file as a sorted run. The files are created in a new
+ * subdirectory of {@code spillDirectory}, or of the JVM temporary directory
+ * if it's {@code null}. In the {@code complete} phase the runs
+ * and the items remaining in memory are merged. Such a processor is not
+ * cooperative because it does blocking disk I/O.
+ *
+ * @param <T> type of the sorted items
+ */
 public class SortP<T> extends AbstractProcessor {
 
-    private final PriorityQueue<T> priorityQueue;
-    private final Traverser<T> resultTraverser;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final String SPILL_DIRECTORY_PREFIX = "hazelcast-jet-sort-";
+
+    private final Comparator<T> comparator;
+    private final int spillThreshold;
+    private final String spillDirectoryRoot;
+    private final List<T> buffer = new ArrayList<>();
+    private final List<SortedRun> runs = new ArrayList<>();
 
+    private InternalSerializationService serializationService;
+    private File spillDirectory;
+    private Traverser<T> resultTraverser;
     private long maxItems;
 
     public SortP(@Nullable Comparator<T> comparator) {
-        this.priorityQueue = new PriorityQueue<>(comparator);
-        this.resultTraverser = priorityQueue::poll;
+        this(comparator, 0, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public SortP(@Nullable Comparator<T> comparator, int spillThreshold, @Nullable String spillDirectory) {
+        this.comparator = comparator != null ? comparator : (Comparator<T>) Comparator.naturalOrder();
+        this.spillThreshold = spillThreshold;
+        this.spillDirectoryRoot = spillDirectory;
+    }
+
+    /**
+     * Returns a supplier of processors that spill to disk according to
+     * {@link com.hazelcast.spi.properties.ClusterProperty#JET_SORT_SPILL_THRESHOLD}
+     * and {@link com.hazelcast.spi.properties.ClusterProperty#JET_SORT_SPILL_DIRECTORY}
+     * configured on the member.
+     */
+    @Nonnull
+    public static <T> ProcessorSupplier supplier(@Nullable Comparator<T> comparator) {
+        return new Supplier<>(comparator);
+    }
+
+    @Override
+    public boolean isCooperative() {
+        return spillThreshold <= 0;
     }
 
     @Override
     protected void init(@Nonnull Processor.Context context) throws Exception {
         maxItems = context.maxProcessorAccumulatedRecords();
+        if (spillThreshold > 0) {
+            serializationService = getSerializationService(context.hazelcastInstance());
+        }
     }
 
     @Override
     @SuppressWarnings("unchecked")
-    protected boolean tryProcess0(@Nonnull Object item) {
-        if (priorityQueue.size() == maxItems) {
+    protected boolean tryProcess0(@Nonnull Object item) throws IOException {
+        if (spillThreshold > 0 && buffer.size() == spillThreshold) {
+            spill();
+        }
+        if (buffer.size() == maxItems) {
             throw new AccumulationLimitExceededException();
         }
 
-        priorityQueue.add((T) item);
+        buffer.add((T) item);
         return true;
     }
 
     @Override
     public boolean complete() {
+        if (resultTraverser == null) {
+            buffer.sort(comparator);
+            resultTraverser = runs.isEmpty()
+                    ? traverseIterator(buffer.iterator())
+                    : mergeTraverser();
+        }
         return emitFromTraverser(resultTraverser);
     }
+
+    @Override
+    public void close() {
+        for (SortedRun run : runs) {
+            run.close();
+        }
+        if (spillDirectory != null) {
+            IOUtil.deleteQuietly(spillDirectory);
+        }
+    }
+
+    private void spill() throws IOException {
+        if (spillDirectory == null) {
+            spillDirectory = spillDirectoryRoot == null
+                    ? Files.createTempDirectory(SPILL_DIRECTORY_PREFIX).toFile()
+                    : Files.createTempDirectory(Paths.get(spillDirectoryRoot), SPILL_DIRECTORY_PREFIX).toFile();
+        }
+        buffer.sort(comparator);
+        File file = new File(spillDirectory, "run-" + runs.size());
+        try (ObjectDataOutputStream out = new ObjectDataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE), serializationService)) {
+            for (T item : buffer) {
+                out.writeObject(item);
+            }
+        }
+        runs.add(new SortedRun(file, buffer.size()));
+        getLogger().fine("Spilled a sorted run of " + buffer.size() + " items to " + file);
+        buffer.clear();
+    }
+
+    private Traverser<T> mergeTraverser() {
+        List<Iterator<T>> sources = new ArrayList<>(runs);
+        sources.add(buffer.iterator());
+        PriorityQueue<MergeCursor<T>> heap = new PriorityQueue<>(sources.size(),
+                (c1, c2) -> comparator.compare(c1.head, c2.head));
+        for (Iterator<T> source : sources) {
+            if (source.hasNext()) {
+                heap.add(new MergeCursor<>(source));
+            }
+        }
+        return () -> {
+            MergeCursor<T> cursor = heap.poll();
+            if (cursor == null) {
+                return null;
+            }
+            T result = cursor.head;
+            if (cursor.advance()) {
+                heap.add(cursor);
+            }
+            return result;
+        };
+    }
+
+    private static final class MergeCursor<T> {
+        private final Iterator<T> source;
+        private T head;
+
+        MergeCursor(Iterator<T> source) {
+            this.source = source;
+            this.head = source.next();
+        }
+
+        boolean advance() {
+            if (!source.hasNext()) {
+                return false;
+            }
+            head = source.next();
+            return true;
+        }
+    }
+
+    /**
+     * A sorted run written to a file, iterated lazily when merging.
+     */
+    private final class SortedRun implements Iterator<T> {
+        private final File file;
+        private int remaining;
+        private ObjectDataInputStream in;
+
+        SortedRun(File file, int count) {
+            this.file = file;
+            this.remaining = count;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public T next() {
+            try {
+                if (in == null) {
+                    in = new ObjectDataInputStream(
+                            new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE), serializationService);
+                }
+                T item = in.readObject();
+                if (--remaining == 0) {
+                    close();
+                }
+                return item;
+            } catch (IOException e) {
+                throw sneakyThrow(e);
+            }
+        }
+
+        void close() {
+            IOUtil.closeResource(in);
+            in = null;
+        }
+    }
+
+    private static final class Supplier<T> implements ProcessorSupplier {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Comparator<T> comparator;
+        private transient int spillThreshold;
+        private transient String spillDirectory;
+
+        Supplier(@Nullable Comparator<T> comparator) {
+            this.comparator = comparator;
+        }
+
+        @Override
+        public void init(@Nonnull Context context) {
+            HazelcastProperties properties = getNodeEngine(context.hazelcastInstance()).getProperties();
+            spillThreshold = properties.getInteger(JET_SORT_SPILL_THRESHOLD);
+            spillDirectory = properties.getString(JET_SORT_SPILL_DIRECTORY);
+        }
+
+        @Nonnull @Override
+        public Collection<? extends Processor> get(int count) {
+            return IntStream.range(0, count)
+                            .mapToObj(i -> new SortP<>(comparator, spillThreshold, spillDirectory))
+                            .collect(Collectors.toList());
+        }
+    }
 }
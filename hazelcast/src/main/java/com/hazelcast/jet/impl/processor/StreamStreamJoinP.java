@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.function.BiFunctionEx;
+import com.hazelcast.function.FunctionEx;
+import com.hazelcast.function.ToLongFunctionEx;
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.util.counters.Counter;
+import com.hazelcast.internal.util.counters.SwCounter;
+import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.Traversers;
+import com.hazelcast.jet.core.AbstractProcessor;
+import com.hazelcast.jet.core.BroadcastKey;
+import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.core.Watermark;
+import com.hazelcast.jet.datamodel.Tuple2;
+import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import static com.hazelcast.jet.Util.entry;
+import static com.hazelcast.jet.core.BroadcastKey.broadcastKey;
+import static com.hazelcast.jet.datamodel.Tuple2.tuple2;
+import static com.hazelcast.jet.impl.util.Util.addClamped;
+import static com.hazelcast.jet.impl.util.Util.logLateEvent;
+import static com.hazelcast.jet.impl.util.Util.subtractClamped;
+import static java.lang.Math.min;
+
+/**
+ * Joins two keyed event streams: an item from ordinal 0 (the left side)
+ * is joined with every item from ordinal 1 (the right side) that has the
+ * same key and whose timestamp is in the range {@code [leftTs +
+ * lowerBound, leftTs + upperBound]}.
+ * <p>
+ * Both sides are buffered per key in timestamp-ordered maps. When a
+ * watermark arrives, the items that can no longer be joined with any
+ * future (non-late) item are evicted, so the size of the state is bounded
+ * by the key cardinality, the event rate and the width of the join
+ * window. Late items are dropped.
+ *
+ * @param <K> type of the join key
+ * @param <R> type of the output item
+ */
+public class StreamStreamJoinP<K, R> extends AbstractProcessor {
+
+    private static final int LEFT = 0;
+    private static final int RIGHT = 1;
+
+    @Probe(name = "lateEventsDropped")
+    private final Counter lateEventsDropped = SwCounter.newSwCounter();
+    @Probe(name = "bufferedItems")
+    private final Counter bufferedItems = SwCounter.newSwCounter();
+
+    private final List<FunctionEx<Object, ? extends K>> keyFns;
+    private final List<ToLongFunctionEx<Object>> timestampFns;
+    private final long lowerBound;
+    private final long upperBound;
+    private final BiFunctionEx<Object, Object, ? extends R> mapToOutputFn;
+
+    private final Map<K, JoinBuffers> keyToBuffers = new HashMap<>();
+    private final FlatMapper<Object, R> leftFlatMapper = flatMapper(item -> join(LEFT, item));
+    private final FlatMapper<Object, R> rightFlatMapper = flatMapper(item -> join(RIGHT, item));
+
+    private long currentWm = Long.MIN_VALUE;
+    private long evictedUpToWm = Long.MIN_VALUE;
+    private long maxBufferedItems;
+    private Traverser<? extends Entry<?, ?>> snapshotTraverser;
+
+    /**
+     * @param keyFns        key extractors for the left and the right input
+     * @param timestampFns  timestamp extractors for the left and the right input
+     * @param lowerBound    the minimum value of {@code rightTs - leftTs} for
+     *                      the items to be joined
+     * @param upperBound    the maximum value of {@code rightTs - leftTs} for
+     *                      the items to be joined
+     * @param mapToOutputFn function that creates the output item from the
+     *                      left and the right item. If it returns {@code
+     *                      null}, no item is emitted
+     */
+    @SuppressWarnings("unchecked")
+    public StreamStreamJoinP(
+            @Nonnull List<? extends FunctionEx<?, ? extends K>> keyFns,
+            @Nonnull List<? extends ToLongFunctionEx<?>> timestampFns,
+            long lowerBound,
+            long upperBound,
+            @Nonnull BiFunctionEx<?, ?, ? extends R> mapToOutputFn
+    ) {
+        if (keyFns.size() != 2 || timestampFns.size() != 2) {
+            throw new IllegalArgumentException("Exactly two inputs are required");
+        }
+        if (lowerBound > upperBound) {
+            throw new IllegalArgumentException("lowerBound (" + lowerBound + ") is larger than upperBound ("
+                    + upperBound + ')');
+        }
+        this.keyFns = (List<FunctionEx<Object, ? extends K>>) keyFns;
+        this.timestampFns = (List<ToLongFunctionEx<Object>>) timestampFns;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.mapToOutputFn = (BiFunctionEx<Object, Object, ? extends R>) mapToOutputFn;
+    }
+
+    @Override
+    protected void init(@Nonnull Processor.Context context) throws Exception {
+        maxBufferedItems = context.maxProcessorAccumulatedRecords();
+    }
+
+    @Override
+    protected boolean tryProcess0(@Nonnull Object item) {
+        return leftFlatMapper.tryProcess(item);
+    }
+
+    @Override
+    protected boolean tryProcess1(@Nonnull Object item) {
+        return rightFlatMapper.tryProcess(item);
+    }
+
+    @Nonnull
+    private Traverser<R> join(int ordinal, Object item) {
+        long timestamp = timestampFns.get(ordinal).applyAsLong(item);
+        if (timestamp < currentWm) {
+            logLateEvent(getLogger(), currentWm, item);
+            lateEventsDropped.inc();
+            return Traversers.empty();
+        }
+        if (bufferedItems.get() == maxBufferedItems) {
+            throw new AccumulationLimitExceededException();
+        }
+        K key = keyFns.get(ordinal).apply(item);
+        JoinBuffers buffers = keyToBuffers.computeIfAbsent(key, k -> new JoinBuffers());
+        buffers.add(ordinal, timestamp, item);
+        bufferedItems.inc();
+
+        NavigableMap<Long, List<Object>> matching;
+        if (ordinal == LEFT) {
+            matching = buffers.sides[RIGHT].subMap(
+                    addClamped(timestamp, lowerBound), true, addClamped(timestamp, upperBound), true);
+            return Traversers.traverseIterable(matching.values())
+                             .flatMap(Traversers::traverseIterable)
+                             .map(right -> mapToOutputFn.apply(item, right));
+        }
+        matching = buffers.sides[LEFT].subMap(
+                subtractClamped(timestamp, upperBound), true, subtractClamped(timestamp, lowerBound), true);
+        return Traversers.traverseIterable(matching.values())
+                         .flatMap(Traversers::traverseIterable)
+                         .map(left -> mapToOutputFn.apply(left, item));
+    }
+
+    @Override
+    public boolean tryProcessWatermark(@Nonnull Watermark watermark) {
+        currentWm = watermark.timestamp();
+        if (evictedUpToWm != currentWm) {
+            evict();
+            evictedUpToWm = currentWm;
+        }
+        return tryEmit(watermark);
+    }
+
+    /**
+     * Removes the items that can't be joined with any future item. A future
+     * item has a timestamp of at least {@code currentWm}, therefore a left
+     * item can still match it only if {@code leftTs + upperBound >= wm} and
+     * a right item only if {@code rightTs - lowerBound >= wm}.
+     */
+    private void evict() {
+        long leftLimit = subtractClamped(currentWm, upperBound);
+        long rightLimit = addClamped(currentWm, lowerBound);
+        for (Iterator<JoinBuffers> it = keyToBuffers.values().iterator(); it.hasNext(); ) {
+            JoinBuffers buffers = it.next();
+            bufferedItems.inc(-buffers.evict(LEFT, leftLimit) - buffers.evict(RIGHT, rightLimit));
+            if (buffers.isEmpty()) {
+                it.remove();
+            }
+        }
+    }
+
+    private enum SnapshotKeys {
+        WATERMARK
+    }
+
+    @Override
+    public boolean saveToSnapshot() {
+        if (snapshotTraverser == null) {
+            snapshotTraverser = Traversers.traverseIterable(keyToBuffers.entrySet())
+                    .<Entry<?, ?>>map(e -> entry(e.getKey(), e.getValue().toSnapshotValue()))
+                    .append(entry(broadcastKey(SnapshotKeys.WATERMARK), currentWm))
+                    .onFirstNull(() -> snapshotTraverser = null);
+        }
+        return emitFromTraverserToSnapshot(snapshotTraverser);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void restoreFromSnapshot(@Nonnull Object key, @Nonnull Object value) {
+        if (key instanceof BroadcastKey) {
+            assert ((BroadcastKey<?>) key).key() == SnapshotKeys.WATERMARK : "Unexpected " + key;
+            long wm = (long) value;
+            currentWm = (currentWm == Long.MIN_VALUE) ? wm : min(currentWm, wm);
+            return;
+        }
+        Tuple2<List<Object>, List<Object>> lists = (Tuple2<List<Object>, List<Object>>) value;
+        JoinBuffers buffers = new JoinBuffers();
+        for (Object item : lists.f0()) {
+            buffers.add(LEFT, timestampFns.get(LEFT).applyAsLong(item), item);
+        }
+        for (Object item : lists.f1()) {
+            buffers.add(RIGHT, timestampFns.get(RIGHT).applyAsLong(item), item);
+        }
+        bufferedItems.inc(lists.f0().size() + lists.f1().size());
+        JoinBuffers old = keyToBuffers.put((K) key, buffers);
+        assert old == null : "Duplicate key '" + key + '\'';
+    }
+
+    /**
+     * Buffered items of both sides for a single key, ordered by timestamp.
+     */
+    private static final class JoinBuffers {
+        @SuppressWarnings("unchecked")
+        final TreeMap<Long, List<Object>>[] sides = new TreeMap[] {new TreeMap<>(), new TreeMap<>()};
+
+        void add(int ordinal, long timestamp, Object item) {
+            sides[ordinal].computeIfAbsent(timestamp, x -> new ArrayList<>(1)).add(item);
+        }
+
+        /**
+         * Removes items with timestamp less than {@code limit} from the given
+         * side and returns their count.
+         */
+        int evict(int ordinal, long limit) {
+            int count = 0;
+            NavigableMap<Long, List<Object>> head = sides[ordinal].headMap(limit, false);
+            for (List<Object> items : head.values()) {
+                count += items.size();
+            }
+            head.clear();
+            return count;
+        }
+
+        boolean isEmpty() {
+            return sides[LEFT].isEmpty() && sides[RIGHT].isEmpty();
+        }
+
+        Tuple2<List<Object>, List<Object>> toSnapshotValue() {
+            return tuple2(flatten(sides[LEFT]), flatten(sides[RIGHT]));
+        }
+
+        private static List<Object> flatten(NavigableMap<Long, List<Object>> side) {
+            List<Object> result = new ArrayList<>();
+            for (List<Object> items : side.values()) {
+                result.addAll(items);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.function.ToLongFunctionEx;
+import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.core.AbstractProcessor;
+import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+import static com.hazelcast.jet.Traversers.traverseArray;
+
+/**
+ * A variant of {@link SortP} that only retains the first {@code limit}
+ * items according to the {@code comparator}. The items are kept in a
+ * bounded heap with the "worst" retained item at its head, so an item that
+ * can't make it into the result is rejected by a single comparison.
+ * <p>
+ * The items are emitted in the {@code complete} phase, sorted by the
+ * {@code comparator}, so the output edge can be {@link
+ * com.hazelcast.jet.core.Edge#ordered ordered} just like with {@link SortP}.
+ *
+ * @param <T> type of the sorted items
+ */
+public class TopNP<T> extends AbstractProcessor {
+
+    private final Comparator<T> comparator;
+    private final ToLongFunctionEx<? super Processor.Context> limitFn;
+
+    private PriorityQueue<T> heap;
+    private Traverser<T> resultTraverser;
+    private long limit;
+    private long maxItems;
+
+    /**
+     * @param comparator the sort order
+     * @param limitFn    function to obtain the number of items to retain from
+     *                   the processor context, it's called once during {@code
+     *                   init()}
+     */
+    public TopNP(
+            @Nonnull Comparator<T> comparator,
+            @Nonnull ToLongFunctionEx<? super Processor.Context> limitFn
+    ) {
+        this.comparator = comparator;
+        this.limitFn = limitFn;
+    }
+
+    @Override
+    protected void init(@Nonnull Processor.Context context) throws Exception {
+        limit = limitFn.applyAsLong(context);
+        maxItems = context.maxProcessorAccumulatedRecords();
+        heap = new PriorityQueue<>(comparator.reversed());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected boolean tryProcess0(@Nonnull Object item) {
+        T t = (T) item;
+        if (heap.size() < limit) {
+            if (heap.size() == maxItems) {
+                throw new AccumulationLimitExceededException();
+            }
+            heap.add(t);
+        } else if (limit > 0 && comparator.compare(t, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(t);
+        }
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean complete() {
+        if (resultTraverser == null) {
+            T[] items = (T[]) heap.toArray();
+            heap = null;
+            Arrays.sort(items, comparator);
+            resultTraverser = traverseArray(items);
+        }
+        return emitFromTraverser(resultTraverser);
+    }
+}
@@ -43,4 +43,10 @@ public interface AsyncSnapshotWriter {
     long getTotalPayloadBytes();
     long getTotalKeys();
     long getTotalChunks();
+
+    /**
+     * Releases the resources held by the writer. Called after the job
+     * execution completed, no other method is called afterwards.
+     */
+    void close();
 }
@@ -24,6 +24,7 @@ import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.internal.serialization.impl.HeapData;
 import com.hazelcast.internal.serialization.impl.SerializationConstants;
 import com.hazelcast.jet.impl.JetServiceBackend;
+import com.hazelcast.jet.impl.LocalSnapshotStore;
 import com.hazelcast.jet.impl.execution.SnapshotContext;
 import com.hazelcast.jet.impl.execution.init.JetInitDataSerializerHook;
 import com.hazelcast.logging.ILogger;
@@ -47,6 +48,12 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static com.hazelcast.jet.impl.LocalSnapshotStore.isLocalSnapshotMap;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SNAPSHOT_COMPRESSION_ENABLED;
 
 public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
 
@@ -68,7 +75,12 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
     private final SnapshotContext snapshotContext;
     private final String vertexName;
     private final int memberCount;
+    private final SerializationService serializationService;
+    private final Deflater deflater;
+    private byte[] compressBuffer;
+    private final LocalSnapshotStore localSnapshotStore;
     private IMap<SnapshotDataKey, Object> currentMap;
+    private String currentMapName;
     private long currentSnapshotId;
     private final AtomicReference<Throwable> firstError = new AtomicReference<>();
     private final AtomicInteger numActiveFlushes = new AtomicInteger();
@@ -97,16 +109,18 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
                             int memberIndex,
                             int memberCount,
                             SerializationService serializationService) {
-        if (Integer.bitCount(chunkSize) != 1) {
-            throw new IllegalArgumentException("chunkSize must be a power of two, but is " + chunkSize);
-        }
+        checkChunkSize(chunkSize);
         this.nodeEngine = nodeEngine;
         this.partitionService = nodeEngine.getPartitionService();
         this.logger = nodeEngine.getLogger(getClass());
         this.snapshotContext = snapshotContext;
         this.vertexName = vertexName;
         this.memberCount = memberCount;
+        this.serializationService = serializationService;
         currentSnapshotId = snapshotContext.currentSnapshotId();
+        deflater = nodeEngine.getProperties().getBoolean(JET_SNAPSHOT_COMPRESSION_ENABLED)
+                ? new Deflater(Deflater.BEST_SPEED)
+                : null;
 
         useBigEndian = !nodeEngine.getHazelcastInstance().getConfig().getSerializationConfig().isUseNativeByteOrder()
                 || ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN;
@@ -116,17 +130,32 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
         buffers = createAndInitBuffers(chunkSize, partitionService.getPartitionCount(), serializedByteArrayHeader);
         JetServiceBackend jetServiceBackend = nodeEngine.getService(JetServiceBackend.SERVICE_NAME);
         this.partitionKeys = jetServiceBackend.getSharedPartitionKeys();
+        this.localSnapshotStore = jetServiceBackend.getLocalSnapshotStore();
         this.partitionSequence = memberIndex;
 
         this.numConcurrentAsyncOps = jetServiceBackend.numConcurrentAsyncOps();
 
+        valueTerminator = valueTerminator(serializationService);
+        usableChunkCapacity = usableChunkCapacity(chunkSize, valueTerminator.length + serializedByteArrayHeader.length);
+    }
+
+    private static byte[] valueTerminator(SerializationService serializationService) {
         byte[] valueTerminatorWithHeader = serializationService.toData(SnapshotDataValueTerminator.INSTANCE).toByteArray();
-        valueTerminator = Arrays.copyOfRange(valueTerminatorWithHeader, HeapData.TYPE_OFFSET,
-                valueTerminatorWithHeader.length);
-        usableChunkCapacity = chunkSize - valueTerminator.length - serializedByteArrayHeader.length;
+        return Arrays.copyOfRange(valueTerminatorWithHeader, HeapData.TYPE_OFFSET, valueTerminatorWithHeader.length);
+    }
+
+    private static void checkChunkSize(int chunkSize) {
+        if (Integer.bitCount(chunkSize) != 1) {
+            throw new IllegalArgumentException("chunkSize must be a power of two, but is " + chunkSize);
+        }
+    }
+
+    private static int usableChunkCapacity(int chunkSize, int overhead) {
+        int usableChunkCapacity = chunkSize - overhead;
         if (usableChunkCapacity <= 0) {
             throw new IllegalArgumentException("too small chunk size: " + chunkSize);
         }
+        return usableChunkCapacity;
     }
 
     private static CustomByteArrayOutputStream[] createAndInitBuffers(
@@ -251,11 +280,17 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
         try {
             // we put a Data instance to the map directly to avoid the serialization of the byte array
             Data data = dataSupplier.get();
+            if (deflater != null) {
+                data = compress(data);
+            }
             totalPayloadBytes += data.dataSize();
             totalChunks++;
-            CompletableFuture<Object> future = currentMap.putAsync(
-                    new SnapshotDataKey(partitionKeys[partitionId], currentSnapshotId, vertexName, partitionSequence),
-                    data).toCompletableFuture();
+            SnapshotDataKey key =
+                    new SnapshotDataKey(partitionKeys[partitionId], currentSnapshotId, vertexName, partitionSequence);
+            CompletableFuture<?> future = localSnapshotStore != null && isLocalSnapshotMap(currentMapName)
+                    ? localSnapshotStore.writeAsync(currentMapName, currentSnapshotId, serializationService.toData(key),
+                            data)
+                    : currentMap.putAsync(key, data).toCompletableFuture();
             partitionSequence += memberCount;
             future.whenComplete(putResponseConsumer);
             numActiveFlushes.incrementAndGet();
@@ -265,6 +300,40 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
         return true;
     }
 
+    /**
+     * Compresses the payload of a chunk, that is the serialized entries and
+     * the terminator without the byte array header, and returns it wrapped
+     * in a {@link SnapshotDataCompressedValue}.
+     */
+    private Data compress(Data chunk) {
+        byte[] bytes = chunk.toByteArray();
+        int offset = serializedByteArrayHeader.length;
+        int length = bytes.length - offset;
+        if (compressBuffer == null || compressBuffer.length < length) {
+            compressBuffer = new byte[length];
+        }
+        deflater.reset();
+        deflater.setInput(bytes, offset, length);
+        deflater.finish();
+        int compressedLength = 0;
+        while (!deflater.finished()) {
+            if (compressedLength == compressBuffer.length) {
+                compressBuffer = Arrays.copyOf(compressBuffer, compressBuffer.length * 2);
+            }
+            compressedLength += deflater.deflate(compressBuffer, compressedLength, compressBuffer.length - compressedLength);
+        }
+        return serializationService.toData(
+                new SnapshotDataCompressedValue(length, Arrays.copyOf(compressBuffer, compressedLength)));
+    }
+
+    @Override
+    public void close() {
+        if (deflater != null) {
+            // release the native memory of the zlib stream right away, don't wait for the finalizer
+            deflater.end();
+        }
+    }
+
     private boolean initCurrentMap() {
         if (currentMap == null) {
             String mapName = snapshotContext.currentMapName();
@@ -272,6 +341,7 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
                 return false;
             }
             currentMap = nodeEngine.getHazelcastInstance().getMap(mapName);
+            currentMapName = mapName;
             this.currentSnapshotId = snapshotContext.currentSnapshotId();
         }
         return true;
@@ -443,6 +513,74 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
         }
     }
 
+    /**
+     * A snapshot chunk compressed with {@link Deflater}. It's stored in the
+     * snapshot map instead of the {@code byte[]} chunk if {@link
+     * com.hazelcast.spi.properties.ClusterProperty#JET_SNAPSHOT_COMPRESSION_ENABLED}
+     * is enabled.
+     */
+    public static final class SnapshotDataCompressedValue implements IdentifiedDataSerializable {
+        private int uncompressedLength;
+        private byte[] compressedData;
+
+        // for deserialization
+        public SnapshotDataCompressedValue() {
+        }
+
+        SnapshotDataCompressedValue(int uncompressedLength, byte[] compressedData) {
+            this.uncompressedLength = uncompressedLength;
+            this.compressedData = compressedData;
+        }
+
+        /**
+         * Returns the uncompressed chunk, in the same format as the
+         * uncompressed {@code byte[]} chunks.
+         */
+        @Nonnull
+        public byte[] decompress() {
+            Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(compressedData);
+                byte[] result = new byte[uncompressedLength];
+                int length = 0;
+                while (length < uncompressedLength && !inflater.finished()) {
+                    length += inflater.inflate(result, length, uncompressedLength - length);
+                }
+                if (length != uncompressedLength) {
+                    throw new IllegalStateException("Corrupted snapshot chunk, expected " + uncompressedLength
+                            + " bytes, got " + length);
+                }
+                return result;
+            } catch (DataFormatException e) {
+                throw new IllegalStateException("Corrupted snapshot chunk", e);
+            } finally {
+                inflater.end();
+            }
+        }
+
+        @Override
+        public int getFactoryId() {
+            return JetInitDataSerializerHook.FACTORY_ID;
+        }
+
+        @Override
+        public int getClassId() {
+            return JetInitDataSerializerHook.ASYNC_SNAPSHOT_WRITER_SNAPSHOT_DATA_COMPRESSED_VALUE;
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) throws IOException {
+            out.writeInt(uncompressedLength);
+            out.writeByteArray(compressedData);
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) throws IOException {
+            uncompressedLength = in.readInt();
+            compressedData = in.readByteArray();
+        }
+    }
+
     /**
      * Non-synchronized variant of {@code java.io.ByteArrayOutputStream} with capacity limit.
      */
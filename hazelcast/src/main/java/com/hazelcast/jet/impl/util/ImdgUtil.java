@@ -19,6 +19,7 @@ package com.hazelcast.jet.impl.util;
 import com.hazelcast.client.config.ClientConfig;
 import com.hazelcast.client.config.ClientConfigXmlGenerator;
 import com.hazelcast.client.config.XmlClientConfigBuilder;
+import com.hazelcast.client.impl.proxy.ClientMapProxy;
 import com.hazelcast.cluster.Address;
 import com.hazelcast.cluster.Member;
 import com.hazelcast.core.HazelcastInstance;
@@ -31,6 +32,8 @@ import com.hazelcast.internal.nio.BufferObjectDataOutput;
 import com.hazelcast.internal.nio.Connection;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.impl.proxy.MapProxyImpl;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.spi.impl.NodeEngine;
@@ -46,7 +49,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -67,6 +73,33 @@ public final class ImdgUtil {
         };
     }
 
+    /**
+     * Asynchronously gets the values for the given keys. Member-side and
+     * client {@code IMap} proxies fetch them with a single operation per
+     * partition (consulting the Near Cache, if configured), other
+     * implementations with one {@code getAsync()} call per key.
+     */
+    @Nonnull
+    public static <K, V> CompletableFuture<Map<K, V>> getAllAsync(@Nonnull IMap<K, V> map, @Nonnull Set<K> keys) {
+        if (map instanceof MapProxyImpl) {
+            return ((MapProxyImpl<K, V>) map).getAllAsync(keys);
+        }
+        if (map instanceof ClientMapProxy) {
+            return ((ClientMapProxy<K, V>) map).getAllAsync(keys);
+        }
+        Map<K, V> result = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] futures = new CompletableFuture[keys.size()];
+        int i = 0;
+        for (K key : keys) {
+            futures[i++] = map.getAsync(key).toCompletableFuture().thenAccept(value -> {
+                if (value != null) {
+                    result.put(key, value);
+                }
+            });
+        }
+        return CompletableFuture.allOf(futures).thenApply(r -> result);
+    }
+
     public static boolean isMemberInstance(HazelcastInstance instance) {
         return instance.getLocalEndpoint() instanceof Member;
     }
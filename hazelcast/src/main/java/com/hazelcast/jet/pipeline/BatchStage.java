@@ -219,6 +219,26 @@ public interface BatchStage<T> extends GeneralStage<T> {
         return (BatchStage<R>) GeneralStage.super.<K, V, R>mapUsingIMap(iMap, lookupKeyFn, mapFn);
     }
 
+    @Nonnull @Override
+    default <K, V, R> BatchStage<R> mapUsingIMapBatched(
+            @Nonnull String mapName,
+            int maxBatchSize,
+            @Nonnull FunctionEx<? super T, ? extends K> lookupKeyFn,
+            @Nonnull BiFunctionEx<? super T, ? super V, ? extends R> mapFn
+    ) {
+        return (BatchStage<R>) GeneralStage.super.<K, V, R>mapUsingIMapBatched(mapName, maxBatchSize, lookupKeyFn, mapFn);
+    }
+
+    @Nonnull @Override
+    default <K, V, R> BatchStage<R> mapUsingIMapBatched(
+            @Nonnull IMap<K, V> iMap,
+            int maxBatchSize,
+            @Nonnull FunctionEx<? super T, ? extends K> lookupKeyFn,
+            @Nonnull BiFunctionEx<? super T, ? super V, ? extends R> mapFn
+    ) {
+        return (BatchStage<R>) GeneralStage.super.<K, V, R>mapUsingIMapBatched(iMap, maxBatchSize, lookupKeyFn, mapFn);
+    }
+
     /**
      * Attaches a stage that emits just the items that are distinct according
      * to their definition of equality ({@code equals} and {@code hashCode}).
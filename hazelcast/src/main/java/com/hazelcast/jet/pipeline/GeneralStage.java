@@ -35,12 +35,15 @@ import com.hazelcast.map.IMap;
 import com.hazelcast.replicatedmap.ReplicatedMap;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import static com.hazelcast.function.PredicateEx.alwaysTrue;
+import static com.hazelcast.jet.impl.util.ImdgUtil.getAllAsync;
 
 /**
  * The common aspect of {@link BatchStage batch} and {@link StreamStage
@@ -746,6 +749,103 @@ public interface GeneralStage<T> extends Stage {
         return mapUsingIMap(iMap.getName(), lookupKeyFn, mapFn);
     }
 
+    /**
+     * Attaches a mapping stage where the items are looked up in the {@code
+     * IMap} with the supplied name in batches. Jet collects up to {@code
+     * maxBatchSize} input items, computes their lookup keys and fetches all
+     * the values with a single {@code getAll}-like call, which issues one
+     * operation per partition instead of one per item. If a Near Cache is
+     * configured for the map, the values found in it are used without a
+     * remote call. The result of the lookup is merged with the item and
+     * emitted.
+     * <p>
+     * If the result of the mapping is {@code null}, it emits nothing.
+     * Therefore this stage can be used to implement filtering semantics as
+     * well.
+     * <p>
+     * The stage preserves the order of the items. Compared to {@link
+     * #mapUsingIMap(String, FunctionEx, BiFunctionEx) mapUsingIMap} it trades
+     * some latency, caused by waiting for the whole batch, for a much higher
+     * throughput when many items are being enriched.
+     * <p>
+     * This sample takes a stream of stock items and sets the {@code detail}
+     * field on them by looking up from a registry, at most 1000 items at a
+     * time:
+     * <pre>{@code
+     * items.mapUsingIMapBatched(
+     *     "enriching-map",
+     *     1000,
+     *     item -> item.getDetailId(),
+     *     (Item item, ItemDetail detail) -> item.setDetail(detail)
+     * )
+     * }</pre>
+     *
+     * @param mapName name of the {@code IMap}
+     * @param maxBatchSize max number of items to look up in a single batch
+     * @param lookupKeyFn a function which returns the key to look up in the map. Must not return
+     *     null. It must be stateless and {@linkplain Processor#isCooperative() cooperative}.
+     * @param mapFn the mapping function. It must be stateless and {@linkplain
+     *     Processor#isCooperative() cooperative}.
+     * @param <K> type of the key in the {@code IMap}
+     * @param <V> type of the value in the {@code IMap}
+     * @param <R> type of the output item
+     * @return the newly attached stage
+     * @since 5.1
+     */
+    @Nonnull
+    default <K, V, R> GeneralStage<R> mapUsingIMapBatched(
+            @Nonnull String mapName,
+            int maxBatchSize,
+            @Nonnull FunctionEx<? super T, ? extends K> lookupKeyFn,
+            @Nonnull BiFunctionEx<? super T, ? super V, ? extends R> mapFn
+    ) {
+        GeneralStage<R> res = mapUsingServiceAsyncBatched(
+                ServiceFactories.<K, V>iMapService(mapName),
+                maxBatchSize,
+                (map, items) -> {
+                    List<K> keys = new ArrayList<>(items.size());
+                    for (T item : items) {
+                        keys.add(lookupKeyFn.apply(item));
+                    }
+                    return getAllAsync(map, new HashSet<>(keys)).thenApply(values -> {
+                        List<R> results = new ArrayList<>(items.size());
+                        for (int i = 0; i < items.size(); i++) {
+                            results.add(mapFn.apply(items.get(i), values.get(keys.get(i))));
+                        }
+                        return results;
+                    });
+                }
+        );
+        return res.setName("mapUsingIMapBatched");
+    }
+
+    /**
+     * Attaches a mapping stage where the items are looked up in the supplied
+     * {@code IMap} in batches. See {@link #mapUsingIMapBatched(String, int,
+     * FunctionEx, BiFunctionEx)} for details.
+     *
+     * @param iMap the {@code IMap} to look up from
+     * @param maxBatchSize max number of items to look up in a single batch
+     * @param lookupKeyFn a function which returns the key to look up in the map. Must not return
+     *     null. It must be stateless and {@linkplain Processor#isCooperative() cooperative}.
+     * @param mapFn the mapping function. It must be stateless and {@linkplain
+     *     Processor#isCooperative() cooperative}.
+     * @param <K> type of the key in the {@code IMap}
+     * @param <V> type of the value in the {@code IMap}
+     * @param <R> type of the output item
+     * @return the newly attached stage
+     * @since 5.1
+     */
+    @Nonnull
+    default <K, V, R> GeneralStage<R> mapUsingIMapBatched(
+            @Nonnull IMap<K, V> iMap,
+            int maxBatchSize,
+            @Nonnull FunctionEx<? super T, ? extends K> lookupKeyFn,
+            @Nonnull BiFunctionEx<? super T, ? super V, ? extends R> mapFn
+    ) {
+        return mapUsingIMapBatched(iMap.getName(), maxBatchSize, lookupKeyFn, mapFn);
+    }
+
     /**
      * Attaches to both this and the supplied stage a hash-joining stage and
      * returns it. This stage plays the role of the <em>primary stage</em> in
@@ -184,6 +184,26 @@ public interface StreamStage<T> extends GeneralStage<T> {
         return (StreamStage<R>) GeneralStage.super.<K, V, R>mapUsingIMap(iMap, lookupKeyFn, mapFn);
     }
 
+    @Nonnull @Override
+    default <K, V, R> StreamStage<R> mapUsingIMapBatched(
+            @Nonnull String mapName,
+            int maxBatchSize,
+            @Nonnull FunctionEx<? super T, ? extends K> lookupKeyFn,
+            @Nonnull BiFunctionEx<? super T, ? super V, ? extends R> mapFn
+    ) {
+        return (StreamStage<R>) GeneralStage.super.<K, V, R>mapUsingIMapBatched(mapName, maxBatchSize, lookupKeyFn, mapFn);
+    }
+
+    @Nonnull @Override
+    default <K, V, R> StreamStage<R> mapUsingIMapBatched(
+            @Nonnull IMap<K, V> iMap,
+            int maxBatchSize,
+            @Nonnull FunctionEx<? super T, ? extends K> lookupKeyFn,
+            @Nonnull BiFunctionEx<? super T, ? super V, ? extends R> mapFn
+    ) {
+        return (StreamStage<R>) GeneralStage.super.<K, V, R>mapUsingIMapBatched(iMap, maxBatchSize, lookupKeyFn, mapFn);
+    }
+
     @Nonnull @Override
     <K, T1_IN, T1, R> StreamStage<R> hashJoin(
             @Nonnull BatchStage<T1_IN> stage1,
@@ -60,6 +60,54 @@ public interface StreamStageWithKey<T, K> extends GeneralStageWithKey<T, K> {
     @Nonnull
     StageWithKeyAndWindow<T, K> window(@Nonnull WindowDefinition wDef);
 
+    /**
+     * Attaches a stage that joins this stage with another keyed stream stage.
+     * An item {@code t} from this stage is joined with every item {@code t1}
+     * from {@code stage1} that has an equal key and whose timestamp satisfies
+     * <pre>{@code
+     *     t.timestamp + lowerBound <= t1.timestamp <= t.timestamp + upperBound
+     * }</pre>
+     * For each such pair the stage emits the result of {@code
+     * mapToOutputFn}, unless it's {@code null}. The timestamp of the output
+     * item is the later of the two timestamps. For example, this joins each
+     * click with the impressions of the same ad that happened up to 10
+     * minutes before it:
+     * <pre>{@code
+     * StreamStage<Tuple2<Impression, Click>> joined = impressions
+     *         .groupingKey(Impression::adId)
+     *         .windowedJoin(clicks.groupingKey(Click::adId),
+     *                 0, MINUTES.toMillis(10),
+     *                 Tuple2::tuple2);
+     * }</pre>
+     * Jet buffers the items of both inputs per key and discards them once the
+     * watermark advances so far that they can no longer be joined with any
+     * future item. The amount of state therefore depends on the width of the
+     * window ({@code upperBound - lowerBound}), on the watermark lag and on
+     * the event rate. Late items are dropped. The stage saves its state to
+     * the snapshot.
+     * <p>
+     * This is an inner join: items that don't match any item from the other
+     * input don't produce any output.
+     *
+     * @param stage1 the other stage to join with, keyed by the same kind of key
+     * @param lowerBound the minimum value of {@code t1.timestamp - t.timestamp}
+     * @param upperBound the maximum value of {@code t1.timestamp - t.timestamp},
+     *                   must not be less than {@code lowerBound}
+     * @param mapToOutputFn function that creates the output item from the
+     *                      joined pair of items
+     * @param <T1> type of the items in {@code stage1}
+     * @param <R> type of the output items
+     * @return the newly attached stage
+     * @since 5.1
+     */
+    @Nonnull
+    <T1, R> StreamStage<R> windowedJoin(
+            @Nonnull StreamStageWithKey<T1, ? extends K> stage1,
+            long lowerBound,
+            long upperBound,
+            @Nonnull BiFunctionEx<? super T, ? super T1, ? extends R> mapToOutputFn
+    );
+
     /**
      * Attaches a stage that performs a stateful mapping operation. {@code
      * createFn} returns the object that holds the state. Jet passes this
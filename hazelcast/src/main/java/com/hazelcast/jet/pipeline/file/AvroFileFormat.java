@@ -18,6 +18,7 @@ package com.hazelcast.jet.pipeline.file;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -37,6 +38,7 @@ public class AvroFileFormat<T> implements FileFormat<T> {
     private static final long serialVersionUID = 1L;
 
     private Class<T> reflectClass;
+    private List<String> fieldNames;
 
     /**
      * Creates {@link AvroFileFormat}. See {@link FileFormat#avro} for more
@@ -68,6 +70,38 @@ public class AvroFileFormat<T> implements FileFormat<T> {
         return reflectClass;
     }
 
+    /**
+     * Specifies the names of the top-level fields to read. The source reads
+     * the records using a reader schema derived from the writer schema of
+     * each file, containing only the given fields, so that the other fields
+     * are skipped without being deserialized. The source then emits {@code
+     * GenericRecord}s. Names not present in the file are ignored. The
+     * parameter may be {@code null}, then all the fields are read, which is
+     * the default.
+     * <p>
+     * The option is ignored when {@linkplain #withReflect reflection} is
+     * used and when the files are read using the Hadoop-based connector.
+     *
+     * @param fieldNames names of the fields to read
+     * @since 5.1
+     */
+    @Nonnull
+    public AvroFileFormat<T> withFieldNames(@Nullable List<String> fieldNames) {
+        this.fieldNames = fieldNames;
+        return this;
+    }
+
+    /**
+     * Returns the names of the fields to read, null if all the fields are
+     * read.
+     *
+     * @since 5.1
+     */
+    @Nullable
+    public List<String> fieldNames() {
+        return fieldNames;
+    }
+
     @Nonnull
     @Override
     public String format() {
@@ -83,11 +117,12 @@ public class AvroFileFormat<T> implements FileFormat<T> {
             return false;
         }
         AvroFileFormat<?> that = (AvroFileFormat<?>) o;
-        return Objects.equals(reflectClass, that.reflectClass);
+        return Objects.equals(reflectClass, that.reflectClass)
+                && Objects.equals(fieldNames, that.fieldNames);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(reflectClass);
+        return Objects.hash(reflectClass, fieldNames);
     }
 }
@@ -39,6 +39,7 @@ public class CsvFileFormat<T> implements FileFormat<T> {
 
     private final Class<T> clazz;
     private final List<String> fieldNames;
+    private boolean multiline = true;
 
     /**
      * Creates {@link CsvFileFormat}. See {@link FileFormat#csv} for more
@@ -59,6 +60,38 @@ public class CsvFileFormat<T> implements FileFormat<T> {
         this.fieldNames = fieldNames;
     }
 
+    /**
+     * Specifies if the CSV parser should accept records spanning multiple
+     * lines, that is quoted values containing line breaks.
+     * <p>
+     * The parser handles such records by default, but it prevents reading
+     * a large file in parallel using the local filesystem connector,
+     * because the file is split at line boundaries.
+     * <p>
+     * Set this to false when reading large CSV files from the local
+     * filesystem. Each line in the file, except for the header, must then
+     * contain exactly one record.
+     *
+     * @param multiline true, if the CSV parser should accept records
+     *                  spanning multiple lines, defaults to true
+     * @since 5.1
+     */
+    @Nonnull
+    public CsvFileFormat<T> multiline(boolean multiline) {
+        this.multiline = multiline;
+        return this;
+    }
+
+    /**
+     * Specifies if the CSV parser should accept records spanning multiple
+     * lines.
+     *
+     * @since 5.1
+     */
+    public boolean isMultiline() {
+        return multiline;
+    }
+
     @Nonnull
     @Override
     public String format() {
@@ -91,11 +124,13 @@ public class CsvFileFormat<T> implements FileFormat<T> {
             return false;
         }
         CsvFileFormat<?> that = (CsvFileFormat<?>) o;
-        return Objects.equals(clazz, that.clazz) && Objects.equals(fieldNames, that.fieldNames);
+        return multiline == that.multiline
+                && Objects.equals(clazz, that.clazz)
+                && Objects.equals(fieldNames, that.fieldNames);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(clazz, fieldNames);
+        return Objects.hash(clazz, fieldNames, multiline);
     }
 }
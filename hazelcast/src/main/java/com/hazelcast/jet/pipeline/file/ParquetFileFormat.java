@@ -17,6 +17,15 @@
 package com.hazelcast.jet.pipeline.file;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static java.util.Objects.requireNonNull;
 
 /**
  * {@link FileFormat} for Parquet files. See {@link FileFormat#parquet} for
@@ -34,6 +43,9 @@ public class ParquetFileFormat<T> implements FileFormat<T> {
 
     private static final long serialVersionUID = 1L;
 
+    private List<String> fieldNames;
+    private List<Comparison> rowGroupFilter;
+
     /**
      * Creates {@link ParquetFileFormat}. See {@link FileFormat#parquet()}
      * for more details.
@@ -41,6 +53,65 @@ public class ParquetFileFormat<T> implements FileFormat<T> {
     ParquetFileFormat() {
     }
 
+    /**
+     * Specifies the names of the top-level fields to read. Only the column
+     * chunks of these fields are read from the file, the source emits
+     * {@code GenericRecord}s containing only these fields. Names not present
+     * in the file are ignored.
+     * The parameter may be {@code null}, then all the fields are read, which
+     * is the default.
+     *
+     * @param fieldNames names of the fields to read
+     * @since 5.1
+     */
+    @Nonnull
+    public ParquetFileFormat<T> withFieldNames(@Nullable List<String> fieldNames) {
+        this.fieldNames = fieldNames;
+        return this;
+    }
+
+    /**
+     * Returns the names of the fields to read, null if all the fields are
+     * read.
+     *
+     * @since 5.1
+     */
+    @Nullable
+    public List<String> fieldNames() {
+        return fieldNames;
+    }
+
+    /**
+     * Specifies comparisons used to skip whole row groups of the files. A
+     * row group is skipped if the column statistics stored in the file
+     * footer show that some of the comparisons is false for all the records
+     * in the group. The records of the row groups that are read are not
+     * filtered, the source can still emit records not matching the
+     * comparisons.
+     * The parameter may be {@code null}, then all the row groups are read,
+     * which is the default.
+     *
+     * @param rowGroupFilter comparisons that all must be true for the records
+     *                       to be read
+     * @since 5.1
+     */
+    @Nonnull
+    public ParquetFileFormat<T> withRowGroupFilter(@Nullable List<Comparison> rowGroupFilter) {
+        this.rowGroupFilter = rowGroupFilter;
+        return this;
+    }
+
+    /**
+     * Returns the comparisons used to skip the row groups, null if all the
+     * row groups are read.
+     *
+     * @since 5.1
+     */
+    @Nullable
+    public List<Comparison> rowGroupFilter() {
+        return rowGroupFilter;
+    }
+
     @Nonnull
     @Override
     public String format() {
@@ -48,12 +119,125 @@ public class ParquetFileFormat<T> implements FileFormat<T> {
     }
 
     @Override
-    public boolean equals(Object obj) {
-        return obj instanceof ParquetFileFormat;
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ParquetFileFormat<?> that = (ParquetFileFormat<?>) o;
+        return Objects.equals(fieldNames, that.fieldNames)
+                && Objects.equals(rowGroupFilter, that.rowGroupFilter);
     }
 
     @Override
     public int hashCode() {
-        return 0;
+        return Objects.hash(fieldNames, rowGroupFilter);
+    }
+
+    /**
+     * Comparison of a top-level field of the records with a value, used to
+     * skip the row groups. See {@link #withRowGroupFilter(List)}.
+     *
+     * @since 5.1
+     */
+    public static final class Comparison implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final Set<Class<?>> VALUE_TYPES = new HashSet<>(asList(
+                Boolean.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, String.class
+        ));
+
+        private final String fieldName;
+        private final Operator operator;
+        private final Serializable value;
+
+        /**
+         * Creates a comparison of the given field with the given value. The
+         * value must be a {@code Boolean}, {@code Byte}, {@code Short},
+         * {@code Integer}, {@code Long}, {@code Float}, {@code Double} or
+         * {@code String}. A comparison is ignored for the files in which the
+         * value can't be converted to the physical type of the column without
+         * a loss of precision, as well as for {@code Boolean}s with other
+         * operator than {@link Operator#EQUAL}.
+         *
+         * @param fieldName name of the top-level field
+         * @param operator  the comparison operator, the field is the left operand
+         * @param value     the right operand
+         */
+        public Comparison(@Nonnull String fieldName, @Nonnull Operator operator, @Nonnull Serializable value) {
+            this.fieldName = requireNonNull(fieldName, "fieldName");
+            this.operator = requireNonNull(operator, "operator");
+            this.value = requireNonNull(value, "value");
+            if (!VALUE_TYPES.contains(value.getClass())) {
+                throw new IllegalArgumentException("Unsupported value type: " + value.getClass().getName());
+            }
+        }
+
+        /**
+         * Returns the name of the compared field.
+         */
+        @Nonnull
+        public String fieldName() {
+            return fieldName;
+        }
+
+        /**
+         * Returns the comparison operator.
+         */
+        @Nonnull
+        public Operator operator() {
+            return operator;
+        }
+
+        /**
+         * Returns the value the field is compared with.
+         */
+        @Nonnull
+        public Serializable value() {
+            return value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Comparison that = (Comparison) o;
+            return fieldName.equals(that.fieldName)
+                    && operator == that.operator
+                    && value.equals(that.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fieldName, operator, value);
+        }
+
+        @Override
+        public String toString() {
+            return fieldName + ' ' + operator + ' ' + value;
+        }
+
+        /**
+         * Operator of a {@link Comparison}.
+         */
+        public enum Operator {
+            /** The field is equal to the value. */
+            EQUAL,
+            /** The field is less than the value. */
+            LESS_THAN,
+            /** The field is less than or equal to the value. */
+            LESS_THAN_OR_EQUAL,
+            /** The field is greater than the value. */
+            GREATER_THAN,
+            /** The field is greater than or equal to the value. */
+            GREATER_THAN_OR_EQUAL
+        }
     }
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.pipeline.file.impl;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * An {@link InputStream} over the lines of a file that start in the given
+ * byte range. The range is aligned to the line boundaries: a line that
+ * starts before the range end is read to its end, even if it extends
+ * beyond the range, and a line that starts before the range start is
+ * skipped. Therefore, reading the adjacent ranges of a file returns each
+ * line exactly once, and each range can be read by a different thread.
+ * <p>
+ * The file is read using positional reads of a {@link FileChannel} into a
+ * large buffer.
+ */
+public final class FileRangeInputStream extends InputStream {
+
+    static final int BUFFER_SIZE = 1 << 16;
+
+    private static final byte NEW_LINE = '\n';
+    private static final int BYTE_MASK = 0xff;
+
+    private final FileChannel channel;
+    private final long end;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    private long position;
+
+    private FileRangeInputStream(FileChannel channel, long start, long end) {
+        this.channel = channel;
+        this.position = start;
+        this.end = end;
+        buffer.flip();
+    }
+
+    /**
+     * Opens a stream over the lines of the file that start in the range
+     * from {@code start} (inclusive) to {@code end} (exclusive).
+     */
+    @Nonnull
+    public static FileRangeInputStream open(@Nonnull Path path, long start, long end) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            long alignedStart = start == 0 ? 0 : nextLineStart(channel, start - 1, size);
+            long alignedEnd = end >= size ? size : nextLineStart(channel, end - 1, size);
+            return new FileRangeInputStream(channel, alignedStart, Math.max(alignedStart, alignedEnd));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true, if a new line character can't be a part of another
+     * character in the given charset, so a file in the charset can be split
+     * at new line characters without decoding it.
+     */
+    public static boolean isSplittable(@Nonnull Charset charset) {
+        return charset.equals(UTF_8) || charset.newEncoder().maxBytesPerChar() == 1;
+    }
+
+    /**
+     * Returns the position after the first new line character at or after
+     * the {@code position}, or the file size, if there is none.
+     */
+    private static long nextLineStart(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == NEW_LINE) {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    /**
+     * Returns true, if there are no lines starting in the range.
+     */
+    public boolean isEmpty() {
+        return position == end && !buffer.hasRemaining();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        return buffer.get() & BYTE_MASK;
+    }
+
+    @Override
+    public int read(@Nonnull byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int count = Math.min(len, buffer.remaining());
+        buffer.get(b, off, count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private boolean fill() throws IOException {
+        if (buffer.hasRemaining()) {
+            return true;
+        }
+        if (position >= end) {
+            return false;
+        }
+        buffer.clear();
+        buffer.limit((int) Math.min(BUFFER_SIZE, end - position));
+        int read = channel.read(buffer, position);
+        buffer.flip();
+        if (read <= 0) {
+            // the file was truncated while reading
+            position = end;
+            return false;
+        }
+        position += read;
+        return true;
+    }
+}
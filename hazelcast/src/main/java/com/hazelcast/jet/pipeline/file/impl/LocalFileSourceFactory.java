@@ -20,6 +20,8 @@ import com.hazelcast.function.FunctionEx;
 import com.hazelcast.jet.JetException;
 import com.hazelcast.jet.core.ProcessorMetaSupplier;
 import com.hazelcast.jet.core.processor.SourceProcessors;
+import com.hazelcast.jet.function.TriFunction;
+import com.hazelcast.jet.impl.connector.ReadFilesP;
 import com.hazelcast.jet.impl.util.IOUtil;
 import com.hazelcast.jet.json.JsonUtil;
 import com.hazelcast.jet.pipeline.file.FileFormat;
@@ -35,15 +37,22 @@ import java.io.BufferedReader;
 import java.io.FileInputStream;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.Spliterators;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.hazelcast.jet.impl.util.Util.uncheckRun;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -83,8 +92,13 @@ public class LocalFileSourceFactory implements FileSourceFactory {
                     "Did you provide correct modules on classpath?");
         }
         FunctionEx<Path, Stream<T>> mapFn = readFileFnProvider.createReadFileFn(format);
-        return SourceProcessors.readFilesP(fsc.getPath(), fsc.getGlob(), fsc.isSharedFileSystem(),
-                fsc.isIgnoreFileNotFound(), mapFn);
+        TriFunction<Path, Long, Long, Stream<T>> rangeMapFn = readFileFnProvider.createReadFileRangeFn(format);
+        if (rangeMapFn == null) {
+            return SourceProcessors.readFilesP(fsc.getPath(), fsc.getGlob(), fsc.isSharedFileSystem(),
+                    fsc.isIgnoreFileNotFound(), mapFn);
+        }
+        return ReadFilesP.metaSupplier(fsc.getPath(), fsc.getGlob(), fsc.isSharedFileSystem(),
+                fsc.isIgnoreFileNotFound(), mapFn, rangeMapFn);
     }
 
     @SuppressFBWarnings("OBL_UNSATISFIED_OBLIGATION")
@@ -99,8 +113,27 @@ public class LocalFileSourceFactory implements FileSourceFactory {
             };
         }
 
+        @Override
+        public <T> TriFunction<Path, Long, Long, Stream<T>> createReadFileRangeFn(@Nonnull FileFormat<T> format) {
+            if (!isSplittable(format)) {
+                return null;
+            }
+            FunctionEx<InputStream, Stream<T>> mapInputStreamFn = mapInputStreamFn(format);
+            return (path, start, end) -> {
+                FileRangeInputStream is = FileRangeInputStream.open(path, start, end);
+                return mapInputStreamFn.apply(is).onClose(() -> uncheckRun(is::close));
+            };
+        }
+
         @Nonnull
         abstract <T> FunctionEx<InputStream, Stream<T>> mapInputStreamFn(FileFormat<T> format);
+
+        /**
+         * Returns true, if each line of the file is a separate record.
+         */
+        boolean isSplittable(FileFormat<?> format) {
+            return false;
+        }
     }
 
     private static class JsonReadFileFnProvider implements ReadFileFnProvider {
@@ -126,6 +159,32 @@ public class LocalFileSourceFactory implements FileSourceFactory {
             };
         }
 
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TriFunction<Path, Long, Long, Stream<T>> createReadFileRangeFn(@Nonnull FileFormat<T> format) {
+            JsonFileFormat<T> jsonFileFormat = (JsonFileFormat<T>) format;
+            if (jsonFileFormat.isMultiline()) {
+                return null;
+            }
+            Class<T> formatClazz = jsonFileFormat.clazz();
+
+            return (path, start, end) -> {
+                FileRangeInputStream is = FileRangeInputStream.open(path, start, end);
+                // Jackson doesn't handle empty input
+                if (is.isEmpty()) {
+                    is.close();
+                    return Stream.empty();
+                }
+
+                Reader reader = new InputStreamReader(is, UTF_8);
+                Iterator<T> iterator = formatClazz == null
+                        ? (Iterator<T>) JsonUtil.mapSequenceFrom(reader)
+                        : JsonUtil.beanSequenceFrom(reader, formatClazz);
+                return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, ORDERED | NONNULL), false)
+                                    .onClose(() -> uncheckRun(reader::close));
+            };
+        }
+
         @Nonnull
         @Override
         public String format() {
@@ -146,6 +205,11 @@ public class LocalFileSourceFactory implements FileSourceFactory {
             };
         }
 
+        @Override
+        boolean isSplittable(FileFormat<?> format) {
+            return FileRangeInputStream.isSplittable(((LinesTextFileFormat) format).charset());
+        }
+
         @Nonnull @Override
         public String format() {
             return LinesTextFileFormat.FORMAT_LINES;
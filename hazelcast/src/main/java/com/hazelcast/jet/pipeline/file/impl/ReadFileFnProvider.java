@@ -17,9 +17,11 @@
 package com.hazelcast.jet.pipeline.file.impl;
 
 import com.hazelcast.function.FunctionEx;
+import com.hazelcast.jet.function.TriFunction;
 import com.hazelcast.jet.pipeline.file.FileFormat;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.nio.file.Path;
 import java.util.stream.Stream;
 
@@ -39,6 +41,22 @@ public interface ReadFileFnProvider {
     @Nonnull
     <T> FunctionEx<Path, Stream<T>> createReadFileFn(@Nonnull FileFormat<T> format);
 
+    /**
+     * Takes a {@link FileFormat} and returns a function that maps a {@code
+     * Path} on the local filesystem and a byte range in it to a stream of
+     * the items whose records start in that range. The range is given by
+     * the start (inclusive) and end (exclusive) offset, see {@link
+     * FileRangeInputStream}.
+     * <p>
+     * Returns {@code null}, if the records of the format can't be found
+     * without reading the file from the start. The file is then always
+     * read as a whole, by a single processor. This is the default.
+     */
+    @Nullable
+    default <T> TriFunction<Path, Long, Long, Stream<T>> createReadFileRangeFn(@Nonnull FileFormat<T> format) {
+        return null;
+    }
+
     /**
      * Returns a string that identifies the {@link FileFormat} supported by
      * this function provider.
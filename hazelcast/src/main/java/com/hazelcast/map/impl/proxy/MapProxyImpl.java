@@ -79,6 +79,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -477,6 +478,34 @@ public class MapProxyImpl<K, V> extends MapProxySupport<K, V> implements EventJo
         return Collections.unmodifiableMap(result);
     }
 
+    /**
+     * Asynchronously gets the values for the given keys. Like {@link
+     * #getAll}, it invokes a single operation for each partition the keys
+     * belong to. The keys missing from the map are missing from the result.
+     *
+     * @param keys keys to get
+     * @return a future completed with the map of the found entries
+     */
+    public CompletableFuture<Map<K, V>> getAllAsync(@Nonnull Set<K> keys) {
+        checkNotNull(keys, NULL_KEYS_ARE_NOT_ALLOWED);
+        if (keys.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.unmodifiableMap(emptyMap()));
+        }
+
+        int keysSize = keys.size();
+        List<Data> dataKeys = new LinkedList<>();
+        List<Object> resultingKeyValuePairs = new ArrayList<>(keysSize * 2);
+        return getAllAsyncInternal(keys, dataKeys, resultingKeyValuePairs).thenApply(v -> {
+            Map<K, V> result = createHashMap(keysSize);
+            for (int i = 0; i < resultingKeyValuePairs.size(); ) {
+                K key = toObject(resultingKeyValuePairs.get(i++));
+                V value = toObject(resultingKeyValuePairs.get(i++));
+                result.put(key, value);
+            }
+            return Collections.unmodifiableMap(result);
+        });
+    }
+
     @Override
     public boolean setTtl(@Nonnull K key, long ttl, @Nonnull TimeUnit timeunit) {
         checkNotNull(key, NULL_KEY_IS_NOT_ALLOWED);
@@ -893,6 +893,37 @@ abstract class MapProxySupport<K, V>
         }
     }
 
+    /**
+     * Asynchronous variant of {@link #getAllInternal}: the keys are grouped
+     * by partition and a single operation is invoked for each partition. The
+     * returned future completes after the fetched key-value pairs were added
+     * to {@code resultingKeyValuePairs}.
+     */
+    protected CompletableFuture<Void> getAllAsyncInternal(Set<K> keys, List<Data> dataKeys,
+                                                          List<Object> resultingKeyValuePairs) {
+        if (keys == null || keys.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (dataKeys.isEmpty()) {
+            toDataCollectionWithNonNullKeyValidation(keys, dataKeys);
+        }
+        Collection<Integer> partitions = getPartitionsForKeys(dataKeys);
+        OperationFactory operationFactory = operationProvider.createGetAllOperationFactory(name, dataKeys);
+        long startTimeNanos = Timer.nanos();
+        int keyCount = dataKeys.size();
+        return operationService.<Object>invokeOnPartitionsAsync(SERVICE_NAME, operationFactory, partitions)
+                .thenAccept(responses -> {
+                    for (Object response : responses.values()) {
+                        MapEntries entries = toObject(response);
+                        for (int i = 0; i < entries.size(); i++) {
+                            resultingKeyValuePairs.add(entries.getKey(i));
+                            resultingKeyValuePairs.add(entries.getValue(i));
+                        }
+                    }
+                    localMapStats.incrementGetLatencyNanos(keyCount, Timer.nanosElapsed(startTimeNanos));
+                });
+    }
+
     private Collection<Integer> getPartitionsForKeys(Collection<Data> keys) {
         int partitions = partitionService.getPartitionCount();
         // TODO: is there better way to estimate the size?
@@ -1283,21 +1314,36 @@ abstract class MapProxySupport<K, V>
      */
     public void executeOnEntriesInternal(EntryProcessor entryProcessor, Predicate predicate, List<Data> result) {
         try {
-            Map<Integer, Object> results;
-            if (predicate instanceof PartitionPredicate) {
-                PartitionPredicate partitionPredicate = (PartitionPredicate) predicate;
-                Data key = toData(partitionPredicate.getPartitionKey());
-                int partitionId = partitionService.getPartitionId(key);
-                handleHazelcastInstanceAwareParams(partitionPredicate.getTarget());
+            result.addAll(executeOnEntriesAsyncInternal(entryProcessor, predicate).get());
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
 
-                OperationFactory operation = operationProvider.createPartitionWideEntryWithPredicateOperationFactory(
-                        name, entryProcessor, partitionPredicate.getTarget());
-                results = operationService.invokeOnPartitions(SERVICE_NAME, operation, singletonList(partitionId));
-            } else {
-                OperationFactory operation = operationProvider.createPartitionWideEntryWithPredicateOperationFactory(
-                        name, entryProcessor, predicate);
-                results = operationService.invokeOnAllPartitions(SERVICE_NAME, operation);
-            }
+    /**
+     * Async version of {@link #executeOnEntriesInternal(EntryProcessor, Predicate, List)}.
+     *
+     * @return a future of the keys and the results of the entries for which
+     * the entry processor returned a non-null result, alternating
+     */
+    public CompletableFuture<List<Data>> executeOnEntriesAsyncInternal(EntryProcessor entryProcessor, Predicate predicate) {
+        CompletableFuture<Map<Integer, Object>> future;
+        if (predicate instanceof PartitionPredicate) {
+            PartitionPredicate partitionPredicate = (PartitionPredicate) predicate;
+            Data key = toData(partitionPredicate.getPartitionKey());
+            int partitionId = partitionService.getPartitionId(key);
+            handleHazelcastInstanceAwareParams(partitionPredicate.getTarget());
+
+            OperationFactory operation = operationProvider.createPartitionWideEntryWithPredicateOperationFactory(
+                    name, entryProcessor, partitionPredicate.getTarget());
+            future = operationService.invokeOnPartitionsAsync(SERVICE_NAME, operation, singletonList(partitionId));
+        } else {
+            OperationFactory operation = operationProvider.createPartitionWideEntryWithPredicateOperationFactory(
+                    name, entryProcessor, predicate);
+            future = operationService.invokeOnAllPartitionsAsync(SERVICE_NAME, operation);
+        }
+        return future.thenApply(results -> {
+            List<Data> result = new ArrayList<>();
             for (Object object : results.values()) {
                 if (object != null) {
                     MapEntries mapEntries = (MapEntries) object;
@@ -1307,9 +1353,8 @@ abstract class MapProxySupport<K, V>
                     }
                 }
             }
-        } catch (Throwable t) {
-            throw rethrow(t);
-        }
+            return result;
+        });
     }
 
     protected <T> T toObject(Object object) {
@@ -43,6 +43,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import static com.hazelcast.internal.nearcache.NearCache.CACHED_AS_NULL;
@@ -427,6 +428,31 @@ public class NearCachedMapProxyImpl<K, V> extends MapProxyImpl<K, V> {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The values found in the Near Cache are added to the result right away,
+     * the rest is fetched from the partitions. The values fetched remotely
+     * aren't added to the Near Cache.
+     */
+    @Override
+    protected CompletableFuture<Void> getAllAsyncInternal(Set<K> keys, List<Data> dataKeys,
+                                                          List<Object> resultingKeyValuePairs) {
+        if (serializeKeys) {
+            toDataKeysWithReservations(keys, dataKeys, null, null);
+        }
+        Collection<?> ncKeys = serializeKeys ? dataKeys : new LinkedList<>(keys);
+
+        populateResultFromNearCache(ncKeys, resultingKeyValuePairs);
+        if (ncKeys.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (!serializeKeys) {
+            toDataKeysWithReservations(ncKeys, dataKeys, null, null);
+        }
+        return super.getAllAsyncInternal(keys, dataKeys, resultingKeyValuePairs);
+    }
+
     private void toDataKeysWithReservations(Collection<?> keys, Collection<Data> dataKeys, Map<Object, Long> reservations,
                                             Map<Data, Object> reverseKeyMap) {
         for (Object key : keys) {
@@ -542,15 +568,17 @@ public class NearCachedMapProxyImpl<K, V> extends MapProxyImpl<K, V> {
     }
 
     @Override
-    public void executeOnEntriesInternal(EntryProcessor entryProcessor, Predicate predicate, List<Data> resultingKeyValuePairs) {
-        try {
-            super.executeOnEntriesInternal(entryProcessor, predicate, resultingKeyValuePairs);
-        } finally {
-            for (int i = 0; i < resultingKeyValuePairs.size(); i += 2) {
-                Data key = resultingKeyValuePairs.get(i);
-                invalidateNearCache(serializeKeys ? key : toObject(key));
-            }
-        }
+    public CompletableFuture<List<Data>> executeOnEntriesAsyncInternal(EntryProcessor entryProcessor, Predicate predicate) {
+        return super.executeOnEntriesAsyncInternal(entryProcessor, predicate)
+                .whenComplete((resultingKeyValuePairs, throwable) -> {
+                    if (resultingKeyValuePairs == null) {
+                        return;
+                    }
+                    for (int i = 0; i < resultingKeyValuePairs.size(); i += 2) {
+                        Data key = resultingKeyValuePairs.get(i);
+                        invalidateNearCache(serializeKeys ? key : toObject(key));
+                    }
+                });
     }
 
     @Override
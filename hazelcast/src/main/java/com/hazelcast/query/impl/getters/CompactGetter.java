@@ -16,18 +16,35 @@
 
 package com.hazelcast.query.impl.getters;
 
+import com.hazelcast.internal.nio.Bits;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.impl.GenericRecordQueryReader;
+import com.hazelcast.internal.serialization.impl.HeapData;
 import com.hazelcast.internal.serialization.impl.InternalGenericRecord;
 import com.hazelcast.internal.serialization.impl.compact.CompactInternalGenericRecord;
+import com.hazelcast.internal.serialization.impl.compact.FieldDescriptor;
+import com.hazelcast.internal.serialization.impl.compact.Schema;
+import com.hazelcast.nio.serialization.FieldKind;
+
+import java.nio.ByteOrder;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.LONG_SIZE_IN_BYTES;
+import static com.hazelcast.internal.serialization.impl.SerializationConstants.TYPE_COMPACT;
 
 public class CompactGetter extends Getter {
     private final InternalSerializationService serializationService;
+    private final boolean bigEndian;
+    // schema ID -> plans for reading top-level fixed-size fields directly from the serialized bytes
+    private final ConcurrentMap<Long, SchemaReadPlans> readPlans = new ConcurrentHashMap<>();
 
     CompactGetter(InternalSerializationService serializationService) {
         super(null);
         this.serializationService = serializationService;
+        this.bigEndian = serializationService.getByteOrder() == ByteOrder.BIG_ENDIAN;
     }
 
     @Override
@@ -36,12 +53,31 @@ public class CompactGetter extends Getter {
         if (target instanceof CompactInternalGenericRecord) {
             record = (InternalGenericRecord) target;
         } else {
-            record = serializationService.readAsInternalGenericRecord((Data) target);
+            Data data = (Data) target;
+            if (data.getType() == TYPE_COMPACT) {
+                FieldReadPlan plan = readPlan(data, fieldPath);
+                if (plan != FieldReadPlan.GENERIC) {
+                    return plan.read(data.toByteArray(), bigEndian);
+                }
+            }
+            record = serializationService.readAsInternalGenericRecord(data);
         }
         GenericRecordQueryReader reader = new GenericRecordQueryReader(record);
         return reader.read(fieldPath);
     }
 
+    private FieldReadPlan readPlan(Data data, String fieldPath) throws Exception {
+        long schemaId = Bits.readLong(data.toByteArray(), HeapData.DATA_OFFSET, bigEndian);
+        SchemaReadPlans schemaPlans = readPlans.get(schemaId);
+        if (schemaPlans == null) {
+            // the first value with this schema, read it as a record to obtain the schema
+            Schema schema = ((CompactInternalGenericRecord) serializationService.readAsInternalGenericRecord(data))
+                    .getSchema();
+            schemaPlans = readPlans.computeIfAbsent(schemaId, id -> new SchemaReadPlans(schema));
+        }
+        return schemaPlans.get(fieldPath);
+    }
+
     @Override
     Object getValue(Object obj) throws Exception {
         throw new IllegalArgumentException("Path agnostic value extraction unsupported");
@@ -58,4 +94,96 @@ public class CompactGetter extends Getter {
         // for various keys. A singleton should be used instead during getter creation.
         return false;
     }
+
+    private static final class SchemaReadPlans {
+        private final Schema schema;
+        private final int dataStartPosition;
+        private final ConcurrentMap<String, FieldReadPlan> plansByPath = new ConcurrentHashMap<>();
+
+        SchemaReadPlans(Schema schema) {
+            this.schema = schema;
+            // the schema ID is followed by the data length, if there are any variable-size fields
+            this.dataStartPosition = HeapData.DATA_OFFSET + LONG_SIZE_IN_BYTES
+                    + (schema.getNumberOfVariableSizeFields() != 0 ? INT_SIZE_IN_BYTES : 0);
+        }
+
+        FieldReadPlan get(String fieldPath) {
+            FieldReadPlan plan = plansByPath.get(fieldPath);
+            if (plan == null) {
+                plan = plansByPath.computeIfAbsent(fieldPath, this::createPlan);
+            }
+            return plan;
+        }
+
+        private FieldReadPlan createPlan(String fieldPath) {
+            if (fieldPath.indexOf('.') >= 0 || fieldPath.indexOf('[') >= 0) {
+                return FieldReadPlan.GENERIC;
+            }
+            FieldDescriptor fd = schema.getField(fieldPath);
+            if (fd == null) {
+                return FieldReadPlan.MISSING;
+            }
+            switch (fd.getKind()) {
+                case BOOLEAN:
+                case BYTE:
+                case CHAR:
+                case SHORT:
+                case INT:
+                case LONG:
+                case FLOAT:
+                case DOUBLE:
+                    return new FieldReadPlan(fd.getKind(), dataStartPosition + fd.getOffset(), fd.getBitOffset());
+                default:
+                    return FieldReadPlan.GENERIC;
+            }
+        }
+    }
+
+    /**
+     * Describes how to read a fixed-size field directly from the bytes of a
+     * Compact serialized {@link HeapData}.
+     */
+    private static final class FieldReadPlan {
+        // the field is not fixed-size or the path is not a top-level field, use the GenericRecordQueryReader
+        static final FieldReadPlan GENERIC = new FieldReadPlan(null, -1, 0);
+        // the field is not in the schema
+        static final FieldReadPlan MISSING = new FieldReadPlan(null, -1, 0);
+
+        private final FieldKind kind;
+        private final int position;
+        private final int bitOffset;
+
+        FieldReadPlan(FieldKind kind, int position, int bitOffset) {
+            this.kind = kind;
+            this.position = position;
+            this.bitOffset = bitOffset;
+        }
+
+        @SuppressWarnings("checkstyle:ReturnCount")
+        Object read(byte[] bytes, boolean bigEndian) {
+            if (this == MISSING) {
+                return null;
+            }
+            switch (kind) {
+                case BOOLEAN:
+                    return ((bytes[position] >>> bitOffset) & 1) != 0;
+                case BYTE:
+                    return bytes[position];
+                case CHAR:
+                    return Bits.readChar(bytes, position, bigEndian);
+                case SHORT:
+                    return Bits.readShort(bytes, position, bigEndian);
+                case INT:
+                    return Bits.readInt(bytes, position, bigEndian);
+                case LONG:
+                    return Bits.readLong(bytes, position, bigEndian);
+                case FLOAT:
+                    return Float.intBitsToFloat(Bits.readInt(bytes, position, bigEndian));
+                case DOUBLE:
+                    return Double.longBitsToDouble(Bits.readLong(bytes, position, bigEndian));
+                default:
+                    throw new IllegalStateException("Unexpected field kind: " + kind);
+            }
+        }
+    }
 }
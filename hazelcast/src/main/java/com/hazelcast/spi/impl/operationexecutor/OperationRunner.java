@@ -60,6 +60,19 @@ public abstract class OperationRunner {
      */
     public abstract boolean run(Packet packet) throws Exception;
 
+    /**
+     * Deserializes the operation of the provided packet and prepares it to be
+     * run later with {@link #run(Operation)}, as if it was run by
+     * {@link #run(Packet)}.
+     *
+     * @param packet the packet of the operation
+     * @return the operation, or {@code null} if it must not be run because
+     * its caller is not a member of the cluster
+     * @throws Exception if the operation could not be deserialized, in which
+     * case the error was already sent to the caller
+     */
+    public abstract Operation toOperation(Packet packet) throws Exception;
+
     public abstract void run(Runnable task);
 
     /**
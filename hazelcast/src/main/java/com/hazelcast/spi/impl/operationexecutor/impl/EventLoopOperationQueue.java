@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.spi.impl.operationexecutor.impl;
+
+import com.hazelcast.internal.networking.nio.HostedEventLoops;
+import com.hazelcast.internal.networking.nio.NioThread;
+import com.hazelcast.internal.util.concurrent.MPSCArrayQueue;
+
+import java.util.concurrent.locks.LockSupport;
+
+import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * The {@link OperationQueue} of a {@link PartitionOperationThread} in the
+ * thread-per-core mode.
+ * <p>
+ * Instead of blocking when there is nothing to do, the partition thread runs
+ * the event loop it hosts, see {@link HostedEventLoops}. A packet the event
+ * loop reads for a partition owned by the same thread is added to this queue
+ * by the consumer itself and taken right after the event loop round, so it is
+ * executed without any handoff between threads. Other producers wake up the
+ * selector of the event loop, but only when the consumer is about to block
+ * on it: a selector wakeup is a system call, and a busy consumer polls the
+ * queue anyway.
+ * <p>
+ * Priority tasks are always taken first, like in the {@link OperationQueueImpl}.
+ */
+final class EventLoopOperationQueue implements OperationQueue {
+
+    // the number of tasks taken in a row after which the pending network events
+    // are processed, so a busy partition thread doesn't starve its connections
+    static final int EVENT_LOOP_INTERVAL = 64;
+
+    // the maximum time to park while no event loop is attached, e.g. before the networking has started
+    private static final long PARK_NANOS = MILLISECONDS.toNanos(100);
+
+    private final MPSCArrayQueue<Object> normalQueue = new MPSCArrayQueue<>(null);
+    private final MPSCArrayQueue<Object> priorityQueue = new MPSCArrayQueue<>(null);
+    private final HostedEventLoops eventLoops;
+    private final int eventLoopIndex;
+    private Thread consumerThread;
+
+    // true while the consumer blocks on the event loop or is about to, so a producer must wake it up
+    private volatile boolean blocked;
+
+    // only accessed by the consumer thread
+    private int takenSinceEventLoop;
+
+    EventLoopOperationQueue(HostedEventLoops eventLoops, int eventLoopIndex) {
+        this.eventLoops = eventLoops;
+        this.eventLoopIndex = eventLoopIndex;
+    }
+
+    /**
+     * Sets the consumer thread, which is also the host of the event loop.
+     * <p>
+     * This method should be called before the queue is safely published.
+     */
+    void setConsumerThread(Thread consumerThread) {
+        this.consumerThread = checkNotNull(consumerThread, "consumerThread can't be null");
+        normalQueue.setConsumerThread(consumerThread);
+        priorityQueue.setConsumerThread(consumerThread);
+        eventLoops.setHost(eventLoopIndex, consumerThread);
+    }
+
+    @Override
+    public void add(Object task, boolean priority) {
+        checkNotNull(task, "task can't be null");
+
+        if (priority) {
+            priorityQueue.add(task);
+        } else {
+            normalQueue.add(task);
+        }
+
+        // the task is published before the flag is read, see take()
+        if (blocked && Thread.currentThread() != consumerThread) {
+            wakeup();
+        }
+    }
+
+    private void wakeup() {
+        NioThread eventLoop = eventLoops.get(eventLoopIndex);
+        if (eventLoop != null) {
+            // no wakeup gets lost: if the consumer isn't selecting yet, its next select returns immediately
+            eventLoop.getSelector().wakeup();
+        } else {
+            LockSupport.unpark(consumerThread);
+        }
+    }
+
+    @Override
+    public Object take(boolean priorityOnly) throws InterruptedException {
+        for (; ; ) {
+            if (takenSinceEventLoop >= EVENT_LOOP_INTERVAL) {
+                takenSinceEventLoop = 0;
+                runEventLoop(false);
+            }
+
+            Object task = priorityQueue.poll();
+            if (task == null && !priorityOnly) {
+                task = normalQueue.poll();
+            }
+
+            if (task != null) {
+                takenSinceEventLoop++;
+                return task;
+            }
+
+            takenSinceEventLoop = 0;
+            blocked = true;
+            // a producer that added a task before the flag was set didn't wake us up, so we check again
+            if (priorityQueue.isEmpty() && (priorityOnly || normalQueue.isEmpty())) {
+                runEventLoop(true);
+            }
+            blocked = false;
+
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    private void runEventLoop(boolean block) {
+        NioThread eventLoop = eventLoops.get(eventLoopIndex);
+        if (eventLoop != null) {
+            eventLoop.runEventLoopOnce(block);
+        } else if (block) {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+
+    @Override
+    public int normalSize() {
+        return normalQueue.size();
+    }
+
+    @Override
+    public int prioritySize() {
+        return priorityQueue.size();
+    }
+
+    @Override
+    public int size() {
+        return normalQueue.size() + priorityQueue.size();
+    }
+}
@@ -18,13 +18,15 @@ package com.hazelcast.spi.impl.operationexecutor.impl;
 
 import com.hazelcast.cluster.Address;
 import com.hazelcast.instance.impl.NodeExtension;
+import com.hazelcast.internal.metrics.MetricDescriptor;
 import com.hazelcast.internal.metrics.MetricsRegistry;
 import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.metrics.StaticMetricsProvider;
+import com.hazelcast.internal.networking.nio.HostedEventLoops;
 import com.hazelcast.internal.nio.Packet;
 import com.hazelcast.internal.util.ThreadAffinity;
 import com.hazelcast.internal.util.concurrent.IdleStrategy;
-import com.hazelcast.internal.util.concurrent.MPSCQueue;
+import com.hazelcast.internal.util.concurrent.MPSCArrayQueue;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.logging.LoggingService;
 import com.hazelcast.spi.impl.PartitionSpecificRunnable;
@@ -42,7 +44,7 @@ import com.hazelcast.spi.properties.HazelcastProperty;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.util.BitSet;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.List;
 import java.util.concurrent.LinkedBlockingQueue;
 
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_EXECUTOR_COMPLETED_COUNT;
@@ -55,16 +57,21 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_EXECUTOR_RUNNING_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_EXECUTOR_RUNNING_GENERIC_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_EXECUTOR_RUNNING_PARTITION_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_DISCRIMINATOR_SCHEDULER_QUEUE;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_PREFIX;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_PREFIX_SCHEDULER;
 import static com.hazelcast.internal.metrics.ProbeLevel.MANDATORY;
 import static com.hazelcast.internal.util.ThreadAffinity.newSystemThreadAffinity;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
 import static com.hazelcast.internal.util.ThreadUtil.createThreadPoolName;
 import static com.hazelcast.spi.impl.operationservice.impl.InboundResponseHandlerSupplier.getIdleStrategy;
 import static com.hazelcast.spi.properties.ClusterProperty.GENERIC_OPERATION_THREAD_COUNT;
+import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_SCHEDULER_WEIGHTS;
+import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_THREAD_PER_CORE_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_COUNT;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_OPERATION_THREAD_COUNT;
 import static com.hazelcast.spi.properties.ClusterProperty.PRIORITY_GENERIC_OPERATION_THREAD_COUNT;
+import static java.util.Collections.emptyList;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
@@ -99,6 +106,10 @@ public final class OperationExecutorImpl implements OperationExecutor, StaticMet
     // all operations for specific partitions will be executed on these threads, e.g. map.put(key, value)
     private final PartitionOperationThread[] partitionThreads;
     private final OperationRunner[] partitionOperationRunners;
+    // the classes of the weighted fair scheduling on the partition threads, empty if it is disabled
+    private final List<SchedulingClass> schedulingClasses;
+    // the socket input event loops run by the partition threads, null if the thread-per-core mode is disabled
+    private final HostedEventLoops hostedEventLoops;
 
     private final OperationQueue genericQueue
             = new OperationQueueImpl(new LinkedBlockingQueue<>(), new LinkedBlockingQueue<>());
@@ -124,6 +135,19 @@ public final class OperationExecutorImpl implements OperationExecutor, StaticMet
         this.adHocOperationRunner = runnerFactory.createAdHocRunner();
 
         this.partitionOperationRunners = initPartitionOperationRunners(properties, runnerFactory);
+        boolean threadPerCore = properties.getBoolean(OPERATION_THREAD_PER_CORE_ENABLED);
+        List<SchedulingClass> classes = SchedulingClass.parse(properties.getString(OPERATION_SCHEDULER_WEIGHTS));
+        if (threadPerCore && !classes.isEmpty()) {
+            logger.warning(OPERATION_SCHEDULER_WEIGHTS.getName() + " is not supported in the thread-per-core mode "
+                    + "and is ignored");
+            classes = emptyList();
+        }
+        this.schedulingClasses = classes;
+        this.hostedEventLoops = threadPerCore ? new HostedEventLoops(getPartitionThreadCount(properties)) : null;
+        if (threadPerCore) {
+            logger.info("Thread-per-core mode is enabled, the partition threads run the socket input event loops. "
+                    + "This is an experimental feature.");
+        }
         this.partitionThreads = initPartitionThreads(properties, hzName, nodeExtension, configClassLoader);
 
         this.priorityThreadCount = properties.getInteger(PRIORITY_GENERIC_OPERATION_THREAD_COUNT);
@@ -153,25 +177,37 @@ public final class OperationExecutorImpl implements OperationExecutor, StaticMet
     private PartitionOperationThread[] initPartitionThreads(HazelcastProperties properties, String hzName,
                                                             NodeExtension nodeExtension, ClassLoader configClassLoader) {
 
-        int threadCount = properties.getInteger(PARTITION_OPERATION_THREAD_COUNT);
-        if (threadAffinity.isEnabled()) {
-            threadCount = threadAffinity.getThreadCount();
-        }
-
+        int threadCount = getPartitionThreadCount(properties);
         IdleStrategy idleStrategy = getIdleStrategy(properties, IDLE_STRATEGY);
         PartitionOperationThread[] threads = new PartitionOperationThread[threadCount];
         for (int threadId = 0; threadId < threads.length; threadId++) {
             String threadName = createThreadPoolName(hzName, "partition-operation") + threadId;
-            // the normalQueue will be a blocking queue. We don't want to idle, because there are many operation threads.
-            MPSCQueue<Object> normalQueue = new MPSCQueue<>(idleStrategy);
-
-            OperationQueue operationQueue = new OperationQueueImpl(normalQueue, new ConcurrentLinkedQueue<>());
-
-            PartitionOperationThread partitionThread = new PartitionOperationThread(threadName, threadId, operationQueue, logger,
-                    nodeExtension, partitionOperationRunners, configClassLoader);
+            PartitionOperationThread partitionThread;
+            if (hostedEventLoops != null) {
+                // the partition thread runs a socket input event loop whenever it has no operations to execute
+                EventLoopOperationQueue operationQueue = new EventLoopOperationQueue(hostedEventLoops, threadId);
+                partitionThread = new PartitionOperationThread(threadName, threadId, operationQueue, logger,
+                        nodeExtension, partitionOperationRunners, configClassLoader);
+                operationQueue.setConsumerThread(partitionThread);
+            } else if (schedulingClasses.isEmpty()) {
+                // the normalQueue will be a blocking queue. We don't want to idle, because there are many operation threads.
+                MPSCArrayQueue<Object> normalQueue = new MPSCArrayQueue<>(idleStrategy);
+                // the priorityQueue is only polled, the partition thread is woken up through the normalQueue
+                MPSCArrayQueue<Object> priorityQueue = new MPSCArrayQueue<>(null);
+
+                OperationQueue operationQueue = new OperationQueueImpl(normalQueue, priorityQueue);
+                partitionThread = new PartitionOperationThread(threadName, threadId, operationQueue, logger,
+                        nodeExtension, partitionOperationRunners, configClassLoader);
+                normalQueue.setConsumerThread(partitionThread);
+                priorityQueue.setConsumerThread(partitionThread);
+            } else {
+                WeightedOperationQueue operationQueue = new WeightedOperationQueue(schedulingClasses, idleStrategy);
+                partitionThread = new PartitionOperationThread(threadName, threadId, operationQueue, logger,
+                        nodeExtension, partitionOperationRunners, configClassLoader);
+                operationQueue.setConsumerThread(partitionThread);
+            }
             partitionThread.setThreadAffinity(threadAffinity);
             threads[threadId] = partitionThread;
-            normalQueue.setConsumerThread(partitionThread);
         }
 
         // we need to assign the PartitionOperationThreads to all OperationRunners they own
@@ -185,6 +221,13 @@ public final class OperationExecutorImpl implements OperationExecutor, StaticMet
         return threads;
     }
 
+    private int getPartitionThreadCount(HazelcastProperties properties) {
+        if (threadAffinity.isEnabled()) {
+            return threadAffinity.getThreadCount();
+        }
+        return properties.getInteger(PARTITION_OPERATION_THREAD_COUNT);
+    }
+
     static int getPartitionThreadId(int partitionId, int partitionThreadCount) {
         return partitionId % partitionThreadCount;
     }
@@ -228,6 +271,14 @@ public final class OperationExecutorImpl implements OperationExecutor, StaticMet
         registry.provideMetrics(adHocOperationRunner);
         registry.provideMetrics((Object[]) genericOperationRunners);
         registry.provideMetrics((Object[]) partitionOperationRunners);
+
+        for (SchedulingClass schedulingClass : schedulingClasses) {
+            MetricDescriptor descriptor = registry
+                    .newMetricDescriptor()
+                    .withPrefix(OPERATION_PREFIX_SCHEDULER)
+                    .withDiscriminator(OPERATION_DISCRIMINATOR_SCHEDULER_QUEUE, schedulingClass.name());
+            registry.registerStaticMetrics(descriptor, schedulingClass);
+        }
     }
 
     @SuppressFBWarnings("EI_EXPOSE_REP")
@@ -236,6 +287,16 @@ public final class OperationExecutorImpl implements OperationExecutor, StaticMet
         return partitionOperationRunners;
     }
 
+    /**
+     * Returns the socket input event loops run by the partition threads.
+     *
+     * @return the hosted event loops or {@code null} if the thread-per-core
+     * mode is disabled
+     */
+    public HostedEventLoops getHostedEventLoops() {
+        return hostedEventLoops;
+    }
+
     @SuppressFBWarnings("EI_EXPOSE_REP")
     @Override
     public OperationRunner[] getGenericOperationRunners() {
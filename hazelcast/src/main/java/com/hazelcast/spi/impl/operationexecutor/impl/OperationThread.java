@@ -29,6 +29,7 @@ import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.impl.PartitionSpecificRunnable;
 import com.hazelcast.spi.impl.operationexecutor.OperationRunner;
 import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.spi.impl.operationservice.impl.PacketBatch;
 
 import java.util.concurrent.TimeUnit;
 
@@ -43,6 +44,7 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_THREAD_ERROR_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_PREFIX_THREAD;
 import static com.hazelcast.internal.metrics.MetricTarget.MANAGEMENT_CENTER;
+import static com.hazelcast.internal.nio.Packet.FLAG_OP_BATCH;
 import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
 
 /**
@@ -134,7 +136,12 @@ public abstract class OperationThread extends HazelcastManagedThread implements
         try {
             boolean putBackInQueue = false;
             if (task.getClass() == Packet.class) {
-                putBackInQueue = process((Packet) task);
+                Packet packet = (Packet) task;
+                if (packet.isFlagRaised(FLAG_OP_BATCH)) {
+                    processBatch(packet);
+                    return;
+                }
+                putBackInQueue = process(packet);
             } else if (task instanceof Operation) {
                 putBackInQueue = process((Operation) task);
             } else if (task instanceof PartitionSpecificRunnable) {
@@ -194,6 +201,9 @@ public abstract class OperationThread extends HazelcastManagedThread implements
      */
     private boolean process(Packet packet) throws Exception {
         currentRunner = operationRunner(packet.getPartitionId());
+        if (queue instanceof WeightedOperationQueue && !packet.isUrgent()) {
+            return processWeighted(packet);
+        }
         if (currentRunner.run(packet)) {
             return true;
         } else {
@@ -202,6 +212,37 @@ public abstract class OperationThread extends HazelcastManagedThread implements
         }
     }
 
+    /**
+     * Deserializes the operation of the packet, which was added to the default
+     * class of the {@link WeightedOperationQueue} since its class wasn't known
+     * yet. If it belongs to another class, it's added again to the queue of
+     * that class instead of being run.
+     */
+    private boolean processWeighted(Packet packet) throws Exception {
+        Operation operation = currentRunner.toOperation(packet);
+        completedPacketCount.inc();
+        if (operation == null) {
+            return false;
+        }
+        if (((WeightedOperationQueue) queue).classIndex(operation) != 0) {
+            queue.add(operation, false);
+            return false;
+        }
+        return process(operation);
+    }
+
+    /**
+     * Processes the operations of a batch packet one after the other, each
+     * one as if it was received in a packet of its own.
+     *
+     * @param batch the packet with the length-prefixed operations
+     */
+    private void processBatch(Packet batch) {
+        PacketBatch.forEachPayload(batch, payload -> process((Object) new Packet(payload, batch.getPartitionId())
+                .setPacketType(Packet.Type.OPERATION)
+                .setConn(batch.getConn())));
+    }
+
     private void process(PartitionSpecificRunnable runnable) {
         currentRunner = operationRunner(runnable.getPartitionId());
         currentRunner.run(runnable);
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationexecutor.impl;
+
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.util.LatencyDistribution;
+import com.hazelcast.internal.util.counters.Counter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_SCHEDULER_COMPLETED_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_SCHEDULER_PENDING_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_SCHEDULER_WAIT_TIME_AVG;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_SCHEDULER_WAIT_TIME_MAX;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_SCHEDULER_WAIT_TIME_P99;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_SCHEDULER_WEIGHT;
+import static com.hazelcast.internal.metrics.ProbeUnit.US;
+import static com.hazelcast.internal.util.Preconditions.checkHasText;
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
+
+/**
+ * A class of operations scheduled by the {@link WeightedOperationQueue}. The
+ * operations of a class get their own queue on every partition thread and
+ * share the partition thread time with the other classes in proportion to the
+ * weight of the class.
+ * <p>
+ * A class is shared by all partition threads, it keeps the metrics of its
+ * queues.
+ */
+final class SchedulingClass {
+
+    /**
+     * The name of the class of all operations not matched by another class.
+     */
+    static final String DEFAULT_CLASS_NAME = "default";
+
+    private static final double P99 = 0.99;
+
+    private final String name;
+    @Probe(name = OPERATION_METRIC_SCHEDULER_WEIGHT)
+    private final int weight;
+    private final Counter enqueuedCount = newMwCounter();
+    private final LatencyDistribution waitTimes = new LatencyDistribution();
+
+    SchedulingClass(String name, int weight) {
+        this.name = checkHasText(name, "name can't be null or empty");
+        this.weight = checkPositive("weight", weight);
+    }
+
+    /**
+     * Parses the value of the
+     * {@link com.hazelcast.spi.properties.ClusterProperty#OPERATION_SCHEDULER_WEIGHTS}
+     * property. The default class is always the first one, its weight is 1
+     * unless an entry named {@value #DEFAULT_CLASS_NAME} is given.
+     *
+     * @param weights the comma separated list of {@code name=weight} entries
+     * @return the classes, or an empty list if the weights are empty
+     * @throws IllegalArgumentException if the weights can't be parsed
+     */
+    static List<SchedulingClass> parse(String weights) {
+        List<SchedulingClass> classes = new ArrayList<>();
+        if (weights == null || weights.trim().isEmpty()) {
+            return classes;
+        }
+
+        Map<String, Integer> weightByName = new LinkedHashMap<>();
+        for (String entry : weights.split(",")) {
+            int separator = entry.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid operation scheduler weight '" + entry
+                        + "', expected name=weight");
+            }
+            String name = entry.substring(0, separator).trim();
+            int weight;
+            try {
+                weight = Integer.parseInt(entry.substring(separator + 1).trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid operation scheduler weight '" + entry
+                        + "', expected name=weight", e);
+            }
+            if (weightByName.put(name, weight) != null) {
+                throw new IllegalArgumentException("Duplicate operation scheduler weight for '" + name + "'");
+            }
+        }
+
+        Integer defaultWeight = weightByName.remove(DEFAULT_CLASS_NAME);
+        classes.add(new SchedulingClass(DEFAULT_CLASS_NAME, defaultWeight == null ? 1 : defaultWeight));
+        for (Map.Entry<String, Integer> entry : weightByName.entrySet()) {
+            classes.add(new SchedulingClass(entry.getKey(), entry.getValue()));
+        }
+        return classes;
+    }
+
+    String name() {
+        return name;
+    }
+
+    int weight() {
+        return weight;
+    }
+
+    void onEnqueued() {
+        enqueuedCount.inc();
+    }
+
+    void onDequeued(long waitNanos) {
+        waitTimes.recordNanos(waitNanos);
+    }
+
+    @Probe(name = OPERATION_METRIC_SCHEDULER_PENDING_COUNT)
+    long pendingCount() {
+        return Math.max(0, enqueuedCount.get() - waitTimes.count());
+    }
+
+    @Probe(name = OPERATION_METRIC_SCHEDULER_COMPLETED_COUNT)
+    long completedCount() {
+        return waitTimes.count();
+    }
+
+    @Probe(name = OPERATION_METRIC_SCHEDULER_WAIT_TIME_AVG, unit = US)
+    long waitTimeAvgMicros() {
+        return waitTimes.avgMicros();
+    }
+
+    @Probe(name = OPERATION_METRIC_SCHEDULER_WAIT_TIME_MAX, unit = US)
+    long waitTimeMaxMicros() {
+        return waitTimes.maxMicros();
+    }
+
+    @Probe(name = OPERATION_METRIC_SCHEDULER_WAIT_TIME_P99, unit = US)
+    long waitTimeP99Micros() {
+        return Math.max(0, waitTimes.percentileMaxUs(P99));
+    }
+
+    @Override
+    public String toString() {
+        return "SchedulingClass{name='" + name + "', weight=" + weight + '}';
+    }
+}
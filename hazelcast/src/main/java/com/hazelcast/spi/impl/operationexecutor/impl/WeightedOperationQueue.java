@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationexecutor.impl;
+
+import com.hazelcast.internal.util.concurrent.IdleStrategy;
+import com.hazelcast.internal.util.concurrent.MPSCArrayQueue;
+import com.hazelcast.spi.impl.operationservice.NamedOperation;
+import com.hazelcast.spi.impl.operationservice.Operation;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static com.hazelcast.spi.impl.operationexecutor.impl.OperationQueueImpl.TRIGGER_TASK;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * An {@link OperationQueue} for a {@link PartitionOperationThread} that keeps
+ * a queue per {@link SchedulingClass} and serves these queues with deficit
+ * round robin.
+ * <p>
+ * Every time a queue is visited it is credited a quantum of partition thread
+ * time in proportion to the weight of its class, and it is served as long as
+ * it has credit left. The time a task runs is only known once the partition
+ * thread comes back to take the next task, so it is charged afterwards. A
+ * queue can therefore go into debt, e.g. after a long running entry
+ * processor, and has to wait for a few rounds until it is served again.
+ * <p>
+ * The producers add a {@link OperationQueueImpl#TRIGGER_TASK} to a blocking
+ * queue for every task, so the partition thread blocks when there is nothing
+ * to do. Priority tasks are always taken first, like in the
+ * {@link OperationQueueImpl}.
+ * <p>
+ * The partition thread counts the triggers it took and the tasks it returned.
+ * A task can be returned before its trigger is taken, e.g. a priority task,
+ * and a trigger can be taken before its task is visible: a producer can claim
+ * a slot in a queue but not have written its task yet, and the tasks behind
+ * that slot aren't visible until it does. If more triggers were taken than
+ * tasks were returned and no task is visible, the partition thread takes the
+ * next trigger: the producer adds it once it has written its task, so the
+ * partition thread waits the way the trigger queue does, with the configured
+ * {@link IdleStrategy} or by blocking.
+ * <p>
+ * Operations received from other members arrive as packets and are only
+ * deserialized on the partition thread, so they are added to the default
+ * class. The {@link OperationThread} deserializes them when they are taken
+ * and adds them again in the queue of their class, see
+ * {@link #classIndex(Object)}.
+ */
+final class WeightedOperationQueue implements OperationQueue {
+
+    static final long QUANTUM_NANOS = MICROSECONDS.toNanos(100);
+
+    // limits the debt of a queue, so a single very long running task doesn't
+    // block its queue for an unbounded number of rounds
+    static final int MAX_DEBT_QUANTA = 16;
+
+    private final MPSCArrayQueue<Object> triggerQueue;
+    private final MPSCArrayQueue<Object> priorityQueue;
+    private final SchedulingClass[] classes;
+    private final MPSCArrayQueue<PendingTask>[] queues;
+    private final Map<String, Integer> classIndexByName;
+    private final LongSupplier nanoClock;
+
+    // only accessed by the consumer thread
+    private final long[] deficitNanos;
+    private int current;
+    private int lastClassIndex = -1;
+    private long lastTakeNanos;
+    // the number of triggers taken minus the number of tasks returned
+    private int unmatchedTriggers;
+
+    WeightedOperationQueue(List<SchedulingClass> classes, IdleStrategy idleStrategy) {
+        this(classes, idleStrategy, System::nanoTime);
+    }
+
+    @SuppressWarnings("unchecked")
+    WeightedOperationQueue(List<SchedulingClass> classes, IdleStrategy idleStrategy, LongSupplier nanoClock) {
+        this.classes = classes.toArray(new SchedulingClass[0]);
+        this.triggerQueue = new MPSCArrayQueue<>(idleStrategy);
+        this.priorityQueue = new MPSCArrayQueue<>(null);
+        this.queues = new MPSCArrayQueue[this.classes.length];
+        this.classIndexByName = new HashMap<>();
+        for (int k = 0; k < this.classes.length; k++) {
+            queues[k] = new MPSCArrayQueue<>(null);
+            classIndexByName.put(this.classes[k].name(), k);
+        }
+        this.deficitNanos = new long[this.classes.length];
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Sets the consumer thread. Should be called before the queue is safely
+     * published.
+     *
+     * @param consumerThread the consumer thread
+     */
+    void setConsumerThread(Thread consumerThread) {
+        triggerQueue.setConsumerThread(consumerThread);
+        priorityQueue.setConsumerThread(consumerThread);
+        for (MPSCArrayQueue<PendingTask> queue : queues) {
+            queue.setConsumerThread(consumerThread);
+        }
+    }
+
+    @Override
+    public void add(Object task, boolean priority) {
+        checkNotNull(task, "task can't be null");
+
+        if (priority) {
+            priorityQueue.add(task);
+        } else {
+            int classIndex = classIndex(task);
+            queues[classIndex].add(new PendingTask(task, nanoClock.getAsLong()));
+            classes[classIndex].onEnqueued();
+        }
+        triggerQueue.add(TRIGGER_TASK);
+    }
+
+    /**
+     * Returns the index of the class of the task. Data structure names take
+     * precedence over service names. Anything else than an {@link Operation},
+     * e.g. an operation packet received from another member, belongs to the
+     * default class with the index 0.
+     */
+    int classIndex(Object task) {
+        if (!(task instanceof Operation)) {
+            return 0;
+        }
+
+        Integer index = null;
+        if (task instanceof NamedOperation) {
+            String name = ((NamedOperation) task).getName();
+            if (name != null) {
+                index = classIndexByName.get(name);
+            }
+        }
+        if (index == null) {
+            String serviceName = ((Operation) task).getServiceName();
+            if (serviceName != null) {
+                index = classIndexByName.get(serviceName);
+            }
+        }
+        return index == null ? 0 : index;
+    }
+
+    @Override
+    public Object take(boolean priorityOnly) throws InterruptedException {
+        if (priorityOnly) {
+            throw new UnsupportedOperationException("Priority only take is not supported by partition threads");
+        }
+
+        chargeLastTask();
+
+        for (; ; ) {
+            Object priorityItem = priorityQueue.poll();
+            if (priorityItem != null) {
+                unmatchedTriggers--;
+                return priorityItem;
+            }
+
+            if (unmatchedTriggers <= 0) {
+                // there is a trigger for every task, so we only block when there is nothing to do
+                triggerQueue.take();
+                unmatchedTriggers++;
+                continue;
+            }
+
+            PendingTask pending = pollWeighted();
+            if (pending != null) {
+                unmatchedTriggers--;
+                long now = nanoClock.getAsLong();
+                classes[lastClassIndex].onDequeued(now - pending.enqueueNanos);
+                lastTakeNanos = now;
+                return pending.task;
+            }
+
+            // a task was added, but a producer didn't finish writing a task before it yet,
+            // that producer adds a trigger when it's done
+            triggerQueue.take();
+            unmatchedTriggers++;
+        }
+    }
+
+    private void chargeLastTask() {
+        if (lastClassIndex < 0) {
+            return;
+        }
+
+        long maxDebtNanos = MAX_DEBT_QUANTA * quantumNanos(lastClassIndex);
+        long deficit = deficitNanos[lastClassIndex] - (nanoClock.getAsLong() - lastTakeNanos);
+        deficitNanos[lastClassIndex] = Math.max(deficit, -maxDebtNanos);
+        lastClassIndex = -1;
+    }
+
+    private PendingTask pollWeighted() {
+        int visited = 0;
+        boolean pendingInDebt = false;
+        for (; ; ) {
+            MPSCArrayQueue<PendingTask> queue = queues[current];
+            if (deficitNanos[current] > 0) {
+                PendingTask pending = queue.poll();
+                if (pending != null) {
+                    lastClassIndex = current;
+                    return pending;
+                }
+                // an empty queue doesn't keep its credit
+                deficitNanos[current] = 0;
+            } else if (queue.peek() != null) {
+                pendingInDebt = true;
+            }
+
+            current = current + 1 == queues.length ? 0 : current + 1;
+            deficitNanos[current] += quantumNanos(current);
+
+            if (++visited == queues.length) {
+                if (!pendingInDebt) {
+                    return null;
+                }
+                // all pending tasks are in queues that are in debt, another round pays it off
+                visited = 0;
+                pendingInDebt = false;
+            }
+        }
+    }
+
+    private long quantumNanos(int classIndex) {
+        return classes[classIndex].weight() * QUANTUM_NANOS;
+    }
+
+    @Override
+    public int normalSize() {
+        int size = 0;
+        for (MPSCArrayQueue<PendingTask> queue : queues) {
+            size += queue.size();
+        }
+        return size;
+    }
+
+    @Override
+    public int prioritySize() {
+        return priorityQueue.size();
+    }
+
+    @Override
+    public int size() {
+        return normalSize() + prioritySize();
+    }
+
+    private static final class PendingTask {
+        final Object task;
+        final long enqueueNanos;
+
+        PendingTask(Object task, long enqueueNanos) {
+            this.task = task;
+            this.enqueueNanos = enqueueNanos;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import com.hazelcast.internal.util.ThreadLocalRandomProvider;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.impl.operationservice.BackupAwareOperation;
 import com.hazelcast.spi.impl.operationservice.UrgentSystemOperation;
+import com.hazelcast.spi.impl.sequence.AdaptiveConcurrencyLimit;
 import com.hazelcast.spi.impl.sequence.CallIdFactory;
 import com.hazelcast.spi.impl.sequence.CallIdSequence;
 import com.hazelcast.spi.properties.HazelcastProperties;
@@ -28,6 +29,8 @@ import com.hazelcast.spi.properties.HazelcastProperties;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_ADAPTIVE_LATENCY_THRESHOLD_MILLIS;
+import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_ADAPTIVE_QUEUE_DEPTH_THRESHOLD;
 import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_BACKOFF_TIMEOUT_MILLIS;
 import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_MAX_CONCURRENT_INVOCATIONS_PER_PARTITION;
@@ -37,6 +40,7 @@ import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_COUNT;
 import static java.lang.Math.max;
 import static java.lang.Math.round;
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.MINUTES;
 
 /**
@@ -63,6 +67,9 @@ import static java.util.concurrent.TimeUnit.MINUTES;
  * overloaded.
  * </li>
  * </ol>
+ * <p>
+ * Optionally the maximum number of concurrent invocations adapts to the observed latency of the invocations,
+ * see {@link AdaptiveConcurrencyLimit}.
  */
 class BackpressureRegulator {
 
@@ -78,6 +85,8 @@ class BackpressureRegulator {
     private final int partitionCount;
     private final int maxConcurrentInvocations;
     private final int backoffTimeoutMs;
+    private final long adaptiveLatencyThresholdMs;
+    private final int adaptiveQueueDepthThreshold;
 
     BackpressureRegulator(HazelcastProperties properties, ILogger logger) {
         this.enabled = properties.getBoolean(BACKPRESSURE_ENABLED);
@@ -87,11 +96,15 @@ class BackpressureRegulator {
         this.syncCountdown.set(syncWindow);
         this.maxConcurrentInvocations = getMaxConcurrentInvocations(properties);
         this.backoffTimeoutMs = getBackoffTimeoutMs(properties);
+        this.adaptiveLatencyThresholdMs = properties.getMillis(BACKPRESSURE_ADAPTIVE_LATENCY_THRESHOLD_MILLIS);
+        this.adaptiveQueueDepthThreshold = properties.getInteger(BACKPRESSURE_ADAPTIVE_QUEUE_DEPTH_THRESHOLD);
 
         if (enabled) {
             logger.info("Backpressure is enabled"
                     + ", maxConcurrentInvocations:" + maxConcurrentInvocations
-                    + ", syncWindow: " + syncWindow);
+                    + ", syncWindow: " + syncWindow
+                    + (isAdaptive() ? ", adaptiveLatencyThresholdMs: " + adaptiveLatencyThresholdMs
+                    + ", adaptiveQueueDepthThreshold: " + adaptiveQueueDepthThreshold : ""));
 
             int backupTimeoutMillis = properties.getInteger(OPERATION_BACKUP_TIMEOUT_MILLIS);
             if (backupTimeoutMillis < MINUTES.toMillis(1)) {
@@ -159,7 +172,18 @@ class BackpressureRegulator {
     }
 
     CallIdSequence newCallIdSequence(ConcurrencyDetection concurrencyDetection) {
-        return CallIdFactory.newCallIdSequence(maxConcurrentInvocations, backoffTimeoutMs, concurrencyDetection);
+        AdaptiveConcurrencyLimit adaptiveLimit = null;
+        if (isAdaptive()) {
+            // at least a single invocation per partition and one for the generic operations
+            adaptiveLimit = new AdaptiveConcurrencyLimit(partitionCount + 1, maxConcurrentInvocations,
+                    MILLISECONDS.toNanos(adaptiveLatencyThresholdMs), adaptiveQueueDepthThreshold);
+        }
+        return CallIdFactory.newCallIdSequence(maxConcurrentInvocations, backoffTimeoutMs, concurrencyDetection,
+                adaptiveLimit);
+    }
+
+    private boolean isAdaptive() {
+        return enabled && adaptiveLatencyThresholdMs > 0;
     }
 
     /**
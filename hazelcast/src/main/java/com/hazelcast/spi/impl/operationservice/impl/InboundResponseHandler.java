@@ -32,6 +32,7 @@ import java.util.function.Consumer;
 
 import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
 import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
+import static com.hazelcast.internal.nio.Packet.FLAG_OP_BATCH;
 import static com.hazelcast.internal.nio.Packet.FLAG_OP_RESPONSE;
 import static com.hazelcast.internal.nio.Packet.Type.OPERATION;
 import static com.hazelcast.spi.impl.SpiDataSerializerHook.BACKUP_ACK_RESPONSE;
@@ -80,6 +81,14 @@ public final class InboundResponseHandler implements Consumer<Packet> {
         checkTrue(packet.getPacketType() == OPERATION, "Packet type is not OPERATION");
         checkTrue(packet.isFlagRaised(FLAG_OP_RESPONSE), "FLAG_OP_RESPONSE is not set");
 
+        if (packet.isFlagRaised(FLAG_OP_BATCH)) {
+            PacketBatch.forEachPayload(packet, payload -> accept(new Packet(payload, -1)
+                    .setPacketType(OPERATION)
+                    .raiseFlags(FLAG_OP_RESPONSE)
+                    .setConn(packet.getConn())));
+            return;
+        }
+
         byte[] bytes = packet.toByteArray();
         int typeId = Bits.readInt(bytes, OFFSET_TYPE_ID, useBigEndian);
         long callId = Bits.readLong(bytes, OFFSET_CALL_ID, useBigEndian);
@@ -26,6 +26,7 @@ import com.hazelcast.instance.impl.Node;
 import com.hazelcast.instance.impl.NodeState;
 import com.hazelcast.internal.cluster.ClusterClock;
 import com.hazelcast.internal.cluster.ClusterService;
+import com.hazelcast.internal.networking.Channel;
 import com.hazelcast.internal.nio.Connection;
 import com.hazelcast.internal.nio.Packet;
 import com.hazelcast.internal.partition.InternalPartitionService;
@@ -33,6 +34,7 @@ import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.server.Server;
 import com.hazelcast.internal.server.ServerConnection;
 import com.hazelcast.internal.server.ServerConnectionManager;
+import com.hazelcast.internal.server.tcp.TcpServerConnection;
 import com.hazelcast.internal.util.Clock;
 import com.hazelcast.internal.util.counters.MwCounter;
 import com.hazelcast.internal.util.executor.ManagedExecutorService;
@@ -126,6 +128,11 @@ public abstract class Invocation<T> extends BaseInvocation implements OperationR
     @SuppressWarnings("checkstyle:visibilitymodifier")
     public final long firstInvocationTimeNanos = System.nanoTime();
 
+    /**
+     * The time in nanoseconds the last attempt of the invocation got executed.
+     */
+    volatile long attemptTimeNanos;
+
     /**
      * A flag to prevent multiple responses to be send to the invocation (only needed for local operations).
      */
@@ -170,7 +177,8 @@ public abstract class Invocation<T> extends BaseInvocation implements OperationR
      * The connection endpoint which operation is sent through to the {@link #targetAddress}.
      * It can be null if invocation is local or there's no established connection to the target yet.
      * <p>
-     * Used mainly for logging/diagnosing the invocation.
+     * Used mainly for logging/diagnosing the invocation and to sample the depth of the
+     * queue towards the target, see {@link #getChannel()}.
      */
     private Connection connection;
     /**
@@ -552,6 +560,7 @@ public abstract class Invocation<T> extends BaseInvocation implements OperationR
         }
 
         invokeCount++;
+        attemptTimeNanos = System.nanoTime();
 
         setInvocationTime(op, context.clusterClock.getClusterTime());
 
@@ -587,6 +596,7 @@ public abstract class Invocation<T> extends BaseInvocation implements OperationR
     }
 
     private void doInvokeLocal(boolean isAsync) {
+        connection = null;
         if (op.getCallerUuid() == null) {
             op.setCallerUuid(context.node.getThisUuid());
         }
@@ -607,7 +617,11 @@ public abstract class Invocation<T> extends BaseInvocation implements OperationR
         ServerConnection connection = connectionManager.getOrConnect(targetAddress, op.getPartitionId());
         this.connection = connection;
         boolean write;
-        if (connection != null) {
+        if (connection != null && context.outboundOperationBatcher != null
+                && context.outboundOperationBatcher.isBatchable(op)) {
+            context.outboundOperationBatcher.send(this, connection);
+            return;
+        } else if (connection != null) {
             write = context.outboundOperationHandler.send(op, connection);
         } else {
             write = context.outboundOperationHandler.send(op, targetAddress);
@@ -618,6 +632,15 @@ public abstract class Invocation<T> extends BaseInvocation implements OperationR
         }
     }
 
+    /**
+     * Returns the channel the last attempt of the invocation was sent over,
+     * or {@code null} if it was local or there was no connection to the target.
+     */
+    Channel getChannel() {
+        Connection connection = this.connection;
+        return connection instanceof TcpServerConnection ? ((TcpServerConnection) connection).getChannel() : null;
+    }
+
     private String getPacketNotSentMessage(Connection connection) {
         if (connection == null) {
             return "Packet not sent to -> " + targetAddress + ", there is no available connection";
@@ -849,6 +872,8 @@ public abstract class Invocation<T> extends BaseInvocation implements OperationR
         final InternalSerializationService serializationService;
         final Address thisAddress;
         final OutboundOperationHandler outboundOperationHandler;
+        // null if operation batching is disabled
+        final OutboundOperationBatcher outboundOperationBatcher;
         final ServerConnectionManager defaultServerConnectionManager;
 
         @SuppressWarnings("checkstyle:parameternumber")
@@ -870,6 +895,7 @@ public abstract class Invocation<T> extends BaseInvocation implements OperationR
                 InternalSerializationService serializationService,
                 Address thisAddress,
                 OutboundOperationHandler outboundOperationHandler,
+                OutboundOperationBatcher outboundOperationBatcher,
                 ServerConnectionManager connectionManager) {
             this.asyncExecutor = asyncExecutor;
             this.clusterClock = clusterClock;
@@ -889,6 +915,7 @@ public abstract class Invocation<T> extends BaseInvocation implements OperationR
             this.serializationService = serializationService;
             this.thisAddress = thisAddress;
             this.outboundOperationHandler = outboundOperationHandler;
+            this.outboundOperationBatcher = outboundOperationBatcher;
             this.defaultServerConnectionManager = connectionManager;
         }
     }
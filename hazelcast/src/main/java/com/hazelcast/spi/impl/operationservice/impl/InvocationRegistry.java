@@ -26,6 +26,7 @@ import com.hazelcast.internal.metrics.StaticMetricsProvider;
 import com.hazelcast.internal.util.LatencyDistribution;
 import com.hazelcast.internal.util.RuntimeAvailableProcessors;
 import com.hazelcast.logging.ILogger;
+import com.hazelcast.spi.impl.operationservice.BlockingOperation;
 import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.spi.impl.operationservice.impl.operations.PartitionIteratingOperation;
 import com.hazelcast.spi.impl.sequence.CallIdSequence;
@@ -155,7 +156,12 @@ public class InvocationRegistry implements Iterable<Invocation>, StaticMetricsPr
             return false;
         }
         invocations.remove(invocation.op.getCallId());
-        callIdSequence.complete();
+        if (invocation.op instanceof BlockingOperation) {
+            // the latency of a blocking operation doesn't tell anything about the load
+            callIdSequence.complete();
+        } else {
+            callIdSequence.complete(invocation.attemptTimeNanos, invocation.getChannel());
+        }
         return true;
     }
 
@@ -451,13 +451,7 @@ class OperationRunnerImpl extends OperationRunner implements StaticMetricsProvid
         Address caller = connection.getRemoteAddress();
         Operation op = null;
         try {
-            Object object = nodeEngine.toObject(packet);
-            op = (Operation) object;
-            op.setNodeEngine(nodeEngine);
-            setCallerAddress(op, caller);
-            setConnection(op, connection);
-            setCallerUuidIfNotSet(caller, op);
-            setOperationResponseHandler(op);
+            op = deserialize(packet, connection, caller);
 
             if (!ensureValidMember(op)) {
                 return false;
@@ -468,11 +462,7 @@ class OperationRunnerImpl extends OperationRunner implements StaticMetricsProvid
             }
             return run(op, startNanos);
         } catch (Throwable throwable) {
-            // If exception happens we need to extract the callId from the bytes directly!
-            long callId = extractOperationCallId(packet);
-            outboundResponseHandler.send(connection.getConnectionManager(), caller,
-                    new ErrorResponse(throwable, callId, packet.isUrgent()));
-            logOperationDeserializationException(throwable, callId);
+            sendDeserializationError(packet, connection, caller, throwable);
             throw ExceptionUtil.rethrow(throwable);
         } finally {
             if (op != null) {
@@ -484,6 +474,38 @@ class OperationRunnerImpl extends OperationRunner implements StaticMetricsProvid
         }
     }
 
+    @Override
+    public Operation toOperation(Packet packet) throws Exception {
+        ServerConnection connection = packet.getConn();
+        Address caller = connection.getRemoteAddress();
+        try {
+            Operation op = deserialize(packet, connection, caller);
+            return ensureValidMember(op) ? op : null;
+        } catch (Throwable throwable) {
+            sendDeserializationError(packet, connection, caller, throwable);
+            throw ExceptionUtil.rethrow(throwable);
+        }
+    }
+
+    private Operation deserialize(Packet packet, ServerConnection connection, Address caller) {
+        Operation op = nodeEngine.toObject(packet);
+        op.setNodeEngine(nodeEngine);
+        setCallerAddress(op, caller);
+        setConnection(op, connection);
+        setCallerUuidIfNotSet(caller, op);
+        setOperationResponseHandler(op);
+        return op;
+    }
+
+    private void sendDeserializationError(Packet packet, ServerConnection connection, Address caller, Throwable throwable)
+            throws IOException {
+        // If exception happens we need to extract the callId from the bytes directly!
+        long callId = extractOperationCallId(packet);
+        outboundResponseHandler.send(connection.getConnectionManager(), caller,
+                new ErrorResponse(throwable, callId, packet.isUrgent()));
+        logOperationDeserializationException(throwable, callId);
+    }
+
     /**
      * This method has a direct dependency on how objects are serialized.
      * If the stream format is changed, this extraction method must be changed as well.
@@ -80,7 +80,9 @@ import static com.hazelcast.spi.impl.operationservice.Operations.isWanReplicatio
 import static com.hazelcast.spi.properties.ClusterProperty.FAIL_ON_INDETERMINATE_OPERATION_STATE;
 import static com.hazelcast.spi.properties.ClusterProperty.INVOCATION_MAX_RETRY_COUNT;
 import static com.hazelcast.spi.properties.ClusterProperty.INVOCATION_RETRY_PAUSE;
+import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_BATCHING_WINDOW_MICROS;
 import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_CALL_TIMEOUT_MILLIS;
+import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_RESPONSE_BATCHING_WINDOW_MICROS;
 import static java.util.Collections.newSetFromMap;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
@@ -141,6 +143,7 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
     private final InvocationMonitor invocationMonitor;
     private final SlowOperationDetector slowOperationDetector;
     private final InboundResponseHandlerSupplier inboundResponseHandlerSupplier;
+    private final OutboundResponseBatcher outboundResponseBatcher;
     private final InternalSerializationService serializationService;
     private final int invocationMaxRetryCount;
     private final long invocationRetryPauseMillis;
@@ -164,8 +167,13 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
         this.backpressureRegulator = new BackpressureRegulator(
                 properties, node.getLogger(BackpressureRegulator.class));
 
+        long responseBatchingWindowMicros = properties.getLong(OPERATION_RESPONSE_BATCHING_WINDOW_MICROS);
+        this.outboundResponseBatcher = responseBatchingWindowMicros > 0
+                ? new OutboundResponseBatcher(nodeEngine, node.getLogger(OutboundResponseBatcher.class),
+                        responseBatchingWindowMicros)
+                : null;
         this.outboundResponseHandler = new OutboundResponseHandler(thisAddress, serializationService,
-                node.getLogger(OutboundResponseHandler.class));
+                node.getLogger(OutboundResponseHandler.class), outboundResponseBatcher);
 
         this.invocationRegistry = new InvocationRegistry(
                 node.getLogger(OperationServiceImpl.class),
@@ -490,6 +498,9 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
         logger.finest("Starting OperationService");
 
         initInvocationContext();
+        if (outboundResponseBatcher != null) {
+            nodeEngine.getClusterService().addMembershipListener(outboundResponseBatcher);
+        }
         invocationMonitor.start();
         operationExecutor.start();
         inboundResponseHandlerSupplier.start();
@@ -497,6 +508,15 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
     }
 
     private void initInvocationContext() {
+        long batchingWindowMicros = nodeEngine.getProperties().getLong(OPERATION_BATCHING_WINDOW_MICROS);
+        OutboundOperationBatcher outboundOperationBatcher = batchingWindowMicros > 0
+                ? new OutboundOperationBatcher(serializationService, nodeEngine.getExecutionService(),
+                        nodeEngine.getClusterService(), nodeEngine.getPartitionService().getPartitionCount(),
+                        batchingWindowMicros)
+                : null;
+        if (outboundOperationBatcher != null) {
+            node.getServer().addConnectionListener(outboundOperationBatcher);
+        }
         this.invocationContext = new Invocation.Context(
                 nodeEngine.getExecutionService().getExecutor(ExecutionService.ASYNC_EXECUTOR),
                 nodeEngine.getClusterService().getClusterClock(),
@@ -516,6 +536,7 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
                 serializationService,
                 nodeEngine.getThisAddress(),
                 outboundOperationHandler,
+                outboundOperationBatcher,
                 node.getServer().getConnectionManager(EndpointQualifier.MEMBER));
     }
 
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import com.hazelcast.internal.cluster.ClusterService;
+import com.hazelcast.internal.cluster.Versions;
+import com.hazelcast.internal.nio.ConnectionListener;
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.server.ServerConnection;
+import com.hazelcast.spi.exception.RetryableIOException;
+import com.hazelcast.spi.impl.executionservice.ExecutionService;
+import com.hazelcast.spi.impl.operationservice.Operation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.hazelcast.internal.nio.Packet.FLAG_OP_BATCH;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Coalesces operations sent over the same connection to the same partition
+ * within a short window into a single {@link Packet#FLAG_OP_BATCH batch packet}.
+ * The target member runs the operations of a batch one after the other as a
+ * single task of the partition thread.
+ * <p>
+ * The window is only used under load: an operation is written right away,
+ * together with the ones already batched for its partition, if nothing is
+ * waiting to be written to the connection.
+ * <p>
+ * Each operation is serialized when it's added to a batch, so a batch is not
+ * affected by an invocation being retried or completed in the meantime.
+ * <p>
+ * Batches are only sent once all members of the cluster can run them, that
+ * is when the cluster version is at least {@link Versions#V5_1}. The
+ * batches of a connection are dropped when the connection is closed.
+ *
+ * @see com.hazelcast.spi.properties.ClusterProperty#OPERATION_BATCHING_WINDOW_MICROS
+ */
+class OutboundOperationBatcher implements ConnectionListener<ServerConnection> {
+
+    /**
+     * The number of operations after which a batch is sent without waiting
+     * for the window to elapse.
+     */
+    static final int MAX_BATCH_SIZE = 64;
+
+    private final InternalSerializationService serializationService;
+    private final ExecutionService executionService;
+    private final ClusterService clusterService;
+    private final long windowMicros;
+    private final ConcurrentMap<ServerConnection, PendingBatch[]> batches = new ConcurrentHashMap<>();
+    private final int partitionCount;
+
+    OutboundOperationBatcher(InternalSerializationService serializationService, ExecutionService executionService,
+                             ClusterService clusterService, int partitionCount, long windowMicros) {
+        this.serializationService = serializationService;
+        this.executionService = executionService;
+        this.clusterService = clusterService;
+        this.partitionCount = partitionCount;
+        this.windowMicros = windowMicros;
+    }
+
+    /**
+     * Checks if the operation can be sent in a batch.
+     */
+    boolean isBatchable(Operation op) {
+        return op.getPartitionId() >= 0 && !op.isUrgent()
+                && clusterService.getClusterVersion().isGreaterOrEqual(Versions.V5_1);
+    }
+
+    /**
+     * Adds the operation of the given invocation to the batch for its
+     * partition and the given connection. If the batch can't be sent, the
+     * invocation is notified with a {@link RetryableIOException}.
+     */
+    void send(Invocation invocation, ServerConnection connection) {
+        byte[] bytes = serializationService.toBytes(invocation.op);
+        PendingBatch[] connectionBatches = batches.computeIfAbsent(connection, c -> new PendingBatch[partitionCount]);
+        int partitionId = invocation.op.getPartitionId();
+        PendingBatch batch = connectionBatches[partitionId];
+        if (batch == null) {
+            synchronized (connectionBatches) {
+                batch = connectionBatches[partitionId];
+                if (batch == null) {
+                    batch = new PendingBatch(connection, partitionId);
+                    connectionBatches[partitionId] = batch;
+                }
+            }
+        }
+        batch.add(invocation, bytes, PacketBatch.isIdle(connection));
+    }
+
+    @Override
+    public void connectionAdded(ServerConnection connection) {
+    }
+
+    @Override
+    public void connectionRemoved(ServerConnection connection) {
+        batches.remove(connection);
+    }
+
+    private final class PendingBatch implements Runnable {
+        private final ServerConnection connection;
+        private final int partitionId;
+        private List<Invocation> invocations = new ArrayList<>();
+        private List<byte[]> operations = new ArrayList<>();
+        private boolean flushScheduled;
+
+        PendingBatch(ServerConnection connection, int partitionId) {
+            this.connection = connection;
+            this.partitionId = partitionId;
+        }
+
+        void add(Invocation invocation, byte[] bytes, boolean connectionIdle) {
+            List<Invocation> failedInvocations = null;
+            synchronized (this) {
+                invocations.add(invocation);
+                operations.add(bytes);
+                if (connectionIdle || operations.size() >= MAX_BATCH_SIZE) {
+                    failedInvocations = flush();
+                } else if (!flushScheduled) {
+                    flushScheduled = true;
+                    executionService.schedule(this, windowMicros, MICROSECONDS);
+                }
+            }
+            notifyFailed(failedInvocations);
+        }
+
+        @Override
+        public void run() {
+            List<Invocation> failedInvocations;
+            synchronized (this) {
+                flushScheduled = false;
+                failedInvocations = flush();
+            }
+            notifyFailed(failedInvocations);
+        }
+
+        /**
+         * Writes the pending operations. It's called with the lock held, so
+         * that the batches of a partition are written in the order the
+         * operations were added. Returns the invocations to notify if the
+         * write failed, they are notified after the lock is released.
+         */
+        private List<Invocation> flush() {
+            if (operations.isEmpty()) {
+                return null;
+            }
+            List<Invocation> pendingInvocations = invocations;
+            Packet packet = toPacket(operations);
+            invocations = new ArrayList<>();
+            operations = new ArrayList<>();
+            if (connection.write(packet)) {
+                return null;
+            }
+            if (!connection.isAlive()) {
+                batches.remove(connection);
+            }
+            return pendingInvocations;
+        }
+
+        private void notifyFailed(List<Invocation> failedInvocations) {
+            if (failedInvocations == null) {
+                return;
+            }
+            for (Invocation invocation : failedInvocations) {
+                invocation.notifyError(new RetryableIOException("Packet not sent to -> "
+                        + connection.getRemoteAddress() + " over " + connection));
+            }
+        }
+
+        private Packet toPacket(List<byte[]> pendingOperations) {
+            if (pendingOperations.size() == 1) {
+                return new Packet(pendingOperations.get(0), partitionId).setPacketType(Packet.Type.OPERATION);
+            }
+            byte[] payload = PacketBatch.toPayload(pendingOperations);
+            return new Packet(payload, partitionId)
+                    .setPacketType(Packet.Type.OPERATION)
+                    .raiseFlags(FLAG_OP_BATCH);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.cluster.MembershipEvent;
+import com.hazelcast.cluster.MembershipListener;
+import com.hazelcast.internal.cluster.Versions;
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.server.ServerConnection;
+import com.hazelcast.internal.server.ServerConnectionManager;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.spi.impl.NodeEngine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.hazelcast.internal.nio.Packet.FLAG_OP_BATCH;
+import static com.hazelcast.internal.nio.Packet.FLAG_OP_RESPONSE;
+import static com.hazelcast.internal.nio.Packet.Type.OPERATION;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Coalesces the responses and backup acks sent to the same member within a
+ * short window into a single {@link Packet#FLAG_OP_BATCH batch packet}, which
+ * the {@link InboundResponseHandler} of the target member splits again.
+ * <p>
+ * A batch is sent when the window elapses, or sooner if it reaches
+ * {@link #MAX_BATCH_SIZE} responses or {@link #MAX_BATCH_BYTES} bytes. The
+ * window is only used under load: a response is sent right away, together
+ * with the ones already batched for its target, if nothing is waiting to be
+ * written to the connection.
+ * Batches are only sent once the cluster version is at least
+ * {@link Versions#V5_1}, and the batches for a member are dropped when it
+ * leaves the cluster.
+ *
+ * @see com.hazelcast.spi.properties.ClusterProperty#OPERATION_RESPONSE_BATCHING_WINDOW_MICROS
+ */
+class OutboundResponseBatcher implements MembershipListener {
+
+    static final int MAX_BATCH_SIZE = 64;
+    static final int MAX_BATCH_BYTES = 64 * 1024;
+
+    private final NodeEngine nodeEngine;
+    private final ILogger logger;
+    private final long windowMicros;
+    private final ConcurrentMap<ServerConnectionManager, ConcurrentMap<Address, PendingBatch>> batches =
+            new ConcurrentHashMap<>();
+
+    OutboundResponseBatcher(NodeEngine nodeEngine, ILogger logger, long windowMicros) {
+        this.nodeEngine = nodeEngine;
+        this.logger = logger;
+        this.windowMicros = windowMicros;
+    }
+
+    /**
+     * Checks if the response packet can be sent in a batch. Urgent and large
+     * responses are sent right away.
+     */
+    boolean isBatchable(Packet packet) {
+        return !packet.isUrgent() && packet.totalSize() < MAX_BATCH_BYTES
+                && nodeEngine.getClusterService().getClusterVersion().isGreaterOrEqual(Versions.V5_1);
+    }
+
+    /**
+     * Adds the response packet to the batch for the given target. If there's
+     * no live connection to the target, the packet is transmitted right away,
+     * so that the connection is established.
+     *
+     * @return the result of the transmit if the packet or its batch was
+     * transmitted, {@code true} if it was added to a batch sent later
+     */
+    boolean send(ServerConnectionManager connectionManager, Address target, Packet packet) {
+        ServerConnection connection = connectionManager.get(target);
+        if (connection == null || !connection.isAlive()) {
+            return connectionManager.transmit(packet, target, ThreadLocalRandom.current().nextInt());
+        }
+        return batches.computeIfAbsent(connectionManager, cm -> new ConcurrentHashMap<>())
+                      .computeIfAbsent(target, t -> new PendingBatch(connectionManager, target))
+                      .add(packet.toByteArray(), PacketBatch.isIdle(connection));
+    }
+
+    @Override
+    public void memberAdded(MembershipEvent membershipEvent) {
+    }
+
+    @Override
+    public void memberRemoved(MembershipEvent membershipEvent) {
+        Address address = membershipEvent.getMember().getAddress();
+        for (ConcurrentMap<Address, PendingBatch> connectionManagerBatches : batches.values()) {
+            connectionManagerBatches.remove(address);
+        }
+    }
+
+    private final class PendingBatch implements Runnable {
+        private final ServerConnectionManager connectionManager;
+        private final Address target;
+        private List<byte[]> responses = new ArrayList<>();
+        private int bytes;
+        private boolean flushScheduled;
+
+        PendingBatch(ServerConnectionManager connectionManager, Address target) {
+            this.connectionManager = connectionManager;
+            this.target = target;
+        }
+
+        boolean add(byte[] response, boolean connectionIdle) {
+            List<byte[]> responsesToSend = null;
+            synchronized (this) {
+                responses.add(response);
+                bytes += response.length;
+                if (connectionIdle || responses.size() >= MAX_BATCH_SIZE || bytes >= MAX_BATCH_BYTES) {
+                    responsesToSend = takeResponses();
+                } else if (!flushScheduled) {
+                    flushScheduled = true;
+                    nodeEngine.getExecutionService().schedule(this, windowMicros, MICROSECONDS);
+                }
+            }
+            return responsesToSend == null || transmit(responsesToSend);
+        }
+
+        @Override
+        public void run() {
+            List<byte[]> pendingResponses;
+            synchronized (this) {
+                flushScheduled = false;
+                if (responses.isEmpty()) {
+                    return;
+                }
+                pendingResponses = takeResponses();
+            }
+            transmit(pendingResponses);
+        }
+
+        private List<byte[]> takeResponses() {
+            List<byte[]> taken = responses;
+            responses = new ArrayList<>();
+            bytes = 0;
+            return taken;
+        }
+
+        private boolean transmit(List<byte[]> pendingResponses) {
+            Packet packet;
+            if (pendingResponses.size() == 1) {
+                packet = new Packet(pendingResponses.get(0), -1)
+                        .setPacketType(OPERATION)
+                        .raiseFlags(FLAG_OP_RESPONSE);
+            } else {
+                packet = new Packet(PacketBatch.toPayload(pendingResponses), -1)
+                        .setPacketType(OPERATION)
+                        .raiseFlags(FLAG_OP_RESPONSE | FLAG_OP_BATCH);
+            }
+            // see OutboundResponseHandler.transmit() for the choice of the stream ID
+            if (!connectionManager.transmit(packet, target, ThreadLocalRandom.current().nextInt())) {
+                logger.warning("Cannot send " + pendingResponses.size() + " responses to " + target);
+                return false;
+            }
+            return true;
+        }
+    }
+}
@@ -69,14 +69,24 @@ public final class OutboundResponseHandler implements OperationResponseHandler {
     private final InternalSerializationService serializationService;
     private final boolean useBigEndian;
     private final ILogger logger;
+    // null if response batching is disabled
+    private final OutboundResponseBatcher batcher;
 
     OutboundResponseHandler(Address thisAddress,
                             InternalSerializationService serializationService,
                             ILogger logger) {
+        this(thisAddress, serializationService, logger, null);
+    }
+
+    OutboundResponseHandler(Address thisAddress,
+                            InternalSerializationService serializationService,
+                            ILogger logger,
+                            OutboundResponseBatcher batcher) {
         this.thisAddress = thisAddress;
         this.serializationService = serializationService;
         this.useBigEndian = serializationService.getByteOrder() == BIG_ENDIAN;
         this.logger = logger;
+        this.batcher = batcher;
     }
 
     @Override
@@ -211,6 +221,9 @@ public final class OutboundResponseHandler implements OperationResponseHandler {
     }
 
     private boolean transmit(Address target, Packet packet, ServerConnectionManager connectionManager) {
+        if (batcher != null && batcher.isBatchable(packet)) {
+            return batcher.send(connectionManager, target, packet);
+        }
         // The response is send over an arbitrary stream id. It needs to be arbitrary so that
         // responses don't end up at stream 0 and the connection this stream belongs to, becomes
         // a bottleneck.
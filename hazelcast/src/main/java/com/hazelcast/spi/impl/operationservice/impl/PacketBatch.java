@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import com.hazelcast.internal.nio.Connection;
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.server.tcp.TcpServerConnection;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.readIntB;
+import static com.hazelcast.internal.nio.Bits.writeIntB;
+
+/**
+ * Encodes and decodes the payload of {@link Packet#FLAG_OP_BATCH batch
+ * packets}: the payloads of the batched packets, each one prefixed with its
+ * length.
+ */
+public final class PacketBatch {
+
+    private PacketBatch() {
+    }
+
+    /**
+     * Returns the payload of a batch packet containing the given payloads.
+     */
+    static byte[] toPayload(List<byte[]> payloads) {
+        int length = 0;
+        for (byte[] bytes : payloads) {
+            length += INT_SIZE_IN_BYTES + bytes.length;
+        }
+        byte[] payload = new byte[length];
+        int pos = 0;
+        for (byte[] bytes : payloads) {
+            writeIntB(payload, pos, bytes.length);
+            pos += INT_SIZE_IN_BYTES;
+            System.arraycopy(bytes, 0, payload, pos, bytes.length);
+            pos += bytes.length;
+        }
+        return payload;
+    }
+
+    /**
+     * Checks if no frames are waiting to be written to the connection. Then
+     * the IO thread would write a packet right away and a batch gains nothing
+     * by waiting for more packets. Connections other than TCP ones are never
+     * considered idle.
+     */
+    static boolean isIdle(Connection connection) {
+        return connection instanceof TcpServerConnection
+                && ((TcpServerConnection) connection).getChannel().outboundPipeline().framesPending(1) == 0;
+    }
+
+    /**
+     * Passes the payloads of the packets contained in the given batch packet
+     * to the action, in the order they were batched.
+     */
+    public static void forEachPayload(Packet batch, Consumer<byte[]> action) {
+        byte[] payload = batch.toByteArray();
+        int pos = 0;
+        while (pos < payload.length) {
+            int length = readIntB(payload, pos);
+            pos += INT_SIZE_IN_BYTES;
+            action.accept(Arrays.copyOfRange(payload, pos, pos + length));
+            pos += length;
+        }
+    }
+}
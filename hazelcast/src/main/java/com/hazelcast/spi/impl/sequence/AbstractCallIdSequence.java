@@ -16,7 +16,9 @@
 
 package com.hazelcast.spi.impl.sequence;
 
+import com.hazelcast.internal.networking.Channel;
 import com.hazelcast.internal.util.ConcurrencyDetection;
+import com.hazelcast.internal.util.Timer;
 
 import java.util.concurrent.atomic.AtomicLongArray;
 
@@ -24,6 +26,7 @@ import static com.hazelcast.internal.nio.Bits.CACHE_LINE_LENGTH;
 import static com.hazelcast.internal.nio.Bits.LONG_SIZE_IN_BYTES;
 import static com.hazelcast.internal.util.Preconditions.checkPositive;
 import static com.hazelcast.internal.util.QuickMath.modPowerOfTwo;
+import static com.hazelcast.spi.impl.sequence.AdaptiveConcurrencyLimit.UNKNOWN_QUEUE_DEPTH;
 
 /**
  * A {@link CallIdSequence} that provides backpressure by taking
@@ -36,6 +39,9 @@ import static com.hazelcast.internal.util.QuickMath.modPowerOfTwo;
  * </ul>
  * The latter cause is not a problem since the capacity is exceeded temporarily and it isn't sustainable.
  * So perhaps there are a few threads that at the same time see that the there is space and do a next.
+ * <p>
+ * With an {@link AdaptiveConcurrencyLimit}, the capacity is the current adaptive limit instead of
+ * the declared one.
  */
 public abstract class AbstractCallIdSequence implements CallIdSequence {
     private static final int INDEX_HEAD = 7;
@@ -48,12 +54,21 @@ public abstract class AbstractCallIdSequence implements CallIdSequence {
 
     private final int maxConcurrentInvocations;
     private final ConcurrencyDetection concurrencyDetection;
+    // null if the limit doesn't adapt to the latency and the queue depth
+    private final AdaptiveConcurrencyLimit adaptiveLimit;
 
     public AbstractCallIdSequence(int maxConcurrentInvocations, ConcurrencyDetection concurrencyDetection) {
+        this(maxConcurrentInvocations, concurrencyDetection, null);
+    }
+
+    public AbstractCallIdSequence(int maxConcurrentInvocations,
+                                  ConcurrencyDetection concurrencyDetection,
+                                  AdaptiveConcurrencyLimit adaptiveLimit) {
         checkPositive("maxConcurrentInvocations", maxConcurrentInvocations);
 
         this.concurrencyDetection = concurrencyDetection;
         this.maxConcurrentInvocations = maxConcurrentInvocations;
+        this.adaptiveLimit = adaptiveLimit;
     }
 
     @Override
@@ -73,7 +88,7 @@ public abstract class AbstractCallIdSequence implements CallIdSequence {
 
     @Override
     public int getMaxConcurrentInvocations() {
-        return maxConcurrentInvocations;
+        return adaptiveLimit == null ? maxConcurrentInvocations : adaptiveLimit.limit();
     }
 
     @Override
@@ -82,6 +97,22 @@ public abstract class AbstractCallIdSequence implements CallIdSequence {
         assert newTail <= longs.get(INDEX_HEAD);
     }
 
+    @Override
+    public void complete(long startNanos, Channel channel) {
+        if (adaptiveLimit != null) {
+            adaptiveLimit.onComplete(Timer.nanosElapsed(startNanos), concurrentInvocations(), queueDepth(channel));
+        }
+        complete();
+    }
+
+    private int queueDepth(Channel channel) {
+        // counting the pending frames walks the write queue, so we only sample 1 in 8 completions
+        if (channel == null || modPowerOfTwo(longs.get(INDEX_TAIL), MOD) != 0) {
+            return UNKNOWN_QUEUE_DEPTH;
+        }
+        return channel.outboundPipeline().framesPending(adaptiveLimit.queueDepthThreshold() + 1);
+    }
+
     public long forceNext() {
         long l = longs.incrementAndGet(INDEX_HEAD);
         // we don't want to check for every call, so we'll check 1 in 8 calls. If there is sufficient concurrency
@@ -97,7 +128,7 @@ public abstract class AbstractCallIdSequence implements CallIdSequence {
     }
 
     protected boolean hasSpace() {
-        return concurrentInvocations() < maxConcurrentInvocations;
+        return concurrentInvocations() < getMaxConcurrentInvocations();
     }
 
     public long concurrentInvocations() {
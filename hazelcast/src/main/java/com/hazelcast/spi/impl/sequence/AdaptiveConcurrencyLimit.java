@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.sequence;
+
+import com.hazelcast.internal.util.Timer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+import static com.hazelcast.internal.util.Preconditions.checkTrue;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * A limit of concurrent invocations that adapts to the observed latency of
+ * the invocations and to the depth of the queue towards their target in an
+ * AIMD (additive increase, multiplicative decrease) way, like TCP congestion
+ * control.
+ * <p>
+ * When an invocation completes within the latency threshold while more than
+ * half of the limit is in use, the limit grows by one. When an invocation
+ * takes longer than the threshold, or more frames than the queue depth
+ * threshold were waiting to be written to its target, the limit shrinks to a
+ * fraction of the current number of concurrent invocations. The limit shrinks
+ * at most once per latency threshold period, so a burst of slow responses
+ * caused by a single overload is only punished once.
+ * <p>
+ * The limit stays between the given minimum and maximum, it starts at the
+ * maximum.
+ */
+public final class AdaptiveConcurrencyLimit {
+
+    /**
+     * The queue depth passed to {@link #onComplete(long, long, int)} when it
+     * wasn't sampled.
+     */
+    public static final int UNKNOWN_QUEUE_DEPTH = -1;
+
+    static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final int queueDepthThreshold;
+    private final AtomicInteger limit;
+    private final AtomicLong lastDecreaseNanos;
+
+    public AdaptiveConcurrencyLimit(int minLimit, int maxLimit, long latencyThresholdNanos, int queueDepthThreshold) {
+        checkPositive("minLimit", minLimit);
+        checkTrue(maxLimit >= minLimit, "maxLimit can't be smaller than minLimit");
+        checkPositive("latencyThresholdNanos", latencyThresholdNanos);
+        checkPositive("queueDepthThreshold", queueDepthThreshold);
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.queueDepthThreshold = queueDepthThreshold;
+        this.limit = new AtomicInteger(maxLimit);
+        this.lastDecreaseNanos = new AtomicLong(Timer.nanos() - latencyThresholdNanos);
+    }
+
+    /**
+     * Returns the current limit of concurrent invocations.
+     */
+    public int limit() {
+        return limit.get();
+    }
+
+    /**
+     * Returns the number of frames waiting to be written to a target above
+     * which the target is considered overloaded.
+     */
+    public int queueDepthThreshold() {
+        return queueDepthThreshold;
+    }
+
+    /**
+     * Adapts the limit to the latency of a completed invocation and to the
+     * depth of the queue towards its target.
+     *
+     * @param latencyNanos          the latency of the invocation
+     * @param concurrentInvocations the number of concurrent invocations when it completed
+     * @param queueDepth            the number of frames waiting to be written to the target
+     *                              of the invocation, or {@link #UNKNOWN_QUEUE_DEPTH}
+     */
+    public void onComplete(long latencyNanos, long concurrentInvocations, int queueDepth) {
+        if (latencyNanos > latencyThresholdNanos || queueDepth > queueDepthThreshold) {
+            decrease(concurrentInvocations);
+        } else {
+            increase(concurrentInvocations);
+        }
+    }
+
+    private void increase(long concurrentInvocations) {
+        for (; ; ) {
+            int current = limit.get();
+            // if the limit isn't used, there is no proof that a higher limit can be handled
+            if (current >= maxLimit || 2 * concurrentInvocations < current) {
+                return;
+            }
+            if (limit.compareAndSet(current, current + 1)) {
+                return;
+            }
+        }
+    }
+
+    private void decrease(long concurrentInvocations) {
+        long now = Timer.nanos();
+        long last = lastDecreaseNanos.get();
+        if (now - last < latencyThresholdNanos || !lastDecreaseNanos.compareAndSet(last, now)) {
+            return;
+        }
+
+        for (; ; ) {
+            int current = limit.get();
+            int decreased = (int) max(minLimit, BACKOFF_RATIO * min(current, concurrentInvocations));
+            if (decreased >= current || limit.compareAndSet(current, decreased)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveConcurrencyLimit{"
+                + "limit=" + limit.get()
+                + ", minLimit=" + minLimit
+                + ", maxLimit=" + maxLimit
+                + ", latencyThresholdNanos=" + latencyThresholdNanos
+                + ", queueDepthThreshold=" + queueDepthThreshold
+                + '}';
+    }
+}
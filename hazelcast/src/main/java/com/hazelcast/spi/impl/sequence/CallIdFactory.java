@@ -27,11 +27,30 @@ public final class CallIdFactory {
             int maxConcurrentInvocations,
             long backoffTimeoutMs,
             ConcurrencyDetection concurrencyDetection) {
+        return newCallIdSequence(maxConcurrentInvocations, backoffTimeoutMs, concurrencyDetection, null);
+    }
+
+    /**
+     * Creates a new {@link CallIdSequence}.
+     *
+     * @param maxConcurrentInvocations the maximum number of concurrent invocations
+     * @param backoffTimeoutMs         the time to wait for space to become available, or 0 or less to fail fast
+     * @param concurrencyDetection     the concurrency detection, backpressure is only applied if it is enabled
+     * @param adaptiveLimit            the limit adapting to the latency of the invocations, or {@code null}
+     *                                 to use the maxConcurrentInvocations as the limit
+     * @return the created CallIdSequence
+     */
+    public static CallIdSequence newCallIdSequence(
+            int maxConcurrentInvocations,
+            long backoffTimeoutMs,
+            ConcurrencyDetection concurrencyDetection,
+            AdaptiveConcurrencyLimit adaptiveLimit) {
         if (concurrencyDetection.enabled()) {
             if (backoffTimeoutMs > 0) {
-                return new CallIdSequenceWithBackpressure(maxConcurrentInvocations, backoffTimeoutMs, concurrencyDetection);
+                return new CallIdSequenceWithBackpressure(maxConcurrentInvocations, backoffTimeoutMs, concurrencyDetection,
+                        adaptiveLimit);
             } else {
-                return new FailFastCallIdSequence(maxConcurrentInvocations, concurrencyDetection);
+                return new FailFastCallIdSequence(maxConcurrentInvocations, concurrencyDetection, adaptiveLimit);
             }
         } else {
             return new CallIdSequenceWithoutBackpressure();
@@ -16,8 +16,8 @@
 
 package com.hazelcast.spi.impl.sequence;
 
-
 import com.hazelcast.core.HazelcastOverloadException;
+import com.hazelcast.internal.networking.Channel;
 
 /**
  * Responsible for generating invocation callIds.
@@ -71,6 +71,23 @@ public interface CallIdSequence {
     /** Not idempotent: must be called exactly once per invocation. */
     void complete();
 
+    /**
+     * Same as {@link #complete()}, but also tells when the last attempt of the
+     * invocation was sent and over which channel, so a sequence with an
+     * {@link AdaptiveConcurrencyLimit} can adapt its limit to the latency of
+     * the invocation and to the depth of the queue towards its target.
+     * <p>
+     * Not idempotent: must be called exactly once per invocation, instead of
+     * {@link #complete()}.
+     *
+     * @param startNanos the {@link com.hazelcast.internal.util.Timer#nanos()} when the last attempt
+     *                   of the invocation was sent
+     * @param channel    the channel the invocation was sent over, or {@code null} if it was local
+     */
+    default void complete(long startNanos, Channel channel) {
+        complete();
+    }
+
     /** Returns the last issued call ID.
      * <strong>ONLY FOR TESTING. Must not be used for production code.</strong>
      */
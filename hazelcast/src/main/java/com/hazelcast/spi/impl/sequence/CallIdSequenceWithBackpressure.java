@@ -49,7 +49,14 @@ public final class CallIdSequenceWithBackpressure extends AbstractCallIdSequence
     public CallIdSequenceWithBackpressure(int maxConcurrentInvocations,
                                           long backoffTimeoutMs,
                                           ConcurrencyDetection concurrencyDetection) {
-        super(maxConcurrentInvocations, concurrencyDetection);
+        this(maxConcurrentInvocations, backoffTimeoutMs, concurrencyDetection, null);
+    }
+
+    public CallIdSequenceWithBackpressure(int maxConcurrentInvocations,
+                                          long backoffTimeoutMs,
+                                          ConcurrencyDetection concurrencyDetection,
+                                          AdaptiveConcurrencyLimit adaptiveLimit) {
+        super(maxConcurrentInvocations, concurrencyDetection, adaptiveLimit);
 
         checkPositive("backoffTimeoutMs", backoffTimeoutMs);
 
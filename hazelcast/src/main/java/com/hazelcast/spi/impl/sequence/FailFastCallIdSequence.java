@@ -37,6 +37,12 @@ public class FailFastCallIdSequence extends AbstractCallIdSequence {
         super(maxConcurrentInvocations, concurrencyDetection);
     }
 
+    public FailFastCallIdSequence(int maxConcurrentInvocations,
+                                  ConcurrencyDetection concurrencyDetection,
+                                  AdaptiveConcurrencyLimit adaptiveLimit) {
+        super(maxConcurrentInvocations, concurrencyDetection, adaptiveLimit);
+    }
+
     @Override
     protected void handleNoSpaceLeft() {
         throw new HazelcastOverloadException(
@@ -301,6 +301,32 @@ public final class ClusterProperty {
     public static final HazelcastProperty IO_WRITE_THROUGH_ENABLED
             = new HazelcastProperty("hazelcast.io.write.through", true);
 
+    /**
+     * Lets a connection between members, or between a member and a client,
+     * that are on the same host move its bytes through a pair of memory
+     * mapped ring buffers in {@code /dev/shm} instead of the socket. The
+     * socket is still used to set up and close the connection and to wake up
+     * a reader that is waiting for bytes or a writer that is waiting for room.
+     * <p>
+     * Waking up the other side costs a one byte socket write, so a message
+     * sent to an idle reader costs about as much as over the socket. The
+     * system calls are only saved while both sides are busy, for example
+     * with many concurrent invocations.
+     * <p>
+     * A member offers shared memory to the members it connects to and uses it
+     * when offered by the members and clients connecting to it, so clients
+     * can only use it if it is enabled on the members as well. Members and
+     * clients of an earlier version can't connect to a member that offers it.
+     * It is only used if both ends of the connection run on a JVM that gives
+     * access to the address of a direct buffer.
+     * <p>
+     * It is disabled by default.
+     *
+     * @since 5.1
+     */
+    public static final HazelcastProperty IO_SHARED_MEMORY_ENABLED
+            = new HazelcastProperty("hazelcast.io.shared.memory.enabled", false);
+
     /**
      * Property needed for concurrency detection so that write through can be
      * done correctly.
@@ -1230,6 +1256,89 @@ public final class ClusterProperty {
             = new HazelcastProperty("hazelcast.invocation.retry.pause.millis",
             InvocationBuilder.DEFAULT_TRY_PAUSE_MILLIS, MILLISECONDS);
 
+    /**
+     * The time in microseconds an operation sent to a partition owned by
+     * another member waits for more operations to the same partition. The
+     * operations collected in this window are sent in a single packet and run
+     * as a single task on the partition thread of the target member. This
+     * raises the throughput of many small asynchronous operations, such as
+     * {@code IMap.setAsync()}, at the cost of their latency. The window is
+     * only used under load: if nothing is waiting to be written to the
+     * connection, an operation is sent right away.
+     * <p>
+     * Only the operations members send to each other are batched. The
+     * requests of clients are not: the client protocol has no message
+     * carrying several requests, and the messages a client sends while its
+     * connection is busy are already written to the socket together.
+     * <p>
+     * Urgent operations are never batched. The value 0 disables batching.
+     *
+     * @since 5.1
+     */
+    public static final HazelcastProperty OPERATION_BATCHING_WINDOW_MICROS
+            = new HazelcastProperty("hazelcast.operation.batching.window.micros", 0, MICROSECONDS);
+
+    /**
+     * The time in microseconds a response or backup acknowledgement sent to
+     * another member waits for more responses to the same member. The
+     * responses collected in this window are sent in a single packet, which
+     * lowers the packet rate under many concurrent invocations at the cost
+     * of the latency of the responses. A batch is also sent as soon as it
+     * holds 64 responses or 64 KB.
+     * <p>
+     * Urgent responses are never batched. The value 0 disables batching.
+     *
+     * @since 5.1
+     */
+    public static final HazelcastProperty OPERATION_RESPONSE_BATCHING_WINDOW_MICROS
+            = new HazelcastProperty("hazelcast.operation.response.batching.window.micros", 0, MICROSECONDS);
+
+    /**
+     * Enables weighted fair scheduling of the operations on the partition
+     * threads. The value is a comma separated list of {@code name=weight}
+     * entries, e.g. {@code "orders=4,hz:impl:queueService=2"}. The name is
+     * either the name of a data structure or the name of a service. Each
+     * entry gets its own queue on every partition thread, all other
+     * operations share a default queue with the weight 1.
+     * <p>
+     * The queues are served with deficit round robin: a queue gets partition
+     * thread time in proportion to its weight, so the operations of one
+     * heavily loaded data structure cannot starve the operations of others.
+     * The operations of different queues may run in a different order than
+     * they were submitted in, the order within a queue is preserved.
+     * <p>
+     * Operations received from other members are only deserialized on the
+     * partition thread, so they are first placed in the default queue and
+     * moved to the queue of their name or service once deserialized. The
+     * time spent deserializing them is charged to the default queue.
+     * An empty value disables the scheduling.
+     *
+     * @since 5.1
+     */
+    public static final HazelcastProperty OPERATION_SCHEDULER_WEIGHTS
+            = new HazelcastProperty("hazelcast.operation.scheduler.weights", "");
+
+    /**
+     * Enables the experimental thread-per-core mode. Every partition thread
+     * then also runs the event loop of a socket input thread whenever it has
+     * no operations to execute, so each thread owns a subset of the
+     * partitions and a subset of the connections. An operation that is read
+     * for a partition owned by the reading thread is executed by that thread
+     * without being handed off to another thread; with
+     * {@link #IO_WRITE_THROUGH_ENABLED} its response is also written by that
+     * thread.
+     * <p>
+     * The number of socket input threads equals the number of partition
+     * threads and {@link #IO_INPUT_THREAD_COUNT} is ignored. A long running
+     * or blocking operation delays the reading of the connections owned by
+     * its thread. {@link #OPERATION_SCHEDULER_WEIGHTS} is not supported in
+     * this mode.
+     *
+     * @since 5.1
+     */
+    public static final HazelcastProperty OPERATION_THREAD_PER_CORE_ENABLED
+            = new HazelcastProperty("hazelcast.operation.thread.per.core.enabled", false);
+
     /**
      * Using back pressure, you can prevent an overload of pending asynchronous
      * backups. With a map with a single asynchronous backup, producing asynchronous
@@ -1309,6 +1418,48 @@ public final class ClusterProperty {
     public static final HazelcastProperty BACKPRESSURE_MAX_CONCURRENT_INVOCATIONS_PER_PARTITION
             = new HazelcastProperty("hazelcast.backpressure.max.concurrent.invocations.per.partition", 100);
 
+    /**
+     * The invocation latency in milliseconds above which the member considers
+     * the cluster overloaded. When set, the maximum number of concurrent
+     * invocations adapts to the observed latency: it grows by one with every
+     * invocation that completes faster than this threshold while the limit is
+     * in use, and it shrinks to 90% of the concurrent invocations when an
+     * invocation is slower, or when the queue towards its target is deeper
+     * than {@link #BACKPRESSURE_ADAPTIVE_QUEUE_DEPTH_THRESHOLD}, at most once
+     * per threshold period. The latency is measured per attempt, so a retried
+     * invocation isn't penalized for the time spent before the retry. The limit never
+     * exceeds the one configured with
+     * {@link #BACKPRESSURE_MAX_CONCURRENT_INVOCATIONS_PER_PARTITION} and never
+     * goes below one invocation per partition.
+     * <p>
+     * This lets bursty asynchronous producers slow down before the operation
+     * queues fill up and the invocations time out. The latency of blocking
+     * operations, such as {@code IQueue.take()}, isn't taken into account.
+     * <p>
+     * This property only has meaning when backpressure is enabled. The value 0
+     * disables the adaptive limit.
+     *
+     * @since 5.1
+     */
+    public static final HazelcastProperty BACKPRESSURE_ADAPTIVE_LATENCY_THRESHOLD_MILLIS
+            = new HazelcastProperty("hazelcast.backpressure.adaptive.latency.threshold.millis", 0, MILLISECONDS);
+
+    /**
+     * The number of frames waiting to be written to a member above which the
+     * member considers the connection to that member congested. When an
+     * invocation completes while the outbound queue of the connection it was
+     * sent over is deeper than this threshold, the adaptive limit of
+     * concurrent invocations shrinks the same way as for a slow invocation.
+     * The queue depth is sampled on 1 in 8 completions.
+     * <p>
+     * This property only has meaning when the adaptive limit is enabled with
+     * {@link #BACKPRESSURE_ADAPTIVE_LATENCY_THRESHOLD_MILLIS}.
+     *
+     * @since 5.1
+     */
+    public static final HazelcastProperty BACKPRESSURE_ADAPTIVE_QUEUE_DEPTH_THRESHOLD
+            = new HazelcastProperty("hazelcast.backpressure.adaptive.queue.depth.threshold", 1000);
+
     /**
      * Hazelcast allows read operations to be performed while a partition is
      * being migrated. This can lead to stale reads for some scenarios. You can
@@ -1718,6 +1869,136 @@ public final class ClusterProperty {
         = new HazelcastProperty("hazelcast.jet.idle.noncooperative.max.microseconds", 5000, MICROSECONDS)
             .setDeprecatedName("jet.idle.noncooperative.max.microseconds");
 
+    /**
+     * If enabled, the chunks of Jet snapshot data are compressed before they
+     * are stored to the snapshot {@code IMap}. It reduces the heap used by the
+     * snapshot map on both the primary and the backup replicas and the amount
+     * of data sent over the network to the backups, at the cost of the CPU
+     * time needed to compress and decompress the data. Snapshots written with
+     * either setting can be restored regardless of the current setting.
+     * <p>
+     * The default is {@code false}.
+     *
+     * @since 5.1
+     */
+    public static final HazelcastProperty JET_SNAPSHOT_COMPRESSION_ENABLED
+            = new HazelcastProperty("hazelcast.jet.snapshot.compression.enabled", false);
+
+    /**
+     * If set, the state snapshots of jobs are stored in files on the local
+     * disk of the members instead of in an {@code IMap}. Each member writes
+     * the chunks it takes to a subdirectory of the given directory and sends
+     * a copy of each chunk to as many other members as the backup count of
+     * the snapshot map. When a job is restored, each chunk is read by the
+     * first of the members holding a copy that is still in the cluster. The
+     * files of a job are deleted after the job completes. The snapshots
+     * exported using {@link com.hazelcast.jet.Job#exportSnapshot} are still
+     * stored in an {@code IMap}.
+     * <p>
+     * This reduces the heap used by the snapshots of jobs with large state.
+     * The directory must be writable. The default is {@code null}, that is
+     * the snapshots are stored in an {@code IMap}. The property must have the
+     * same value on all members.
+     *
+     * @since 5.1
+     */
+    public static final HazelcastProperty JET_SNAPSHOT_LOCAL_DIRECTORY
+            = new HazelcastProperty("hazelcast.jet.snapshot.local.directory");
+
+    /**
+     * The maximum number of jobs that are restarted at the same time to make
+     * use of newly added members. When more jobs are eligible for scaling up,
+     * the rest of them keep running on the original members until some of
+     * the restarted jobs are running again. Limiting the number reduces the
+     * load caused by restoring many jobs from their snapshots at the same
+     * time and, for many jobs with large state, the time each of them isn't
+     * running.
+     * <p>
+     * A job is always scaled up by a graceful restart: its state is saved to
+     * a snapshot and restored on the new set of members. The state isn't
+     * moved between members while the job keeps running.
+     * <p>
+     * The value must be at least 1. The default is {@link Integer#MAX_VALUE},
+     * that is all eligible jobs are restarted at once.
+     *
+     * @since 5.1
+     */
+    public static final HazelcastProperty JET_SCALE_UP_MAX_CONCURRENT_JOBS
+            = new HazelcastProperty("hazelcast.jet.scale.up.max.concurrent.jobs", Integer.MAX_VALUE);
+
+    /**
+     * The maximum number of items a processor of the pipeline {@code sort()}
+     * stage keeps in memory. When it receives more items, it sorts the ones
+     * it has in memory and writes them to a temporary file on the local disk.
+     * When all input is received, the files are merged into the sorted
+     * output. This allows sorting more data than fits into the heap. The
+     * items written to disk are not counted towards the {@link
+     * com.hazelcast.jet.config.JobConfig#setMaxProcessorAccumulatedRecords
+     * maximum accumulated records}.
+     * <p>
+     * When enabled, the sorting processors are non-cooperative because they
+     * do blocking disk I/O. The default is {@code 0}, that is all items are
+     * sorted in memory.
+     *
+     * @since 5.1
+     */
+    public static final HazelcastProperty JET_SORT_SPILL_THRESHOLD
+            = new HazelcastProperty("hazelcast.jet.sort.spill.threshold", 0);
+
+    /**
+     * The directory in which the processors of the pipeline {@code sort()}
+     * stage create their temporary files when the {@link
+     * #JET_SORT_SPILL_THRESHOLD spill threshold} is exceeded. Each processor
+     * creates its own subdirectory and deletes it when the job execution
+     * completes. The directory must exist and be writable.
+     * <p>
+     * The default is the JVM temporary directory, given by the {@code
+     * java.io.tmpdir} system property.
+     *
+     * @since 5.1
+     */
+    public static final HazelcastProperty JET_SORT_SPILL_DIRECTORY
+            = new HazelcastProperty("hazelcast.jet.sort.spill.directory");
+
+    /**
+     * If positive, Jet tracks the latency from the sources to each processor
+     * and to each distributed edge, and exposes its percentiles as the {@link
+     * com.hazelcast.jet.core.metrics.MetricNames#EVENT_LATENCY_P50
+     * eventLatencyP50}, {@code eventLatencyP99} and {@code eventLatencyP999}
+     * metrics.
+     * <p>
+     * Every source processor emits a latency marker with the current system
+     * time once per the given number of milliseconds. The markers travel
+     * through the same queues as the items, so they wait behind the items
+     * emitted before them. Every processor and every distributed edge
+     * records the time elapsed since the marker was created, then the
+     * processor forwards at most one marker per interval downstream. The
+     * markers aren't passed to the processors. For the latency of the
+     * distributed edges to be accurate, the clocks of the members must be
+     * synchronized.
+     * <p>
+     * The default is {@code 0}, that is the latency isn't tracked.
+     *
+     * @since 5.1
+     */
+    public static final HazelcastProperty JET_LATENCY_MARKER_INTERVAL_MILLIS
+            = new HazelcastProperty("hazelcast.jet.latency.marker.interval.millis", 0, MILLISECONDS);
+
+    /**
+     * If enabled, each Jet processor measures how its tasklet spends time
+     * and exposes it as the {@link com.hazelcast.jet.core.metrics.MetricNames#TASKLET_CALLS
+     * taskletCalls}, {@code taskletIdleCalls}, {@code taskletBusyTime} and
+     * {@code taskletBackpressureTime} metrics. They are included in the job
+     * metrics and in the metrics section of the diagnostics log. The cost is
+     * two {@link System#nanoTime()} calls per tasklet call.
+     * <p>
+     * The default is {@code false}.
+     *
+     * @since 5.1
+     */
+    public static final HazelcastProperty JET_TASKLET_PROFILING_ENABLED
+            = new HazelcastProperty("hazelcast.jet.tasklet.profiling.enabled", false);
+
     /**
      * The directory containing jars, that can be used to specify custom classpath for
      * a stage in a pipeline.
@@ -32,6 +32,7 @@ import com.hazelcast.sql.impl.row.Row;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayDeque;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
@@ -40,11 +41,20 @@ import java.util.NoSuchElementException;
  */
 public class SqlClientResult implements SqlResult, LazyDeserializer {
 
+    /** The maximum size of a prefetched page as a multiple of the cursor buffer size. */
+    private static final int MAX_PAGE_SIZE_MULTIPLIER = 16;
+
+    /** The maximum estimated serialized size of a prefetched page. */
+    private static final int MAX_PAGE_BYTES = 1 << 20;
+
     private final SqlClientService service;
     private final Connection connection;
     private final QueryId queryId;
     private final int cursorBufferSize;
 
+    /** The maximum number of pages fetched ahead of the consumer, 0 to fetch only on demand. */
+    private final int prefetchPages;
+
     /** Mutex to synchronize access between operations. */
     private final Object mux = new Object();
 
@@ -57,14 +67,37 @@ public class SqlClientResult implements SqlResult, LazyDeserializer {
     /** Whether the result is closed. When {@code true}, there is no need to send the "cancel" request to the server. */
     private boolean closed;
 
-    /** Fetch descriptor. Available when the fetch operation is in progress. */
+    /** Fetch descriptor. Available when the fetch operation is in progress or when it failed. */
     private SqlFetchResult fetch;
 
-    public SqlClientResult(SqlClientService service, Connection connection, QueryId queryId, int cursorBufferSize) {
+    /** Pages received from the server, but not yet consumed by the iterator. */
+    private final ArrayDeque<SqlPage> prefetchedPages = new ArrayDeque<>();
+
+    /** Whether the last page was received from the server. */
+    private boolean lastPageReceived;
+
+    /** The number of rows requested by the next fetch. */
+    private int pageSize;
+
+    /** The number of rows requested by the fetch in progress. */
+    private int fetchPageSize;
+
+    /** The estimated serialized size of a row, or 0, if not known yet. */
+    private int rowBytes;
+
+    public SqlClientResult(
+            SqlClientService service,
+            Connection connection,
+            QueryId queryId,
+            int cursorBufferSize,
+            int prefetchPages
+    ) {
         this.service = service;
         this.connection = connection;
         this.queryId = queryId;
         this.cursorBufferSize = cursorBufferSize;
+        this.prefetchPages = prefetchPages;
+        this.pageSize = cursorBufferSize;
     }
 
     /**
@@ -86,6 +119,12 @@ public class SqlClientResult implements SqlResult, LazyDeserializer {
                 iterator.onNextPage(rowPage);
 
                 state = new State(iterator, -1, null);
+
+                lastPageReceived = rowPage.isLast();
+
+                if (rowPage.getRowCount() >= cursorBufferSize) {
+                    prefetch();
+                }
             } else {
                 state = new State(null, updateCount, null);
 
@@ -169,15 +208,20 @@ public class SqlClientResult implements SqlResult, LazyDeserializer {
                     onExecuteError(QueryException.cancelledByUser());
                 }
 
-                // Make sure that all subsequent fetches will fail.
-                if (fetch == null) {
+                // Make sure that all subsequent fetches will fail. The response to the fetch in progress, if any,
+                // will be ignored.
+                if (fetch == null || fetch.isPending()) {
                     fetch = new SqlFetchResult();
+                    fetch.onResult(null, QueryException.cancelledByUser());
                 }
 
-                onFetchFinished(null, QueryException.cancelledByUser());
+                prefetchedPages.clear();
+                mux.notifyAll();
 
-                // Send the close request.
-                service.close(connection, queryId);
+                // Send the close request. The server releases the cursor by itself after sending the last page.
+                if (!lastPageReceived) {
+                    service.close(connection, queryId);
+                }
             } finally {
                 // Set the closed flag to avoid multiple close requests.
                 closed = true;
@@ -185,6 +229,15 @@ public class SqlClientResult implements SqlResult, LazyDeserializer {
         }
     }
 
+    /**
+     * For testing only.
+     */
+    public int getPrefetchedPageCount() {
+        synchronized (mux) {
+            return prefetchedPages.size();
+        }
+    }
+
     @Override
     public Object deserialize(Object value) {
         return service.deserializeRowValue(value);
@@ -205,24 +258,32 @@ public class SqlClientResult implements SqlResult, LazyDeserializer {
     }
 
     /**
-     * Fetches the next page.
+     * Fetches the next page. Returns a prefetched page, if there's one,
+     * otherwise awaits the response to the fetch in progress, or initiates
+     * a new fetch.
      */
     private SqlPage fetch() {
         synchronized (mux) {
-            // Re-throw previously logged error on successive fetch attempts.
-            if (fetch != null) {
-                assert fetch.getError() != null;
-
-                throw wrap(fetch.getError());
+            if (prefetchedPages.isEmpty()) {
+                // The consumer is faster than the server, request bigger pages.
+                growPageSize();
+            } else if (prefetchedPages.size() >= prefetchPages) {
+                // The consumer is slower than the server, don't hold too many rows in the client memory.
+                shrinkPageSize();
             }
 
-            // Initiate the fetch.
-            fetch = new SqlFetchResult();
+            while (prefetchedPages.isEmpty()) {
+                if (fetch == null) {
+                    // Initiate the fetch.
+                    startFetch();
+                } else if (!fetch.isPending()) {
+                    // Re-throw previously logged error on successive fetch attempts.
+                    assert fetch.getError() != null;
 
-            service.fetchAsync(connection, queryId, cursorBufferSize, this);
+                    throw wrap(fetch.getError());
+                }
 
-            // Await the response.
-            while (fetch.isPending()) {
+                // Await the response.
                 try {
                     mux.wait();
                 } catch (InterruptedException e) {
@@ -232,28 +293,89 @@ public class SqlClientResult implements SqlResult, LazyDeserializer {
                 }
             }
 
-            if (fetch.getError() != null) {
-                throw wrap(fetch.getError());
-            } else {
-                SqlPage page = fetch.getPage();
+            SqlPage page = prefetchedPages.poll();
 
-                assert page != null;
+            prefetch();
 
-                fetch = null;
+            return page;
+        }
+    }
 
-                return page;
-            }
+    /**
+     * Initiates the fetch of the next page in background, if the prefetch is
+     * enabled and there are less than {@link #prefetchPages} pages waiting to
+     * be consumed. Only a single fetch is in progress at a time to preserve
+     * the order of the pages.
+     * <p>
+     * Should be called only after a full page was received. A partial page
+     * means that the server had no more rows ready, and a prefetch would
+     * only occupy a server thread waiting for them.
+     */
+    private void prefetch() {
+        if (fetch == null && !lastPageReceived && prefetchedPages.size() < prefetchPages) {
+            startFetch();
+        }
+    }
+
+    private void startFetch() {
+        assert fetch == null;
+
+        fetch = new SqlFetchResult();
+        fetchPageSize = pageSize;
+
+        service.fetchAsync(connection, queryId, pageSize, this);
+    }
+
+    private void growPageSize() {
+        if (prefetchPages == 0) {
+            return;
         }
+
+        long maxPageSize = (long) cursorBufferSize * MAX_PAGE_SIZE_MULTIPLIER;
+
+        if (rowBytes > 0) {
+            maxPageSize = Math.min(maxPageSize, MAX_PAGE_BYTES / rowBytes);
+        }
+
+        pageSize = (int) Math.max(cursorBufferSize, Math.min((long) pageSize * 2, maxPageSize));
+    }
+
+    private void shrinkPageSize() {
+        pageSize = Math.max(cursorBufferSize, pageSize / 2);
     }
 
     /**
      * Callback invoked when the fetch operation is finished.
+     *
+     * @param page the fetched page, {@code null} in case of an error
+     * @param pageBytes the serialized size of the page, used to estimate the row width, or 0 if not known
+     * @param error the error, {@code null} if the page was fetched
      */
-    public void onFetchFinished(SqlPage page, RuntimeException error) {
+    public void onFetchFinished(SqlPage page, int pageBytes, RuntimeException error) {
         synchronized (mux) {
-            assert fetch != null && fetch.isPending();
+            if (fetch == null || !fetch.isPending()) {
+                // The result was closed while the fetch was in progress, ignore the response.
+                return;
+            }
+
+            if (error != null) {
+                fetch.onResult(null, error);
+            } else {
+                assert page != null;
 
-            fetch.onResult(page, error);
+                fetch = null;
+                prefetchedPages.add(page);
+
+                if (page.getRowCount() > 0 && pageBytes > 0) {
+                    rowBytes = Math.max(1, pageBytes / page.getRowCount());
+                }
+
+                if (page.isLast()) {
+                    lastPageReceived = true;
+                } else if (page.getRowCount() >= fetchPageSize) {
+                    prefetch();
+                }
+            }
 
             mux.notifyAll();
         }
@@ -24,6 +24,7 @@ import com.hazelcast.client.impl.protocol.codec.SqlExecuteCodec;
 import com.hazelcast.client.impl.protocol.codec.SqlFetchCodec;
 import com.hazelcast.client.impl.spi.impl.ClientInvocation;
 import com.hazelcast.client.impl.spi.impl.ClientInvocationFuture;
+import com.hazelcast.client.properties.ClientProperty;
 import com.hazelcast.internal.nio.Connection;
 import com.hazelcast.internal.nio.ConnectionType;
 import com.hazelcast.internal.serialization.Data;
@@ -63,10 +64,16 @@ public class SqlClientService implements SqlService {
      */
     private final boolean skipUpdateStatistics;
 
+    /**
+     * The maximum number of result pages fetched ahead of the consumer.
+     */
+    private final int prefetchPages;
+
     public SqlClientService(HazelcastClientInstanceImpl client) {
         this.client = client;
         this.logger = client.getLoggingService().getLogger(getClass());
         this.skipUpdateStatistics = skipUpdateStatistics();
+        this.prefetchPages = Math.max(0, client.getProperties().getInteger(ClientProperty.SQL_PREFETCH_PAGES));
     }
 
     @Nonnull
@@ -97,7 +104,8 @@ public class SqlClientService implements SqlService {
                 this,
                 connection,
                 id,
-                statement.getCursorBufferSize()
+                statement.getCursorBufferSize(),
+                prefetchPages
         );
 
         try {
@@ -150,7 +158,7 @@ public class SqlClientService implements SqlService {
 
     private void handleFetchResponse(Connection connection, SqlClientResult res, ClientMessage message, Throwable error) {
         if (error != null) {
-            res.onFetchFinished(null, rethrow(error, connection));
+            res.onFetchFinished(null, 0, rethrow(error, connection));
 
             return;
         }
@@ -160,14 +168,14 @@ public class SqlClientService implements SqlService {
         HazelcastSqlException responseError = handleResponseError(responseParameters.error);
 
         if (responseError != null) {
-            res.onFetchFinished(null, responseError);
+            res.onFetchFinished(null, 0, responseError);
 
             return;
         }
 
         assert responseParameters.rowPage != null;
 
-        res.onFetchFinished(responseParameters.rowPage, null);
+        res.onFetchFinished(responseParameters.rowPage, message.getFrameLength(), null);
     }
 
     /**
@@ -48,6 +48,8 @@ public class MapIndexScanMetadata implements IdentifiedDataSerializable {
     protected IndexFilter filter;
     protected ComparatorEx<Object[]> comparator;
     protected boolean descending;
+    protected Expression<?> fetch;
+    protected Expression<?> offset;
 
     public MapIndexScanMetadata() {
         // No-op.
@@ -66,6 +68,26 @@ public class MapIndexScanMetadata implements IdentifiedDataSerializable {
             Expression<Boolean> remainingFilter,
             ComparatorEx<Object[]> comparator,
             boolean descending
+    ) {
+        this(mapName, indexName, keyDescriptor, valueDescriptor, fieldPaths, fieldTypes, filter, projections,
+                remainingFilter, comparator, descending, null, null);
+    }
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public MapIndexScanMetadata(
+            String mapName,
+            String indexName,
+            QueryTargetDescriptor keyDescriptor,
+            QueryTargetDescriptor valueDescriptor,
+            List<QueryPath> fieldPaths,
+            List<QueryDataType> fieldTypes,
+            IndexFilter filter,
+            List<Expression<?>> projections,
+            Expression<Boolean> remainingFilter,
+            ComparatorEx<Object[]> comparator,
+            boolean descending,
+            Expression<?> fetch,
+            Expression<?> offset
     ) {
         this.mapName = mapName;
         this.indexName = indexName;
@@ -78,6 +100,8 @@ public class MapIndexScanMetadata implements IdentifiedDataSerializable {
         this.filter = filter;
         this.comparator = comparator;
         this.descending = descending;
+        this.fetch = fetch;
+        this.offset = offset;
     }
 
     public String getMapName() {
@@ -124,6 +148,21 @@ public class MapIndexScanMetadata implements IdentifiedDataSerializable {
         return descending;
     }
 
+    /**
+     * Returns the LIMIT of the query, if the rows of a sorted index can be
+     * emitted directly as the query result, or {@code null} otherwise.
+     */
+    public Expression<?> getFetch() {
+        return fetch;
+    }
+
+    /**
+     * Returns the OFFSET of the query, see {@link #getFetch()}.
+     */
+    public Expression<?> getOffset() {
+        return offset;
+    }
+
     @SuppressWarnings("checkstyle:CyclomaticComplexity")
     @Override
     public boolean equals(Object o) {
@@ -144,7 +183,9 @@ public class MapIndexScanMetadata implements IdentifiedDataSerializable {
                 && Objects.equals(remainingFilter, that.remainingFilter)
                 && Objects.equals(filter, that.filter)
                 && Objects.equals(comparator, that.comparator)
-                && descending == that.descending;
+                && descending == that.descending
+                && Objects.equals(fetch, that.fetch)
+                && Objects.equals(offset, that.offset);
     }
 
     @Override
@@ -160,7 +201,9 @@ public class MapIndexScanMetadata implements IdentifiedDataSerializable {
                 remainingFilter,
                 filter,
                 comparator,
-                descending
+                descending,
+                fetch,
+                offset
         );
     }
 
@@ -177,6 +220,8 @@ public class MapIndexScanMetadata implements IdentifiedDataSerializable {
         out.writeObject(remainingFilter);
         out.writeObject(comparator);
         out.writeBoolean(descending);
+        out.writeObject(fetch);
+        out.writeObject(offset);
     }
 
     @Override
@@ -192,6 +237,8 @@ public class MapIndexScanMetadata implements IdentifiedDataSerializable {
         remainingFilter = in.readObject();
         comparator = in.readObject();
         descending = in.readBoolean();
+        fetch = in.readObject();
+        offset = in.readObject();
     }
 
     @Override
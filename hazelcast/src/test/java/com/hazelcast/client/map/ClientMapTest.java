@@ -68,6 +68,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -249,6 +250,20 @@ public class ClientMapTest extends HazelcastTestSupport {
         assertEquals(3, getAllMap.get(3));
     }
 
+    @Test
+    public void testGetAllAsync() throws Exception {
+        IMap<Integer, Integer> map = createMap();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+        }
+
+        Set<Integer> keySet = new HashSet<>(asList(1, 3, 100));
+        Map<Integer, Integer> result = ((ClientMapProxy<Integer, Integer>) map).getAllAsync(keySet).get();
+        assertEquals(2, result.size());
+        assertEquals(1, (int) result.get(1));
+        assertEquals(3, (int) result.get(3));
+    }
+
     @Test
     public void testPutAllWithTooManyEntries() {
         Map<Integer, Integer> expectedMap = new HashMap<>();
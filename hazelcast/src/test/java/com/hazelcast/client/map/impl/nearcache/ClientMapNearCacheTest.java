@@ -19,6 +19,7 @@ package com.hazelcast.client.map.impl.nearcache;
 import com.hazelcast.client.config.ClientConfig;
 import com.hazelcast.client.impl.protocol.ClientMessage;
 import com.hazelcast.client.impl.protocol.codec.MapAddNearCacheInvalidationListenerCodec;
+import com.hazelcast.client.impl.proxy.ClientMapProxy;
 import com.hazelcast.client.impl.spi.EventHandler;
 import com.hazelcast.client.test.TestHazelcastFactory;
 import com.hazelcast.config.Config;
@@ -52,6 +53,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
@@ -159,6 +161,25 @@ public class ClientMapNearCacheTest extends NearCacheTestSupport {
         assertThatOwnedEntryCountEquals(map, size);
     }
 
+    @Test
+    public void testGetAllAsyncChecksNearCacheFirst() throws Exception {
+        IMap<Integer, Integer> map = getNearCachedMapFromClient(newNoInvalidationNearCacheConfig());
+
+        int size = 1003;
+        populateMap(map, size);
+        populateNearCache(map, size);
+
+        Set<Integer> keys = new HashSet<>(map.keySet());
+        keys.add(size);
+        Map<Integer, Integer> result = ((ClientMapProxy<Integer, Integer>) map).getAllAsync(keys).get();
+
+        assertEquals(size, result.size());
+        for (int i = 0; i < size; i++) {
+            assertEquals(i, (int) result.get(i));
+        }
+        assertEquals(size, getNearCacheStats(map).getHits());
+    }
+
     @Test
     public void testGetAsync() throws Exception {
         IMap<Integer, Integer> map = getNearCachedMapFromClient(newNoInvalidationNearCacheConfig());
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.networking.nio;
+
+import com.hazelcast.internal.metrics.MetricsRegistry;
+import com.hazelcast.internal.server.MockServerContext;
+import com.hazelcast.internal.server.NetworkingFactory;
+import com.hazelcast.internal.server.tcp.TcpServerConnectionChannelErrorHandler;
+import com.hazelcast.logging.LoggingService;
+import com.hazelcast.spi.properties.HazelcastProperties;
+
+import java.util.concurrent.locks.LockSupport;
+
+import static com.hazelcast.spi.properties.ClusterProperty.IO_BALANCER_INTERVAL_SECONDS;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_INPUT_THREAD_COUNT;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_OUTPUT_THREAD_COUNT;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Creates a {@link NioNetworking} whose input event loops are run by plain
+ * host threads, like the partition threads do in the thread-per-core mode.
+ */
+public class HostedEventLoops_NioNetworkingFactory implements NetworkingFactory {
+
+    @Override
+    public NioNetworking create(final MockServerContext serverContext, MetricsRegistry metricsRegistry) {
+        HazelcastProperties properties = serverContext.properties();
+        LoggingService loggingService = serverContext.loggingService;
+
+        HostedEventLoops eventLoops = new HostedEventLoops(properties.getInteger(IO_INPUT_THREAD_COUNT));
+        for (int i = 0; i < eventLoops.count(); i++) {
+            int index = i;
+            Thread host = new Thread(() -> host(eventLoops, index), serverContext.getHazelcastName() + "-host-" + i);
+            host.setDaemon(true);
+            eventLoops.setHost(i, host);
+            host.start();
+        }
+
+        return new NioNetworking(
+                new NioNetworking.Context()
+                        .loggingService(loggingService)
+                        .metricsRegistry(metricsRegistry)
+                        .threadNamePrefix(serverContext.getHazelcastName())
+                        .errorHandler(
+                                new TcpServerConnectionChannelErrorHandler(
+                                        loggingService.getLogger(TcpServerConnectionChannelErrorHandler.class)))
+                        .hostedEventLoops(eventLoops)
+                        .outputThreadCount(properties.getInteger(IO_OUTPUT_THREAD_COUNT))
+                        .balancerIntervalSeconds(properties.getInteger(IO_BALANCER_INTERVAL_SECONDS))
+                        .selectorMode(SelectorMode.SELECT));
+    }
+
+    private static void host(HostedEventLoops eventLoops, int index) {
+        boolean attached = false;
+        for (; ; ) {
+            NioThread eventLoop = eventLoops.get(index);
+            if (eventLoop != null) {
+                attached = true;
+                eventLoop.runEventLoopOnce(true);
+            } else if (attached) {
+                // the networking has been shut down
+                return;
+            } else {
+                LockSupport.parkNanos(MILLISECONDS.toNanos(10));
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.networking.nio;
+
+import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.properties.ClientProperty;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.networking.nio.SharedMemoryTransport.Mode;
+import com.hazelcast.internal.server.ServerConnection;
+import com.hazelcast.internal.server.tcp.TcpServerConnection;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.net.InetAddress;
+import java.util.Collection;
+
+import static com.hazelcast.test.Accessors.getNode;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assume.assumeTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class SharedMemoryIntegrationTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    @Before
+    public void setUp() {
+        assumeTrue(SharedMemoryTransport.isSupported(InetAddress.getLoopbackAddress()));
+    }
+
+    @After
+    public void tearDown() {
+        HazelcastClient.shutdownAll();
+        Hazelcast.shutdownAll();
+    }
+
+    @Test
+    public void testMemberOperations() {
+        HazelcastInstance member1 = Hazelcast.newHazelcastInstance(getConfig(true));
+        HazelcastInstance member2 = Hazelcast.newHazelcastInstance(getConfig(true));
+        assertClusterSizeEventually(2, member1, member2);
+
+        IMap<Integer, Integer> map = member1.getMap("map");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+
+        IMap<Integer, Integer> otherMap = member2.getMap("map");
+        assertEquals(ENTRY_COUNT, otherMap.size());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(i, (int) otherMap.get(i));
+        }
+        assertConnectionsUse(Mode.SHARED_MEMORY, member1);
+        assertConnectionsUse(Mode.SHARED_MEMORY, member2);
+    }
+
+    @Test
+    public void testClientOperations() {
+        HazelcastInstance member = Hazelcast.newHazelcastInstance(getConfig(true));
+        HazelcastInstance client = HazelcastClient.newHazelcastClient(getClientConfig());
+
+        IMap<Integer, byte[]> map = client.getMap("map");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            // values larger than the rings, so they are written in several parts
+            map.set(i, new byte[i % 10 == 0 ? 3 * SharedMemoryTransport.RING_CAPACITY : i]);
+        }
+
+        assertEquals(ENTRY_COUNT, map.size());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(i % 10 == 0 ? 3 * SharedMemoryTransport.RING_CAPACITY : i, map.get(i).length);
+        }
+        assertConnectionsUse(Mode.SHARED_MEMORY, member);
+    }
+
+    @Test
+    public void testClient_whenDisabledOnMember() {
+        HazelcastInstance member = Hazelcast.newHazelcastInstance(getConfig(false));
+        HazelcastInstance client = HazelcastClient.newHazelcastClient(getClientConfig());
+
+        IMap<Integer, Integer> map = client.getMap("map");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.set(i, i);
+        }
+
+        assertEquals(ENTRY_COUNT, map.size());
+        assertConnectionsUse(Mode.SOCKET, member);
+    }
+
+    private static void assertConnectionsUse(Mode mode, HazelcastInstance member) {
+        Collection<ServerConnection> connections = getNode(member).getServer().getConnections();
+        assertFalse(connections.isEmpty());
+        for (ServerConnection connection : connections) {
+            SharedMemoryTransport transport = ((NioChannel) ((TcpServerConnection) connection).getChannel()).sharedMemoryTransport();
+            assertEquals(connection.toString(), mode, transport.mode());
+        }
+    }
+
+    private static Config getConfig(boolean sharedMemoryEnabled) {
+        Config config = new Config();
+        config.setProperty(ClusterProperty.IO_SHARED_MEMORY_ENABLED.getName(), String.valueOf(sharedMemoryEnabled));
+        JoinConfig join = config.getNetworkConfig().getJoin();
+        join.getMulticastConfig().setEnabled(false);
+        join.getTcpIpConfig().addMember("127.0.0.1").setEnabled(true);
+        return config;
+    }
+
+    private static ClientConfig getClientConfig() {
+        ClientConfig config = new ClientConfig();
+        config.setProperty(ClientProperty.IO_SHARED_MEMORY_ENABLED.getName(), "true");
+        return config;
+    }
+}
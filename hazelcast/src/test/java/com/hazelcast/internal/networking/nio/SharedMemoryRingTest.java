@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.networking.nio;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import static com.hazelcast.internal.util.EmptyStatement.ignore;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SharedMemoryRingTest extends HazelcastTestSupport {
+
+    private static final int CAPACITY = 16;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File file;
+
+    @Before
+    public void setup() {
+        assumeTrue(SharedMemoryRing.isSupported());
+        file = new File(folder.getRoot(), "ring");
+    }
+
+    @Test
+    public void create() throws IOException {
+        SharedMemoryRing ring = SharedMemoryRing.create(file, CAPACITY);
+
+        assertEquals(CAPACITY, ring.capacity());
+        assertEquals(SharedMemoryRing.HEADER_LENGTH + CAPACITY, file.length());
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    public void create_ownerOnly() throws IOException {
+        SharedMemoryRing.create(file, CAPACITY);
+
+        assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(file.toPath()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void create_whenCapacityNotPowerOfTwo() throws IOException {
+        SharedMemoryRing.create(file, CAPACITY + 1);
+    }
+
+    @Test
+    public void create_whenFileExists() throws IOException {
+        SharedMemoryRing.create(file, CAPACITY);
+
+        try {
+            SharedMemoryRing.create(file, CAPACITY);
+            fail();
+        } catch (IOException expected) {
+            ignore(expected);
+        }
+        // the file of the other ring is left alone
+        assertTrue(file.exists());
+    }
+
+    @Test(expected = IOException.class)
+    public void open_whenInvalidLength() throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(SharedMemoryRing.HEADER_LENGTH + CAPACITY + 1);
+        }
+        SharedMemoryRing.open(file);
+    }
+
+    @Test
+    public void write_whenFull_thenPartialWrite() throws IOException {
+        SharedMemoryRing ring = SharedMemoryRing.create(file, CAPACITY);
+
+        assertEquals(10, ring.write(bytes(0, 10)));
+        ByteBuffer src = bytes(10, 10);
+        assertEquals(6, ring.write(src));
+        assertEquals(4, src.remaining());
+        assertEquals(0, ring.write(src));
+
+        ByteBuffer dst = ByteBuffer.allocate(32);
+        assertEquals(CAPACITY, ring.read(dst));
+        assertArrayEquals(bytes(0, CAPACITY).array(), toArray(dst));
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    public void read_whenDestinationSmall_thenPartialRead() throws IOException {
+        SharedMemoryRing ring = SharedMemoryRing.create(file, CAPACITY);
+        ring.write(bytes(0, 10));
+
+        ByteBuffer dst = ByteBuffer.allocate(4);
+        assertEquals(4, ring.read(dst));
+        assertArrayEquals(bytes(0, 4).array(), toArray(dst));
+        assertFalse(ring.isEmpty());
+    }
+
+    @Test
+    public void writeAndRead_wrapAround() throws IOException {
+        SharedMemoryRing ring = SharedMemoryRing.create(file, CAPACITY);
+
+        int value = 0;
+        for (int k = 0; k < 100; k++) {
+            // 7 bytes at a time so the data regularly wraps around the end of the ring
+            assertEquals(7, ring.write(bytes(value, 7)));
+            ByteBuffer dst = ByteBuffer.allocate(7);
+            assertEquals(7, ring.read(dst));
+            assertArrayEquals(bytes(value, 7).array(), toArray(dst));
+            value += 7;
+        }
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    public void open_sharesBytesWithCreator() throws IOException {
+        SharedMemoryRing writer = SharedMemoryRing.create(file, CAPACITY);
+        SharedMemoryRing reader = SharedMemoryRing.open(file);
+
+        assertEquals(CAPACITY, reader.capacity());
+        writer.write(bytes(0, 10));
+        assertFalse(reader.isEmpty());
+
+        ByteBuffer dst = ByteBuffer.allocate(32);
+        assertEquals(10, reader.read(dst));
+        assertArrayEquals(bytes(0, 10).array(), toArray(dst));
+
+        // the room made by the reader is seen by the writer
+        assertEquals(CAPACITY, writer.write(bytes(10, 32)));
+    }
+
+    @Test
+    public void clearReaderWaiting() throws IOException {
+        SharedMemoryRing writer = SharedMemoryRing.create(file, CAPACITY);
+        SharedMemoryRing reader = SharedMemoryRing.open(file);
+
+        assertFalse(writer.clearReaderWaiting());
+
+        reader.setReaderWaiting();
+
+        assertTrue(writer.clearReaderWaiting());
+        assertFalse(writer.clearReaderWaiting());
+    }
+
+    @Test
+    public void clearWriterWaiting() throws IOException {
+        SharedMemoryRing writer = SharedMemoryRing.create(file, CAPACITY);
+        SharedMemoryRing reader = SharedMemoryRing.open(file);
+
+        writer.write(bytes(0, 32));
+        assertTrue(writer.isFull());
+        assertFalse(reader.clearWriterWaiting());
+
+        writer.setWriterWaiting();
+        reader.read(ByteBuffer.allocate(4));
+
+        assertFalse(writer.isFull());
+        assertTrue(reader.clearWriterWaiting());
+        assertFalse(reader.clearWriterWaiting());
+    }
+
+    @Test
+    public void close() throws IOException {
+        SharedMemoryRing ring = SharedMemoryRing.create(file, CAPACITY);
+
+        ring.close();
+        ring.close();
+
+        assertFalse(ring.acquire());
+    }
+
+    @Test
+    public void close_whenAcquired_thenUsableUntilReleased() throws IOException {
+        SharedMemoryRing ring = SharedMemoryRing.create(file, CAPACITY);
+        assertTrue(ring.acquire());
+
+        ring.close();
+
+        assertEquals(10, ring.write(bytes(0, 10)));
+        assertTrue(ring.acquire());
+        ring.release();
+        ring.release();
+        assertFalse(ring.acquire());
+    }
+
+    private static ByteBuffer bytes(int from, int length) {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        for (int k = 0; k < length; k++) {
+            buffer.put((byte) (from + k));
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        buffer.flip();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking.nio;
+
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.logging.Logger;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.UUID;
+
+import static com.hazelcast.internal.nio.IOUtil.deleteQuietly;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SharedMemoryTransportTest extends HazelcastTestSupport {
+
+    private final ILogger logger = Logger.getLogger(SharedMemoryTransportTest.class);
+
+    private File staleFile;
+    private File freshFile;
+    private File otherFile;
+
+    @Before
+    public void setup() {
+        assumeTrue(SharedMemoryTransport.DIRECTORY.isDirectory());
+        staleFile = new File(SharedMemoryTransport.DIRECTORY, "hz-shm-" + UUID.randomUUID() + "-c2s");
+        freshFile = new File(SharedMemoryTransport.DIRECTORY, "hz-shm-" + UUID.randomUUID() + "-s2c");
+        otherFile = new File(SharedMemoryTransport.DIRECTORY, "hz-shm-" + UUID.randomUUID());
+    }
+
+    @After
+    public void tearDown() {
+        if (staleFile != null) {
+            deleteQuietly(staleFile);
+            deleteQuietly(freshFile);
+            deleteQuietly(otherFile);
+        }
+    }
+
+    @Test
+    public void deleteStaleRings() throws IOException {
+        long staleTime = System.currentTimeMillis() - MINUTES.toMillis(2);
+        assertTrue(staleFile.createNewFile());
+        assertTrue(staleFile.setLastModified(staleTime));
+        assertTrue(freshFile.createNewFile());
+        assertTrue(otherFile.createNewFile());
+        assertTrue(otherFile.setLastModified(staleTime));
+
+        SharedMemoryTransport.deleteStaleRings(logger);
+
+        assertFalse(staleFile.exists());
+        assertTrue(freshFile.exists());
+        // not the name of a ring
+        assertTrue(otherFile.exists());
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.networking.nio;
+
+import com.hazelcast.internal.networking.nio.SharedMemoryTransport.Mode;
+import com.hazelcast.internal.server.tcp.TcpServerConnection;
+import com.hazelcast.internal.server.tcp.TcpServerConnection_AbstractBasicTest;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.net.InetAddress;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class SharedMemory_TcpIpConnection_BasicTest extends TcpServerConnection_AbstractBasicTest {
+
+    @Before
+    public void setup() throws Exception {
+        assumeTrue(SharedMemoryTransport.isSupported(InetAddress.getLoopbackAddress()));
+        networkingFactory = new SharedMemory_NioNetworkingFactory();
+        super.setup();
+    }
+
+    @Test
+    public void connection_usesSharedMemory() {
+        TcpServerConnection connAB = connect(tcpServerA, addressB);
+        TcpServerConnection connBA = (TcpServerConnection) getConnection(tcpServerB,
+                connAB.getChannel().localSocketAddress());
+
+        assertTrueEventually(() -> {
+            assertEquals(Mode.SHARED_MEMORY, transport(connAB).mode());
+            assertEquals(Mode.SHARED_MEMORY, transport(connBA).mode());
+        });
+    }
+
+    private static SharedMemoryTransport transport(TcpServerConnection connection) {
+        return ((NioChannel) connection.getChannel()).sharedMemoryTransport();
+    }
+}
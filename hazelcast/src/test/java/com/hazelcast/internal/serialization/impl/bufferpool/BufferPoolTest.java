@@ -18,6 +18,7 @@ package com.hazelcast.internal.serialization.impl.bufferpool;
 
 import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.ByteArrayObjectDataOutput;
 import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
 import com.hazelcast.internal.serialization.impl.HeapData;
 import com.hazelcast.internal.nio.BufferObjectDataInput;
@@ -37,7 +38,9 @@ import java.io.IOException;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -116,6 +119,80 @@ public class BufferPoolTest extends HazelcastTestSupport {
         assertEquals(Version.UNKNOWN, found2.getVersion());
     }
 
+    @Test
+    public void returnOutputBuffer_whenLargeValueWritten_thenBufferRetainedBySizeClass() {
+        ByteArrayObjectDataOutput out = (ByteArrayObjectDataOutput) bufferPool.takeOutputBuffer();
+        int defaultCapacity = out.defaultRetainedCapacity();
+        out.write(new byte[defaultCapacity * 3], 0, defaultCapacity * 3);
+
+        bufferPool.returnOutputBuffer(out);
+
+        assertSame(out, bufferPool.largeOutputBuffers[2]);
+        assertEquals(0, out.position());
+        assertTrue(out.capacity() > defaultCapacity * 2);
+        assertEquals(out.capacity(), bufferPool.retainedBytes());
+        assertSame(out, bufferPool.takeOutputBuffer());
+        assertEquals(0, bufferPool.retainedBytes());
+    }
+
+    @Test
+    public void returnOutputBuffer_whenLargeValueNotWrittenInWindow_thenBufferTrimmed() throws IOException {
+        ByteArrayObjectDataOutput large = (ByteArrayObjectDataOutput) bufferPool.takeOutputBuffer();
+        int defaultCapacity = large.defaultRetainedCapacity();
+        large.write(new byte[defaultCapacity * 3], 0, defaultCapacity * 3);
+        bufferPool.returnOutputBuffer(large);
+        assertSame(large, bufferPool.largeOutputBuffers[2]);
+
+        // the window the large value was written in and the following one
+        for (int i = 0; i < 2 * BufferPoolImpl.HIGH_WATER_WINDOW - 1; i++) {
+            BufferObjectDataOutput out = bufferPool.takeOutputBuffer();
+            assertSame(large, out);
+            out.writeByte(1);
+            bufferPool.returnOutputBuffer(out);
+        }
+
+        assertNull(bufferPool.largeOutputBuffers[2]);
+        assertSame(large, bufferPool.outputQueue.peek());
+        assertEquals(defaultCapacity, large.capacity());
+        assertEquals(defaultCapacity, bufferPool.retainedBytes());
+    }
+
+    @Test
+    public void returnOutputBuffer_whenTooLarge_thenTrimmedToLargestSizeClass() {
+        ByteArrayObjectDataOutput out = (ByteArrayObjectDataOutput) bufferPool.takeOutputBuffer();
+        int defaultCapacity = out.defaultRetainedCapacity();
+        int maxCapacity = defaultCapacity << BufferPoolImpl.MAX_SIZE_CLASS;
+        out.write(new byte[maxCapacity + 1], 0, maxCapacity + 1);
+
+        bufferPool.returnOutputBuffer(out);
+
+        assertSame(out, bufferPool.largeOutputBuffers[BufferPoolImpl.MAX_SIZE_CLASS]);
+        assertEquals(maxCapacity, out.capacity());
+    }
+
+    @Test
+    public void sizeClass() {
+        assertEquals(0, BufferPoolImpl.sizeClass(0, 100));
+        assertEquals(0, BufferPoolImpl.sizeClass(100, 100));
+        assertEquals(1, BufferPoolImpl.sizeClass(101, 100));
+        assertEquals(1, BufferPoolImpl.sizeClass(200, 100));
+        assertEquals(2, BufferPoolImpl.sizeClass(201, 100));
+        assertEquals(BufferPoolImpl.MAX_SIZE_CLASS, BufferPoolImpl.sizeClass(Integer.MAX_VALUE, 100));
+    }
+
+    @Test
+    public void hitsAndMisses() {
+        BufferObjectDataOutput out = bufferPool.takeOutputBuffer();
+        bufferPool.returnOutputBuffer(out);
+        bufferPool.takeOutputBuffer();
+        BufferObjectDataInput in = bufferPool.takeInputBuffer(new HeapData(new byte[]{}));
+        bufferPool.returnInputBuffer(in);
+        bufferPool.takeInputBuffer(new HeapData(new byte[]{}));
+
+        assertEquals(2, bufferPool.hits());
+        assertEquals(2, bufferPool.misses());
+    }
+
     // ======================= in ==========================================
 
     @Test
@@ -548,4 +548,43 @@ public class CompactStreamSerializerTest {
         assertEquals(0, actual.getId());
     }
 
+    @Test
+    public void testSchemaEvolution_reflectiveReadWithDifferentSchemas() {
+        SerializationConfig serializationConfig = new SerializationConfig();
+        //Using this registration to mimic schema evolution. This is usage is not advised.
+        serializationConfig.getCompactSerializationConfig().setEnabled(true)
+                .register(EmployeeDTO.class, EmployeeDTO.class.getName(), new CompactSerializer<EmployeeDTO>() {
+                    @Nonnull
+                    @Override
+                    public EmployeeDTO read(@Nonnull CompactReader in) throws IOException {
+                        throw new UnsupportedOperationException("We will not read from here on this test");
+                    }
+
+                    @Override
+                    public void write(@Nonnull CompactWriter out, @Nonnull EmployeeDTO object) throws IOException {
+                        out.writeInt("age", object.getAge());
+                        out.writeString("id", "not a long");
+                    }
+                });
+        SerializationService oldSerializationService = new DefaultSerializationServiceBuilder()
+                .setConfig(serializationConfig)
+                .setSchemaService(schemaService)
+                .build();
+        SerializationService serializationService = createSerializationService();
+
+        EmployeeDTO expected = new EmployeeDTO(20, 102310312);
+        Data currentData = serializationService.toData(expected);
+        Data oldData = oldSerializationService.toData(expected);
+
+        // the readers are cached per schema, reading with one schema must not affect the other
+        for (int i = 0; i < 2; i++) {
+            EmployeeDTO current = serializationService.toObject(currentData);
+            assertEquals(expected.getAge(), current.getAge());
+            assertEquals(expected.getId(), current.getId());
+
+            EmployeeDTO old = serializationService.toObject(oldData);
+            assertEquals(expected.getAge(), old.getAge());
+            assertEquals(0, old.getId());
+        }
+    }
 }
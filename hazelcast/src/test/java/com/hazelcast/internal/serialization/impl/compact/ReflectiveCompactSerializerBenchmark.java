@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl.compact;
+
+import com.hazelcast.config.CompactSerializationConfig;
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import example.serialization.EmployeeDTO;
+import example.serialization.EmployeeDTOSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.openjdk.jmh.runner.options.VerboseMode;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the reflective Compact serializer to an explicit serializer of
+ * the same class.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReflectiveCompactSerializerBenchmark {
+
+    private final EmployeeDTO employee = new EmployeeDTO(30, 102310312);
+
+    private InternalSerializationService reflectiveSs;
+    private InternalSerializationService explicitSs;
+    private Data reflectiveData;
+    private Data explicitData;
+
+    @Setup
+    public void setup() {
+        SchemaService schemaService = CompactTestUtil.createInMemorySchemaService();
+        reflectiveSs = serializationService(schemaService, new CompactSerializationConfig()
+                .setEnabled(true));
+        explicitSs = serializationService(schemaService, new CompactSerializationConfig()
+                .setEnabled(true)
+                .register(EmployeeDTO.class, "employee", new EmployeeDTOSerializer()));
+        reflectiveData = reflectiveSs.toData(employee);
+        explicitData = explicitSs.toData(employee);
+    }
+
+    private static InternalSerializationService serializationService(SchemaService schemaService,
+                                                                     CompactSerializationConfig config) {
+        return new DefaultSerializationServiceBuilder()
+                .setSchemaService(schemaService)
+                .setConfig(new SerializationConfig().setCompactSerializationConfig(config))
+                .build();
+    }
+
+    @Benchmark
+    public Data toData_reflective() {
+        return reflectiveSs.toData(employee);
+    }
+
+    @Benchmark
+    public Data toData_explicit() {
+        return explicitSs.toData(employee);
+    }
+
+    @Benchmark
+    public Object toObject_reflective() {
+        return reflectiveSs.toObject(reflectiveData);
+    }
+
+    @Benchmark
+    public Object toObject_explicit() {
+        return explicitSs.toObject(explicitData);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(ReflectiveCompactSerializerBenchmark.class.getSimpleName())
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(2))
+                .verbosity(VerboseMode.NORMAL)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -145,4 +145,21 @@ public class LatencyDistributionTest {
         assertEquals(4, LatencyDistribution.usToBucketIndex(23));
         assertEquals(5, LatencyDistribution.usToBucketIndex(24));
     }
+
+    @Test
+    public void percentileMaxUs() {
+        LatencyDistribution d = new LatencyDistribution();
+        assertEquals(-1, d.percentileMaxUs(0.5));
+
+        for (int i = 0; i < 98; i++) {
+            d.recordNanos(TimeUnit.MICROSECONDS.toNanos(10));
+        }
+        d.recordNanos(TimeUnit.MICROSECONDS.toNanos(1000));
+        d.recordNanos(TimeUnit.MICROSECONDS.toNanos(100_000));
+
+        assertEquals(LatencyDistribution.bucketMaxUs(LatencyDistribution.usToBucketIndex(10)), d.percentileMaxUs(0.5));
+        assertEquals(LatencyDistribution.bucketMaxUs(LatencyDistribution.usToBucketIndex(1000)), d.percentileMaxUs(0.99));
+        assertEquals(LatencyDistribution.bucketMaxUs(LatencyDistribution.usToBucketIndex(100_000)),
+                d.percentileMaxUs(0.999));
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.util.concurrent;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.openjdk.jmh.runner.options.VerboseMode;
+
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link MPSCArrayQueue} to the {@link MPSCQueue} it replaced
+ * on the partition threads: three producers offer while a single consumer
+ * polls. The producers stop offering while the queue holds more than
+ * {@link #MAX_SIZE} items, so the queue doesn't grow without bounds when
+ * the consumer is slower. The {@code offered} and {@code polled} counters
+ * only count the items that were actually added and taken.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MPSCArrayQueueBenchmark {
+
+    private static final int MAX_SIZE = 100_000;
+    private static final Object ITEM = new Object();
+
+    @State(Scope.Group)
+    public static class QueueState {
+
+        @Param({"MPSCQueue", "MPSCArrayQueue"})
+        public String queueType;
+
+        Queue<Object> queue;
+
+        @Setup
+        public void setup() {
+            queue = queueType.equals("MPSCQueue") ? new MPSCQueue<>(null) : new MPSCArrayQueue<>(null);
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long offered;
+        public long polled;
+    }
+
+    @Benchmark
+    @Group("offerPoll")
+    @GroupThreads(3)
+    public void offer(QueueState state, Counters counters) {
+        if (state.queue.size() < MAX_SIZE && state.queue.offer(ITEM)) {
+            counters.offered++;
+        }
+    }
+
+    @Benchmark
+    @Group("offerPoll")
+    @GroupThreads(1)
+    public void poll(QueueState state, Counters counters) {
+        if (state.queue.poll() != null) {
+            counters.polled++;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(MPSCArrayQueueBenchmark.class.getSimpleName())
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(2))
+                .verbosity(VerboseMode.NORMAL)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
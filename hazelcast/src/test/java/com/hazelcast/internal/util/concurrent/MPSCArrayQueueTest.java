@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.util.concurrent;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.hazelcast.internal.util.concurrent.MPSCArrayQueue.CHUNK_SIZE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MPSCArrayQueueTest extends HazelcastTestSupport {
+
+    private MPSCArrayQueue<String> queue;
+
+    @Before
+    public void setup() {
+        queue = new MPSCArrayQueue<>(null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void setConsumerThread_whenNull() {
+        queue.setConsumerThread(null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void offer_whenNull() {
+        queue.offer(null);
+    }
+
+    @Test
+    public void poll() {
+        queue.setConsumerThread(Thread.currentThread());
+
+        queue.offer("1");
+        queue.offer("2");
+
+        assertEquals("1", queue.poll());
+        assertEquals("2", queue.poll());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void poll_whenEmpty() {
+        queue.setConsumerThread(Thread.currentThread());
+
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void peek() {
+        queue.setConsumerThread(Thread.currentThread());
+
+        assertNull(queue.peek());
+        queue.offer("1");
+
+        assertEquals("1", queue.peek());
+        assertEquals("1", queue.peek());
+        assertEquals("1", queue.poll());
+        assertNull(queue.peek());
+    }
+
+    @Test
+    public void offerAndPoll_acrossChunks() {
+        queue.setConsumerThread(Thread.currentThread());
+        int count = 3 * CHUNK_SIZE + 7;
+
+        for (int round = 0; round < 2; round++) {
+            for (int k = 0; k < count; k++) {
+                queue.offer("" + k);
+            }
+            assertEquals(count, queue.size());
+
+            for (int k = 0; k < count; k++) {
+                assertEquals("" + k, queue.poll());
+            }
+            assertNull(queue.poll());
+            assertTrue(queue.isEmpty());
+        }
+    }
+
+    @Test
+    public void size() {
+        queue.setConsumerThread(Thread.currentThread());
+
+        assertEquals(0, queue.size());
+        assertTrue(queue.isEmpty());
+
+        queue.offer("1");
+        queue.offer("2");
+        assertEquals(2, queue.size());
+        assertFalse(queue.isEmpty());
+
+        queue.poll();
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    public void take_whenItemAvailable() throws InterruptedException {
+        queue.setConsumerThread(Thread.currentThread());
+        queue.offer("1");
+
+        assertEquals("1", queue.take());
+    }
+
+    @Test
+    public void take_whenIdleStrategy() throws InterruptedException {
+        MPSCArrayQueue<String> spinningQueue = new MPSCArrayQueue<>(new BusySpinIdleStrategy());
+        spinningQueue.setConsumerThread(Thread.currentThread());
+
+        spawn(() -> {
+            sleepMillis(100);
+            spinningQueue.offer("1");
+        });
+
+        assertEquals("1", spinningQueue.take());
+    }
+
+    @Test
+    public void take_whenBlocked_thenWokenUpByOffer() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicReference<String> taken = new AtomicReference<>();
+        Thread consumer = new Thread(() -> {
+            started.countDown();
+            try {
+                taken.set(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        queue.setConsumerThread(consumer);
+        consumer.start();
+
+        started.await();
+        sleepMillis(100);
+        queue.offer("1");
+
+        consumer.join(TimeUnit.MINUTES.toMillis(1));
+        assertEquals("1", taken.get());
+    }
+
+    @Test(expected = InterruptedException.class)
+    public void take_whenInterrupted() throws InterruptedException {
+        queue.setConsumerThread(Thread.currentThread());
+        Thread.currentThread().interrupt();
+
+        queue.take();
+    }
+
+    @Test
+    public void multipleProducers_preserveOrderPerProducer() throws Exception {
+        int producerCount = 4;
+        int itemsPerProducer = 10 * CHUNK_SIZE;
+        MPSCArrayQueue<long[]> items = new MPSCArrayQueue<>(null);
+        items.setConsumerThread(Thread.currentThread());
+
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < producerCount; p++) {
+            int producerId = p;
+            Thread producer = new Thread(() -> {
+                for (long k = 0; k < itemsPerProducer; k++) {
+                    items.offer(new long[]{producerId, k});
+                }
+            });
+            producers.add(producer);
+            producer.start();
+        }
+
+        long[] expected = new long[producerCount];
+        for (int k = 0; k < producerCount * itemsPerProducer; k++) {
+            long[] item = items.take();
+            int producerId = (int) item[0];
+            assertEquals(expected[producerId], item[1]);
+            expected[producerId]++;
+        }
+
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        assertNull(items.poll());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void pollWithTimeout_thenUnsupportedOperation() {
+        queue.poll(1, TimeUnit.SECONDS);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void drainTo_thenUnsupportedOperation() {
+        queue.drainTo(new ArrayList<>());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void iterator_thenUnsupportedOperation() {
+        queue.iterator();
+    }
+
+    @Test
+    public void remainingCapacity() {
+        assertEquals(Integer.MAX_VALUE, queue.remainingCapacity());
+    }
+}
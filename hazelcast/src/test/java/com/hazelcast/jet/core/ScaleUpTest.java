@@ -28,11 +28,19 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
+import javax.annotation.Nonnull;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static com.hazelcast.jet.core.JobStatus.RUNNING;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SCALE_UP_MAX_CONCURRENT_JOBS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(HazelcastSerialClassRunner.class)
 @Category({NightlyTest.class})
@@ -64,6 +72,48 @@ public class ScaleUpTest extends JetTestSupport {
         assertTrueEventually(() -> assertEquals(NODE_COUNT * 2 + 1, MockPS.initCount.get()));
     }
 
+    @Test
+    public void when_maxConcurrentJobsLimited_then_atMostLimitJobsRestartAtOnce() {
+        TestProcessors.reset(NODE_COUNT * LOCAL_PARALLELISM);
+        SlowInitPS.initCount.set(0);
+        dag = new DAG().vertex(new Vertex("test", new SlowInitPS()));
+        config = smallInstanceConfig();
+        config.getJetConfig().setScaleUpDelayMillis(1000);
+        config.setProperty(JET_SCALE_UP_MAX_CONCURRENT_JOBS.getName(), "1");
+        instances = createHazelcastInstances(config, NODE_COUNT);
+
+        int jobCount = 3;
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < jobCount; i++) {
+            jobs.add(instances[0].getJet().newJob(dag));
+        }
+        for (Job job : jobs) {
+            assertJobStatusEventually(job, RUNNING);
+        }
+        assertEquals(NODE_COUNT * jobCount, SlowInitPS.initCount.get());
+
+        createHazelcastInstance(config);
+        int expectedInitCount = NODE_COUNT * jobCount + (NODE_COUNT + 1) * jobCount;
+        int maxRestartingJobs = 0;
+        long deadline = System.nanoTime() + SECONDS.toNanos(60);
+        while (SlowInitPS.initCount.get() < expectedInitCount && System.nanoTime() < deadline) {
+            int restartingJobs = (int) jobs.stream().filter(job -> job.getStatus() != RUNNING).count();
+            maxRestartingJobs = Math.max(maxRestartingJobs, restartingJobs);
+        }
+        assertEquals(expectedInitCount, SlowInitPS.initCount.get());
+        assertTrue("More than 1 job restarted at once: " + maxRestartingJobs, maxRestartingJobs <= 1);
+        for (Job job : jobs) {
+            assertJobStatusEventually(job, RUNNING);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void when_maxConcurrentJobsNotPositive_then_memberFailsToStart() {
+        config = smallInstanceConfig();
+        config.setProperty(JET_SCALE_UP_MAX_CONCURRENT_JOBS.getName(), "0");
+        createHazelcastInstance(config);
+    }
+
     @Test
     public void when_memberAddedAndAutoScalingDisabled_then_jobNotRestarted() {
         setup(1000);
@@ -129,4 +179,26 @@ public class ScaleUpTest extends JetTestSupport {
             assertJobStatusEventually(job, RUNNING, 30);
         }
     }
+
+    /**
+     * A processor supplier with a slow {@code init()}, so that the time a
+     * restarted job is starting is long enough to observe.
+     */
+    private static final class SlowInitPS implements ProcessorSupplier {
+
+        static final AtomicInteger initCount = new AtomicInteger();
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void init(@Nonnull Context context) {
+            initCount.incrementAndGet();
+            sleepMillis(300);
+        }
+
+        @Nonnull @Override
+        public Collection<? extends Processor> get(int count) {
+            return Stream.generate(NoOutputSourceP::new).limit(count).collect(toList());
+        }
+    }
 }
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.jet.Job;
+import com.hazelcast.jet.config.JobConfig;
+import com.hazelcast.jet.core.AbstractProcessor;
+import com.hazelcast.jet.core.DAG;
+import com.hazelcast.jet.core.JetTestSupport;
+import com.hazelcast.jet.core.Vertex;
+import com.hazelcast.jet.core.processor.SinkProcessors;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import javax.annotation.Nonnull;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.hazelcast.jet.config.ProcessingGuarantee.EXACTLY_ONCE;
+import static com.hazelcast.jet.core.BroadcastKey.broadcastKey;
+import static com.hazelcast.jet.core.Edge.between;
+import static com.hazelcast.jet.core.JobStatus.RUNNING;
+import static com.hazelcast.jet.core.TestUtil.throttle;
+import static com.hazelcast.jet.impl.JobRepository.snapshotDataMapName;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SNAPSHOT_LOCAL_DIRECTORY;
+import static com.hazelcast.spi.properties.ClusterProperty.JOB_SCAN_PERIOD;
+import static java.util.concurrent.TimeUnit.HOURS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class LocalSnapshotStoreTest extends JetTestSupport {
+
+    private static final int NUM_ITEMS = 20_000;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private HazelcastInstance[] instances;
+
+    @Before
+    public void setup() {
+        Config config = smallInstanceConfig();
+        config.setProperty(JET_SNAPSHOT_LOCAL_DIRECTORY.getName(), temporaryFolder.getRoot().getAbsolutePath());
+        config.setProperty(JOB_SCAN_PERIOD.getName(), "200");
+        instances = createHazelcastInstances(config, 2);
+        EmitIntegersP.savedCounters.clear();
+    }
+
+    @Test
+    public void when_snapshotTaken_then_chunksStoredInFilesOnAllMembers() throws IOException {
+        Job job = instances[0].getJet().newJob(dag(), new JobConfig()
+                .setProcessingGuarantee(EXACTLY_ONCE)
+                .setSnapshotIntervalMillis(100));
+        JobRepository jobRepository = new JobRepository(instances[0]);
+        waitForFirstSnapshot(jobRepository, job.getId(), 20, false);
+
+        // at most the validation record is in the maps
+        for (int dataMapIndex = 0; dataMapIndex < 2; dataMapIndex++) {
+            assertTrue(instances[0].getMap(snapshotDataMapName(job.getId(), dataMapIndex)).size() <= 1);
+        }
+        for (HazelcastInstance instance : instances) {
+            File memberDirectory = new File(temporaryFolder.getRoot(),
+                    instance.getCluster().getLocalMember().getUuid().toString());
+            assertFalse(listFiles(memberDirectory).isEmpty());
+        }
+
+        job.cancel();
+        assertTrueEventually(() -> assertEquals(0, listFiles(temporaryFolder.getRoot()).size()));
+    }
+
+    @Test
+    public void when_memberShutDown_then_stateRestoredFromCopyOnOtherMember() {
+        Job job = instances[0].getJet().newJob(dag(), new JobConfig()
+                .setProcessingGuarantee(EXACTLY_ONCE)
+                .setSnapshotIntervalMillis(HOURS.toMillis(1)));
+        assertJobStatusEventually(job, RUNNING);
+        sleepSeconds(1);
+
+        // the terminal snapshot is taken on both members, the restarted job reads
+        // the chunks taken on the shut down member from their copies
+        instances[1].shutdown();
+        job.join();
+
+        // if the counters are restored, items below the lower counter are emitted once per original processor
+        int minCounter = EmitIntegersP.savedCounters.values().stream().mapToInt(Integer::intValue).min().getAsInt();
+        Map<Integer, Integer> expected = IntStream.range(0, NUM_ITEMS).boxed()
+                .collect(Collectors.toMap(Function.identity(), item -> item < minCounter ? 2 : 1));
+        Map<Integer, Integer> actual = new ArrayList<>(instances[0].<Integer>getList("sink")).stream()
+                .collect(Collectors.toMap(Function.identity(), item -> 1, Integer::sum));
+        assertEquals(expected, actual);
+    }
+
+    private static DAG dag() {
+        DAG dag = new DAG();
+        Vertex source = dag.newVertex("source", throttle(() -> new EmitIntegersP(NUM_ITEMS), 5_000)).localParallelism(1);
+        Vertex sink = dag.newVertex("sink", SinkProcessors.writeListP("sink"));
+        dag.edge(between(source, sink));
+        return dag;
+    }
+
+    private static List<File> listFiles(File directory) throws IOException {
+        if (!directory.exists()) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> paths = Files.walk(directory.toPath())) {
+            return paths.map(Path::toFile)
+                        .filter(File::isFile)
+                        .collect(Collectors.toList());
+        }
+    }
+
+    private static final class EmitIntegersP extends AbstractProcessor {
+        static final ConcurrentMap<Integer, Integer> savedCounters = new ConcurrentHashMap<>();
+
+        private final int numItems;
+        private int counter;
+        private int globalIndex;
+
+        EmitIntegersP(int numItems) {
+            this.numItems = numItems;
+        }
+
+        @Override
+        protected void init(@Nonnull Context context) {
+            globalIndex = context.globalProcessorIndex();
+        }
+
+        @Override
+        public boolean complete() {
+            if (tryEmit(counter)) {
+                counter++;
+            }
+            return counter == numItems;
+        }
+
+        @Override
+        public boolean saveToSnapshot() {
+            savedCounters.put(globalIndex, counter);
+            return tryEmitToSnapshot(broadcastKey(globalIndex), counter);
+        }
+
+        @Override
+        protected void restoreFromSnapshot(@Nonnull Object key, @Nonnull Object value) {
+            counter = Math.max(counter, (Integer) value);
+        }
+    }
+}
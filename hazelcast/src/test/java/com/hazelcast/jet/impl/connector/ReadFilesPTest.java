@@ -23,6 +23,7 @@ import com.hazelcast.jet.pipeline.BatchSource;
 import com.hazelcast.jet.pipeline.Pipeline;
 import com.hazelcast.jet.pipeline.Sinks;
 import com.hazelcast.jet.pipeline.Sources;
+import com.hazelcast.jet.pipeline.file.impl.FileRangeInputStream;
 import com.hazelcast.test.annotation.ParallelJVMTest;
 import com.hazelcast.test.annotation.QuickTest;
 import org.junit.Before;
@@ -30,8 +31,10 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -41,6 +44,9 @@ import java.util.Objects;
 import java.util.stream.IntStream;
 
 import static com.hazelcast.jet.Util.entry;
+import static com.hazelcast.jet.impl.util.Util.uncheckRun;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toSet;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -94,6 +100,39 @@ public class ReadFilesPTest extends SimpleTestInClusterSupport {
         finishDirectory(file1);
     }
 
+    @Test
+    public void test_largeFile_when_splittable_then_readInRanges() throws Exception {
+        File file1 = new File(directory, randomName());
+        final int listLength = 10000;
+        appendToFile(file1, IntStream.range(0, listLength).mapToObj(String::valueOf).toArray(String[]::new));
+
+        IList<Entry<Long, String>> rangeList = instance().getList(randomName());
+        Pipeline p = Pipeline.create();
+        p.readFrom(Sources.<Entry<Long, String>>batchFromProcessor("source", ReadFilesP.metaSupplier(
+                directory.getPath(), "*", false, false,
+                path -> {
+                    throw new AssertionError("the file should be split");
+                },
+                (path, start, end) -> {
+                    FileRangeInputStream is = FileRangeInputStream.open(path, start, end);
+                    return new BufferedReader(new InputStreamReader(is, UTF_8)).lines()
+                                                                                .map(line -> entry(start, line))
+                                                                                .onClose(() -> uncheckRun(is::close));
+                },
+                1)))
+         .writeTo(Sinks.list(rangeList));
+
+        instance().getJet().newJob(p).join();
+
+        assertEquals(
+                IntStream.range(0, listLength).boxed().collect(toSet()),
+                rangeList.stream().map(e -> Integer.parseInt(e.getValue())).collect(toSet()));
+        assertEquals(listLength, rangeList.size());
+        assertTrue(rangeList.stream().map(Entry::getKey).distinct().count() > 1);
+
+        finishDirectory(file1);
+    }
+
     @Test
     public void when_glob_the_useGlob() throws Exception {
         Pipeline p = pipeline("file2.*");
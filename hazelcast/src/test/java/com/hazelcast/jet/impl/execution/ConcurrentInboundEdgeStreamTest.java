@@ -131,6 +131,14 @@ public class ConcurrentInboundEdgeStreamTest {
         drainAndAssert(MADE_PROGRESS, 2, barrier(0));
     }
 
+    @Test
+    public void when_receivingLatencyMarker_then_forwardedAfterPrecedingItems() {
+        LatencyMarker marker = new LatencyMarker(1);
+        add(q1, 1, marker, 2);
+        drainAndAssert(MADE_PROGRESS, 1, marker);
+        drainAndAssert(MADE_PROGRESS, 2);
+    }
+
     @Test
     public void when_receivingBarriers_then_waitForBarrier() {
         stream = ConcurrentInboundEdgeStream.create(conveyor, 0, 0, true, "cies", null);
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.execution;
+
+import com.hazelcast.internal.metrics.MetricDescriptor;
+import com.hazelcast.internal.metrics.MetricsCollectionContext;
+import com.hazelcast.internal.metrics.ProbeLevel;
+import com.hazelcast.internal.metrics.ProbeUnit;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.jet.core.metrics.MetricNames.EVENT_LATENCY_P50;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class EventLatencyTrackerTest {
+
+    @Test
+    public void when_markersReceived_then_latencyFromSourceRecorded() {
+        EventLatencyTracker tracker = new EventLatencyTracker(10);
+
+        tracker.onMarkerReceived(new LatencyMarker(1000), 2000);
+        tracker.onMarkerReceived(new LatencyMarker(1000), 61_000);
+
+        // the distribution has power-of-two buckets
+        long p50 = tracker.percentileMs(0.5);
+        long p999 = tracker.percentileMs(0.999);
+        assertTrue("p50=" + p50, p50 >= 1000 && p50 < 2000);
+        assertTrue("p999=" + p999, p999 >= 60_000 && p999 < 120_000);
+    }
+
+    @Test
+    public void when_markerFromFuture_then_zeroLatencyRecorded() {
+        EventLatencyTracker tracker = new EventLatencyTracker(10);
+
+        tracker.onMarkerReceived(new LatencyMarker(2000), 1000);
+
+        assertEquals(0, tracker.percentileMs(0.999));
+    }
+
+    @Test
+    public void when_markersReceived_then_latestForwardedOncePerInterval() {
+        EventLatencyTracker tracker = new EventLatencyTracker(10);
+        LatencyMarker marker1 = new LatencyMarker(1);
+        LatencyMarker marker2 = new LatencyMarker(2);
+        LatencyMarker marker3 = new LatencyMarker(3);
+
+        assertNull(tracker.markerToForward(100, false));
+        tracker.onMarkerReceived(marker1, 100);
+        tracker.onMarkerReceived(marker2, 100);
+        assertSame(marker2, tracker.markerToForward(100, false));
+        tracker.onMarkerForwarded(100);
+
+        tracker.onMarkerReceived(marker3, 105);
+        // the interval didn't elapse yet
+        assertNull(tracker.markerToForward(105, false));
+        assertSame(marker3, tracker.markerToForward(110, false));
+    }
+
+    @Test
+    public void when_outboxBusy_then_markerNotForwarded() {
+        EventLatencyTracker tracker = new EventLatencyTracker(10);
+        LatencyMarker marker = new LatencyMarker(1);
+
+        tracker.onMarkerReceived(marker, 100);
+
+        assertNull(tracker.markerToForward(100, true));
+        assertSame(marker, tracker.markerToForward(100, false));
+    }
+
+    @Test
+    public void when_markerOffered_then_sameMarkerReturnedUntilForwarded() {
+        EventLatencyTracker tracker = new EventLatencyTracker(10);
+        LatencyMarker marker1 = new LatencyMarker(1);
+        LatencyMarker marker2 = new LatencyMarker(2);
+
+        tracker.onMarkerReceived(marker1, 100);
+        assertSame(marker1, tracker.markerToForward(100, false));
+        // the offered marker must be retried, even if the outbox is busy with it
+        tracker.onMarkerReceived(marker2, 101);
+        assertSame(marker1, tracker.markerToForward(101, true));
+        tracker.onMarkerForwarded(101);
+
+        assertNull(tracker.markerToForward(200, false));
+    }
+
+    @Test
+    public void when_source_then_markerCreatedOncePerInterval() {
+        EventLatencyTracker tracker = new EventLatencyTracker(10);
+
+        tracker.maybeCreateMarker(100);
+        LatencyMarker marker = tracker.markerToForward(100, false);
+        assertEquals(new LatencyMarker(100), marker);
+        tracker.onMarkerForwarded(100);
+
+        tracker.maybeCreateMarker(105);
+        assertNull(tracker.markerToForward(105, false));
+        tracker.maybeCreateMarker(110);
+        assertEquals(new LatencyMarker(110), tracker.markerToForward(110, false));
+    }
+
+    @Test
+    public void when_noMarkerReceived_then_noMetrics() {
+        EventLatencyTracker tracker = new EventLatencyTracker(1);
+
+        MetricsCollectionContext context = mock(MetricsCollectionContext.class);
+        tracker.provideMetrics(mock(MetricDescriptor.class), context);
+        verify(context, never()).collect(any(MetricDescriptor.class), anyString(), any(ProbeLevel.class),
+                any(ProbeUnit.class), anyLong());
+    }
+
+    @Test
+    public void when_markerReceived_then_metricsCollected() {
+        EventLatencyTracker tracker = new EventLatencyTracker(1);
+        tracker.onMarkerReceived(new LatencyMarker(1000), 1500);
+
+        MetricsCollectionContext context = mock(MetricsCollectionContext.class);
+        MetricDescriptor descriptor = mock(MetricDescriptor.class);
+        tracker.provideMetrics(descriptor, context);
+        verify(context).collect(eq(descriptor), eq(EVENT_LATENCY_P50), eq(ProbeLevel.INFO), eq(ProbeUnit.MS),
+                eq(tracker.percentileMs(0.5)));
+        assertEquals(tracker.percentileMs(0.5), tracker.percentileMs(0.999));
+    }
+}
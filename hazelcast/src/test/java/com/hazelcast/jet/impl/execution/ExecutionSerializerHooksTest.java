@@ -55,6 +55,7 @@ public class ExecutionSerializerHooksTest {
         return Arrays.asList(
                 DONE_ITEM,
                 new SnapshotBarrier(17L, false),
+                new LatencyMarker(17L),
                 new BroadcastEntry<>("key", "value"),
                 broadcastKey("broadcast-key")
         );
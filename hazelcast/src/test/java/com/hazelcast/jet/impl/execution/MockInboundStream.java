@@ -67,7 +67,8 @@ public class MockInboundStream implements InboundEdgeStream {
             if (item == DONE_ITEM) {
                 done = true;
                 break;
-            } else if (!dest.test(item) || item instanceof SnapshotBarrier || item instanceof Watermark) {
+            } else if (!dest.test(item) || item instanceof SnapshotBarrier || item instanceof Watermark
+                    || item instanceof LatencyMarker) {
                 break;
             }
         }
@@ -16,6 +16,7 @@
 
 package com.hazelcast.jet.impl.execution;
 
+import com.hazelcast.internal.metrics.MetricsCollectionContext;
 import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
 import com.hazelcast.jet.core.Inbox;
 import com.hazelcast.jet.core.Outbox;
@@ -33,20 +34,29 @@ import org.junit.runner.RunWith;
 
 import javax.annotation.Nonnull;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
 import java.util.stream.IntStream;
 
+import static com.hazelcast.internal.metrics.impl.DefaultMetricDescriptorSupplier.DEFAULT_DESCRIPTOR_SUPPLIER;
 import static com.hazelcast.jet.core.TestUtil.DIRECT_EXECUTOR;
+import static com.hazelcast.jet.core.metrics.MetricNames.EVENT_LATENCY_P50;
+import static com.hazelcast.jet.core.metrics.MetricNames.TASKLET_BACKPRESSURE_TIME;
+import static com.hazelcast.jet.core.metrics.MetricNames.TASKLET_BUSY_TIME;
+import static com.hazelcast.jet.core.metrics.MetricNames.TASKLET_CALLS;
+import static com.hazelcast.jet.core.metrics.MetricNames.TASKLET_IDLE_CALLS;
 import static com.hazelcast.jet.impl.execution.DoneItem.DONE_ITEM;
 import static com.hazelcast.jet.impl.util.ProgressState.DONE;
 import static com.hazelcast.jet.impl.util.ProgressState.MADE_PROGRESS;
 import static com.hazelcast.jet.impl.util.ProgressState.NO_PROGRESS;
 import static com.hazelcast.test.HazelcastTestSupport.assertTrueEventually;
+import static com.hazelcast.test.HazelcastTestSupport.sleepMillis;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -54,6 +64,10 @@ import static java.util.stream.Collectors.toList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 
 @RunWith(HazelcastSerialClassRunner.class)
@@ -265,18 +279,130 @@ public class ProcessorTaskletTest {
         assertTrueEventually(() -> assertEquals(DONE, tasklet.call()), 2);
     }
 
+    @Test
+    public void when_profilingEnabled_then_callsAndBackpressureRecorded() {
+        // Given
+        MockInboundStream instream1 = new MockInboundStream(0, mockInput, mockInput.size());
+        MockOutboundStream outstream1 = new MockOutboundStream(0, 4);
+        instreams.add(instream1);
+        outstreams.add(outstream1);
+        ProcessorTasklet tasklet = createTasklet();
+        tasklet.initProfiling();
+
+        // When
+        assertEquals(MADE_PROGRESS, tasklet.call());
+        sleepMillis(1);
+        assertEquals(NO_PROGRESS, tasklet.call());
+        for (int i = 0; i < 3; i++) {
+            outstream1.flush();
+            tasklet.call();
+        }
+
+        // Then
+        Map<String, Long> metrics = new HashMap<>();
+        MetricsCollectionContext metricsContext = mock(MetricsCollectionContext.class);
+        doAnswer(invocation -> metrics.put(invocation.getArgument(1), invocation.getArgument(4)))
+                .when(metricsContext).collect(any(), anyString(), any(), any(), anyLong());
+        tasklet.provideDynamicMetrics(DEFAULT_DESCRIPTOR_SUPPLIER.get(), metricsContext);
+
+        assertEquals(5L, (long) metrics.get(TASKLET_CALLS));
+        assertTrue(metrics.get(TASKLET_IDLE_CALLS) >= 1);
+        assertTrue(metrics.get(TASKLET_BUSY_TIME) > 0);
+        assertTrue(metrics.get(TASKLET_BACKPRESSURE_TIME) > 0);
+    }
+
+    @Test
+    public void when_profilingDisabled_then_noProfilingMetrics() {
+        MockInboundStream instream1 = new MockInboundStream(0, mockInput, mockInput.size());
+        instreams.add(instream1);
+        outstreams.add(new MockOutboundStream(0));
+        ProcessorTasklet tasklet = createTasklet();
+        tasklet.call();
+
+        Map<String, Long> metrics = new HashMap<>();
+        MetricsCollectionContext metricsContext = mock(MetricsCollectionContext.class);
+        doAnswer(invocation -> metrics.put(invocation.getArgument(1), invocation.getArgument(4)))
+                .when(metricsContext).collect(any(), anyString(), any(), any(), anyLong());
+        tasklet.provideDynamicMetrics(DEFAULT_DESCRIPTOR_SUPPLIER.get(), metricsContext);
+
+        assertFalse(metrics.containsKey(TASKLET_CALLS));
+    }
+
+    @Test
+    public void when_latencyMarkerReceived_then_recordedAndForwardedAfterPrecedingItems() {
+        // Given
+        LatencyMarker marker = new LatencyMarker(System.currentTimeMillis() - 2000);
+        List<Object> input = asList(0, 1, marker, 2, DONE_ITEM);
+        instreams.add(new MockInboundStream(0, input, input.size()));
+        MockOutboundStream outstream1 = new MockOutboundStream(0);
+        outstreams.add(outstream1);
+        ProcessorTasklet tasklet = createTasklet();
+        tasklet.initEventLatencyTracking(1);
+
+        // When
+        callUntil(tasklet, DONE);
+
+        // Then
+        assertEquals(input, outstream1.getBuffer());
+        Map<String, Long> metrics = new HashMap<>();
+        MetricsCollectionContext metricsContext = mock(MetricsCollectionContext.class);
+        doAnswer(invocation -> metrics.put(invocation.getArgument(1), invocation.getArgument(4)))
+                .when(metricsContext).collect(any(), anyString(), any(), any(), anyLong());
+        tasklet.provideDynamicMetrics(DEFAULT_DESCRIPTOR_SUPPLIER.get(), metricsContext);
+        assertTrue("p50=" + metrics.get(EVENT_LATENCY_P50), metrics.get(EVENT_LATENCY_P50) >= 2000);
+    }
+
+    @Test
+    public void when_latencyTrackingDisabled_then_markerNotPassedToProcessor() {
+        // Given
+        LatencyMarker marker = new LatencyMarker(System.currentTimeMillis());
+        instreams.add(new MockInboundStream(0, asList(0, marker, 1, DONE_ITEM), 4));
+        MockOutboundStream outstream1 = new MockOutboundStream(0);
+        outstreams.add(outstream1);
+        ProcessorTasklet tasklet = createTasklet();
+
+        // When
+        callUntil(tasklet, DONE);
+
+        // Then
+        assertEquals(asList(0, 1, DONE_ITEM), outstream1.getBuffer());
+    }
+
+    @Test
+    public void when_sourceWithLatencyTracking_then_markerEmitted() {
+        // Given
+        MockOutboundStream outstream1 = new MockOutboundStream(0);
+        outstreams.add(outstream1);
+        processor.itemsToEmitInComplete = 1;
+        ProcessorTasklet tasklet = createTasklet(DIRECT_EXECUTOR, true);
+        tasklet.initEventLatencyTracking(60_000);
+
+        // When
+        callUntil(tasklet, DONE);
+
+        // Then
+        List<Object> output = outstream1.getBuffer();
+        assertEquals(3, output.size());
+        assertTrue(output.get(0) instanceof LatencyMarker);
+        assertEquals(asList("completing", DONE_ITEM), output.subList(1, 3));
+    }
+
     private ProcessorTasklet createTasklet() {
         return createTasklet(DIRECT_EXECUTOR);
     }
 
     private ProcessorTasklet createTasklet(ExecutorService executor) {
+        return createTasklet(executor, false);
+    }
+
+    private ProcessorTasklet createTasklet(ExecutorService executor, boolean isSource) {
         for (int i = 0; i < instreams.size(); i++) {
             instreams.get(i).setOrdinal(i);
         }
 
         final ProcessorTasklet t = new ProcessorTasklet(context, executor,
                 new DefaultSerializationServiceBuilder().build(), processor, instreams, outstreams,
-                mock(SnapshotContext.class), new MockOutboundCollector(10), false);
+                mock(SnapshotContext.class), new MockOutboundCollector(10), isSource);
         t.init();
         return t;
     }
@@ -88,6 +88,19 @@ public class StoreSnapshotTaskletTest extends JetTestSupport {
         assertEquals(DONE, sst.call());
     }
 
+    @Test
+    public void when_closed_then_ssWriterClosed() {
+        // Given
+        init(singletonList(DONE_ITEM));
+        assertEquals(DONE, sst.call());
+
+        // When
+        sst.close();
+
+        // Then
+        assertTrue(mockSsWriter.closed);
+    }
+
     @Test
     public void when_item_then_offeredToSsWriter() {
         // When
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.jet.SimpleTestInClusterSupport;
+import com.hazelcast.jet.core.test.TestInbox;
+import com.hazelcast.jet.core.test.TestOutbox;
+import com.hazelcast.jet.core.test.TestProcessorContext;
+import com.hazelcast.jet.core.test.TestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SortPTest extends SimpleTestInClusterSupport {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void setUp() {
+        initialize(1, null);
+    }
+
+    @Test
+    public void when_noSpilling_then_sortedInMemory() {
+        TestSupport
+                .verifyProcessor(() -> new SortP<Integer>(null))
+                .input(asList(5, 1, 9, 3, 7, 2, 8))
+                .disableSnapshots()
+                .expectOutput(asList(1, 2, 3, 5, 7, 8, 9));
+    }
+
+    @Test
+    public void when_moreItemsThanSpillThreshold_then_runsMerged() {
+        List<Integer> input = IntStream.range(0, 100).map(i -> (i * 37) % 100).boxed().collect(Collectors.toList());
+        List<Integer> expected = IntStream.range(0, 100).map(i -> 99 - i).boxed().collect(Collectors.toList());
+
+        TestSupport
+                .verifyProcessor(() -> new SortP<Integer>(Comparator.reverseOrder(), 7, null))
+                .hazelcastInstance(instance())
+                .input(input)
+                .disableSnapshots()
+                .expectOutput(expected);
+    }
+
+    @Test
+    public void when_itemCountMultipleOfSpillThreshold_then_runsMerged() {
+        TestSupport
+                .verifyProcessor(() -> new SortP<String>(Comparator.naturalOrder(), 2, null))
+                .hazelcastInstance(instance())
+                .input(asList("d", "b", "a", "c"))
+                .disableSnapshots()
+                .expectOutput(asList("a", "b", "c", "d"));
+    }
+
+    @Test
+    public void when_spillDirectoryConfigured_then_runsWrittenThereAndDeletedOnClose() throws Exception {
+        File spillDirectory = temporaryFolder.getRoot();
+        SortP<Integer> p = new SortP<>(null, 2, spillDirectory.getPath());
+        TestOutbox outbox = new TestOutbox(10);
+        p.init(outbox, new TestProcessorContext().setHazelcastInstance(instance()));
+        TestInbox inbox = new TestInbox(asList(4, 3, 2, 1, 0));
+
+        p.process(0, inbox);
+        assertTrue(inbox.isEmpty());
+        File[] processorDirectories = spillDirectory.listFiles();
+        assertNotNull(processorDirectories);
+        assertEquals(1, processorDirectories.length);
+        assertEquals(2, processorDirectories[0].list().length);
+
+        assertTrue(p.complete());
+        assertEquals(asList(0, 1, 2, 3, 4), new ArrayList<>(outbox.queue(0)));
+        p.close();
+        assertEquals(0, spillDirectory.list().length);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.function.BiFunctionEx;
+import com.hazelcast.function.FunctionEx;
+import com.hazelcast.function.SupplierEx;
+import com.hazelcast.function.ToLongFunctionEx;
+import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.core.test.TestSupport;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+import java.util.Map.Entry;
+
+import static com.hazelcast.jet.Util.entry;
+import static com.hazelcast.jet.core.JetTestSupport.wm;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+@Category({QuickTest.class, ParallelJVMTest.class})
+@RunWith(HazelcastParallelClassRunner.class)
+public class StreamStreamJoinPTest {
+
+    private static final int[] LEFT_FIRST = {0, 1};
+
+    @Test
+    public void when_timestampsWithinBounds_then_joined() {
+        TestSupport.verifyProcessor(supplier(0, 5))
+                   .inputs(asList(
+                           asList(event("a", 10), event("b", 10), event("a", 20)),
+                           asList(event("a", 10), event("a", 12), event("a", 16), event("c", 11), event("a", 9))
+                   ), LEFT_FIRST)
+                   .expectOutput(asList(
+                           "a@10-a@10",
+                           "a@10-a@12"
+                   ));
+    }
+
+    @Test
+    public void when_negativeLowerBound_then_earlierRightItemsJoined() {
+        TestSupport.verifyProcessor(supplier(-3, 0))
+                   .inputs(asList(
+                           singletonList(event("a", 10)),
+                           asList(event("a", 6), event("a", 7), event("a", 10), event("a", 11))
+                   ), LEFT_FIRST)
+                   .expectOutput(asList(
+                           "a@10-a@7",
+                           "a@10-a@10"
+                   ));
+    }
+
+    @Test
+    public void when_rightItemFirst_then_joinedWithLaterLeftItem() {
+        TestSupport.verifyProcessor(supplier(0, 5))
+                   .inputs(asList(
+                           asList(event("a", 10), event("a", 10)),
+                           singletonList(event("a", 13))
+                   ), new int[] {1, 0})
+                   .expectOutput(asList(
+                           "a@10-a@13",
+                           "a@10-a@13"
+                   ));
+    }
+
+    @Test
+    public void when_watermark_then_itemsStillInWindowJoined() {
+        TestSupport.verifyProcessor(supplier(0, 10))
+                   .inputs(asList(
+                           asList(event("a", 10), wm(20)),
+                           singletonList(event("a", 20))
+                   ), LEFT_FIRST)
+                   .expectOutput(asList(
+                           wm(20),
+                           "a@10-a@20"
+                   ));
+    }
+
+    @Test
+    public void when_watermarkPassesWindow_then_evictedAndLateItemsDropped() {
+        TestSupport.verifyProcessor(supplier(0, 10))
+                   .inputs(asList(
+                           asList(event("a", 10), wm(21)),
+                           asList(event("a", 15), event("a", 21))
+                   ), LEFT_FIRST)
+                   .expectOutput(singletonList(wm(21)));
+    }
+
+    @Test
+    public void when_mapToOutputFnReturnsNull_then_noOutput() {
+        TestSupport.verifyProcessor(supplier(0, 5, (l, r) -> null))
+                   .inputs(asList(
+                           singletonList(event("a", 10)),
+                           singletonList(event("a", 10))
+                   ), LEFT_FIRST)
+                   .expectOutput(emptyList());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void when_lowerBoundLargerThanUpperBound_then_fail() {
+        supplier(1, 0).get();
+    }
+
+    private static Entry<String, Long> event(String key, long timestamp) {
+        return entry(key, timestamp);
+    }
+
+    private static SupplierEx<Processor> supplier(long lowerBound, long upperBound) {
+        return supplier(lowerBound, upperBound,
+                (l, r) -> l.getKey() + '@' + l.getValue() + '-' + r.getKey() + '@' + r.getValue());
+    }
+
+    private static SupplierEx<Processor> supplier(
+            long lowerBound,
+            long upperBound,
+            BiFunctionEx<Entry<String, Long>, Entry<String, Long>, String> mapToOutputFn
+    ) {
+        List<FunctionEx<Entry<String, Long>, String>> keyFns = asList(Entry::getKey, Entry::getKey);
+        List<ToLongFunctionEx<Entry<String, Long>>> timestampFns = asList(Entry::getValue, Entry::getValue);
+        return () -> new StreamStreamJoinP<>(keyFns, timestampFns, lowerBound, upperBound, mapToOutputFn);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.jet.core.JetTestSupport;
+import com.hazelcast.jet.core.test.TestSupport;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Comparator;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class TopNPTest extends JetTestSupport {
+
+    @Test
+    public void when_moreItemsThanLimit_then_smallestEmittedInOrder() {
+        TestSupport
+                .verifyProcessor(() -> new TopNP<Integer>(Comparator.naturalOrder(), ctx -> 3))
+                .input(asList(5, 1, 9, 3, 7, 2, 8))
+                .disableSnapshots()
+                .expectOutput(asList(1, 2, 3));
+    }
+
+    @Test
+    public void when_fewerItemsThanLimit_then_allEmittedInOrder() {
+        TestSupport
+                .verifyProcessor(() -> new TopNP<Integer>(Comparator.reverseOrder(), ctx -> 10))
+                .input(asList(5, 1, 9))
+                .disableSnapshots()
+                .expectOutput(asList(9, 5, 1));
+    }
+
+    @Test
+    public void when_limitZero_then_nothingEmitted() {
+        TestSupport
+                .verifyProcessor(() -> new TopNP<Integer>(Comparator.naturalOrder(), ctx -> 0))
+                .input(asList(5, 1, 9))
+                .disableSnapshots()
+                .expectOutput(emptyList());
+    }
+}
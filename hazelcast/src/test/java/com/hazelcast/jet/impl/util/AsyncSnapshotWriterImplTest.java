@@ -29,6 +29,7 @@ import com.hazelcast.jet.core.JetTestSupport;
 import com.hazelcast.jet.impl.JetServiceBackend;
 import com.hazelcast.jet.impl.execution.SnapshotContext;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.CustomByteArrayOutputStream;
+import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataCompressedValue;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataKey;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataValueTerminator;
 import com.hazelcast.map.IMap;
@@ -54,6 +55,7 @@ import java.util.stream.Stream;
 
 import static com.hazelcast.jet.Util.entry;
 import static com.hazelcast.jet.impl.util.Util.uncheckCall;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SNAPSHOT_COMPRESSION_ENABLED;
 import static java.util.Collections.nCopies;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Stream.generate;
@@ -301,6 +303,40 @@ public class AsyncSnapshotWriterImplTest extends JetTestSupport {
         when(snapshotContext.currentMapName()).thenReturn("map1");
     }
 
+    @Test
+    public void when_compressionEnabled_then_chunkCompressedAndReadable() throws IOException {
+        // Given
+        Config config = new Config().setProperty(JET_SNAPSHOT_COMPRESSION_ENABLED.getName(), "true");
+        config.getJetConfig().setEnabled(true);
+        HazelcastInstance instance = createHazelcastInstance(config);
+        NodeEngineImpl nodeEngine = Util.getNodeEngine(instance);
+        writer = new AsyncSnapshotWriterImpl(4096, nodeEngine, snapshotContext, "vertex", 0, 1,
+                nodeEngine.getSerializationService());
+        String value = String.join("", nCopies(100, "a"));
+        int entryCount = 20;
+
+        // When
+        for (int i = 0; i < entryCount; i++) {
+            assertTrue(writer.offer(entry(serialize("k"), serialize(value + i))));
+        }
+        assertTrue(writer.flushAndResetMap());
+        assertTrueEventually(() -> assertFalse(uncheckCall(() -> writer.hasPendingAsyncOps())));
+
+        // Then
+        IMap<SnapshotDataKey, Object> compressedMap = instance.getMap("map1");
+        assertEquals(1, compressedMap.size());
+        Object chunk = compressedMap.values().iterator().next();
+        assertTrue(chunk instanceof SnapshotDataCompressedValue);
+        assertTrue("chunk not compressed", writer.getTotalPayloadBytes() < entryCount * value.length());
+        BufferObjectDataInput in = serializationService.createObjectDataInput(
+                ((SnapshotDataCompressedValue) chunk).decompress());
+        for (int i = 0; i < entryCount; i++) {
+            assertEquals("k", in.readObject());
+            assertEquals(value + i, in.readObject());
+        }
+        assertEquals(SnapshotDataValueTerminator.INSTANCE, in.readObject());
+    }
+
     private void assertTargetMapEntry(String key, int sequence, int entryLength) {
         int partitionKey = writer.partitionKey(partitionService.getPartitionId(key));
         SnapshotDataKey mapKey = new SnapshotDataKey(partitionKey, 1, "vertex", sequence);
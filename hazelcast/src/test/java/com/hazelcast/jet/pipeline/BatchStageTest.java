@@ -633,6 +633,33 @@ public class BatchStageTest extends PipelineTestSupport {
                 streamToString(sinkStreamOfEntry(), formatFn));
     }
 
+    @Test
+    public void mapUsingIMapBatched() {
+        // Given
+        List<Integer> input = sequence(itemCount);
+        String prefix = "value-";
+        IMap<Integer, String> map = member.getMap(randomMapName());
+        for (int i : input) {
+            if (i % 2 == 0) {
+                map.put(i, prefix + i);
+            }
+        }
+
+        // When
+        BatchStage<Entry<Integer, String>> stage = batchStageFromList(input)
+                .mapUsingIMapBatched(map, 16, FunctionEx.identity(),
+                        (Integer i, String v) -> v == null ? null : entry(i, v));
+
+        // Then
+        stage.writeTo(sink);
+        execute();
+        Function<Entry<Integer, String>, String> formatFn =
+                e -> String.format("(%04d, %s)", e.getKey(), e.getValue());
+        assertEquals(
+                streamToString(input.stream().filter(i -> i % 2 == 0).map(i -> entry(i, prefix + i)), formatFn),
+                streamToString(sinkStreamOfEntry(), formatFn));
+    }
+
     @Test
     public void mapUsingIMap_keyed() {
         // Given
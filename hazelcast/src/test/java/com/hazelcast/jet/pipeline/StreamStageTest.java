@@ -1094,6 +1094,40 @@ public class StreamStageTest extends PipelineStreamTestSupport {
         );
     }
 
+    @Test
+    public void windowedJoin() {
+        // Given
+        List<Integer> input = sequence(itemCount);
+        int upperBound = 2;
+
+        // When
+        StreamStage<Integer> left = streamStageFromList(input);
+        StreamStage<Integer> right = streamStageFromList(input);
+        StreamStage<Entry<Integer, Integer>> joined = left
+                .groupingKey(i -> i % 2)
+                .windowedJoin(right.groupingKey(i -> i % 2), 0, upperBound, (l, r) -> entry(l, r));
+
+        // Then
+        joined.writeTo(sink);
+        execute();
+        Function<Entry<Integer, Integer>, String> formatFn = e -> String.format("(%04d, %04d)", e.getKey(), e.getValue());
+        assertEquals(
+                streamToString(input.stream().flatMap(i -> Stream.of(i, i + upperBound)
+                                                                   .filter(j -> j < itemCount)
+                                                                   .map(j -> entry(i, j))),
+                        formatFn),
+                streamToString(sinkStreamOfEntry(), formatFn));
+    }
+
+    @Test
+    public void windowedJoin_when_lowerBoundLargerThanUpperBound_then_fail() {
+        StreamStageWithKey<Integer, Integer> left = streamStageFromList(sequence(itemCount)).groupingKey(i -> i);
+        StreamStageWithKey<Integer, Integer> right = streamStageFromList(sequence(itemCount)).groupingKey(i -> i);
+
+        exception.expect(IllegalArgumentException.class);
+        left.windowedJoin(right, 1, 0, (l, r) -> entry(l, r));
+    }
+
     @Test
     public void rollingAggregate() {
         // Given
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.pipeline.file.impl;
+
+import com.hazelcast.jet.impl.util.IOUtil;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class FileRangeInputStreamTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void when_rangesCoverFile_then_eachLineReadOnce() throws IOException {
+        String content = IntStream.range(0, 1000)
+                                  .mapToObj(i -> "line-" + i + "-" + repeat(i % 17))
+                                  .collect(Collectors.joining("\n", "", "\n"));
+        Path path = write(content);
+
+        for (int splitCount = 1; splitCount <= 64; splitCount++) {
+            assertThat(readSplits(path, content.length(), splitCount)).isEqualTo(content);
+        }
+    }
+
+    @Test
+    public void when_noTrailingNewLine_then_lastLineRead() throws IOException {
+        String content = "a\nbb\nccc\ndddd";
+        Path path = write(content);
+
+        for (int splitCount = 1; splitCount <= content.length(); splitCount++) {
+            assertThat(readSplits(path, content.length(), splitCount)).isEqualTo(content);
+        }
+    }
+
+    @Test
+    public void when_rangeStartsAtLineStart_then_lineBelongsToRange() throws IOException {
+        Path path = write("aa\nbb\ncc\n");
+
+        assertThat(read(path, 0, 3)).isEqualTo("aa\n");
+        assertThat(read(path, 3, 6)).isEqualTo("bb\n");
+        assertThat(read(path, 6, 9)).isEqualTo("cc\n");
+    }
+
+    @Test
+    public void when_rangeInsideLine_then_empty() throws IOException {
+        Path path = write("a very long line\n");
+
+        try (FileRangeInputStream is = FileRangeInputStream.open(path, 2, 10)) {
+            assertThat(is.isEmpty()).isTrue();
+            assertThat(is.read()).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    public void when_lineLongerThanBuffer_then_readFully() throws IOException {
+        String longLine = repeat(FileRangeInputStream.BUFFER_SIZE * 3);
+        String content = "a\n" + longLine + "\nb\n";
+        Path path = write(content);
+
+        assertThat(read(path, 0, 3)).isEqualTo("a\n" + longLine + "\n");
+        assertThat(read(path, 3, content.length())).isEqualTo("b\n");
+    }
+
+    @Test
+    public void test_isSplittable() {
+        assertThat(FileRangeInputStream.isSplittable(UTF_8)).isTrue();
+        assertThat(FileRangeInputStream.isSplittable(ISO_8859_1)).isTrue();
+        assertThat(FileRangeInputStream.isSplittable(UTF_16)).isFalse();
+    }
+
+    private Path write(String content) throws IOException {
+        Path path = temporaryFolder.newFile().toPath();
+        Files.write(path, content.getBytes(UTF_8));
+        return path;
+    }
+
+    private static String readSplits(Path path, long size, int splitCount) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < splitCount; i++) {
+            sb.append(read(path, size * i / splitCount, size * (i + 1) / splitCount));
+        }
+        return sb.toString();
+    }
+
+    private static String read(Path path, long start, long end) throws IOException {
+        try (InputStream is = FileRangeInputStream.open(path, start, end)) {
+            return new String(IOUtil.readFully(is), UTF_8);
+        }
+    }
+
+    private static String repeat(int count) {
+        StringBuilder sb = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            sb.append('x');
+        }
+        return sb.toString();
+    }
+}
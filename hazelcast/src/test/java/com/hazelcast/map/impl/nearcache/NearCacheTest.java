@@ -47,6 +47,7 @@ import org.junit.runners.Parameterized;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
@@ -476,6 +477,35 @@ public class NearCacheTest extends NearCacheTestSupport {
         assertEquals(format("Near Cache hits should be %d but were %d", expectedHits, hits), expectedHits, hits);
     }
 
+    @Test
+    public void testGetAllAsync() throws Exception {
+        int mapSize = 1000;
+        String mapName = "testGetAllAsyncWithNearCache";
+
+        Config config = getConfig();
+        config.getMapConfig(mapName).setNearCacheConfig(newNearCacheConfig().setInvalidateOnChange(false));
+
+        TestHazelcastInstanceFactory hazelcastInstanceFactory = createHazelcastInstanceFactory(2);
+        HazelcastInstance instance1 = hazelcastInstanceFactory.newHazelcastInstance(config);
+        hazelcastInstanceFactory.newHazelcastInstance(config);
+
+        IMap<Integer, Integer> map = instance1.getMap(mapName);
+        populateMap(map, mapSize);
+        populateNearCache(map, mapSize);
+        long hitsBefore = getNearCacheStats(map).getHits();
+
+        Set<Integer> keys = new HashSet<>(map.keySet());
+        keys.add(mapSize);
+        Map<Integer, Integer> allEntries = ((NearCachedMapProxyImpl<Integer, Integer>) map).getAllAsync(keys).get();
+
+        assertEquals(mapSize, allEntries.size());
+        for (int i = 0; i < mapSize; i++) {
+            assertEquals(i, (int) allEntries.get(i));
+        }
+        long hits = getNearCacheStats(map).getHits() - hitsBefore;
+        assertTrue(format("Near Cache hits should be > 0 but were %d", hits), hits > 0);
+    }
+
     @Test
     public void testGetAsync() {
         int mapSize = 1000;
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl.getters;
+
+import com.hazelcast.config.CompactSerializationConfig;
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.internal.serialization.impl.compact.CompactTestUtil;
+import com.hazelcast.internal.serialization.impl.compact.SchemaService;
+import com.hazelcast.nio.serialization.GenericRecord;
+import com.hazelcast.nio.serialization.GenericRecordBuilder;
+import com.hazelcast.test.HazelcastParametrizedRunner;
+import com.hazelcast.test.HazelcastParallelParametersRunnerFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+@RunWith(HazelcastParametrizedRunner.class)
+@Parameterized.UseParametersRunnerFactory(HazelcastParallelParametersRunnerFactory.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CompactGetterTest {
+
+    @Parameterized.Parameter
+    public ByteOrder byteOrder;
+
+    private InternalSerializationService serializationService;
+    private CompactGetter getter;
+
+    @Parameterized.Parameters(name = "byteOrder:{0}")
+    public static Collection<Object> parameters() {
+        return Arrays.asList(ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Before
+    public void setUp() {
+        SchemaService schemaService = CompactTestUtil.createInMemorySchemaService();
+        CompactSerializationConfig compactSerializationConfig = new CompactSerializationConfig().setEnabled(true);
+        serializationService = new DefaultSerializationServiceBuilder()
+                .setSchemaService(schemaService)
+                .setByteOrder(byteOrder)
+                .setConfig(new SerializationConfig().setCompactSerializationConfig(compactSerializationConfig))
+                .build();
+        getter = new CompactGetter(serializationService);
+    }
+
+    @Test
+    public void when_fixedSizeFields_then_readFromBinary() throws Exception {
+        GenericRecord record = GenericRecordBuilder.compact("fixed")
+                .setBoolean("bool1", true)
+                .setBoolean("bool2", false)
+                .setBoolean("bool3", true)
+                .setByte("byte", (byte) -3)
+                .setChar("char", 'x')
+                .setShort("short", (short) -1234)
+                .setInt("int", 123456789)
+                .setLong("long", -1234567890123L)
+                .setFloat("float", 1.5f)
+                .setDouble("double", -2.25d)
+                .build();
+        Data data = serializationService.toData(record);
+
+        // twice, the second time the cached read plans are used
+        for (int i = 0; i < 2; i++) {
+            assertEquals(true, getter.getValue(data, "bool1"));
+            assertEquals(false, getter.getValue(data, "bool2"));
+            assertEquals(true, getter.getValue(data, "bool3"));
+            assertEquals((byte) -3, getter.getValue(data, "byte"));
+            assertEquals('x', getter.getValue(data, "char"));
+            assertEquals((short) -1234, getter.getValue(data, "short"));
+            assertEquals(123456789, getter.getValue(data, "int"));
+            assertEquals(-1234567890123L, getter.getValue(data, "long"));
+            assertEquals(1.5f, getter.getValue(data, "float"));
+            assertEquals(-2.25d, getter.getValue(data, "double"));
+            assertNull(getter.getValue(data, "missing"));
+        }
+    }
+
+    @Test
+    public void when_variableSizeFields_then_fixedSizeFieldsReadAfterDataLength() throws Exception {
+        GenericRecord nested = GenericRecordBuilder.compact("nested")
+                .setInt("value", 42)
+                .build();
+        GenericRecord record = GenericRecordBuilder.compact("mixed")
+                .setString("string", "foo")
+                .setInt("int", 7)
+                .setLong("long", 8L)
+                .setGenericRecord("nested", nested)
+                .build();
+        Data data = serializationService.toData(record);
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals("foo", getter.getValue(data, "string"));
+            assertEquals(7, getter.getValue(data, "int"));
+            assertEquals(8L, getter.getValue(data, "long"));
+            assertEquals(42, getter.getValue(data, "nested.value"));
+        }
+    }
+
+    @Test
+    public void when_differentSchemasOfSameType_then_eachReadCorrectly() throws Exception {
+        Data v1 = serializationService.toData(GenericRecordBuilder.compact("evolving")
+                .setInt("a", 1)
+                .setLong("b", 2L)
+                .build());
+        Data v2 = serializationService.toData(GenericRecordBuilder.compact("evolving")
+                .setByte("aa", (byte) 0)
+                .setInt("a", 10)
+                .setString("s", "bar")
+                .build());
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(1, getter.getValue(v1, "a"));
+            assertEquals(2L, getter.getValue(v1, "b"));
+            assertEquals(10, getter.getValue(v2, "a"));
+            assertNull(getter.getValue(v2, "b"));
+        }
+    }
+}
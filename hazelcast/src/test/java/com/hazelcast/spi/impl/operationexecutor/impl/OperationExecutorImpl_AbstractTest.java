@@ -237,6 +237,12 @@ public abstract class OperationExecutorImpl_AbstractTest extends HazelcastTestSu
             return false;
         }
 
+        @Override
+        public Operation toOperation(Packet packet) {
+            packets.add(packet);
+            return serializationService.toObject(packet);
+        }
+
         @Override
         public boolean run(Operation task) {
             operations.add(task);
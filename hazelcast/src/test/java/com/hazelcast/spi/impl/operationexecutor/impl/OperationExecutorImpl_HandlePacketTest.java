@@ -28,6 +28,8 @@ import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
 import static com.hazelcast.internal.nio.Packet.FLAG_OP_RESPONSE;
+import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_SCHEDULER_WEIGHTS;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -84,6 +86,30 @@ public class OperationExecutorImpl_HandlePacketTest extends OperationExecutorImp
         });
     }
 
+    @Test
+    public void test_whenPartitionSpecificOperationPacket_andWeightedScheduling() {
+        config.setProperty(OPERATION_SCHEDULER_WEIGHTS.getName(), "dummyService=4");
+        initExecutor();
+
+        final DummyOperation operation = new DummyPartitionOperation();
+        operation.setServiceName("dummyService");
+        final Packet packet = new Packet(serializationService.toBytes(operation), operation.getPartitionId())
+                .setPacketType(Packet.Type.OPERATION);
+        executor.accept(packet);
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                OperationRunner[] partitionHandlers = executor.getPartitionOperationRunners();
+                DummyOperationRunner handler = (DummyOperationRunner) partitionHandlers[operation.getPartitionId()];
+                assertContains(handler.packets, packet);
+                // the operation is deserialized and scheduled again in the queue of its service before it runs
+                assertEquals(1, handler.operations.size());
+                assertEquals("dummyService", handler.operations.get(0).getServiceName());
+            }
+        });
+    }
+
     @Test
     public void test_whenGenericOperationPacket() {
         initExecutor();
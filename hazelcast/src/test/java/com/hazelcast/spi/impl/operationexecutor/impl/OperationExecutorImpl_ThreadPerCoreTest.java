@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.spi.impl.operationexecutor.impl;
+
+import com.hazelcast.internal.metrics.MetricsRegistry;
+import com.hazelcast.internal.metrics.impl.MetricsRegistryImpl;
+import com.hazelcast.internal.networking.ChannelErrorHandler;
+import com.hazelcast.internal.networking.nio.HostedEventLoops;
+import com.hazelcast.internal.networking.nio.NioNetworking;
+import com.hazelcast.internal.networking.nio.NioThread;
+import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.hazelcast.internal.metrics.ProbeLevel.INFO;
+import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_SCHEDULER_WEIGHTS;
+import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_THREAD_PER_CORE_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_OPERATION_THREAD_COUNT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class OperationExecutorImpl_ThreadPerCoreTest extends OperationExecutorImpl_AbstractTest {
+
+    private NioNetworking networking;
+
+    @Before
+    public void setUp() {
+        config.setProperty(OPERATION_THREAD_PER_CORE_ENABLED.getName(), "true");
+        config.setProperty(PARTITION_OPERATION_THREAD_COUNT.getName(), "2");
+    }
+
+    @After
+    public void tearDown() {
+        if (networking != null) {
+            networking.shutdown();
+        }
+    }
+
+    @Test
+    public void whenDisabled_thenNoHostedEventLoops() {
+        config.setProperty(OPERATION_THREAD_PER_CORE_ENABLED.getName(), "false");
+        initExecutor();
+
+        assertNull(executor.getHostedEventLoops());
+    }
+
+    @Test
+    public void whenEnabled_thenEventLoopPerPartitionThread() {
+        initExecutor();
+
+        HostedEventLoops eventLoops = executor.getHostedEventLoops();
+        assertNotNull(eventLoops);
+        assertEquals(executor.getPartitionThreadCount(), eventLoops.count());
+        assertNull(eventLoops.get(0));
+    }
+
+    @Test
+    public void whenSchedulerWeightsConfigured_thenIgnored() {
+        config.setProperty(OPERATION_SCHEDULER_WEIGHTS.getName(), "orders=4");
+        initExecutor();
+
+        PartitionOperationThread partitionThread = assertExecutedOnPartitionThread(0);
+        assertInstanceOf(EventLoopOperationQueue.class, partitionThread.queue);
+    }
+
+    @Test
+    public void whenNoEventLoopAttached_thenOperationsExecuted() {
+        initExecutor();
+
+        assertExecutedOnPartitionThread(0);
+        assertExecutedOnPartitionThread(1);
+    }
+
+    @Test
+    public void whenEventLoopsAttached_thenPartitionThreadsRunEventLoops() {
+        initExecutor();
+        startNetworking();
+
+        NioThread[] inputThreads = networking.getInputThreads();
+        assertEquals(executor.getPartitionThreadCount(), inputThreads.length);
+        for (int i = 0; i < inputThreads.length; i++) {
+            assertSame(inputThreads[i], executor.getHostedEventLoops().get(i));
+            assertFalse(inputThreads[i].isAlive());
+            // partition i is owned by partition thread i
+            assertEventLoopRunBy(inputThreads[i], assertExecutedOnPartitionThread(i));
+        }
+    }
+
+    @Test
+    public void whenNetworkingShutdown_thenEventLoopsDetached() {
+        initExecutor();
+        startNetworking();
+
+        networking.shutdown();
+        networking = null;
+
+        assertNull(executor.getHostedEventLoops().get(0));
+        assertExecutedOnPartitionThread(0);
+    }
+
+    private void startNetworking() {
+        MetricsRegistry metricsRegistry = new MetricsRegistryImpl(loggingService.getLogger(MetricsRegistryImpl.class), INFO);
+        networking = new NioNetworking(
+                new NioNetworking.Context()
+                        .loggingService(loggingService)
+                        .metricsRegistry(metricsRegistry)
+                        .errorHandler(mock(ChannelErrorHandler.class))
+                        .hostedEventLoops(executor.getHostedEventLoops()));
+        networking.restart();
+    }
+
+    private PartitionOperationThread assertExecutedOnPartitionThread(int partitionId) {
+        AtomicReference<Thread> executingThread = new AtomicReference<>();
+        executor.execute(new Operation() {
+            @Override
+            public void run() {
+                executingThread.set(Thread.currentThread());
+            }
+        }.setPartitionId(partitionId));
+
+        assertTrueEventually(() -> assertInstanceOf(PartitionOperationThread.class, executingThread.get()));
+        PartitionOperationThread partitionThread = (PartitionOperationThread) executingThread.get();
+        assertEquals(executor.getPartitionThreadId(partitionId), partitionThread.threadId);
+        return partitionThread;
+    }
+
+    private static void assertEventLoopRunBy(NioThread eventLoop, Thread expected) {
+        AtomicReference<Thread> executingThread = new AtomicReference<>();
+        eventLoop.addTaskAndWakeup(() -> {
+            assertTrue(eventLoop.isEventLoopThread());
+            executingThread.set(Thread.currentThread());
+        });
+
+        assertTrueEventually(() -> assertSame(expected, executingThread.get()));
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationexecutor.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastTestSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.openjdk.jmh.runner.options.VerboseMode;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_THREAD_PER_CORE_ENABLED;
+
+/**
+ * Compares the thread-per-core mode to the dedicated input threads on a
+ * two member cluster. The calling member invokes operations on partitions
+ * owned by the other member, so every operation is read from the socket by
+ * the other member and handed over to one of its partition threads, which
+ * is the path the thread-per-core mode changes.
+ * <p>
+ * {@code get} measures the round trip of a single synchronous invocation,
+ * where the partition thread is mostly idle and has to be woken up.
+ * {@code setAsyncBatch} keeps {@link #BATCH_SIZE} invocations in flight,
+ * so the partition threads are busy and the wakeups are mostly elided.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ThreadPerCoreBenchmark {
+
+    private static final int KEY_COUNT = 100;
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"false", "true"})
+    public boolean threadPerCore;
+
+    private HazelcastInstance caller;
+    private IMap<String, Integer> map;
+    private String[] keys;
+    private int index;
+
+    @Setup
+    public void setup() {
+        caller = Hazelcast.newHazelcastInstance(getConfig());
+        HazelcastInstance owner = Hazelcast.newHazelcastInstance(getConfig());
+        HazelcastTestSupport.assertClusterSizeEventually(2, caller, owner);
+        HazelcastTestSupport.waitAllForSafeState(caller, owner);
+
+        map = caller.getMap("map");
+        keys = new String[KEY_COUNT];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = HazelcastTestSupport.generateKeyOwnedBy(owner);
+            map.set(keys[i], i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        Hazelcast.shutdownAll();
+    }
+
+    @Benchmark
+    public Integer get() {
+        return map.get(nextKey());
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void setAsyncBatch() {
+        CompletableFuture<Void>[] futures = new CompletableFuture[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            futures[i] = map.setAsync(nextKey(), i).toCompletableFuture();
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+
+    private String nextKey() {
+        index = index == keys.length - 1 ? 0 : index + 1;
+        return keys[index];
+    }
+
+    private Config getConfig() {
+        Config config = new Config();
+        config.setProperty(OPERATION_THREAD_PER_CORE_ENABLED.getName(), String.valueOf(threadPerCore));
+        JoinConfig join = config.getNetworkConfig().getJoin();
+        join.getMulticastConfig().setEnabled(false);
+        join.getTcpIpConfig().addMember("127.0.0.1").setEnabled(true);
+        return config;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(ThreadPerCoreBenchmark.class.getSimpleName())
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(2))
+                .verbosity(VerboseMode.NORMAL)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.spi.impl.operationexecutor.impl;
+
+import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.networking.nio.NioNetworking;
+import com.hazelcast.internal.networking.nio.NioThread;
+import com.hazelcast.internal.server.tcp.TcpServer;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_THREAD_PER_CORE_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_OPERATION_THREAD_COUNT;
+import static com.hazelcast.test.Accessors.getNode;
+import static com.hazelcast.test.Accessors.getOperationService;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class ThreadPerCoreIntegrationTest extends HazelcastTestSupport {
+
+    private static final int PARTITION_THREAD_COUNT = 3;
+    private static final int ENTRY_COUNT = 1000;
+
+    private HazelcastInstance member1;
+    private HazelcastInstance member2;
+
+    @Before
+    public void setUp() {
+        member1 = Hazelcast.newHazelcastInstance(getConfig());
+        member2 = Hazelcast.newHazelcastInstance(getConfig());
+        assertClusterSizeEventually(2, member1, member2);
+    }
+
+    @After
+    public void tearDown() {
+        HazelcastClient.shutdownAll();
+        Hazelcast.shutdownAll();
+    }
+
+    @Test
+    public void testInputEventLoopsHostedByPartitionThreads() {
+        for (HazelcastInstance member : new HazelcastInstance[]{member1, member2}) {
+            NioNetworking networking = (NioNetworking) ((TcpServer) getNode(member).getServer()).getNetworking();
+            NioThread[] inputThreads = networking.getInputThreads();
+
+            OperationExecutorImpl operationExecutor = (OperationExecutorImpl) getOperationService(member).getOperationExecutor();
+            assertEquals(PARTITION_THREAD_COUNT, inputThreads.length);
+            for (int i = 0; i < inputThreads.length; i++) {
+                assertFalse(inputThreads[i].isAlive());
+                assertEquals(inputThreads[i], operationExecutor.getHostedEventLoops().get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testMemberOperations() {
+        IMap<Integer, Integer> map = member1.getMap("map");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+
+        IMap<Integer, Integer> otherMap = member2.getMap("map");
+        assertEquals(ENTRY_COUNT, otherMap.size());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(i, (int) otherMap.get(i));
+        }
+    }
+
+    @Test
+    public void testClientOperations() {
+        HazelcastInstance client = HazelcastClient.newHazelcastClient(new ClientConfig());
+
+        IMap<Integer, Integer> map = client.getMap("map");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.set(i, i);
+        }
+
+        assertEquals(ENTRY_COUNT, map.size());
+        assertEquals(ENTRY_COUNT, map.getAll(map.keySet()).size());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(i, (int) member2.<Integer, Integer>getMap("map").get(i));
+        }
+    }
+
+    @Override
+    protected Config getConfig() {
+        Config config = new Config();
+        config.setProperty(OPERATION_THREAD_PER_CORE_ENABLED.getName(), "true");
+        config.setProperty(PARTITION_OPERATION_THREAD_COUNT.getName(), String.valueOf(PARTITION_THREAD_COUNT));
+        JoinConfig join = config.getNetworkConfig().getJoin();
+        join.getMulticastConfig().setEnabled(false);
+        join.getTcpIpConfig().addMember("127.0.0.1").setEnabled(true);
+        return config;
+    }
+}
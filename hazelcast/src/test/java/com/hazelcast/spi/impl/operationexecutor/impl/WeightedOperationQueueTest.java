@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationexecutor.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.impl.operationservice.NamedOperation;
+import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hazelcast.spi.impl.operationexecutor.impl.SchedulingClass.DEFAULT_CLASS_NAME;
+import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_SCHEDULER_WEIGHTS;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class WeightedOperationQueueTest extends HazelcastTestSupport {
+
+    private List<SchedulingClass> classes;
+    private WeightedOperationQueue queue;
+
+    @Before
+    public void setup() {
+        classes = SchedulingClass.parse("critical=4,hz:impl:queueService=2");
+        queue = new WeightedOperationQueue(classes, null);
+        queue.setConsumerThread(Thread.currentThread());
+    }
+
+    // ================== parse =====================
+
+    @Test
+    public void parse_whenEmpty() {
+        assertTrue(SchedulingClass.parse("").isEmpty());
+        assertTrue(SchedulingClass.parse(" ").isEmpty());
+        assertTrue(SchedulingClass.parse(null).isEmpty());
+    }
+
+    @Test
+    public void parse() {
+        assertEquals(3, classes.size());
+        assertClass(classes.get(0), DEFAULT_CLASS_NAME, 1);
+        assertClass(classes.get(1), "critical", 4);
+        assertClass(classes.get(2), "hz:impl:queueService", 2);
+    }
+
+    @Test
+    public void parse_whenDefaultWeight() {
+        List<SchedulingClass> parsed = SchedulingClass.parse("critical=1, default=3");
+
+        assertEquals(2, parsed.size());
+        assertClass(parsed.get(0), DEFAULT_CLASS_NAME, 3);
+        assertClass(parsed.get(1), "critical", 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parse_whenNoWeight() {
+        SchedulingClass.parse("critical");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parse_whenWeightNotANumber() {
+        SchedulingClass.parse("critical=high");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parse_whenWeightNotPositive() {
+        SchedulingClass.parse("critical=0");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parse_whenDuplicate() {
+        SchedulingClass.parse("critical=1,critical=2");
+    }
+
+    // ================== classIndex =====================
+
+    @Test
+    public void classIndex() {
+        assertEquals(1, queue.classIndex(new NamedDummyOperation("critical", "hz:impl:mapService")));
+        assertEquals(2, queue.classIndex(new NamedDummyOperation("other", "hz:impl:queueService")));
+        assertEquals(0, queue.classIndex(new NamedDummyOperation("other", "hz:impl:mapService")));
+        assertEquals(0, queue.classIndex(new Packet()));
+        assertEquals(0, queue.classIndex(new Object()));
+    }
+
+    // ================== add/take =====================
+
+    @Test(expected = NullPointerException.class)
+    public void add_whenNull() {
+        queue.add(null, false);
+    }
+
+    @Test
+    public void take_whenPriority_thenTakenFirst() throws InterruptedException {
+        Object normalTask = new Object();
+        Object priorityTask = new Object();
+        queue.add(normalTask, false);
+        queue.add(priorityTask, true);
+
+        assertEquals(1, queue.normalSize());
+        assertEquals(1, queue.prioritySize());
+        assertEquals(2, queue.size());
+
+        assertSame(priorityTask, queue.take(false));
+        assertSame(normalTask, queue.take(false));
+        assertEquals(0, queue.size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void take_whenPriorityOnly() throws InterruptedException {
+        queue.take(true);
+    }
+
+    @Test
+    public void take_preservesOrderWithinClass() throws InterruptedException {
+        List<Object> critical = new ArrayList<>();
+        List<Object> other = new ArrayList<>();
+        for (int k = 0; k < 100; k++) {
+            Operation criticalOp = new NamedDummyOperation("critical", "hz:impl:mapService");
+            Operation otherOp = new NamedDummyOperation("other", "hz:impl:mapService");
+            critical.add(criticalOp);
+            other.add(otherOp);
+            queue.add(criticalOp, false);
+            queue.add(otherOp, false);
+        }
+
+        List<Object> takenCritical = new ArrayList<>();
+        List<Object> takenOther = new ArrayList<>();
+        for (int k = 0; k < 200; k++) {
+            Object task = queue.take(false);
+            if (((NamedOperation) task).getName().equals("critical")) {
+                takenCritical.add(task);
+            } else {
+                takenOther.add(task);
+            }
+        }
+
+        assertEquals(critical, takenCritical);
+        assertEquals(other, takenOther);
+        assertEquals(0, queue.size());
+        assertEquals(100, classes.get(0).completedCount());
+        assertEquals(100, classes.get(1).completedCount());
+        assertEquals(0, classes.get(0).pendingCount());
+    }
+
+    @Test
+    public void take_sharesThreadTimeByWeight() throws InterruptedException {
+        AtomicLong clock = new AtomicLong();
+        WeightedOperationQueue queue = new WeightedOperationQueue(classes, null, clock::get);
+        queue.setConsumerThread(Thread.currentThread());
+        for (int k = 0; k < 100; k++) {
+            queue.add(new NamedDummyOperation("critical", "hz:impl:mapService"), false);
+            queue.add(new NamedDummyOperation("other", "hz:impl:mapService"), false);
+        }
+
+        // every task takes 50us, so a round serves 8 critical and 2 other tasks
+        int criticalCount = 0;
+        for (int k = 0; k < 50; k++) {
+            Object task = queue.take(false);
+            if (((NamedOperation) task).getName().equals("critical")) {
+                criticalCount++;
+            }
+            clock.addAndGet(MICROSECONDS.toNanos(50));
+        }
+
+        assertEquals(40, criticalCount);
+    }
+
+    @Test
+    public void take_whenLongRunningTask_thenClassInDebt() throws InterruptedException {
+        AtomicLong clock = new AtomicLong();
+        WeightedOperationQueue queue = new WeightedOperationQueue(classes, null, clock::get);
+        queue.setConsumerThread(Thread.currentThread());
+        for (int k = 0; k < 100; k++) {
+            queue.add(new NamedDummyOperation("critical", "hz:impl:mapService"), false);
+            queue.add(new NamedDummyOperation("other", "hz:impl:mapService"), false);
+        }
+
+        // the first critical task takes 2ms, the other tasks take no time
+        assertEquals("critical", ((NamedOperation) queue.take(false)).getName());
+        clock.addAndGet(MILLISECONDS.toNanos(2));
+
+        // the critical class needs 4 rounds to pay off its debt of 1600us, meanwhile
+        // the other class is served for 5 rounds of 100us
+        for (int k = 0; k < 50; k++) {
+            assertEquals("other", ((NamedOperation) queue.take(false)).getName());
+            clock.addAndGet(MICROSECONDS.toNanos(10));
+        }
+        assertEquals("critical", ((NamedOperation) queue.take(false)).getName());
+    }
+
+    @Test
+    public void take_whenBlocked_thenWokenUpByAdd() throws Exception {
+        WeightedOperationQueue blockingQueue = new WeightedOperationQueue(classes, null);
+        Object task = new Object();
+        Future<Object> future = spawn(() -> {
+            blockingQueue.setConsumerThread(Thread.currentThread());
+            return blockingQueue.take(false);
+        });
+
+        sleepMillis(100);
+        blockingQueue.add(task, false);
+
+        assertSame(task, future.get());
+    }
+
+    @Test
+    public void take_whenProducersRaceWithEmptyConsumer_thenNoTaskLost() throws Exception {
+        int producerCount = 4;
+        int tasksPerProducer = 20_000;
+        WeightedOperationQueue blockingQueue = new WeightedOperationQueue(classes, null);
+        Future<Integer> consumer = spawn(() -> {
+            blockingQueue.setConsumerThread(Thread.currentThread());
+            int taken = 0;
+            while (taken < producerCount * tasksPerProducer) {
+                blockingQueue.take(false);
+                taken++;
+            }
+            return taken;
+        });
+        // let the consumer block on the empty queue
+        sleepMillis(100);
+
+        List<Future<?>> producers = new ArrayList<>();
+        for (int p = 0; p < producerCount; p++) {
+            boolean priority = p == 0;
+            producers.add(spawn(() -> {
+                for (int k = 0; k < tasksPerProducer; k++) {
+                    blockingQueue.add(new NamedDummyOperation("critical", "hz:impl:mapService"), priority && k % 2 == 0);
+                }
+            }));
+        }
+        for (Future<?> producer : producers) {
+            producer.get();
+        }
+
+        // with a lost wakeup, the consumer blocks while tasks are still queued
+        assertEquals(producerCount * tasksPerProducer, (int) consumer.get(ASSERT_TRUE_EVENTUALLY_TIMEOUT, SECONDS));
+        assertEquals(0, blockingQueue.size());
+    }
+
+    @Test
+    public void when_weightsConfigured_then_operationsFromOtherMembersComplete() {
+        String mapName = randomMapName();
+        Config config = smallInstanceConfig()
+                .setProperty(OPERATION_SCHEDULER_WEIGHTS.getName(), mapName + "=4,hz:impl:mapService=2");
+        HazelcastInstance[] instances = createHazelcastInstanceFactory(2).newInstances(config);
+        IMap<Integer, Integer> map = instances[0].getMap(mapName);
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            futures.add(map.putAsync(i, i).toCompletableFuture());
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        IMap<Integer, Integer> otherMap = instances[1].getMap(mapName);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, (int) otherMap.get(i));
+        }
+    }
+
+    private static void assertClass(SchedulingClass schedulingClass, String name, int weight) {
+        assertEquals(name, schedulingClass.name());
+        assertEquals(weight, schedulingClass.weight());
+    }
+
+    private static class NamedDummyOperation extends Operation implements NamedOperation {
+        private final String name;
+
+        NamedDummyOperation(String name, String serviceName) {
+            this.name = name;
+            setServiceName(serviceName);
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void run() {
+        }
+    }
+}
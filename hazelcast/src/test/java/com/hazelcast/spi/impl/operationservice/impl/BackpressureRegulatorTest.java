@@ -18,6 +18,7 @@ package com.hazelcast.spi.impl.operationservice.impl;
 
 import com.hazelcast.config.Config;
 import com.hazelcast.internal.util.ConcurrencyDetection;
+import com.hazelcast.internal.util.Timer;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.impl.operationservice.BackupAwareOperation;
 import com.hazelcast.spi.impl.operationservice.Operation;
@@ -36,8 +37,11 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
+import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_ADAPTIVE_LATENCY_THRESHOLD_MILLIS;
 import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_SYNCWINDOW;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_COUNT;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -111,6 +115,25 @@ public class BackpressureRegulatorTest extends HazelcastTestSupport {
         assertEquals(backpressureRegulator.getMaxConcurrentInvocations(), callIdSequence.getMaxConcurrentInvocations());
     }
 
+    @Test
+    public void newCallIdSequence_whenAdaptive_thenLimitAdaptsToLatency() {
+        Config config = new Config();
+        config.setProperty(BACKPRESSURE_ENABLED.getName(), "true");
+        config.setProperty(BACKPRESSURE_ADAPTIVE_LATENCY_THRESHOLD_MILLIS.getName(), "1000");
+        HazelcastProperties hazelcastProperties = new HazelcastProperties(config);
+        BackpressureRegulator backpressureRegulator = new BackpressureRegulator(hazelcastProperties, logger);
+
+        CallIdSequence callIdSequence = backpressureRegulator.newCallIdSequence(ConcurrencyDetection.createEnabled(100));
+        assertEquals(backpressureRegulator.getMaxConcurrentInvocations(), callIdSequence.getMaxConcurrentInvocations());
+
+        callIdSequence.next();
+        callIdSequence.complete(Timer.nanos() - SECONDS.toNanos(2), null);
+
+        // the limit doesn't go below an invocation per partition plus one for the generic operations
+        int partitionCount = hazelcastProperties.getInteger(PARTITION_COUNT);
+        assertEquals(partitionCount + 1, callIdSequence.getMaxConcurrentInvocations());
+    }
+
     @Test
     public void newCallIdSequence_whenBackPressureDisabled() {
         Config config = new Config();
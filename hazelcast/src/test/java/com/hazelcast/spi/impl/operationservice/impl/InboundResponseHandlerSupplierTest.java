@@ -196,7 +196,8 @@ public class InboundResponseHandlerSupplierTest extends HazelcastTestSupport {
 
     private Invocation newInvocation() {
         Invocation.Context context = new Invocation.Context(
-                null, null, null, null, null, 0, invocationRegistry, null, null, null, null, null, null, null, null, null, null, null, null);
+                null, null, null, null, null, 0, invocationRegistry, null, null, null, null, null, null, null, null, null, null,
+                null, null, null);
 
         Operation op = new DummyOperation();
         return new PartitionInvocation(context, op, 0, 0, 0, false, false);
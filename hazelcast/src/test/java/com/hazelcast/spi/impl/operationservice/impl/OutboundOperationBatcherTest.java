@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.cluster.ClusterService;
+import com.hazelcast.internal.cluster.Versions;
+import com.hazelcast.internal.networking.Channel;
+import com.hazelcast.internal.networking.OutboundPipeline;
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.server.ServerConnection;
+import com.hazelcast.internal.server.tcp.TcpServerConnection;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.impl.executionservice.ExecutionService;
+import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.hazelcast.internal.nio.Packet.FLAG_OP_BATCH;
+import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_BATCHING_WINDOW_MICROS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class OutboundOperationBatcherTest extends HazelcastTestSupport {
+
+    private static final int PARTITION_ID = 5;
+
+    private InternalSerializationService serializationService;
+    private ExecutionService executionService;
+    private ClusterService clusterService;
+    private ServerConnection connection;
+    private OutboundOperationBatcher batcher;
+
+    @Before
+    public void setup() {
+        serializationService = new DefaultSerializationServiceBuilder().build();
+        executionService = mock(ExecutionService.class);
+        connection = mock(ServerConnection.class);
+        when(connection.write(any())).thenReturn(true);
+        clusterService = mock(ClusterService.class);
+        when(clusterService.getClusterVersion()).thenReturn(Versions.CURRENT_CLUSTER_VERSION);
+        batcher = new OutboundOperationBatcher(serializationService, executionService, clusterService, 271, 100);
+    }
+
+    @Test
+    public void when_operationsSentInWindow_then_sentInOneBatchPacket() {
+        for (int i = 0; i < 3; i++) {
+            batcher.send(newInvocation(i), connection);
+        }
+
+        ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(executionService, times(1)).schedule(flush.capture(), anyLong(), any());
+        verify(connection, never()).write(any());
+
+        flush.getValue().run();
+
+        Packet packet = capturePacket();
+        assertTrue(packet.isFlagRaised(FLAG_OP_BATCH));
+        assertEquals(PARTITION_ID, packet.getPartitionId());
+        List<Operation> operations = unbatch(packet);
+        assertEquals(3, operations.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i, ((DummyOperation) operations.get(i)).value);
+        }
+    }
+
+    @Test
+    public void when_singleOperationInWindow_then_sentAsRegularPacket() {
+        batcher.send(newInvocation(1), connection);
+
+        ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(executionService).schedule(flush.capture(), anyLong(), any());
+        flush.getValue().run();
+
+        Packet packet = capturePacket();
+        assertFalse(packet.isFlagRaised(FLAG_OP_BATCH));
+        assertEquals(1, ((DummyOperation) serializationService.toObject(packet)).value);
+    }
+
+    @Test
+    public void when_batchFull_then_sentWithoutWaitingForWindow() {
+        for (int i = 0; i < OutboundOperationBatcher.MAX_BATCH_SIZE; i++) {
+            batcher.send(newInvocation(i), connection);
+        }
+
+        Packet packet = capturePacket();
+        assertEquals(OutboundOperationBatcher.MAX_BATCH_SIZE, unbatch(packet).size());
+    }
+
+    @Test
+    public void when_connectionIdle_then_sentWithoutWaitingForWindow() {
+        connection = mockTcpConnection(0);
+
+        batcher.send(newInvocation(1), connection);
+
+        verify(executionService, never()).schedule(any(), anyLong(), any());
+        assertFalse(capturePacket().isFlagRaised(FLAG_OP_BATCH));
+    }
+
+    @Test
+    public void when_connectionBusy_then_sentInBatchAfterWindow() {
+        connection = mockTcpConnection(1);
+
+        batcher.send(newInvocation(1), connection);
+        batcher.send(newInvocation(2), connection);
+
+        verify(executionService, times(1)).schedule(any(), anyLong(), any());
+        verify(connection, never()).write(any());
+    }
+
+    @Test
+    public void when_urgentOrNotPartitionOperation_then_notBatchable() {
+        Operation partitionOp = new DummyOperation().setPartitionId(PARTITION_ID);
+        Operation genericOp = new DummyOperation();
+        Operation urgentOp = new DummyPriorityOperation().setPartitionId(PARTITION_ID);
+
+        assertTrue(batcher.isBatchable(partitionOp));
+        assertFalse(batcher.isBatchable(genericOp));
+        assertFalse(batcher.isBatchable(urgentOp));
+    }
+
+    @Test
+    public void when_clusterVersionPrevious_then_notBatchable() {
+        when(clusterService.getClusterVersion()).thenReturn(Versions.V5_0);
+
+        assertFalse(batcher.isBatchable(new DummyOperation().setPartitionId(PARTITION_ID)));
+    }
+
+    @Test
+    public void when_connectionRemoved_then_batchesDropped() {
+        batcher.send(newInvocation(1), connection);
+        batcher.connectionRemoved(connection);
+        batcher.send(newInvocation(2), connection);
+
+        // the second operation was added to a new batch, which schedules its own flush
+        verify(executionService, times(2)).schedule(any(), anyLong(), any());
+    }
+
+    @Test
+    public void when_batchingEnabled_then_asyncOperationsComplete() {
+        Config config = smallInstanceConfig()
+                .setProperty(OPERATION_BATCHING_WINDOW_MICROS.getName(), "200");
+        HazelcastInstance[] instances = createHazelcastInstanceFactory(2).newInstances(config);
+        IMap<Integer, Integer> map = instances[0].getMap(randomMapName());
+
+        List<CompletableFuture<Void>> setFutures = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            setFutures.add(map.setAsync(i, i).toCompletableFuture());
+        }
+        CompletableFuture.allOf(setFutures.toArray(new CompletableFuture[0])).join();
+
+        List<CompletableFuture<Integer>> getFutures = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            getFutures.add(map.getAsync(i).toCompletableFuture());
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, (int) getFutures.get(i).join());
+        }
+    }
+
+    private static TcpServerConnection mockTcpConnection(int framesPending) {
+        OutboundPipeline pipeline = mock(OutboundPipeline.class);
+        when(pipeline.framesPending(anyInt())).thenReturn(framesPending);
+        Channel channel = mock(Channel.class);
+        when(channel.outboundPipeline()).thenReturn(pipeline);
+        TcpServerConnection connection = mock(TcpServerConnection.class);
+        when(connection.getChannel()).thenReturn(channel);
+        when(connection.write(any())).thenReturn(true);
+        return connection;
+    }
+
+    private Invocation newInvocation(int value) {
+        Operation op = new DummyOperation(value).setPartitionId(PARTITION_ID);
+        Invocation.Context context = new Invocation.Context(null, null, null, null, null, 1000, null, null, null, null,
+                null, null, null, null, null, null, null, null, null, null);
+        return new PartitionInvocation(context, op, 0, 0, 0, false, false);
+    }
+
+    private Packet capturePacket() {
+        ArgumentCaptor<Packet> packet = ArgumentCaptor.forClass(Packet.class);
+        verify(connection, times(1)).write(packet.capture());
+        return packet.getValue();
+    }
+
+    private List<Operation> unbatch(Packet packet) {
+        List<Operation> operations = new ArrayList<>();
+        PacketBatch.forEachPayload(packet, payload -> operations.add(serializationService.toObject(new HeapData(payload))));
+        return operations;
+    }
+}
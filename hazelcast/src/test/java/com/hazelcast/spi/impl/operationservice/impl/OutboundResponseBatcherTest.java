@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.cluster.Cluster;
+import com.hazelcast.cluster.Member;
+import com.hazelcast.cluster.MembershipEvent;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.cluster.ClusterService;
+import com.hazelcast.internal.cluster.Versions;
+import com.hazelcast.internal.networking.Channel;
+import com.hazelcast.internal.networking.OutboundPipeline;
+import com.hazelcast.internal.nio.Bits;
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.internal.server.ServerConnection;
+import com.hazelcast.internal.server.ServerConnectionManager;
+import com.hazelcast.internal.server.tcp.TcpServerConnection;
+import com.hazelcast.logging.Logger;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.impl.executionservice.ExecutionService;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.hazelcast.internal.nio.Packet.FLAG_OP_BATCH;
+import static com.hazelcast.internal.nio.Packet.FLAG_OP_RESPONSE;
+import static com.hazelcast.spi.impl.operationservice.impl.responses.Response.OFFSET_CALL_ID;
+import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_RESPONSE_BATCHING_WINDOW_MICROS;
+import static java.util.Collections.emptySet;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class OutboundResponseBatcherTest extends HazelcastTestSupport {
+
+    private Address thatAddress;
+    private ExecutionService executionService;
+    private ClusterService clusterService;
+    private ServerConnectionManager connectionManager;
+    private OutboundResponseBatcher batcher;
+    private OutboundResponseHandler handler;
+
+    @Before
+    public void setup() throws Exception {
+        Address thisAddress = new Address("127.0.0.1", 5701);
+        thatAddress = new Address("127.0.0.1", 5702);
+        InternalSerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+        executionService = mock(ExecutionService.class);
+        clusterService = mock(ClusterService.class);
+        when(clusterService.getClusterVersion()).thenReturn(Versions.CURRENT_CLUSTER_VERSION);
+        NodeEngine nodeEngine = mock(NodeEngine.class);
+        when(nodeEngine.getExecutionService()).thenReturn(executionService);
+        when(nodeEngine.getClusterService()).thenReturn(clusterService);
+        ServerConnection connection = mock(ServerConnection.class);
+        when(connection.isAlive()).thenReturn(true);
+        connectionManager = mock(ServerConnectionManager.class);
+        when(connectionManager.get(thatAddress)).thenReturn(connection);
+        when(connectionManager.transmit(any(Packet.class), any(Address.class), anyInt())).thenReturn(true);
+        batcher = new OutboundResponseBatcher(nodeEngine, Logger.getLogger(OutboundResponseBatcherTest.class), 100);
+        handler = new OutboundResponseHandler(thisAddress, serializationService,
+                Logger.getLogger(OutboundResponseHandler.class), batcher);
+    }
+
+    @Test
+    public void when_responsesSentInWindow_then_sentInOneBatchPacket() {
+        for (int callId = 1; callId <= 3; callId++) {
+            handler.sendBackupAck(connectionManager, thatAddress, callId, false);
+        }
+
+        ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(executionService, times(1)).schedule(flush.capture(), anyLong(), any());
+        verify(connectionManager, never()).transmit(any(Packet.class), any(Address.class), anyInt());
+
+        flush.getValue().run();
+
+        Packet packet = captureTransmittedPacket();
+        assertTrue(packet.isFlagRaised(FLAG_OP_RESPONSE));
+        assertTrue(packet.isFlagRaised(FLAG_OP_BATCH));
+        List<Long> callIds = new ArrayList<>();
+        PacketBatch.forEachPayload(packet, payload -> callIds.add(Bits.readLongB(payload, OFFSET_CALL_ID)));
+        assertEquals(3, callIds.size());
+        assertEquals(1L, (long) callIds.get(0));
+        assertEquals(3L, (long) callIds.get(2));
+    }
+
+    @Test
+    public void when_urgentResponse_then_sentRightAway() {
+        handler.sendBackupAck(connectionManager, thatAddress, 1, true);
+
+        verify(executionService, never()).schedule(any(Runnable.class), anyLong(), any());
+        assertFalse(captureTransmittedPacket().isFlagRaised(FLAG_OP_BATCH));
+    }
+
+    @Test
+    public void when_batchFull_then_sentWithoutWaitingForWindow() {
+        for (int callId = 1; callId <= OutboundResponseBatcher.MAX_BATCH_SIZE; callId++) {
+            handler.sendBackupAck(connectionManager, thatAddress, callId, false);
+        }
+
+        Packet packet = captureTransmittedPacket();
+        int[] count = {0};
+        PacketBatch.forEachPayload(packet, payload -> count[0]++);
+        assertEquals(OutboundResponseBatcher.MAX_BATCH_SIZE, count[0]);
+    }
+
+    @Test
+    public void when_connectionIdle_then_sentWithoutWaitingForWindow() {
+        OutboundPipeline pipeline = mock(OutboundPipeline.class);
+        when(pipeline.framesPending(anyInt())).thenReturn(0);
+        Channel channel = mock(Channel.class);
+        when(channel.outboundPipeline()).thenReturn(pipeline);
+        TcpServerConnection connection = mock(TcpServerConnection.class);
+        when(connection.isAlive()).thenReturn(true);
+        when(connection.getChannel()).thenReturn(channel);
+        when(connectionManager.get(thatAddress)).thenReturn(connection);
+
+        handler.sendBackupAck(connectionManager, thatAddress, 1, false);
+
+        verify(executionService, never()).schedule(any(Runnable.class), anyLong(), any());
+        assertFalse(captureTransmittedPacket().isFlagRaised(FLAG_OP_BATCH));
+    }
+
+    @Test
+    public void when_fullBatchNotTransmitted_then_sendFails() {
+        when(connectionManager.transmit(any(Packet.class), any(Address.class), anyInt())).thenReturn(false);
+        Packet packet = newBackupAckPacket();
+
+        for (int i = 1; i < OutboundResponseBatcher.MAX_BATCH_SIZE; i++) {
+            assertTrue(batcher.send(connectionManager, thatAddress, packet));
+        }
+        assertFalse(batcher.send(connectionManager, thatAddress, packet));
+    }
+
+    @Test
+    public void when_noLiveConnection_then_transmittedRightAway() {
+        when(connectionManager.get(thatAddress)).thenReturn(null);
+        when(connectionManager.transmit(any(Packet.class), any(Address.class), anyInt())).thenReturn(false);
+
+        assertFalse(batcher.send(connectionManager, thatAddress, newBackupAckPacket()));
+
+        verify(executionService, never()).schedule(any(Runnable.class), anyLong(), any());
+        assertFalse(captureTransmittedPacket().isFlagRaised(FLAG_OP_BATCH));
+    }
+
+    @Test
+    public void when_clusterVersionPrevious_then_notBatchable() {
+        when(clusterService.getClusterVersion()).thenReturn(Versions.V5_0);
+
+        assertFalse(batcher.isBatchable(newBackupAckPacket()));
+    }
+
+    @Test
+    public void when_memberRemoved_then_batchesDropped() {
+        batcher.send(connectionManager, thatAddress, newBackupAckPacket());
+        Member member = mock(Member.class);
+        when(member.getAddress()).thenReturn(thatAddress);
+        batcher.memberRemoved(new MembershipEvent(mock(Cluster.class), member,
+                MembershipEvent.MEMBER_REMOVED, emptySet()));
+        batcher.send(connectionManager, thatAddress, newBackupAckPacket());
+
+        // the second response was added to a new batch, which schedules its own flush
+        verify(executionService, times(2)).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    @Test
+    public void when_batchingEnabled_then_responsesAndBackupAcksReceived() {
+        Config config = smallInstanceConfig()
+                .setProperty(OPERATION_RESPONSE_BATCHING_WINDOW_MICROS.getName(), "200");
+        HazelcastInstance[] instances = createHazelcastInstanceFactory(2).newInstances(config);
+        IMap<Integer, Integer> map = instances[0].getMap(randomMapName());
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            futures.add(map.putAsync(i, i).toCompletableFuture());
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, (int) map.get(i));
+        }
+    }
+
+    private static Packet newBackupAckPacket() {
+        return new Packet(new byte[16], -1).setPacketType(Packet.Type.OPERATION).raiseFlags(FLAG_OP_RESPONSE);
+    }
+
+    private Packet captureTransmittedPacket() {
+        ArgumentCaptor<Packet> packet = ArgumentCaptor.forClass(Packet.class);
+        verify(connectionManager, times(1)).transmit(packet.capture(), eq(thatAddress), anyInt());
+        return packet.getValue();
+    }
+}
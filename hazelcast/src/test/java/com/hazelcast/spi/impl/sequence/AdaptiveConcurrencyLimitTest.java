@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2008-2021, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.sequence;
+
+import com.hazelcast.core.HazelcastOverloadException;
+import com.hazelcast.internal.networking.Channel;
+import com.hazelcast.internal.util.ConcurrencyDetection;
+import com.hazelcast.internal.util.Timer;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.spi.impl.sequence.AdaptiveConcurrencyLimit.UNKNOWN_QUEUE_DEPTH;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class AdaptiveConcurrencyLimitTest extends HazelcastTestSupport {
+
+    private static final long THRESHOLD_NANOS = MINUTES.toNanos(1);
+    private static final long FAST = MILLISECONDS.toNanos(1);
+    private static final long SLOW = MINUTES.toNanos(2);
+    private static final int QUEUE_DEPTH_THRESHOLD = 100;
+
+    @Test
+    public void limit_startsAtMax() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1000, THRESHOLD_NANOS, QUEUE_DEPTH_THRESHOLD);
+
+        assertEquals(1000, limit.limit());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void construct_whenMinNotPositive() {
+        new AdaptiveConcurrencyLimit(0, 1000, THRESHOLD_NANOS, QUEUE_DEPTH_THRESHOLD);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void construct_whenMaxSmallerThanMin() {
+        new AdaptiveConcurrencyLimit(10, 9, THRESHOLD_NANOS, QUEUE_DEPTH_THRESHOLD);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void construct_whenThresholdNotPositive() {
+        new AdaptiveConcurrencyLimit(10, 1000, 0, QUEUE_DEPTH_THRESHOLD);
+    }
+
+    @Test
+    public void onComplete_whenSlow_thenDecreasedToFractionOfConcurrentInvocations() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1000, THRESHOLD_NANOS, QUEUE_DEPTH_THRESHOLD);
+
+        limit.onComplete(SLOW, 500, UNKNOWN_QUEUE_DEPTH);
+
+        assertEquals(450, limit.limit());
+    }
+
+    @Test
+    public void onComplete_whenSlow_thenNotBelowMin() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1000, THRESHOLD_NANOS, QUEUE_DEPTH_THRESHOLD);
+
+        limit.onComplete(SLOW, 5, UNKNOWN_QUEUE_DEPTH);
+
+        assertEquals(10, limit.limit());
+    }
+
+    @Test
+    public void onComplete_whenSlowTwiceWithinThreshold_thenDecreasedOnce() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1000, THRESHOLD_NANOS, QUEUE_DEPTH_THRESHOLD);
+
+        limit.onComplete(SLOW, 500, UNKNOWN_QUEUE_DEPTH);
+        limit.onComplete(SLOW, 400, UNKNOWN_QUEUE_DEPTH);
+
+        assertEquals(450, limit.limit());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void construct_whenQueueDepthThresholdNotPositive() {
+        new AdaptiveConcurrencyLimit(10, 1000, THRESHOLD_NANOS, 0);
+    }
+
+    @Test
+    public void onComplete_whenFastButQueueDeep_thenDecreased() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1000, THRESHOLD_NANOS, QUEUE_DEPTH_THRESHOLD);
+
+        limit.onComplete(FAST, 500, QUEUE_DEPTH_THRESHOLD + 1);
+
+        assertEquals(450, limit.limit());
+    }
+
+    @Test
+    public void onComplete_whenFastAndQueueAtThreshold_thenUnchanged() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1000, THRESHOLD_NANOS, QUEUE_DEPTH_THRESHOLD);
+
+        limit.onComplete(FAST, 500, QUEUE_DEPTH_THRESHOLD);
+
+        assertEquals(1000, limit.limit());
+    }
+
+    @Test
+    public void onComplete_whenFastAndLimitInUse_thenIncreased() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1000, THRESHOLD_NANOS, QUEUE_DEPTH_THRESHOLD);
+        limit.onComplete(SLOW, 100, UNKNOWN_QUEUE_DEPTH);
+        assertEquals(90, limit.limit());
+
+        limit.onComplete(FAST, 45, UNKNOWN_QUEUE_DEPTH);
+        limit.onComplete(FAST, 80, UNKNOWN_QUEUE_DEPTH);
+
+        assertEquals(92, limit.limit());
+    }
+
+    @Test
+    public void onComplete_whenFastAndLimitNotInUse_thenUnchanged() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1000, THRESHOLD_NANOS, QUEUE_DEPTH_THRESHOLD);
+        limit.onComplete(SLOW, 100, UNKNOWN_QUEUE_DEPTH);
+
+        limit.onComplete(FAST, 44, UNKNOWN_QUEUE_DEPTH);
+
+        assertEquals(90, limit.limit());
+    }
+
+    @Test
+    public void onComplete_whenFast_thenNotAboveMax() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1000, THRESHOLD_NANOS, QUEUE_DEPTH_THRESHOLD);
+
+        limit.onComplete(FAST, 1000, UNKNOWN_QUEUE_DEPTH);
+
+        assertEquals(1000, limit.limit());
+    }
+
+    @Test
+    public void sequence_whenSlowInvocation_thenCapacityReduced() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 100, SECONDS.toNanos(1), QUEUE_DEPTH_THRESHOLD);
+        CallIdSequence sequence = new FailFastCallIdSequence(100, ConcurrencyDetection.createDisabled(), limit);
+        for (int k = 0; k < 10; k++) {
+            sequence.next();
+        }
+
+        // completes an invocation that took 2 seconds while 10 invocations were running
+        sequence.complete(Timer.nanos() - SECONDS.toNanos(2), null);
+
+        // 9 invocations are still running
+        assertEquals(9, sequence.getMaxConcurrentInvocations());
+        assertThrows(HazelcastOverloadException.class, sequence::next);
+    }
+
+    @Test
+    public void sequence_whenQueueTowardsTargetDeep_thenCapacityReduced() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 100, SECONDS.toNanos(1), 4);
+        CallIdSequence sequence = new FailFastCallIdSequence(100, ConcurrencyDetection.createDisabled(), limit);
+        for (int k = 0; k < 10; k++) {
+            sequence.next();
+        }
+        Channel channel = mock(Channel.class, RETURNS_DEEP_STUBS);
+        when(channel.outboundPipeline().framesPending(5)).thenReturn(5);
+
+        // completes a fast invocation while 5 frames were queued towards its target
+        sequence.complete(Timer.nanos(), channel);
+
+        assertEquals(9, sequence.getMaxConcurrentInvocations());
+
+        // the queue depth is sampled on 1 in 8 completions
+        for (int k = 0; k < 7; k++) {
+            sequence.complete(Timer.nanos(), channel);
+        }
+        verify(channel.outboundPipeline(), times(1)).framesPending(5);
+    }
+}